@@ -0,0 +1,55 @@
+package org.ldbcouncil.snb.driver;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+import static java.lang.String.format;
+
+/**
+ * Operation handler for non-blocking database clients.
+ * Rather than executing the operation before returning, it starts the operation and returns a stage that completes
+ * when the operation has completed. Result must be reported, via resultReporter, before the stage completes.
+ * Latency is measured, and completed time and metrics are submitted, when the stage completes.
+ * <p>
+ * Registered like any other handler, via Db.registerOperationHandler(). Executors that support asynchronous
+ * execution release their thread as soon as the operation has been started, others block until the stage completes.
+ * <p>
+ * Note, child operations of an asynchronous operation are executed synchronously, by the thread that completes
+ * the stage.
+ */
+public interface AsyncOperationHandler<OPERATION_TYPE extends Operation,
+        DB_CONNECTION_STATE_TYPE extends DbConnectionState>
+        extends OperationHandler<OPERATION_TYPE,DB_CONNECTION_STATE_TYPE>
+{
+    CompletionStage<?> executeOperationAsync( OPERATION_TYPE operation,
+            DB_CONNECTION_STATE_TYPE dbConnectionState,
+            ResultReporter resultReporter ) throws DbException;
+
+    /**
+     * Executes operation by blocking until the stage returned by executeOperationAsync() completes
+     */
+    @Override
+    default void executeOperation( OPERATION_TYPE operation,
+            DB_CONNECTION_STATE_TYPE dbConnectionState,
+            ResultReporter resultReporter ) throws DbException
+    {
+        CompletionStage<?> stage = executeOperationAsync( operation, dbConnectionState, resultReporter );
+        if ( null == stage )
+        {
+            throw new DbException( format( "Asynchronous handler returned null\nOperation: %s", operation ) );
+        }
+        try
+        {
+            stage.toCompletableFuture().get();
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new DbException( format( "Interrupted while waiting for operation\nOperation: %s", operation ), e );
+        }
+        catch ( ExecutionException e )
+        {
+            throw new DbException( format( "Error executing operation\nOperation: %s", operation ), e.getCause() );
+        }
+    }
+}
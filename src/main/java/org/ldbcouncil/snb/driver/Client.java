@@ -15,9 +15,11 @@ package org.ldbcouncil.snb.driver;
 
 import org.ldbcouncil.snb.driver.client.CalculateWorkloadStatisticsMode;
 import org.ldbcouncil.snb.driver.client.ClientMode;
+import org.ldbcouncil.snb.driver.client.CompileWorkloadMode;
 import org.ldbcouncil.snb.driver.client.CreateValidationParamsMode;
 import org.ldbcouncil.snb.driver.client.ExecuteWorkloadMode;
 import org.ldbcouncil.snb.driver.client.PrintHelpMode;
+import org.ldbcouncil.snb.driver.client.SearchThroughputMode;
 import org.ldbcouncil.snb.driver.client.ValidateDatabaseMode;
 import org.ldbcouncil.snb.driver.control.ConsoleAndFileDriverConfiguration;
 import org.ldbcouncil.snb.driver.control.ControlService;
@@ -111,8 +113,12 @@ public class Client
                 return new CreateValidationParamsMode( controlService, RANDOM_SEED );
             case create_statistics:
                 return new CalculateWorkloadStatisticsMode( controlService, RANDOM_SEED );
+            case compile_workload:
+                return new CompileWorkloadMode( controlService, RANDOM_SEED );
             case validate_database:
                 return new ValidateDatabaseMode( controlService );
+            case search_throughput:
+                return new SearchThroughputMode( controlService, new SystemTimeSource(), RANDOM_SEED );
             case execute_benchmark:
             default: // Execute benchmark is default behaviour
                 return new ExecuteWorkloadMode( controlService, new SystemTimeSource(), RANDOM_SEED );
@@ -42,10 +42,14 @@ import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate8AddFriendship;
 
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 
 import org.ldbcouncil.snb.driver.Operation;
 
@@ -86,6 +90,7 @@ import static com.fasterxml.jackson.annotation.JsonTypeInfo.Id.DEDUCTION;
 public abstract class Operation<RESULT_TYPE>
 {
     private static final TemporalUtil temporalutil = new TemporalUtil();
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
     private long scheduledStartTimeAsMilli = -1;
     private long timeStamp = -1;
     private long dependencyTimeStamp = -1;
@@ -152,4 +157,23 @@ public abstract class Operation<RESULT_TYPE>
      */
     public abstract RESULT_TYPE deserializeResult( String serializedOperationResult) throws IOException;
 
+    /**
+     * Deserializes a result object from a parser, e.g., one reading a binary validation parameters file.
+     * Override to read the result straight from the parser, by default it is copied into a JSON string that is
+     * passed to {@link #deserializeResult(String)}
+     * @param parser Parser positioned before the serialized result, which is its only content
+     * @return Deserialized result object
+     * @throws IOException in case the parser content cannot be deserialized to the result type
+     */
+    public RESULT_TYPE deserializeResult( JsonParser parser ) throws IOException
+    {
+        StringWriter serializedOperationResult = new StringWriter();
+        try ( JsonGenerator jsonGenerator = JSON_FACTORY.createGenerator( serializedOperationResult ) )
+        {
+            parser.nextToken();
+            jsonGenerator.copyCurrentStructure( parser );
+        }
+        return deserializeResult( serializedOperationResult.toString() );
+    }
+
 }
@@ -10,6 +10,10 @@ import org.ldbcouncil.snb.driver.temporal.TimeSource;
 import stormpot.Poolable;
 import stormpot.Slot;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+
 import static java.lang.String.format;
 
 public class OperationHandlerRunnableContext implements Runnable, Poolable
@@ -123,6 +127,12 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
     @Override
     public void run()
     {
+        if ( isAsync() )
+        {
+            // caller expects operation to have completed when this method returns
+            runAsync().join();
+            return;
+        }
         if ( !initialized )
         {
             errorReporter.reportError( this, "Handler was executed before being initialized" );
@@ -142,30 +152,130 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
             operationHandler.executeOperation( operation, dbConnectionState, resultReporter );
             long endOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
             resultReporter.setRunDurationAsNano( endOfLatencyMeasurementAsNano - startOfLatencyMeasurementAsNano );
-            if ( null == resultReporter().result() )
+            submitResult();
+        }
+        catch ( Throwable e )
+        {
+            reportError( e );
+        }
+    }
+
+    /**
+     * @return true if handler is an AsyncOperationHandler, i.e., if runAsync() returns before operation completes
+     */
+    public final boolean isAsync()
+    {
+        return operationHandler instanceof AsyncOperationHandler;
+    }
+
+    /**
+     * Same as run(), but for asynchronous handlers returns as soon as the operation has been started.
+     * The returned future completes, always normally, once results have been submitted or an error has been reported.
+     * For synchronous handlers the operation has completed by the time this method returns.
+     *
+     * @return future that completes when operation has completed
+     */
+    public CompletableFuture<Void> runAsync()
+    {
+        final CompletableFuture<Void> completed = new CompletableFuture<>();
+        if ( !isAsync() )
+        {
+            run();
+            completed.complete( null );
+            return completed;
+        }
+        if ( !initialized )
+        {
+            errorReporter.reportError( this, "Handler was executed before being initialized" );
+            completed.complete( null );
+            return completed;
+        }
+        try
+        {
+            if ( !spinner.waitForScheduledStartTime( operation, beforeExecuteCheck ) )
             {
-                errorReporter.reportError( this, format( "Operation result is null\nOperation: %s", operation ) );
+                // Spinner result indicates operation should not be processed
+                completed.complete( null );
+                return completed;
             }
-            else
+            resultReporter.setActualStartTimeAsMilli( timeSource.nowAsMilli() );
+            final long startOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
+            CompletionStage<?> stage = ((AsyncOperationHandler) operationHandler).executeOperationAsync(
+                    operation,
+                    dbConnectionState,
+                    resultReporter
+            );
+            if ( null == stage )
             {
-                completionTimeWriter.submitCompletedTime( operation.timeStamp() );
-                metricsServiceWriter.submitOperationResult(
-                        operation.type(),
-                        operation.scheduledStartTimeAsMilli(),
-                        resultReporter.actualStartTimeAsMilli(),
-                        resultReporter.runDurationAsNano(),
-                        resultReporter.resultCode(),
-                        operation.timeStamp()
-                );
+                errorReporter.reportError( this,
+                        format( "Asynchronous handler returned null\nOperation: %s", operation ) );
+                completed.complete( null );
+                return completed;
             }
+            stage.whenComplete( new BiConsumer<Object,Throwable>()
+            {
+                @Override
+                public void accept( Object ignored, Throwable throwable )
+                {
+                    try
+                    {
+                        if ( null != throwable )
+                        {
+                            reportError( throwable );
+                        }
+                        else
+                        {
+                            long endOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
+                            resultReporter.setRunDurationAsNano(
+                                    endOfLatencyMeasurementAsNano - startOfLatencyMeasurementAsNano );
+                            submitResult();
+                        }
+                    }
+                    catch ( Throwable e )
+                    {
+                        reportError( e );
+                    }
+                    finally
+                    {
+                        completed.complete( null );
+                    }
+                }
+            } );
         }
         catch ( Throwable e )
         {
-            String errMsg = format( "Error encountered\n%s\n%s",
-                    operation,
-                    ConcurrentErrorReporter.stackTraceToString( e ) );
-            errorReporter.reportError( this, errMsg );
+            reportError( e );
+            completed.complete( null );
         }
+        return completed;
+    }
+
+    private void submitResult() throws Exception
+    {
+        if ( null == resultReporter().result() )
+        {
+            errorReporter.reportError( this, format( "Operation result is null\nOperation: %s", operation ) );
+        }
+        else
+        {
+            completionTimeWriter.submitCompletedTime( operation.timeStamp() );
+            metricsServiceWriter.submitOperationResult(
+                    operation.type(),
+                    operation.scheduledStartTimeAsMilli(),
+                    resultReporter.actualStartTimeAsMilli(),
+                    resultReporter.runDurationAsNano(),
+                    resultReporter.resultCode(),
+                    operation.timeStamp()
+            );
+        }
+    }
+
+    private void reportError( Throwable e )
+    {
+        String errMsg = format( "Error encountered\n%s\n%s",
+                operation,
+                ConcurrentErrorReporter.stackTraceToString( e ) );
+        errorReporter.reportError( this, errMsg );
     }
 
 
@@ -0,0 +1,541 @@
+package org.ldbcouncil.snb.driver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.io.CountingOutputStream;
+import org.ldbcouncil.snb.driver.WorkloadStreams.WorkloadStreamDefinition;
+import org.ldbcouncil.snb.driver.control.DriverConfiguration;
+import org.ldbcouncil.snb.driver.generator.Generator;
+import org.ldbcouncil.snb.driver.generator.GeneratorException;
+import org.ldbcouncil.snb.driver.generator.GeneratorFactory;
+import org.ldbcouncil.snb.driver.util.ClassLoaderHelper;
+import org.ldbcouncil.snb.driver.util.ClassLoadingException;
+import org.ldbcouncil.snb.driver.util.Tuple;
+import org.ldbcouncil.snb.driver.util.Tuple3;
+import org.ldbcouncil.snb.driver.workloads.ClassNameWorkloadFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Workload streams compiled once, by the compile_workload mode, into a binary file that later runs replay.
+ * <p>
+ * Each segment of the file holds the operations of every workload stream for one offset and limit (i.e., the warmup
+ * or the measurement run), after skipping and limiting, in stream order and with their scheduled start, time stamp,
+ * and dependency time stamp already assigned. Replaying a segment therefore reads each stream sequentially from
+ * file, instead of parsing parameter and update stream files, interleaving reads, and streaming through the
+ * workload to calculate stream limits.
+ * <p>
+ * File layout (big endian):
+ * <pre>
+ * header:  int magic, int version, UTF workload fingerprint
+ * records: int operation class index, long scheduled start time, long time stamp, long dependency time stamp,
+ *          int payload length, payload (operation as JSON)
+ * footer:  int class count, UTF class name per class,
+ *          int segment count, per segment: long offset, long limit, long minimum time stamp, int stream count,
+ *          per stream: long start position, long end position, long operation count
+ * trailer: long footer position
+ * </pre>
+ * Streams are ordered as in {@link WorkloadStreams}: asynchronous dependency operations, asynchronous non-dependency
+ * operations, then dependency and non-dependency operations of each blocking stream. Operation types, dependency
+ * types, and child operation generators are not stored, they are taken from the workload, which is still
+ * initialized for each run. Whether a file was compiled for the same workload configuration is fingerprinted as in
+ * {@link WorkloadStreamsOffsetIndex}.
+ */
+public class PrecompiledWorkload
+{
+    private static final int MAGIC = 0x4C444257;
+    private static final int VERSION = 1;
+    // class index, scheduled start time, time stamp, dependency time stamp, payload length
+    private static final int RECORD_HEADER_SIZE = 4 + 8 + 8 + 8 + 4;
+    private static final int READ_BUFFER_SIZE = 1024 * 1024;
+
+    private final File file;
+    private final String fingerprint;
+    private final List<Class<? extends Operation>> operationClasses;
+    private final List<Segment> segments;
+
+    public static PrecompiledWorkload load( File file ) throws IOException
+    {
+        try ( RandomAccessFile randomAccessFile = new RandomAccessFile( file, "r" ) )
+        {
+            if ( randomAccessFile.length() < 8 + 8 || MAGIC != randomAccessFile.readInt() )
+            {
+                throw new IOException( format( "Not a precompiled workload: %s", file.getAbsolutePath() ) );
+            }
+            int version = randomAccessFile.readInt();
+            if ( VERSION != version )
+            {
+                throw new IOException( format( "Unsupported precompiled workload version %s, expected %s: %s",
+                        version, VERSION, file.getAbsolutePath() ) );
+            }
+            String fingerprint = randomAccessFile.readUTF();
+
+            randomAccessFile.seek( randomAccessFile.length() - 8 );
+            randomAccessFile.seek( randomAccessFile.readLong() );
+            int classCount = randomAccessFile.readInt();
+            List<Class<? extends Operation>> operationClasses = new ArrayList<>();
+            for ( int i = 0; i < classCount; i++ )
+            {
+                String className = randomAccessFile.readUTF();
+                try
+                {
+                    operationClasses.add( ClassLoaderHelper.loadClass( className, Operation.class ) );
+                }
+                catch ( ClassLoadingException e )
+                {
+                    throw new IOException( format( "Could not load operation class of precompiled workload: %s",
+                            className ), e );
+                }
+            }
+            int segmentCount = randomAccessFile.readInt();
+            List<Segment> segments = new ArrayList<>();
+            for ( int i = 0; i < segmentCount; i++ )
+            {
+                long offset = randomAccessFile.readLong();
+                long limit = randomAccessFile.readLong();
+                long minimumTimeStamp = randomAccessFile.readLong();
+                int streamCount = randomAccessFile.readInt();
+                long[] startPositions = new long[streamCount];
+                long[] endPositions = new long[streamCount];
+                long[] operationCounts = new long[streamCount];
+                for ( int j = 0; j < streamCount; j++ )
+                {
+                    startPositions[j] = randomAccessFile.readLong();
+                    endPositions[j] = randomAccessFile.readLong();
+                    operationCounts[j] = randomAccessFile.readLong();
+                }
+                segments.add(
+                        new Segment( offset, limit, minimumTimeStamp, startPositions, endPositions, operationCounts ) );
+            }
+            return new PrecompiledWorkload( file, fingerprint, operationClasses, segments );
+        }
+    }
+
+    private PrecompiledWorkload(
+            File file,
+            String fingerprint,
+            List<Class<? extends Operation>> operationClasses,
+            List<Segment> segments )
+    {
+        this.file = file;
+        this.fingerprint = fingerprint;
+        this.operationClasses = operationClasses;
+        this.segments = segments;
+    }
+
+    /**
+     * Workloads and databases may add defaults to the parameters of the configuration they are initialized with, so
+     * configuration should be as given to the driver, e.g., a copy taken before initializing either
+     */
+    public boolean isCompiledFor( DriverConfiguration configuration ) throws IOException
+    {
+        return fingerprint.equals( WorkloadStreamsOffsetIndex.fingerprint( configuration ) );
+    }
+
+    public boolean hasSegment( long offset, long limit )
+    {
+        return null != segment( offset, limit );
+    }
+
+    private Segment segment( long offset, long limit )
+    {
+        for ( Segment segment : segments )
+        {
+            if ( segment.offset == offset && segment.limit == limit )
+            {
+                return segment;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Counterpart of {@link WorkloadStreams#createNewWorkloadWithOffsetAndLimitedWorkloadStreams}, which replays
+     * operations of the segment compiled for offset and limit, rather than generating them
+     *
+     * @return (workload_streams, workload, minimum_timestamp)
+     */
+    public Tuple3<WorkloadStreams,Workload,Long> createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+            DriverConfiguration configuration,
+            GeneratorFactory gf,
+            boolean returnStreamsWithDbConnector,
+            long offset,
+            long limit ) throws WorkloadException, IOException
+    {
+        Segment segment = segment( offset, limit );
+        if ( null == segment )
+        {
+            throw new WorkloadException( format( "Precompiled workload has no operations for offset %s and " +
+                                                 "limit %s, recompile it with the same skip, warmup, and operation " +
+                                                 "count: %s", offset, limit, file.getAbsolutePath() ) );
+        }
+
+        // initialize workload for its operation types and child operation generators, its streams are not consumed
+        Workload workload = new ClassNameWorkloadFactory( configuration.workloadClassName() ).createWorkload();
+        workload.init( configuration );
+        WorkloadStreams unlimitedWorkloadStreams = workload.streams( gf, returnStreamsWithDbConnector );
+        List<WorkloadStreamDefinition> unlimitedBlockingStreams = unlimitedWorkloadStreams.blockingStreamDefinitions();
+        if ( segment.streamCount() != 2 + unlimitedBlockingStreams.size() * 2 )
+        {
+            workload.close();
+            throw new WorkloadException( format( "Expected %s workload streams but precompiled workload has %s\n" +
+                                                 "Recompile it: %s",
+                    2 + unlimitedBlockingStreams.size() * 2,
+                    segment.streamCount(),
+                    file.getAbsolutePath() ) );
+        }
+
+        ObjectReader[] operationReaders = new ObjectReader[operationClasses.size()];
+        ObjectMapper objectMapper = new ObjectMapper();
+        for ( int i = 0; i < operationClasses.size(); i++ )
+        {
+            operationReaders[i] = objectMapper.readerFor( operationClasses.get( i ) );
+        }
+
+        WorkloadStreams workloadStreams = new WorkloadStreams();
+        workloadStreams.setAsynchronousStream(
+                unlimitedWorkloadStreams.asynchronousStream().dependentOperationTypes(),
+                unlimitedWorkloadStreams.asynchronousStream().dependencyOperationTypes(),
+                segment.operations( file, 0, operationReaders ),
+                segment.operations( file, 1, operationReaders ),
+                unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator()
+        );
+        for ( int i = 0; i < unlimitedBlockingStreams.size(); i++ )
+        {
+            workloadStreams.addBlockingStream(
+                    unlimitedBlockingStreams.get( i ).dependentOperationTypes(),
+                    unlimitedBlockingStreams.get( i ).dependencyOperationTypes(),
+                    segment.operations( file, i * 2 + 2, operationReaders ),
+                    segment.operations( file, i * 2 + 3, operationReaders ),
+                    unlimitedBlockingStreams.get( i ).childOperationGenerator()
+            );
+        }
+
+        return Tuple.tuple3(
+                workloadStreams,
+                workload,
+                segment.minimumTimeStamp
+        );
+    }
+
+    private static class Segment
+    {
+        private final long offset;
+        private final long limit;
+        private final long minimumTimeStamp;
+        private final long[] startPositions;
+        private final long[] endPositions;
+        private final long[] operationCounts;
+
+        private Segment(
+                long offset,
+                long limit,
+                long minimumTimeStamp,
+                long[] startPositions,
+                long[] endPositions,
+                long[] operationCounts )
+        {
+            this.offset = offset;
+            this.limit = limit;
+            this.minimumTimeStamp = minimumTimeStamp;
+            this.startPositions = startPositions;
+            this.endPositions = endPositions;
+            this.operationCounts = operationCounts;
+        }
+
+        private int streamCount()
+        {
+            return startPositions.length;
+        }
+
+        private Iterator<Operation> operations( File file, int stream, ObjectReader[] operationReaders )
+        {
+            return new OperationReader(
+                    file,
+                    startPositions[stream],
+                    endPositions[stream],
+                    operationCounts[stream],
+                    operationReaders
+            );
+        }
+    }
+
+    /**
+     * Reads the records of one stream sequentially, through positional reads into a direct buffer. File is opened
+     * on first read and closed once the last record was read.
+     */
+    private static class OperationReader extends Generator<Operation>
+    {
+        private final File file;
+        private final long endPosition;
+        private final ObjectReader[] operationReaders;
+        private long position;
+        private long remainingOperationCount;
+        private FileChannel channel = null;
+        private ByteBuffer buffer = null;
+        private byte[] payload = new byte[1024];
+
+        private OperationReader(
+                File file,
+                long startPosition,
+                long endPosition,
+                long operationCount,
+                ObjectReader[] operationReaders )
+        {
+            this.file = file;
+            this.position = startPosition;
+            this.endPosition = endPosition;
+            this.remainingOperationCount = operationCount;
+            this.operationReaders = operationReaders;
+        }
+
+        @Override
+        protected Operation doNext() throws GeneratorException
+        {
+            if ( 0 == remainingOperationCount )
+            {
+                return null;
+            }
+            try
+            {
+                if ( null == channel )
+                {
+                    channel = FileChannel.open( file.toPath(), StandardOpenOption.READ );
+                    buffer = ByteBuffer.allocateDirect(
+                            (int) Math.max( 1, Math.min( READ_BUFFER_SIZE, endPosition - position ) ) );
+                    buffer.flip();
+                }
+                ensureRemaining( RECORD_HEADER_SIZE );
+                int operationClassIndex = buffer.getInt();
+                long scheduledStartTimeAsMilli = buffer.getLong();
+                long timeStamp = buffer.getLong();
+                long dependencyTimeStamp = buffer.getLong();
+                int payloadLength = buffer.getInt();
+                ensureRemaining( payloadLength );
+                if ( payloadLength > payload.length )
+                {
+                    payload = new byte[Math.max( payloadLength, payload.length * 2 )];
+                }
+                buffer.get( payload, 0, payloadLength );
+
+                Operation operation = operationReaders[operationClassIndex].readValue( payload, 0, payloadLength );
+                operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+                operation.setTimeStamp( timeStamp );
+                operation.setDependencyTimeStamp( dependencyTimeStamp );
+
+                remainingOperationCount--;
+                if ( 0 == remainingOperationCount )
+                {
+                    channel.close();
+                    buffer = null;
+                }
+                return operation;
+            }
+            catch ( IOException e )
+            {
+                throw new GeneratorException( format( "Error reading precompiled workload: %s",
+                        file.getAbsolutePath() ), e );
+            }
+        }
+
+        private void ensureRemaining( int byteCount ) throws IOException
+        {
+            if ( buffer.remaining() >= byteCount )
+            {
+                return;
+            }
+            if ( byteCount > buffer.capacity() )
+            {
+                ByteBuffer largerBuffer = ByteBuffer.allocateDirect( Math.max( byteCount, buffer.capacity() * 2 ) );
+                largerBuffer.put( buffer );
+                largerBuffer.flip();
+                buffer = largerBuffer;
+            }
+            buffer.compact();
+            while ( buffer.position() < byteCount )
+            {
+                int maxReadLength = (int) Math.min( buffer.remaining(), endPosition - position );
+                if ( maxReadLength <= 0 )
+                {
+                    throw new IOException( "Unexpected end of precompiled workload stream" );
+                }
+                buffer.limit( buffer.position() + maxReadLength );
+                int readLength = channel.read( buffer, position );
+                if ( -1 == readLength )
+                {
+                    throw new IOException( "Unexpected end of precompiled workload file" );
+                }
+                position += readLength;
+                buffer.limit( buffer.capacity() );
+            }
+            buffer.flip();
+        }
+    }
+
+    /**
+     * Writes segments to a temporary file, which replaces the precompiled workload file when committed. Closing a
+     * writer that has not been committed, e.g., because a segment failed, deletes the temporary file and leaves the
+     * precompiled workload file untouched
+     */
+    public static class Writer implements Closeable
+    {
+        private final File file;
+        private final File temporaryFile;
+        private final CountingOutputStream countingOutputStream;
+        private final DataOutputStream outputStream;
+        private final ObjectWriter operationWriter = new ObjectMapper().writer();
+        private final Map<Class<?>,Integer> operationClassIndexes = new HashMap<>();
+        private final List<Class<?>> operationClasses = new ArrayList<>();
+        private final List<Segment> segments = new ArrayList<>();
+        private boolean committed = false;
+        private boolean closed = false;
+
+        /**
+         * @param configuration as given to the driver, see {@link PrecompiledWorkload#isCompiledFor}
+         */
+        public Writer( File file, DriverConfiguration configuration ) throws IOException
+        {
+            this.file = file.getAbsoluteFile();
+            if ( null != this.file.getParentFile() )
+            {
+                this.file.getParentFile().mkdirs();
+            }
+            this.temporaryFile = new File( this.file.getPath() + ".tmp" );
+            this.countingOutputStream = new CountingOutputStream(
+                    new BufferedOutputStream( new FileOutputStream( temporaryFile ), READ_BUFFER_SIZE ) );
+            this.outputStream = new DataOutputStream( countingOutputStream );
+            outputStream.writeInt( MAGIC );
+            outputStream.writeInt( VERSION );
+            outputStream.writeUTF( WorkloadStreamsOffsetIndex.fingerprint( configuration ) );
+        }
+
+        /**
+         * Consumes all streams of workloadStreams, e.g., as returned by
+         * {@link WorkloadStreams#createNewWorkloadWithOffsetAndLimitedWorkloadStreams}
+         *
+         * @return number of operations written
+         */
+        public long writeSegment( WorkloadStreams workloadStreams, long offset, long limit, long minimumTimeStamp )
+                throws IOException
+        {
+            List<Iterator<Operation>> streams = new ArrayList<>();
+            streams.add( workloadStreams.asynchronousStream().dependencyOperations() );
+            streams.add( workloadStreams.asynchronousStream().nonDependencyOperations() );
+            for ( WorkloadStreamDefinition blockingStream : workloadStreams.blockingStreamDefinitions() )
+            {
+                streams.add( blockingStream.dependencyOperations() );
+                streams.add( blockingStream.nonDependencyOperations() );
+            }
+            long[] startPositions = new long[streams.size()];
+            long[] endPositions = new long[streams.size()];
+            long[] operationCounts = new long[streams.size()];
+            long totalOperationCount = 0;
+            for ( int i = 0; i < streams.size(); i++ )
+            {
+                startPositions[i] = countingOutputStream.getCount();
+                Iterator<Operation> operations = streams.get( i );
+                while ( operations.hasNext() )
+                {
+                    writeOperation( operations.next() );
+                    operationCounts[i]++;
+                }
+                endPositions[i] = countingOutputStream.getCount();
+                totalOperationCount += operationCounts[i];
+            }
+            segments.add(
+                    new Segment( offset, limit, minimumTimeStamp, startPositions, endPositions, operationCounts ) );
+            return totalOperationCount;
+        }
+
+        private void writeOperation( Operation operation ) throws IOException
+        {
+            Integer operationClassIndex = operationClassIndexes.get( operation.getClass() );
+            if ( null == operationClassIndex )
+            {
+                operationClassIndex = operationClasses.size();
+                operationClasses.add( operation.getClass() );
+                operationClassIndexes.put( operation.getClass(), operationClassIndex );
+            }
+            byte[] payload = operationWriter.writeValueAsBytes( operation );
+            outputStream.writeInt( operationClassIndex );
+            outputStream.writeLong( operation.scheduledStartTimeAsMilli() );
+            outputStream.writeLong( operation.timeStamp() );
+            outputStream.writeLong( operation.dependencyTimeStamp() );
+            outputStream.writeInt( payload.length );
+            outputStream.write( payload );
+        }
+
+        /**
+         * Writes the footer, which lists the segments written so far, and replaces the precompiled workload file
+         */
+        public void commit() throws IOException
+        {
+            if ( closed )
+            {
+                throw new IOException( "Writer has already been closed" );
+            }
+            closed = true;
+            long footerPosition = countingOutputStream.getCount();
+            outputStream.writeInt( operationClasses.size() );
+            for ( Class<?> operationClass : operationClasses )
+            {
+                outputStream.writeUTF( operationClass.getName() );
+            }
+            outputStream.writeInt( segments.size() );
+            for ( Segment segment : segments )
+            {
+                outputStream.writeLong( segment.offset );
+                outputStream.writeLong( segment.limit );
+                outputStream.writeLong( segment.minimumTimeStamp );
+                outputStream.writeInt( segment.streamCount() );
+                for ( int i = 0; i < segment.streamCount(); i++ )
+                {
+                    outputStream.writeLong( segment.startPositions[i] );
+                    outputStream.writeLong( segment.endPositions[i] );
+                    outputStream.writeLong( segment.operationCounts[i] );
+                }
+            }
+            outputStream.writeLong( footerPosition );
+            outputStream.close();
+            Files.move( temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING );
+            committed = true;
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            if ( committed )
+            {
+                return;
+            }
+            closed = true;
+            try
+            {
+                outputStream.close();
+            }
+            finally
+            {
+                Files.deleteIfExists( temporaryFile.toPath() );
+            }
+        }
+    }
+}
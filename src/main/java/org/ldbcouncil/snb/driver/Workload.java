@@ -2,6 +2,7 @@ package org.ldbcouncil.snb.driver;
 
 import org.ldbcouncil.snb.driver.control.DriverConfiguration;
 import org.ldbcouncil.snb.driver.generator.GeneratorFactory;
+import org.ldbcouncil.snb.driver.validation.ResultComparisonTolerances;
 import org.ldbcouncil.snb.driver.validation.ResultsLogValidationTolerances;
 
 import java.io.Closeable;
@@ -122,10 +123,38 @@ public abstract class Workload implements Closeable
         return DEFAULT_MAXIMUM_EXPECTED_INTERLEAVE_AS_MILLI;
     }
 
+    /**
+     * During database validation, writes are executed after all operations before them, and before all operations
+     * after them, other operations may be executed concurrently. Unless overridden, every operation is a write.
+     *
+     * @param operation operation read from validation parameters
+     * @return true if operation may modify the database
+     */
+    public boolean isWrite( Operation operation )
+    {
+        return true;
+    }
+
+    /**
+     * During database validation, expected and actual results are compared structurally, see ResultComparator.
+     * Unless overridden, floating point values may differ by ResultComparisonTolerances#DEFAULT_FLOAT_TOLERANCE.
+     *
+     * @param operation operation read from validation parameters
+     * @return differences between expected and actual results of operation that are not reported
+     */
+    public ResultComparisonTolerances resultComparisonTolerances( Operation operation )
+    {
+        return ResultComparisonTolerances.DEFAULT;
+    }
+
     public abstract int enabledValidationOperations();
 
     public interface DbValidationParametersFilter
     {
+        /**
+         * May be called more than once per operation, and for operations that are never executed, so must not change
+         * the state of the filter
+         */
         boolean useOperation( Operation operation );
 
         DbValidationParametersFilterResult useOperationAndResultForValidation(
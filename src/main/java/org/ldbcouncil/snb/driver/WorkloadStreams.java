@@ -6,11 +6,13 @@ import org.ldbcouncil.snb.driver.control.DriverConfiguration;
 import org.ldbcouncil.snb.driver.control.LoggingService;
 import org.ldbcouncil.snb.driver.control.LoggingServiceFactory;
 import org.ldbcouncil.snb.driver.generator.GeneratorFactory;
+import org.ldbcouncil.snb.driver.runtime.scheduling.AdaptiveTimeCompression;
 import org.ldbcouncil.snb.driver.util.Tuple;
 import org.ldbcouncil.snb.driver.util.Tuple3;
 import org.ldbcouncil.snb.driver.workloads.ClassNameWorkloadFactory;
 import org.ldbcouncil.snb.driver.workloads.WorkloadFactory;
 
+import java.io.File;
 import java.io.IOException;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
@@ -216,6 +218,66 @@ public class WorkloadStreams
         return timeOffsetAndCompressedWorkloadStreams;
     }
 
+    /**
+     * Offsets start times of operations in all streams such that earliest operation is scheduled at new start time,
+     * and compresses durations between start times with an adaptive time compression, which is adjusted while
+     * operations are retrieved from the returned streams.
+     */
+    public static WorkloadStreams timeOffsetAndAdaptivelyCompressWorkloadStreams(
+            WorkloadStreams originalWorkloadStreams,
+            long newStartTimeAsMilli,
+            AdaptiveTimeCompression adaptiveTimeCompression,
+            GeneratorFactory gf )
+    {
+        List<PeekingIterator<Operation>> peekingOperationStreams = new ArrayList<>();
+        peekingOperationStreams.add(
+                Iterators.peekingIterator( originalWorkloadStreams.asynchronousStream().dependencyOperations() ) );
+        peekingOperationStreams.add(
+                Iterators.peekingIterator( originalWorkloadStreams.asynchronousStream().nonDependencyOperations() ) );
+        List<WorkloadStreamDefinition> blockingStreams = originalWorkloadStreams.blockingStreamDefinitions();
+        for ( WorkloadStreamDefinition blockingStream : blockingStreams )
+        {
+            peekingOperationStreams.add( Iterators.peekingIterator( blockingStream.dependencyOperations() ) );
+            peekingOperationStreams.add( Iterators.peekingIterator( blockingStream.nonDependencyOperations() ) );
+        }
+
+        // find earliest scheduled start time from across all streams
+        long minScheduledStartTimeAsMilli = Long.MAX_VALUE;
+        for ( PeekingIterator<Operation> peekingOperationStream : peekingOperationStreams )
+        {
+            if ( peekingOperationStream.hasNext() )
+            {
+                minScheduledStartTimeAsMilli = Math.min( minScheduledStartTimeAsMilli,
+                        peekingOperationStream.peek().scheduledStartTimeAsMilli() );
+            }
+        }
+        if ( Long.MAX_VALUE == minScheduledStartTimeAsMilli )
+        {
+            minScheduledStartTimeAsMilli = newStartTimeAsMilli;
+        }
+        adaptiveTimeCompression.startAt( minScheduledStartTimeAsMilli, newStartTimeAsMilli );
+
+        WorkloadStreams timeOffsetAndCompressedWorkloadStreams = new WorkloadStreams();
+        timeOffsetAndCompressedWorkloadStreams.setAsynchronousStream(
+                originalWorkloadStreams.asynchronousStream().dependentOperationTypes(),
+                originalWorkloadStreams.asynchronousStream().dependencyOperationTypes(),
+                gf.timeMap( peekingOperationStreams.get( 0 ), adaptiveTimeCompression ),
+                gf.timeMap( peekingOperationStreams.get( 1 ), adaptiveTimeCompression ),
+                originalWorkloadStreams.asynchronousStream().childOperationGenerator()
+        );
+        for ( int i = 0; i < blockingStreams.size(); i++ )
+        {
+            timeOffsetAndCompressedWorkloadStreams.addBlockingStream(
+                    blockingStreams.get( i ).dependentOperationTypes(),
+                    blockingStreams.get( i ).dependencyOperationTypes(),
+                    gf.timeMap( peekingOperationStreams.get( i * 2 + 2 ), adaptiveTimeCompression ),
+                    gf.timeMap( peekingOperationStreams.get( i * 2 + 3 ), adaptiveTimeCompression ),
+                    blockingStreams.get( i ).childOperationGenerator()
+            );
+        }
+        return timeOffsetAndCompressedWorkloadStreams;
+    }
+
     // returns (workload_streams, workload, minimum_timestamp)
     public static Tuple3<WorkloadStreams,Workload,Long> createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
             DriverConfiguration configuration,
@@ -251,59 +313,71 @@ public class WorkloadStreams
         // ====== Calculate Limits ========
         // ================================
 
-        // get workload
-        Workload workload = workloadFactory.createWorkload();
-        workload.init( configuration );
-        // retrieve unbounded streams
-        boolean hasDbConnected = false;
-        WorkloadStreams unlimitedWorkloadStreams = workload.streams( gf, hasDbConnected );
-        List<Iterator<Operation>> streams = new ArrayList<>();
-        List<ChildOperationGenerator> childOperationGenerators = new ArrayList<>();
-
-        streams.add( unlimitedWorkloadStreams.asynchronousStream().dependencyOperations() );
-        childOperationGenerators.add( unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator() );
-
-        streams.add( unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations() );
-        childOperationGenerators.add( unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator() );
-
-        for ( WorkloadStreamDefinition stream : unlimitedWorkloadStreams.blockingStreamDefinitions() )
+        LoggingService loggingService =
+                loggingServiceFactory.loggingServiceFor( WorkloadStreams.class.getSimpleName() );
+        WorkloadStreamsOffsetIndex offsetIndex = null;
+        Tuple3<long[],long[],Long> limitsAndMinimumsForStream = null;
+        if ( null != configuration.workloadOffsetIndexFilePath() )
         {
-            streams.add( stream.dependencyOperations() );
-            childOperationGenerators.add( stream.childOperationGenerator() );
-
-            streams.add( stream.nonDependencyOperations() );
-            childOperationGenerators.add( stream.childOperationGenerator() );
+            File offsetIndexFile = new File( configuration.workloadOffsetIndexFilePath() );
+            offsetIndex = WorkloadStreamsOffsetIndex.load( offsetIndexFile, configuration );
+            if ( offsetIndex.isStale() )
+            {
+                loggingService.info( format( "Workload offset index was created for a different workload " +
+                                             "configuration, it will be rebuilt: %s",
+                        offsetIndexFile.getAbsolutePath() ) );
+            }
+            limitsAndMinimumsForStream = offsetIndex.get( offset, limit );
         }
 
-        // stream through streams once, to calculate how many operations are needed from each,
-        // to get operation_count in total
-        Tuple3<long[],long[],Long> limitsAndMinimumsForStream =
-                WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
-                        streams,
-                        offset,
-                        limit,
-                        childOperationGenerators,
-                        loggingServiceFactory
-                );
+        if ( null == limitsAndMinimumsForStream )
+        {
+            limitsAndMinimumsForStream = calculateLimits(
+                    workloadFactory,
+                    configuration,
+                    gf,
+                    offset,
+                    limit,
+                    loggingServiceFactory
+            );
+            if ( null != offsetIndex )
+            {
+                offsetIndex.put( offset, limit, limitsAndMinimumsForStream );
+            }
+        }
+        else
+        {
+            loggingService.info( format( "Loaded workload stream limits from offset index: %s",
+                    configuration.workloadOffsetIndexFilePath() ) );
+        }
         long[] startForStream = limitsAndMinimumsForStream._1();
         long[] limitForStream = limitsAndMinimumsForStream._2();
         long minimumTimeStamp = limitsAndMinimumsForStream._3();
 
-        workload.close();
-
         // ================================
         // ====== Create Limited Streams ==
         // ================================
 
         WorkloadStreams workloadStreams = new WorkloadStreams();
 
-        // reinitialize workload, so it can be streamed through from the beginning
-        workload = workloadFactory.createWorkload();
+        // initialize workload, so it can be streamed through from the beginning
+        Workload workload = workloadFactory.createWorkload();
         workload.init( configuration );
 
         // retrieve unbounded streams
-        unlimitedWorkloadStreams = workload.streams( gf, returnStreamsWithDbConnector );
+        WorkloadStreams unlimitedWorkloadStreams = workload.streams( gf, returnStreamsWithDbConnector );
         List<WorkloadStreamDefinition> unlimitedBlockingStreams = unlimitedWorkloadStreams.blockingStreamDefinitions();
+        if ( startForStream.length != 2 + unlimitedBlockingStreams.size() * 2 ||
+             limitForStream.length != startForStream.length )
+        {
+            workload.close();
+            throw new WorkloadException( format( "Expected limits for %s workload streams but found %s/%s\n" +
+                                                 "Delete workload offset index and retry: %s",
+                    2 + unlimitedBlockingStreams.size() * 2,
+                    startForStream.length,
+                    limitForStream.length,
+                    configuration.workloadOffsetIndexFilePath() ) );
+        }
 
         // advance to offsets
         gf.consume( unlimitedWorkloadStreams.asynchronousStream().dependencyOperations(), startForStream[0] );
@@ -340,6 +414,54 @@ public class WorkloadStreams
         );
     }
 
+    // streams through a new workload instance once, returns (start_per_stream, end_per_stream, minimum_timestamp)
+    private static Tuple3<long[],long[],Long> calculateLimits(
+            WorkloadFactory workloadFactory,
+            DriverConfiguration configuration,
+            GeneratorFactory gf,
+            long offset,
+            long limit,
+            LoggingServiceFactory loggingServiceFactory ) throws WorkloadException, IOException
+    {
+        // get workload
+        Workload workload = workloadFactory.createWorkload();
+        workload.init( configuration );
+        // retrieve unbounded streams
+        boolean hasDbConnected = false;
+        WorkloadStreams unlimitedWorkloadStreams = workload.streams( gf, hasDbConnected );
+        List<Iterator<Operation>> streams = new ArrayList<>();
+        List<ChildOperationGenerator> childOperationGenerators = new ArrayList<>();
+
+        streams.add( unlimitedWorkloadStreams.asynchronousStream().dependencyOperations() );
+        childOperationGenerators.add( unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator() );
+
+        streams.add( unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations() );
+        childOperationGenerators.add( unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator() );
+
+        for ( WorkloadStreamDefinition stream : unlimitedWorkloadStreams.blockingStreamDefinitions() )
+        {
+            streams.add( stream.dependencyOperations() );
+            childOperationGenerators.add( stream.childOperationGenerator() );
+
+            streams.add( stream.nonDependencyOperations() );
+            childOperationGenerators.add( stream.childOperationGenerator() );
+        }
+
+        // stream through streams once, to calculate how many operations are needed from each,
+        // to get operation_count in total
+        Tuple3<long[],long[],Long> limitsAndMinimumsForStream =
+                WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
+                        streams,
+                        offset,
+                        limit,
+                        childOperationGenerators,
+                        loggingServiceFactory
+                );
+
+        workload.close();
+        return limitsAndMinimumsForStream;
+    }
+
     // returns (start_per_stream, end_per_stream, minimum_timestamp)
     public static Tuple3<long[],long[],Long> fromAmongAllRetrieveTopCountFromOffset(
             List<Iterator<Operation>> streams,
@@ -550,6 +672,43 @@ public class WorkloadStreams
         );
     }
 
+    /**
+     * Returns the streams executed by one of shardCount driver processes, which together execute all streams.
+     * Blocking streams, e.g., update stream partitions, are assigned to shards round robin, as a whole, because their
+     * operations execute one after the other. Operations of the asynchronous stream are dealt out round robin.
+     * <p/>
+     * Streams must already be time offset and compressed, so every shard executes its operations on the schedule of
+     * the whole workload, rather than on one mapped from the earliest operation of its shard.
+     */
+    public static WorkloadStreams shard(
+            WorkloadStreams workloadStreams,
+            int shardIndex,
+            int shardCount,
+            GeneratorFactory gf )
+    {
+        WorkloadStreams shardWorkloadStreams = new WorkloadStreams();
+        WorkloadStreamDefinition asynchronousStream = workloadStreams.asynchronousStream();
+        shardWorkloadStreams.setAsynchronousStream(
+                asynchronousStream.dependentOperationTypes(),
+                asynchronousStream.dependencyOperationTypes(),
+                gf.shard( asynchronousStream.dependencyOperations(), shardIndex, shardCount ),
+                gf.shard( asynchronousStream.nonDependencyOperations(), shardIndex, shardCount ),
+                asynchronousStream.childOperationGenerator()
+        );
+        List<WorkloadStreamDefinition> blockingStreams = workloadStreams.blockingStreamDefinitions();
+        for ( int i = shardIndex; i < blockingStreams.size(); i += shardCount )
+        {
+            shardWorkloadStreams.addBlockingStream(
+                    blockingStreams.get( i ).dependentOperationTypes(),
+                    blockingStreams.get( i ).dependencyOperationTypes(),
+                    blockingStreams.get( i ).dependencyOperations(),
+                    blockingStreams.get( i ).nonDependencyOperations(),
+                    blockingStreams.get( i ).childOperationGenerator()
+            );
+        }
+        return shardWorkloadStreams;
+    }
+
     public WorkloadStreamDefinition asynchronousStream()
     {
         if ( null != asynchronousStream )
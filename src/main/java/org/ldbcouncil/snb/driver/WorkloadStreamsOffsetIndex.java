@@ -0,0 +1,236 @@
+package org.ldbcouncil.snb.driver;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ldbcouncil.snb.driver.control.ConsoleAndFileDriverConfiguration;
+import org.ldbcouncil.snb.driver.control.DriverConfiguration;
+import org.ldbcouncil.snb.driver.util.MapUtils;
+import org.ldbcouncil.snb.driver.util.Tuple;
+import org.ldbcouncil.snb.driver.util.Tuple3;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Persists the operation counts calculated by
+ * {@link WorkloadStreams#fromAmongAllRetrieveTopCountFromOffset}, i.e., how many operations to skip and then
+ * take from each workload stream, so later runs of the same workload configuration do not need to stream through
+ * the whole workload once just to calculate them.
+ * <p>
+ * Entries are keyed by offset and limit, so warmup and measurement runs each have their own entry. The index is
+ * discarded when the workload class, a workload parameter, or the size or modification time of a file referenced by
+ * a workload parameter (or of a file in a directory referenced by one) changes.
+ */
+public class WorkloadStreamsOffsetIndex
+{
+    private final File indexFile;
+    private final IndexContents contents;
+    private final boolean stale;
+
+    public static WorkloadStreamsOffsetIndex load( File indexFile, DriverConfiguration configuration )
+            throws IOException
+    {
+        String fingerprint = fingerprint( configuration );
+        if ( indexFile.exists() )
+        {
+            IndexContents contents = new ObjectMapper().readValue( indexFile, IndexContents.class );
+            if ( fingerprint.equals( contents.fingerprint ) )
+            {
+                return new WorkloadStreamsOffsetIndex( indexFile, contents, false );
+            }
+            return new WorkloadStreamsOffsetIndex( indexFile, new IndexContents( fingerprint ), true );
+        }
+        return new WorkloadStreamsOffsetIndex( indexFile, new IndexContents( fingerprint ), false );
+    }
+
+    private WorkloadStreamsOffsetIndex( File indexFile, IndexContents contents, boolean stale )
+    {
+        this.indexFile = indexFile;
+        this.contents = contents;
+        this.stale = stale;
+    }
+
+    /**
+     * @return true if index file existed, but was created for a different workload configuration
+     */
+    public boolean isStale()
+    {
+        return stale;
+    }
+
+    /**
+     * @return (start_per_stream, end_per_stream, minimum_timestamp), or null if not indexed
+     */
+    public Tuple3<long[],long[],Long> get( long offset, long limit )
+    {
+        for ( IndexEntry entry : contents.entries )
+        {
+            if ( entry.offset == offset && entry.limit == limit )
+            {
+                return Tuple.tuple3(
+                        entry.startForStream.clone(),
+                        entry.limitForStream.clone(),
+                        entry.minimumTimeStamp
+                );
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds (or replaces) entry and writes index file
+     */
+    public void put( long offset, long limit, Tuple3<long[],long[],Long> limitsAndMinimumsForStream )
+            throws IOException
+    {
+        List<IndexEntry> entries = new ArrayList<>();
+        for ( IndexEntry entry : contents.entries )
+        {
+            if ( entry.offset != offset || entry.limit != limit )
+            {
+                entries.add( entry );
+            }
+        }
+        entries.add( new IndexEntry(
+                offset,
+                limit,
+                limitsAndMinimumsForStream._1().clone(),
+                limitsAndMinimumsForStream._2().clone(),
+                limitsAndMinimumsForStream._3()
+        ) );
+        contents.entries = entries;
+
+        // write to temporary file first, so concurrent or interrupted runs never see a partially written index
+        File absoluteIndexFile = indexFile.getAbsoluteFile();
+        File indexDirectory = absoluteIndexFile.getParentFile();
+        if ( null != indexDirectory && !indexDirectory.exists() && !indexDirectory.mkdirs() )
+        {
+            throw new IOException( format( "Could not create directory: %s", indexDirectory.getAbsolutePath() ) );
+        }
+        File temporaryIndexFile = new File( absoluteIndexFile.getPath() + ".tmp" );
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue( temporaryIndexFile, contents );
+        Files.move( temporaryIndexFile.toPath(), absoluteIndexFile.toPath(), StandardCopyOption.REPLACE_EXISTING );
+    }
+
+    static String fingerprint( DriverConfiguration configuration ) throws IOException
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append( "workload=" ).append( configuration.workloadClassName() ).append( "\n" );
+        Map<String,String> workloadParams = MapUtils.copyExcludingKeys(
+                configuration.asMap(),
+                ConsoleAndFileDriverConfiguration.coreConfigurationParameterKeys()
+        );
+        for ( Map.Entry<String,String> param : MapUtils.sortedEntrySet( workloadParams ) )
+        {
+            sb.append( param.getKey() ).append( "=" ).append( param.getValue() ).append( "\n" );
+            if ( null == param.getValue() || param.getValue().isEmpty() )
+            {
+                continue;
+            }
+            File file = new File( param.getValue() );
+            if ( file.isFile() )
+            {
+                appendFileStatus( sb, file );
+            }
+            else if ( file.isDirectory() )
+            {
+                File[] directoryFiles = file.listFiles();
+                if ( null != directoryFiles )
+                {
+                    Arrays.sort( directoryFiles );
+                    for ( File directoryFile : directoryFiles )
+                    {
+                        appendFileStatus( sb, directoryFile );
+                    }
+                }
+            }
+        }
+        try
+        {
+            byte[] digest = MessageDigest.getInstance( "SHA-256" )
+                    .digest( sb.toString().getBytes( StandardCharsets.UTF_8 ) );
+            StringBuilder hex = new StringBuilder();
+            for ( byte b : digest )
+            {
+                hex.append( format( "%02x", b ) );
+            }
+            return hex.toString();
+        }
+        catch ( NoSuchAlgorithmException e )
+        {
+            throw new IOException( "Could not calculate workload fingerprint", e );
+        }
+    }
+
+    private static void appendFileStatus( StringBuilder sb, File file )
+    {
+        sb.append( "\t" ).append( file.getName() )
+                .append( "|" ).append( file.length() )
+                .append( "|" ).append( file.lastModified() ).append( "\n" );
+    }
+
+    private static class IndexContents
+    {
+        @JsonProperty( value = "fingerprint" )
+        private String fingerprint;
+
+        @JsonProperty( value = "entries" )
+        private List<IndexEntry> entries = new ArrayList<>();
+
+        private IndexContents()
+        {
+        }
+
+        private IndexContents( String fingerprint )
+        {
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    private static class IndexEntry
+    {
+        @JsonProperty( value = "offset" )
+        private long offset;
+
+        @JsonProperty( value = "limit" )
+        private long limit;
+
+        @JsonProperty( value = "start_per_stream" )
+        private long[] startForStream;
+
+        @JsonProperty( value = "limit_per_stream" )
+        private long[] limitForStream;
+
+        @JsonProperty( value = "minimum_time_stamp" )
+        private long minimumTimeStamp;
+
+        private IndexEntry()
+        {
+        }
+
+        private IndexEntry(
+                long offset,
+                long limit,
+                long[] startForStream,
+                long[] limitForStream,
+                long minimumTimeStamp )
+        {
+            this.offset = offset;
+            this.limit = limit;
+            this.startForStream = startForStream;
+            this.limitForStream = limitForStream;
+            this.minimumTimeStamp = minimumTimeStamp;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.ldbcouncil.snb.driver.client;
+
+import org.ldbcouncil.snb.driver.ClientException;
+import org.ldbcouncil.snb.driver.PrecompiledWorkload;
+import org.ldbcouncil.snb.driver.Workload;
+import org.ldbcouncil.snb.driver.WorkloadStreams;
+import org.ldbcouncil.snb.driver.control.ControlService;
+import org.ldbcouncil.snb.driver.control.DriverConfiguration;
+import org.ldbcouncil.snb.driver.control.LoggingService;
+import org.ldbcouncil.snb.driver.generator.GeneratorFactory;
+import org.ldbcouncil.snb.driver.generator.RandomDataGeneratorFactory;
+import org.ldbcouncil.snb.driver.util.Tuple3;
+
+import java.io.File;
+import java.io.IOException;
+
+import static java.lang.String.format;
+
+/**
+ * Compiles the operation streams of the warmup and measurement runs of the configured workload into a
+ * {@link PrecompiledWorkload}, which execute_benchmark replays when given the same precompiled workload file
+ */
+public class CompileWorkloadMode implements ClientMode<Object>
+{
+    private final ControlService controlService;
+    private final LoggingService loggingService;
+    private final long randomSeed;
+
+    private File precompiledWorkloadFile = null;
+
+    public CompileWorkloadMode( ControlService controlService, long randomSeed ) throws ClientException
+    {
+        this.controlService = controlService;
+        this.loggingService = controlService.loggingServiceFactory().loggingServiceFor( getClass().getSimpleName() );
+        this.randomSeed = randomSeed;
+    }
+
+    @Override
+    public void init() throws ClientException
+    {
+        precompiledWorkloadFile = new File( controlService.configuration().precompiledWorkloadFilePath() );
+        loggingService.info( "Driver Configuration" );
+        loggingService.info( controlService.toString() );
+    }
+
+    @Override
+    public Object startExecutionAndAwaitCompletion() throws ClientException
+    {
+        DriverConfiguration configuration = controlService.configuration();
+        loggingService.info( format( "Compiling workload to: %s", precompiledWorkloadFile.getAbsolutePath() ) );
+        try ( PrecompiledWorkload.Writer writer = new PrecompiledWorkload.Writer( precompiledWorkloadFile,
+                configuration ) )
+        {
+            // same offsets and limits as the warmup and measurement runs of execute_benchmark
+            if ( configuration.warmupCount() > 0 )
+            {
+                compileSegment( writer, configuration.skipCount(), configuration.warmupCount() );
+            }
+            compileSegment( writer, configuration.skipCount() + configuration.warmupCount(),
+                    configuration.operationCount() );
+            // only once every segment has been compiled, otherwise closing the writer discards the file
+            writer.commit();
+        }
+        catch ( IOException e )
+        {
+            throw new ClientException(
+                    format( "Error writing precompiled workload: %s", precompiledWorkloadFile.getAbsolutePath() ), e );
+        }
+        loggingService.info( "Workload compiled successfully" );
+        return null;
+    }
+
+    private void compileSegment( PrecompiledWorkload.Writer writer, long offset, long limit )
+            throws ClientException, IOException
+    {
+        // new generator factory for every segment, as execute_benchmark creates one for each run
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( randomSeed ) );
+        Tuple3<WorkloadStreams,Workload,Long> streamsAndWorkloadAndMinimumTimeStamp;
+        try
+        {
+            boolean returnStreamsWithDbConnector = false;
+            streamsAndWorkloadAndMinimumTimeStamp =
+                    WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                            controlService.configuration(),
+                            gf,
+                            returnStreamsWithDbConnector,
+                            offset,
+                            limit,
+                            controlService.loggingServiceFactory()
+                    );
+        }
+        catch ( Exception e )
+        {
+            throw new ClientException( format( "Error loading workload class: %s",
+                    controlService.configuration().workloadClassName() ), e );
+        }
+        try ( Workload workload = streamsAndWorkloadAndMinimumTimeStamp._2() )
+        {
+            long operationCount = writer.writeSegment(
+                    streamsAndWorkloadAndMinimumTimeStamp._1(),
+                    offset,
+                    limit,
+                    streamsAndWorkloadAndMinimumTimeStamp._3()
+            );
+            loggingService.info( format( "Compiled %s operations for offset %s and limit %s",
+                    operationCount, offset, limit ) );
+        }
+    }
+}
@@ -6,6 +6,7 @@ package org.ldbcouncil.snb.driver.client;
  * 
  */
 
+import com.google.common.collect.Iterators;
 import org.ldbcouncil.snb.driver.ClientException;
 import org.ldbcouncil.snb.driver.Db;
 import org.ldbcouncil.snb.driver.Operation;
@@ -13,23 +14,28 @@ import org.ldbcouncil.snb.driver.Workload;
 import org.ldbcouncil.snb.driver.WorkloadStreams;
 import org.ldbcouncil.snb.driver.control.ControlService;
 import org.ldbcouncil.snb.driver.control.LoggingService;
-import org.ldbcouncil.snb.driver.csv.simple.SimpleCsvFileWriter;
+import org.ldbcouncil.snb.driver.csv.simple.SimpleCsvFileReader;
 import org.ldbcouncil.snb.driver.generator.GeneratorFactory;
 import org.ldbcouncil.snb.driver.generator.RandomDataGeneratorFactory;
 import org.ldbcouncil.snb.driver.util.ClassLoaderHelper;
 import org.ldbcouncil.snb.driver.util.Tuple3;
 import org.ldbcouncil.snb.driver.validation.ValidationParam;
+import org.ldbcouncil.snb.driver.validation.ValidationParamsCsvWriter;
+import org.ldbcouncil.snb.driver.validation.ValidationParamsFromCsvRows;
 import org.ldbcouncil.snb.driver.validation.ValidationParamsGenerator;
-import org.ldbcouncil.snb.driver.validation.ValidationParamsToCsvRows;
 
 import java.io.File;
 import java.text.DecimalFormat;
+import java.util.Collections;
 import java.util.Iterator;
 
 import static java.lang.String.format;
 
 public class CreateValidationParamsMode implements ClientMode<Object>
 {
+    // validation parameters written between flushes of the validation parameters file, at most
+    private static final int CHECKPOINT_INTERVAL = 100;
+
     private final ControlService controlService;
     private final LoggingService loggingService;
     private final long randomSeed;
@@ -142,35 +148,63 @@ public class CreateValidationParamsMode implements ClientMode<Object>
             loggingService.info(
                     format( "Generating database validation file: %s", validationFileToGenerate.getAbsolutePath() ) );
 
-            Iterator<ValidationParam> validationParamsGenerator = new ValidationParamsGenerator(
+            Iterator<ValidationParam> previouslyGeneratedValidationParams =
+                    Collections.<ValidationParam>emptyIterator();
+            SimpleCsvFileReader previouslyGeneratedValidationParamsReader = null;
+            boolean resume = controlService.configuration().validationParametersResume() &&
+                             validationFileToGenerate.exists();
+            if ( resume )
+            {
+                ValidationParamsCsvWriter.truncateAfterLastCompleteRow( validationFileToGenerate );
+                previouslyGeneratedValidationParamsReader = new SimpleCsvFileReader( validationFileToGenerate,
+                        SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
+                int previouslyGeneratedValidationParamsCount =
+                        Iterators.size( previouslyGeneratedValidationParamsReader );
+                previouslyGeneratedValidationParamsReader.close();
+                loggingService.info( format( "Resuming after %s previously generated validation parameters",
+                        previouslyGeneratedValidationParamsCount ) );
+                previouslyGeneratedValidationParamsReader = new SimpleCsvFileReader( validationFileToGenerate,
+                        SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
+                // rows appended from here on must not be read back
+                previouslyGeneratedValidationParams = Iterators.limit(
+                        new ValidationParamsFromCsvRows( previouslyGeneratedValidationParamsReader, w ),
+                        previouslyGeneratedValidationParamsCount );
+            }
+
+            ValidationParamsGenerator validationParamsGenerator = new ValidationParamsGenerator(
                     db,
                     w.dbValidationParametersFilter( validationSetSize ),
                     timeMappedOperations,
-                    controlService.configuration().validationParametersSize() );
-
-            Iterator<String[]> csvRows = new ValidationParamsToCsvRows(
-                    validationParamsGenerator,
+                    controlService.configuration().validationParametersSize(),
                     w,
-                    performSerializationMarshallingChecks );
+                    controlService.configuration().threadCount(),
+                    previouslyGeneratedValidationParams );
 
             int rowsWrittenSoFar = 0;
-            try ( SimpleCsvFileWriter simpleCsvFileWriter = new SimpleCsvFileWriter(
+            try ( ValidationParamsCsvWriter validationParamsWriter = new ValidationParamsCsvWriter(
                     validationFileToGenerate,
-                    SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR,
-                    controlService.configuration().flushLog() ) )
+                    resume,
+                    performSerializationMarshallingChecks ) )
             {
                 DecimalFormat decimalFormat = new DecimalFormat( "###,###,##0" );
-                while ( csvRows.hasNext() )
+                while ( validationParamsGenerator.hasNext() )
                 {
-                    String[] csvRow = csvRows.next();
-                    simpleCsvFileWriter.writeRow( csvRow );
+                    ValidationParam validationParam = validationParamsGenerator.next();
+                    validationParamsWriter.write( validationParam );
                     rowsWrittenSoFar++;
+                    // rows in the file are the checkpoint, a write must not be executed again when resuming
+                    if ( controlService.configuration().flushLog() ||
+                         w.isWrite( validationParam.operation() ) ||
+                         rowsWrittenSoFar % CHECKPOINT_INTERVAL == 0 )
+                    {
+                        validationParamsWriter.flush();
+                    }
                     if ( rowsWrittenSoFar % 10 == 0 )
                     {
                         loggingService.info(
                                 format(
                                         "%s / %s Validation Parameters Created\r",
-                                        decimalFormat.format( rowsWrittenSoFar ),
+                                        decimalFormat.format( validationParamsGenerator.entriesWrittenSoFar() ),
                                         decimalFormat.format( validationSetSize )
                                 )
                         );
@@ -181,9 +215,16 @@ public class CreateValidationParamsMode implements ClientMode<Object>
             {
                 throw new ClientException( "Error trying to write validation parameters to CSV file writer", e );
             }
+            finally
+            {
+                validationParamsGenerator.close();
+                if ( null != previouslyGeneratedValidationParamsReader )
+                {
+                    previouslyGeneratedValidationParamsReader.close();
+                }
+            }
 
-            int validationParametersGenerated =
-                    ((ValidationParamsGenerator) validationParamsGenerator).entriesWrittenSoFar();
+            int validationParametersGenerated = validationParamsGenerator.entriesWrittenSoFar();
 
             loggingService.info( format( "Successfully generated %s database validation parameters",
                     validationParametersGenerated ) );
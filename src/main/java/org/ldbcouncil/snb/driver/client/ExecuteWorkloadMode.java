@@ -4,10 +4,14 @@ import com.google.common.base.Charsets;
 import org.ldbcouncil.snb.driver.ClientException;
 import org.ldbcouncil.snb.driver.Db;
 import org.ldbcouncil.snb.driver.DbException;
+import org.ldbcouncil.snb.driver.PrecompiledWorkload;
 import org.ldbcouncil.snb.driver.Workload;
 import org.ldbcouncil.snb.driver.WorkloadException;
 import org.ldbcouncil.snb.driver.WorkloadStreams;
+import org.ldbcouncil.snb.driver.control.ConsoleAndFileDriverConfiguration;
 import org.ldbcouncil.snb.driver.control.ControlService;
+import org.ldbcouncil.snb.driver.control.DriverConfiguration;
+import org.ldbcouncil.snb.driver.control.DriverConfigurationException;
 import org.ldbcouncil.snb.driver.control.LoggingService;
 import org.ldbcouncil.snb.driver.generator.GeneratorFactory;
 import org.ldbcouncil.snb.driver.generator.RandomDataGeneratorFactory;
@@ -17,17 +21,26 @@ import org.ldbcouncil.snb.driver.runtime.WorkloadRunner;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeException;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeService;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeServiceType;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeTrackerType;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeWriter;
+import org.ldbcouncil.snb.driver.runtime.coordination.ShardedCompletionTimeService;
+import org.ldbcouncil.snb.driver.runtime.executor.OperationExecutorType;
 import org.ldbcouncil.snb.driver.runtime.metrics.DisruptorSbeMetricsService;
 import org.ldbcouncil.snb.driver.runtime.metrics.JsonWorkloadMetricsFormatter;
 import org.ldbcouncil.snb.driver.runtime.metrics.MetricsCollectionException;
 import org.ldbcouncil.snb.driver.runtime.metrics.MetricsManager;
 import org.ldbcouncil.snb.driver.runtime.metrics.MetricsService;
+import org.ldbcouncil.snb.driver.runtime.metrics.IntervalHistogramLog;
+import org.ldbcouncil.snb.driver.runtime.metrics.IntervalHistogramLogThread;
 import org.ldbcouncil.snb.driver.runtime.metrics.NullResultsLogWriter;
+import org.ldbcouncil.snb.driver.runtime.metrics.ResultsLogFormat;
 import org.ldbcouncil.snb.driver.runtime.metrics.ResultsLogWriter;
-import org.ldbcouncil.snb.driver.runtime.metrics.SimpleResultsLogWriter;
 import org.ldbcouncil.snb.driver.runtime.metrics.WorkloadResultsSnapshot;
 import org.ldbcouncil.snb.driver.runtime.metrics.WorkloadStatusSnapshot;
+import org.ldbcouncil.snb.driver.runtime.scheduling.AdaptiveTimeCompression;
+import org.ldbcouncil.snb.driver.runtime.scheduling.AdaptiveTimeCompressionThread;
+import org.ldbcouncil.snb.driver.runtime.scheduling.WaitStrategies;
 import org.ldbcouncil.snb.driver.temporal.TemporalUtil;
 import org.ldbcouncil.snb.driver.temporal.TimeSource;
 import org.ldbcouncil.snb.driver.util.ClassLoaderHelper;
@@ -44,6 +57,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
@@ -56,6 +70,7 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
     private final long randomSeed;
     private final TemporalUtil temporalUtil;
     private final ResultsDirectory resultsDirectory;
+    private final DriverConfiguration configurationAsGiven;
 
     private Workload workload = null;
     private Db database = null;
@@ -63,6 +78,13 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
     private CompletionTimeService completionTimeService = null;
     private WorkloadRunner workloadRunner = null;
     private ResultsLogWriter resultsLogWriter = null;
+    private WorkloadResultsSnapshot results = null;
+    private ResultsLogValidationResult validationResult = null;
+    private AdaptiveTimeCompression adaptiveTimeCompression = null;
+    private AdaptiveTimeCompressionThread adaptiveTimeCompressionThread = null;
+    private IntervalHistogramLog intervalHistogramLog = null;
+    private IntervalHistogramLogThread intervalHistogramLogThread = null;
+    private double sustainedTimeCompressionRatio = Double.NaN;
 
     public ExecuteWorkloadMode(
             ControlService controlService,
@@ -75,6 +97,15 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         this.randomSeed = randomSeed;
         this.temporalUtil = new TemporalUtil();
         this.resultsDirectory = new ResultsDirectory( controlService.configuration() );
+        try
+        {
+            // copy, as workload and database add defaults to the parameters of the configuration they are given
+            this.configurationAsGiven = controlService.configuration().applyArgs( new HashMap<String,String>() );
+        }
+        catch ( DriverConfigurationException e )
+        {
+            throw new ClientException( "Error copying driver configuration", e );
+        }
     }
 
     /*
@@ -89,6 +120,49 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
     @Override
     public void init() throws ClientException
     {
+        int shardCount = controlService.configuration().shardCount();
+        int shardIndex = controlService.configuration().shardIndex();
+        if ( shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount )
+        {
+            throw new ClientException(
+                    format( "Shard index must be in [0, shard count), was shard %s of %s", shardIndex, shardCount ) );
+        }
+        if ( controlService.configuration().responseTimeExpectedIntervalAsMilli() < 0 )
+        {
+            throw new ClientException( format( "Response time expected interval must not be negative, was %s",
+                    controlService.configuration().responseTimeExpectedIntervalAsMilli() ) );
+        }
+        if ( controlService.configuration().histogramLogIntervalAsMilli() < 0 )
+        {
+            throw new ClientException( format( "Histogram log interval must not be negative, was %s",
+                    controlService.configuration().histogramLogIntervalAsMilli() ) );
+        }
+        if ( controlService.configuration().closedLoopClients() < 0 )
+        {
+            throw new ClientException( format( "Closed loop client count must not be negative, was %s",
+                    controlService.configuration().closedLoopClients() ) );
+        }
+        if ( isClosedLoop() )
+        {
+            // closed loop clients always execute on the virtual thread executor, any other choice would be ignored
+            OperationExecutorType executorType =
+                    OperationExecutorType.parse( controlService.configuration().executorType() );
+            if ( OperationExecutorType.VIRTUAL_THREAD != executorType &&
+                 !ConsoleAndFileDriverConfiguration.EXECUTOR_TYPE_DEFAULT.equals( executorType.name() ) )
+            {
+                throw new ClientException( format( "Closed loop execution runs on the %s executor, executor type " +
+                                                   "%s can not be used with %s closed loop clients",
+                        OperationExecutorType.VIRTUAL_THREAD,
+                        executorType,
+                        controlService.configuration().closedLoopClients() ) );
+            }
+        }
+        if ( controlService.configuration().adaptiveTimeCompression() &&
+             (isSharded() || ignoresScheduledStartTimes()) )
+        {
+            throw new ClientException( "Adaptive time compression requires a single shard that executes operations " +
+                                       "at their scheduled start times" );
+        }
         loggingService.info( "Driver Configuration" );
         loggingService.info( controlService.toString() );
     }
@@ -160,7 +234,7 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         {
             resultsLogWriter = (null == resultsLog)
                                ? new NullResultsLogWriter()
-                               : new SimpleResultsLogWriter(
+                               : ResultsLogFormat.parse( controlService.configuration().resultsLogFormat() ).newWriter(
                                     resultsLog,
                                     controlService.configuration().timeUnit(),
                                     controlService.configuration().flushLog() );
@@ -174,8 +248,6 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         //  ==================
         //  ===  Workload  ===
         //  ==================
-        loggingService.info( "Scanning workload streams to calculate their limits..." );
-
         long offset = (warmup)
                       ? controlService.configuration().skipCount()
                       : controlService.configuration().skipCount() + controlService.configuration().warmupCount();
@@ -188,15 +260,41 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         try
         {
             boolean returnStreamsWithDbConnector = true;
-            Tuple3<WorkloadStreams,Workload,Long> streamsAndWorkloadAndMinimumTimeStamp =
-                    WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
-                            controlService.configuration(),
-                            gf,
-                            returnStreamsWithDbConnector,
-                            offset,
-                            limit,
-                            controlService.loggingServiceFactory()
-                    );
+            Tuple3<WorkloadStreams,Workload,Long> streamsAndWorkloadAndMinimumTimeStamp;
+            if ( null == controlService.configuration().precompiledWorkloadFilePath() )
+            {
+                loggingService.info( "Scanning workload streams to calculate their limits..." );
+                streamsAndWorkloadAndMinimumTimeStamp =
+                        WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                                controlService.configuration(),
+                                gf,
+                                returnStreamsWithDbConnector,
+                                offset,
+                                limit,
+                                controlService.loggingServiceFactory()
+                        );
+            }
+            else
+            {
+                File precompiledWorkloadFile = new File( controlService.configuration().precompiledWorkloadFilePath() );
+                loggingService.info( format( "Replaying precompiled workload: %s",
+                        precompiledWorkloadFile.getAbsolutePath() ) );
+                PrecompiledWorkload precompiledWorkload = PrecompiledWorkload.load( precompiledWorkloadFile );
+                if ( !precompiledWorkload.isCompiledFor( configurationAsGiven ) )
+                {
+                    throw new WorkloadException( format( "Precompiled workload was compiled for a different " +
+                                                         "workload configuration, recompile it: %s",
+                            precompiledWorkloadFile.getAbsolutePath() ) );
+                }
+                streamsAndWorkloadAndMinimumTimeStamp =
+                        precompiledWorkload.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                                controlService.configuration(),
+                                gf,
+                                returnStreamsWithDbConnector,
+                                offset,
+                                limit
+                        );
+            }
             workloadStreams = streamsAndWorkloadAndMinimumTimeStamp._1();
             workload = streamsAndWorkloadAndMinimumTimeStamp._2();
             minimumTimeStamp = streamsAndWorkloadAndMinimumTimeStamp._3();
@@ -208,23 +306,6 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         }
         loggingService.info( format( "Loaded workload: %s", workload.getClass().getName() ) );
 
-        loggingService.info( format( "Retrieving workload stream: %s", workload.getClass().getSimpleName() ) );
-        controlService.setWorkloadStartTimeAsMilli( System.currentTimeMillis() + TimeUnit.SECONDS.toMillis( 5 ) );
-        WorkloadStreams timeMappedWorkloadStreams;
-        try
-        {
-            timeMappedWorkloadStreams = WorkloadStreams.timeOffsetAndCompressWorkloadStreams(
-                    workloadStreams,
-                    controlService.workloadStartTimeAsMilli(),
-                    controlService.configuration().timeCompressionRatio(),
-                    gf
-            );
-        }
-        catch ( WorkloadException e )
-        {
-            throw new ClientException( "Error while retrieving operation stream for workload", e );
-        }
-
         //  ================
         //  =====  DB  =====
         //  ================
@@ -258,6 +339,8 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                     errorReporter,
                     controlService.configuration().timeUnit(),
                     DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                    TimeUnit.MILLISECONDS.toNanos(
+                            controlService.configuration().responseTimeExpectedIntervalAsMilli() ),
                     resultsLogWriter,
                     workload.operationTypeToClassMapping(),
                     controlService.loggingServiceFactory()
@@ -267,15 +350,64 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         {
             throw new ClientException( "Error creating metrics service", e );
         }
+        if ( controlService.configuration().adaptiveTimeCompression() )
+        {
+            // warmup finds a sustainable ratio, measurement run starts from it
+            double initialRatio = (null == adaptiveTimeCompression)
+                                  ? controlService.configuration().timeCompressionRatio()
+                                  : adaptiveTimeCompression.ratio();
+            ResultsLogValidationTolerances resultsLogValidationTolerances =
+                    workload.resultsLogValidationTolerances( controlService.configuration(), warmup );
+            adaptiveTimeCompression = new AdaptiveTimeCompression(
+                    initialRatio,
+                    resultsLogValidationTolerances.excessiveDelayThresholdAsMilli(),
+                    (0 == limit) ? 0 : (double) resultsLogValidationTolerances.toleratedExcessiveDelayCount() / limit
+            );
+            metricsService = adaptiveTimeCompression.recordingDelaysOf( metricsService );
+            adaptiveTimeCompressionThread = new AdaptiveTimeCompressionThread(
+                    adaptiveTimeCompression,
+                    AdaptiveTimeCompressionThread.DEFAULT_ADJUSTMENT_INTERVAL_AS_MILLI,
+                    errorReporter,
+                    controlService.loggingServiceFactory()
+            );
+        }
+        if ( controlService.configuration().histogramLogIntervalAsMilli() > 0 && resultsDirectory.exists() )
+        {
+            try
+            {
+                intervalHistogramLog = new IntervalHistogramLog(
+                        resultsDirectory.getOrCreateResultsHistogramsDirectory( warmup ),
+                        timeSource,
+                        controlService.configuration().timeUnit(),
+                        DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                        workload.operationTypeToClassMapping()
+                );
+            }
+            catch ( MetricsCollectionException e )
+            {
+                throw new ClientException( "Error creating interval histogram log", e );
+            }
+            metricsService = intervalHistogramLog.recordingIntervalsOf( metricsService );
+            intervalHistogramLogThread = new IntervalHistogramLogThread(
+                    intervalHistogramLog,
+                    controlService.configuration().histogramLogIntervalAsMilli(),
+                    errorReporter
+            );
+        }
 
         //  =================================
         //  ===  Completion Time Service  ===
         //  =================================
         CompletionTimeServiceAssistant completionTimeServiceAssistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService localCompletionTimeService;
         try
         {
-            completionTimeService =
-                    completionTimeServiceAssistant.newThreadedQueuedCompletionTimeService(
+            localCompletionTimeService =
+                    completionTimeServiceAssistant.newCompletionTimeService(
+                            CompletionTimeServiceType.parse(
+                                    controlService.configuration().completionTimeServiceType() ),
+                            CompletionTimeTrackerType.parse(
+                                    controlService.configuration().completionTimeTrackerType() ),
                             timeSource,
                             errorReporter
                     );
@@ -284,6 +416,69 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         {
             throw new ClientException( "Error instantiating Completion Time Service", e );
         }
+        long workloadStartDelayAsMilli = TimeUnit.SECONDS.toMillis( 5 );
+        if ( isSharded() )
+        {
+            loggingService.info( format( "Shard %s of %s joining coordinator %s...",
+                    controlService.configuration().shardIndex(),
+                    controlService.configuration().shardCount(),
+                    controlService.configuration().shardCoordinatorAddress() ) );
+            ShardedCompletionTimeService shardedCompletionTimeService;
+            try
+            {
+                shardedCompletionTimeService = completionTimeServiceAssistant.newShardedCompletionTimeService(
+                        localCompletionTimeService,
+                        controlService.configuration().shardCoordinatorAddress(),
+                        controlService.configuration().shardIndex(),
+                        controlService.configuration().shardCount(),
+                        workloadStartDelayAsMilli,
+                        timeSource,
+                        errorReporter
+                );
+            }
+            catch ( CompletionTimeException e )
+            {
+                throw new ClientException( "Error joining shards of workload", e );
+            }
+            // all shards execute on the same schedule
+            controlService.setWorkloadStartTimeAsMilli( shardedCompletionTimeService.workloadStartTimeAsMilli() );
+            completionTimeService = shardedCompletionTimeService;
+        }
+        else
+        {
+            controlService.setWorkloadStartTimeAsMilli( System.currentTimeMillis() + workloadStartDelayAsMilli );
+            completionTimeService = localCompletionTimeService;
+        }
+
+        loggingService.info( format( "Retrieving workload stream: %s", workload.getClass().getSimpleName() ) );
+        WorkloadStreams timeMappedWorkloadStreams;
+        try
+        {
+            timeMappedWorkloadStreams = (controlService.configuration().adaptiveTimeCompression())
+                                        ? WorkloadStreams.timeOffsetAndAdaptivelyCompressWorkloadStreams(
+                                                workloadStreams,
+                                                controlService.workloadStartTimeAsMilli(),
+                                                adaptiveTimeCompression,
+                                                gf )
+                                        : WorkloadStreams.timeOffsetAndCompressWorkloadStreams(
+                                                workloadStreams,
+                                                controlService.workloadStartTimeAsMilli(),
+                                                controlService.configuration().timeCompressionRatio(),
+                                                gf );
+        }
+        catch ( WorkloadException e )
+        {
+            throw new ClientException( "Error while retrieving operation stream for workload", e );
+        }
+        if ( isSharded() )
+        {
+            timeMappedWorkloadStreams = WorkloadStreams.shard(
+                    timeMappedWorkloadStreams,
+                    controlService.configuration().shardIndex(),
+                    controlService.configuration().shardCount(),
+                    gf
+            );
+        }
 
         //  ========================
         //  ===  Workload Runner  ==
@@ -292,6 +487,21 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         try
         {
             int operationHandlerExecutorsBoundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+            int threadCount = controlService.configuration().threadCount();
+            OperationExecutorType executorType =
+                    OperationExecutorType.parse( controlService.configuration().executorType() );
+            if ( isClosedLoop() )
+            {
+                // closed loop: operations are due immediately, and submission blocks until one of the in flight
+                // operations, one per client, completed. dependencies are still waited for, on completion time
+                loggingService.info( format( "Closed loop execution with %s clients on the %s executor, " +
+                                             "thread count (%s) and scheduled start times are ignored",
+                        controlService.configuration().closedLoopClients(),
+                        OperationExecutorType.VIRTUAL_THREAD,
+                        threadCount ) );
+                threadCount = controlService.configuration().closedLoopClients();
+                executorType = OperationExecutorType.VIRTUAL_THREAD;
+            }
             workloadRunner = new WorkloadRunner(
                     timeSource,
                     database,
@@ -300,10 +510,12 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                     errorReporter,
                     completionTimeService,
                     controlService.loggingServiceFactory(),
-                    controlService.configuration().threadCount(),
+                    threadCount,
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
-                    controlService.configuration().ignoreScheduledStartTimes(),
+                    WaitStrategies.parseType( controlService.configuration().waitStrategy() ),
+                    executorType,
+                    ignoresScheduledStartTimes(),
                     operationHandlerExecutorsBoundedQueueSize );
         }
         catch ( Exception e )
@@ -338,12 +550,13 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                         .writeInitiatedAndCompletedTimesToAllWriters( completionTimeService, minimumTimeStamp - 1 );
                 completionTimeServiceAssistant
                         .writeInitiatedAndCompletedTimesToAllWriters( completionTimeService, minimumTimeStamp );
+                // local, other shards initialize their own completion time independently
                 boolean completionTimeAdvancedToDesiredTime =
                         completionTimeServiceAssistant.waitForCompletionTime(
                                 timeSource,
                                 minimumTimeStamp - 1,
                                 TimeUnit.SECONDS.toMillis( 5 ),
-                                completionTimeService,
+                                localCompletionTimeService,
                                 errorReporter
                         );
                 long completionTimeWaitTimeoutDurationAsMilli = TimeUnit.SECONDS.toMillis( 5 );
@@ -354,7 +567,7 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                                     "Timed out [%s] while waiting for completion time to advance to workload " +
                                     "start time\nCurrent CT: %s\nWaiting For CT: %s",
                                     completionTimeWaitTimeoutDurationAsMilli,
-                                    completionTimeService.completionTimeAsMilli(),
+                                    localCompletionTimeService.completionTimeAsMilli(),
                                     controlService.workloadStartTimeAsMilli() )
                     );
                 }
@@ -370,11 +583,72 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         }
     }
 
+    private boolean isSharded()
+    {
+        return controlService.configuration().shardCount() > 1;
+    }
+
+    private boolean isClosedLoop()
+    {
+        return controlService.configuration().closedLoopClients() > 0;
+    }
+
+    private boolean ignoresScheduledStartTimes()
+    {
+        return controlService.configuration().ignoreScheduledStartTimes() || isClosedLoop();
+    }
+
+    /**
+     * @return metrics of the measurement run, null until it has completed
+     */
+    public WorkloadResultsSnapshot results()
+    {
+        return results;
+    }
+
+    /**
+     * @return schedule audit of the measurement run, null until it has completed, or if it was not audited
+     */
+    public ResultsLogValidationResult validationResult()
+    {
+        return validationResult;
+    }
+
+    /**
+     * @return fastest time compression ratio at which the measurement run kept operations on schedule, NaN until it
+     * has completed, or if time compression was not adaptive, or no ratio was sustained
+     */
+    public double sustainedTimeCompressionRatio()
+    {
+        return sustainedTimeCompressionRatio;
+    }
+
     private void doExecute( boolean warmup ) throws ClientException
     {
+        if ( null != adaptiveTimeCompressionThread )
+        {
+            adaptiveTimeCompressionThread.start();
+        }
+        if ( null != intervalHistogramLogThread )
+        {
+            intervalHistogramLogThread.start();
+        }
         try
         {
             ConcurrentErrorReporter errorReporter = workloadRunner.getFuture().get();
+            if ( null != adaptiveTimeCompressionThread )
+            {
+                adaptiveTimeCompressionThread.shutdown();
+                adaptiveTimeCompressionThread.join();
+            }
+            if ( null != intervalHistogramLogThread )
+            {
+                intervalHistogramLogThread.shutdown();
+                intervalHistogramLogThread.join();
+                // last interval, cut short by the end of the run
+                intervalHistogramLog.writeIntervals();
+                intervalHistogramLog.close();
+            }
             loggingService.info( "Shutting down workload..." );
             workload.close();
             if ( errorReporter.errorEncountered() )
@@ -408,6 +682,19 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         {
             throw new ClientException( "Error during shutdown of metrics collection service", e );
         }
+        if ( !warmup )
+        {
+            results = workloadResults;
+        }
+        if ( null != adaptiveTimeCompression )
+        {
+            loggingService.info( format( "Fastest sustained time compression ratio: %s (final ratio: %s)",
+                    adaptiveTimeCompression.sustainedRatio(), adaptiveTimeCompression.ratio() ) );
+            if ( !warmup )
+            {
+                sustainedTimeCompressionRatio = adaptiveTimeCompression.sustainedRatio();
+            }
+        }
 
         try
         {
@@ -436,7 +723,7 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                         controlService.configuration().toPropertiesString().getBytes( StandardCharsets.UTF_8 )
                 );
                 resultsLogWriter.close();
-                if ( !controlService.configuration().ignoreScheduledStartTimes() )
+                if ( !ignoresScheduledStartTimes() )
                 {
                     loggingService.info( "Validating workload results..." );
                     // TODO make this feature accessible directly
@@ -465,6 +752,10 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                     loggingService.info( validationResult.getScheduleAuditResult(
                         controlService.configuration().recordDelayedOperations()
                     ) );
+                    if ( !warmup )
+                    {
+                        this.validationResult = validationResult;
+                    }
                     Files.write(
                             resultsValidationFile.toPath(),
                             resultsLogValidationSummary.toJson().getBytes( StandardCharsets.UTF_8 )
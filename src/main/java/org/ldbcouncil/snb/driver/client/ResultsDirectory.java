@@ -7,6 +7,8 @@ import org.ldbcouncil.snb.driver.control.ConsoleAndFileDriverConfiguration;
 import org.ldbcouncil.snb.driver.control.DriverConfiguration;
 import org.ldbcouncil.snb.driver.control.DriverConfigurationException;
 import org.ldbcouncil.snb.driver.csv.simple.SimpleCsvFileReader;
+import org.ldbcouncil.snb.driver.runtime.metrics.ResultsLogFormat;
+import org.ldbcouncil.snb.driver.runtime.metrics.ResultsLogReader;
 import org.ldbcouncil.snb.driver.util.FileUtils;
 import org.ldbcouncil.snb.driver.util.MapUtils;
 
@@ -42,12 +44,15 @@ public class ResultsDirectory
 
     private static final String WARMUP_IDENTIFIER = "-WARMUP-";
 
-    private static final String RESULTS_LOG_FILENAME_SUFFIX = "-results_log.csv";
     private static final String RESULTS_METRICS_FILENAME_SUFFIX = "-results.json";
     private static final String RESULTS_CONFIGURATION_FILENAME_SUFFIX = "-configuration.properties";
 
     private static final String RESULTS_VALIDATION_FILENAME_SUFFIX = "-validation.json";
 
+    private static final String SEARCH_RESULTS_FILENAME_SUFFIX = "-search.json";
+
+    private static final String RESULTS_HISTOGRAMS_DIRECTORY_SUFFIX = "-results_histograms";
+
     private final DriverConfiguration configuration;
     private final File resultsDir;
 
@@ -118,8 +123,29 @@ public class ResultsDirectory
         return getResultsLogFile( resultsDir, configuration, warmup );
     }
 
+    /**
+     * @return number of rows in results log, including header row, or equivalent count for binary results logs
+     */
     public long getResultsLogFileLength( boolean warmup ) throws ClientException
     {
+        if ( ResultsLogFormat.BINARY == ResultsLogFormat.parse( configuration.resultsLogFormat() ) )
+        {
+            try ( ResultsLogReader resultsLogReader = ResultsLogFormat.BINARY.newReader( getResultsLogFile( warmup ) ) )
+            {
+                // binary results log has no header row
+                long length = 1;
+                while ( resultsLogReader.next() )
+                {
+                    length++;
+                }
+                return length;
+            }
+            catch ( Exception e )
+            {
+                throw new ClientException(
+                        "Error calculating length of " + getResultsLogFile( warmup ).getAbsolutePath(), e );
+            }
+        }
         try ( SimpleCsvFileReader csvResultsLogReader = new SimpleCsvFileReader(
                 getResultsLogFile( resultsDir, configuration, warmup ),
                 SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
@@ -202,6 +228,60 @@ public class ResultsDirectory
         return new File( resultsDir, resultsValidationFilename( configuration, warmup ) );
     }
 
+    File getOrCreateSearchResultsFile() throws ClientException
+    {
+        File searchResultsFile = new File( resultsDir, configuration.name() + SEARCH_RESULTS_FILENAME_SUFFIX );
+        if ( !searchResultsFile.exists() )
+        {
+            try
+            {
+                FileUtils.createOrFail( searchResultsFile );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException(
+                        "Error creating search results file: " + searchResultsFile.getAbsolutePath(), e );
+            }
+        }
+        return searchResultsFile;
+    }
+
+    /**
+     * @return directory of the interval histogram logs, one per operation type
+     */
+    File getOrCreateResultsHistogramsDirectory( boolean warmup ) throws ClientException
+    {
+        File resultsHistogramsDirectory = getResultsHistogramsDirectory( warmup );
+        if ( !resultsHistogramsDirectory.exists() )
+        {
+            try
+            {
+                FileUtils.tryCreateDirs( resultsHistogramsDirectory, false );
+            }
+            catch ( Exception e )
+            {
+                throw new ClientException(
+                        "Error creating results histograms directory: " + resultsHistogramsDirectory.getAbsolutePath(),
+                        e );
+            }
+        }
+        return resultsHistogramsDirectory;
+    }
+
+    public File getResultsHistogramsDirectory( boolean warmup )
+    {
+        return new File( resultsDir, resultsHistogramsDirectoryName( configuration, warmup ) );
+    }
+
+    /**
+     * @param name name of sub directory
+     * @return path of sub directory of results directory, null if there is no results directory
+     */
+    String subDirectoryPath( String name )
+    {
+        return (null == resultsDir) ? null : new File( resultsDir, name ).getAbsolutePath();
+    }
+
     public Set<File> files() throws ClientException
     {
         return Sets.newHashSet( resultsDir.listFiles() );
@@ -216,20 +296,32 @@ public class ResultsDirectory
         else
         {
             Set<File> expectedFiles = new HashSet<>();
+            // schedule is only audited if operations were executed to schedule
+            boolean scheduleAudited =
+                    !configuration.ignoreScheduledStartTimes() && 0 == configuration.closedLoopClients();
+            boolean histogramsLogged = configuration.histogramLogIntervalAsMilli() > 0;
             if ( configuration.warmupCount() > 0 )
             {
-                if ( !configuration.ignoreScheduledStartTimes() )
+                if ( scheduleAudited )
                 {
                     expectedFiles.add( getResultsValidationFile( true ) );
                 }
+                if ( histogramsLogged )
+                {
+                    expectedFiles.add( getResultsHistogramsDirectory( true ) );
+                }
                 expectedFiles.add( getResultsLogFile( true ) );
                 expectedFiles.add( getResultsSummaryFile( true ) );
                 expectedFiles.add( getConfigurationFile( true ) );
             }
-            if ( !configuration.ignoreScheduledStartTimes() )
+            if ( scheduleAudited )
             {
                 expectedFiles.add( getResultsValidationFile( false ) );
             }
+            if ( histogramsLogged )
+            {
+                expectedFiles.add( getResultsHistogramsDirectory( false ) );
+            }
             expectedFiles.add( getResultsLogFile( false ) );
             expectedFiles.add( getResultsSummaryFile( false ) );
             expectedFiles.add( getConfigurationFile( false ) );
@@ -324,7 +416,7 @@ public class ResultsDirectory
     {
         FileFilter resultsLogFileFilter = file ->
                 file.getName().contains( WARMUP_IDENTIFIER ) == warmup &&
-                file.getName().endsWith( RESULTS_LOG_FILENAME_SUFFIX );
+                isResultsLogFilename( file.getName() );
         File[] resultFiles = resultsDir.listFiles( resultsLogFileFilter );
         if ( null == resultFiles || resultFiles.length == 0 )
         {
@@ -342,6 +434,18 @@ public class ResultsDirectory
         }
     }
 
+    private static boolean isResultsLogFilename( String filename )
+    {
+        for ( ResultsLogFormat resultsLogFormat : ResultsLogFormat.values() )
+        {
+            if ( filename.endsWith( resultsLogFormat.filenameSuffix() ) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static File getResultsLogFile( File resultsDir, DriverConfiguration configuration, boolean warmup )
             throws ClientException
     {
@@ -360,10 +464,17 @@ public class ResultsDirectory
                         : configuration.name() + RESULTS_VALIDATION_FILENAME_SUFFIX;
     }
 
+    private static String resultsHistogramsDirectoryName( DriverConfiguration configuration, boolean warmup )
+    {
+        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + RESULTS_HISTOGRAMS_DIRECTORY_SUFFIX
+                        : configuration.name() + RESULTS_HISTOGRAMS_DIRECTORY_SUFFIX;
+    }
+
     private static String resultsLogFilename( DriverConfiguration configuration, boolean warmup )
     {
-        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + RESULTS_LOG_FILENAME_SUFFIX
-                        : configuration.name() + RESULTS_LOG_FILENAME_SUFFIX;
+        String resultsLogFilenameSuffix = ResultsLogFormat.parse( configuration.resultsLogFormat() ).filenameSuffix();
+        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + resultsLogFilenameSuffix
+                        : configuration.name() + resultsLogFilenameSuffix;
     }
 
     private static String resultsSummaryFilename( DriverConfiguration configuration, boolean warmup )
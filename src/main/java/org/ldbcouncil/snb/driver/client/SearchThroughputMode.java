@@ -0,0 +1,393 @@
+package org.ldbcouncil.snb.driver.client;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ldbcouncil.snb.driver.ClientException;
+import org.ldbcouncil.snb.driver.control.ConsoleAndFileDriverConfiguration;
+import org.ldbcouncil.snb.driver.control.ControlService;
+import org.ldbcouncil.snb.driver.control.DriverConfiguration;
+import org.ldbcouncil.snb.driver.control.DriverConfigurationException;
+import org.ldbcouncil.snb.driver.control.LocalControlService;
+import org.ldbcouncil.snb.driver.control.LoggingService;
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.runtime.metrics.ContinuousMetricSnapshot;
+import org.ldbcouncil.snb.driver.runtime.metrics.OperationMetricsSnapshot;
+import org.ldbcouncil.snb.driver.runtime.metrics.WorkloadResultsSnapshot;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.ldbcouncil.snb.driver.validation.ResultsLogValidationResult;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Searches for the highest load the system under test sustains, by executing the benchmark in steps of increasing
+ * load until a step fails, or the maximum number of steps have passed.
+ * <p/>
+ * Open loop, every step divides time compression ratio by the step factor. Closed loop, every step multiplies the
+ * number of clients by it. A step fails when the 99th percentile run time of any operation type exceeds the latency
+ * threshold, open loop, when the schedule audit of its measurement run fails, or when its execution fails with an
+ * error. Every step writes its results to its own sub directory of the results directory.
+ */
+public class SearchThroughputMode implements ClientMode<SearchThroughputMode.SearchStep>
+{
+    private final ControlService controlService;
+    private final TimeSource timeSource;
+    private final LoggingService loggingService;
+    private final long randomSeed;
+    private final ResultsDirectory resultsDirectory;
+
+    public SearchThroughputMode(
+            ControlService controlService,
+            TimeSource timeSource,
+            long randomSeed ) throws ClientException
+    {
+        this.controlService = controlService;
+        this.timeSource = timeSource;
+        this.loggingService = controlService.loggingServiceFactory().loggingServiceFor( getClass().getSimpleName() );
+        this.randomSeed = randomSeed;
+        this.resultsDirectory = new ResultsDirectory( controlService.configuration() );
+    }
+
+    @Override
+    public void init() throws ClientException
+    {
+        DriverConfiguration configuration = controlService.configuration();
+        if ( configuration.searchStepFactor() <= 1 )
+        {
+            throw new ClientException(
+                    format( "Search step factor must be greater than 1, was %s", configuration.searchStepFactor() ) );
+        }
+        if ( configuration.searchMaxSteps() < 1 )
+        {
+            throw new ClientException(
+                    format( "Search max steps must be at least 1, was %s", configuration.searchMaxSteps() ) );
+        }
+        if ( configuration.closedLoopClients() < 0 )
+        {
+            throw new ClientException( format( "Closed loop client count must not be negative, was %s",
+                    configuration.closedLoopClients() ) );
+        }
+        if ( configuration.adaptiveTimeCompression() )
+        {
+            throw new ClientException( "Search sets the time compression ratio of every step, it can not be adaptive" );
+        }
+        if ( 0 >= configuration.searchLatencyThresholdAsMilli() && !isScheduleAudited() )
+        {
+            throw new ClientException( "No step of the search could fail, set a search latency threshold, or " +
+                                       "search open loop with a results directory so steps are audited" );
+        }
+        loggingService.info( "Driver Configuration" );
+        loggingService.info( controlService.toString() );
+    }
+
+    @Override
+    public SearchStep startExecutionAndAwaitCompletion() throws ClientException
+    {
+        DriverConfiguration configuration = controlService.configuration();
+        boolean closedLoop = configuration.closedLoopClients() > 0;
+        double timeCompressionRatio = configuration.timeCompressionRatio();
+        int closedLoopClients = configuration.closedLoopClients();
+        List<SearchStep> steps = new ArrayList<>();
+        SearchStep highestPassedStep = null;
+        for ( int step = 0; step < configuration.searchMaxSteps(); step++ )
+        {
+            loggingService.info( format( "\n" +
+                                         " ------------------------\n" +
+                                         " --- Search Step %s/%s ---\n" +
+                                         " ------------------------\n" +
+                                         " %s",
+                    step + 1,
+                    configuration.searchMaxSteps(),
+                    (closedLoop)
+                    ? format( "Closed loop clients: %s", closedLoopClients )
+                    : format( "Time compression ratio: %s", timeCompressionRatio ) ) );
+            DriverConfiguration stepConfiguration = stepConfiguration( step, timeCompressionRatio, closedLoopClients );
+            SearchStep searchStep;
+            try
+            {
+                ExecuteWorkloadMode executeWorkloadMode = executeStep( stepConfiguration );
+                searchStep = evaluateStep(
+                        step,
+                        timeCompressionRatio,
+                        closedLoopClients,
+                        executeWorkloadMode.results(),
+                        executeWorkloadMode.validationResult() );
+            }
+            catch ( ClientException e )
+            {
+                // a step the system under test could not complete fails, the steps before it are still reported
+                searchStep = SearchStep.failed(
+                        step,
+                        timeCompressionRatio,
+                        closedLoopClients,
+                        ConcurrentErrorReporter.stackTraceToString( e ) );
+            }
+            steps.add( searchStep );
+            loggingService.info( searchStep.toString() );
+            if ( !searchStep.passed() )
+            {
+                break;
+            }
+            highestPassedStep = searchStep;
+            if ( closedLoop )
+            {
+                closedLoopClients = (int) Math.max(
+                        closedLoopClients + 1,
+                        Math.ceil( closedLoopClients * configuration.searchStepFactor() ) );
+            }
+            else
+            {
+                timeCompressionRatio = timeCompressionRatio / configuration.searchStepFactor();
+            }
+        }
+
+        if ( null == highestPassedStep )
+        {
+            loggingService.info( "Search finished, no step passed" );
+        }
+        else
+        {
+            loggingService.info( format( "Search finished, highest load that passed:\n%s", highestPassedStep ) );
+        }
+        if ( resultsDirectory.exists() )
+        {
+            File searchResultsFile = resultsDirectory.getOrCreateSearchResultsFile();
+            loggingService.info( format( "Exporting search results to: %s", searchResultsFile.getAbsolutePath() ) );
+            try
+            {
+                Files.write(
+                        searchResultsFile.toPath(),
+                        new ObjectMapper().writer( new DefaultPrettyPrinter() ).writeValueAsString( steps )
+                                .getBytes( StandardCharsets.UTF_8 ) );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException(
+                        format( "Error writing search results: %s", searchResultsFile.getAbsolutePath() ), e );
+            }
+        }
+        return highestPassedStep;
+    }
+
+    private boolean isScheduleAudited()
+    {
+        DriverConfiguration configuration = controlService.configuration();
+        return resultsDirectory.exists() &&
+               !configuration.ignoreScheduledStartTimes() &&
+               0 == configuration.closedLoopClients();
+    }
+
+    private DriverConfiguration stepConfiguration( int step, double timeCompressionRatio, int closedLoopClients )
+            throws ClientException
+    {
+        try
+        {
+            DriverConfiguration stepConfiguration = controlService.configuration()
+                    .applyArg( ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG,
+                            Double.toString( timeCompressionRatio ) )
+                    .applyArg( ConsoleAndFileDriverConfiguration.CLOSED_LOOP_CLIENTS_ARG,
+                            Integer.toString( closedLoopClients ) );
+            String stepResultsDirPath = resultsDirectory.subDirectoryPath( "step-" + step );
+            return (null == stepResultsDirPath)
+                   ? stepConfiguration
+                   : stepConfiguration.applyArg( ConsoleAndFileDriverConfiguration.RESULT_DIR_PATH_ARG,
+                           stepResultsDirPath );
+        }
+        catch ( DriverConfigurationException e )
+        {
+            throw new ClientException( format( "Error creating driver configuration of search step %s", step ), e );
+        }
+    }
+
+    private ExecuteWorkloadMode executeStep( DriverConfiguration stepConfiguration ) throws ClientException
+    {
+        ControlService stepControlService = new LocalControlService(
+                timeSource.nowAsMilli(),
+                stepConfiguration,
+                controlService.loggingServiceFactory(),
+                timeSource
+        );
+        try
+        {
+            ExecuteWorkloadMode executeWorkloadMode =
+                    new ExecuteWorkloadMode( stepControlService, timeSource, randomSeed );
+            executeWorkloadMode.init();
+            executeWorkloadMode.startExecutionAndAwaitCompletion();
+            return executeWorkloadMode;
+        }
+        finally
+        {
+            stepControlService.shutdown();
+        }
+    }
+
+    private SearchStep evaluateStep(
+            int step,
+            double timeCompressionRatio,
+            int closedLoopClients,
+            WorkloadResultsSnapshot results,
+            ResultsLogValidationResult validationResult )
+    {
+        String slowestOperationType = null;
+        long highestPercentile99AsNano = 0;
+        for ( OperationMetricsSnapshot operationMetrics : results.allMetrics() )
+        {
+            if ( 0 == operationMetrics.count() )
+            {
+                continue;
+            }
+            ContinuousMetricSnapshot runTimeMetric = operationMetrics.runTimeMetric();
+            long percentile99AsNano = runTimeMetric.unit().toNanos( runTimeMetric.percentile99() );
+            if ( null == slowestOperationType || percentile99AsNano > highestPercentile99AsNano )
+            {
+                slowestOperationType = operationMetrics.name();
+                highestPercentile99AsNano = percentile99AsNano;
+            }
+        }
+        long latencyThresholdAsMilli = controlService.configuration().searchLatencyThresholdAsMilli();
+        boolean latencyThresholdExceeded = latencyThresholdAsMilli > 0 &&
+                                           highestPercentile99AsNano >
+                                           TimeUnit.MILLISECONDS.toNanos( latencyThresholdAsMilli );
+        Boolean scheduleAuditPassed = (null == validationResult) ? null : validationResult.isSuccessful();
+        return new SearchStep(
+                step,
+                timeCompressionRatio,
+                closedLoopClients,
+                results.throughput(),
+                slowestOperationType,
+                highestPercentile99AsNano / (double) TimeUnit.MILLISECONDS.toNanos( 1 ),
+                scheduleAuditPassed,
+                !latencyThresholdExceeded && !Boolean.FALSE.equals( scheduleAuditPassed ),
+                null
+        );
+    }
+
+    public static class SearchStep
+    {
+        @JsonProperty( value = "step" )
+        private final int step;
+        @JsonProperty( value = "time_compression_ratio" )
+        private final double timeCompressionRatio;
+        @JsonProperty( value = "closed_loop_clients" )
+        private final int closedLoopClients;
+        @JsonProperty( value = "throughput" )
+        private final double throughput;
+        @JsonProperty( value = "slowest_operation_type" )
+        private final String slowestOperationType;
+        @JsonProperty( value = "highest_99th_percentile_ms" )
+        private final double highestPercentile99AsMilli;
+        // null if schedule was not audited
+        @JsonProperty( value = "schedule_audit_passed" )
+        private final Boolean scheduleAuditPassed;
+        @JsonProperty( value = "passed" )
+        private final boolean passed;
+        // null if the step executed, otherwise the error its execution failed with
+        @JsonProperty( value = "error" )
+        private final String error;
+
+        static SearchStep failed( int step, double timeCompressionRatio, int closedLoopClients, String error )
+        {
+            return new SearchStep( step, timeCompressionRatio, closedLoopClients, 0, null, 0, null, false, error );
+        }
+
+        SearchStep(
+                int step,
+                double timeCompressionRatio,
+                int closedLoopClients,
+                double throughput,
+                String slowestOperationType,
+                double highestPercentile99AsMilli,
+                Boolean scheduleAuditPassed,
+                boolean passed,
+                String error )
+        {
+            this.step = step;
+            this.timeCompressionRatio = timeCompressionRatio;
+            this.closedLoopClients = closedLoopClients;
+            this.throughput = throughput;
+            this.slowestOperationType = slowestOperationType;
+            this.highestPercentile99AsMilli = highestPercentile99AsMilli;
+            this.scheduleAuditPassed = scheduleAuditPassed;
+            this.passed = passed;
+            this.error = error;
+        }
+
+        public int step()
+        {
+            return step;
+        }
+
+        public double timeCompressionRatio()
+        {
+            return timeCompressionRatio;
+        }
+
+        public int closedLoopClients()
+        {
+            return closedLoopClients;
+        }
+
+        public double throughput()
+        {
+            return throughput;
+        }
+
+        public String slowestOperationType()
+        {
+            return slowestOperationType;
+        }
+
+        public double highestPercentile99AsMilli()
+        {
+            return highestPercentile99AsMilli;
+        }
+
+        public Boolean scheduleAuditPassed()
+        {
+            return scheduleAuditPassed;
+        }
+
+        public boolean passed()
+        {
+            return passed;
+        }
+
+        public String error()
+        {
+            return error;
+        }
+
+        @Override
+        public String toString()
+        {
+            if ( null != error )
+            {
+                return format( "Step %s: %s, execution failed --> FAILED\n%s", step + 1, load(), error );
+            }
+            return format( "Step %s: %s, throughput %.2f op/s, highest 99th percentile %.3f ms (%s), " +
+                           "schedule audit %s --> %s",
+                    step + 1,
+                    load(),
+                    throughput,
+                    highestPercentile99AsMilli,
+                    slowestOperationType,
+                    (null == scheduleAuditPassed) ? "not run" : (scheduleAuditPassed) ? "passed" : "failed",
+                    (passed) ? "PASSED" : "FAILED" );
+        }
+
+        private String load()
+        {
+            return (closedLoopClients > 0)
+                   ? format( "closed loop clients %s", closedLoopClients )
+                   : format( "time compression ratio %s", timeCompressionRatio );
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package org.ldbcouncil.snb.driver.client;
 
 import com.google.common.base.Charsets;
-import com.google.common.collect.Iterators;
 import org.ldbcouncil.snb.driver.ClientException;
 import org.ldbcouncil.snb.driver.Db;
 import org.ldbcouncil.snb.driver.DbException;
@@ -9,12 +8,11 @@ import org.ldbcouncil.snb.driver.Workload;
 import org.ldbcouncil.snb.driver.WorkloadException;
 import org.ldbcouncil.snb.driver.control.ControlService;
 import org.ldbcouncil.snb.driver.control.LoggingService;
-import org.ldbcouncil.snb.driver.csv.simple.SimpleCsvFileReader;
 import org.ldbcouncil.snb.driver.util.ClassLoaderHelper;
 import org.ldbcouncil.snb.driver.validation.DbValidationResult;
 import org.ldbcouncil.snb.driver.validation.DbValidator;
-import org.ldbcouncil.snb.driver.validation.ValidationParam;
-import org.ldbcouncil.snb.driver.validation.ValidationParamsFromCsvRows;
+import org.ldbcouncil.snb.driver.validation.ValidationParamsFormat;
+import org.ldbcouncil.snb.driver.validation.ValidationParamsReader;
 import org.apache.commons.io.FileUtils;
 
 import java.io.File;
@@ -22,7 +20,6 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
-import java.util.Iterator;
 
 import static java.lang.String.format;
 
@@ -87,32 +84,29 @@ public class ValidateDatabaseMode implements ClientMode<DbValidationResult>
                             db.getClass().getName(), validationParamsFile.getAbsolutePath() ) );
 
             int validationParamsCount;
-            SimpleCsvFileReader validationParamsReader;
+            ValidationParamsReader validationParamsReader;
             try
             {
-                validationParamsReader = new SimpleCsvFileReader( validationParamsFile,
-                        SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
-                validationParamsCount = Iterators.size( validationParamsReader );
-                validationParamsReader.close();
-                validationParamsReader = new SimpleCsvFileReader( validationParamsFile,
-                        SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
+                // either the CSV file created by the driver, or a binary file converted from it
+                ValidationParamsFormat validationParamsFormat = ValidationParamsFormat.of( validationParamsFile );
+                validationParamsCount = validationParamsFormat.count( validationParamsFile );
+                validationParamsReader = validationParamsFormat.newReader( validationParamsFile );
             }
             catch ( IOException e )
             {
-                throw new ClientException( "Error encountered trying to create CSV file reader", e );
+                throw new ClientException( "Error encountered trying to create validation parameters file reader", e );
             }
 
             DbValidationResult databaseValidationResult;
             try
             {
-                Iterator<ValidationParam> validationParams =
-                        new ValidationParamsFromCsvRows( validationParamsReader, w );
                 DbValidator dbValidator = new DbValidator();
                 databaseValidationResult = dbValidator.validate(
-                        validationParams,
+                        validationParamsReader,
                         db,
                         validationParamsCount,
-                        w
+                        w,
+                        controlService.configuration().threadCount()
                 );
             }
             catch ( WorkloadException e )
@@ -3,6 +3,11 @@ package org.ldbcouncil.snb.driver.control;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import org.ldbcouncil.snb.driver.Client;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeServiceType;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeTrackerType;
+import org.ldbcouncil.snb.driver.runtime.executor.OperationExecutorType;
+import org.ldbcouncil.snb.driver.runtime.metrics.ResultsLogFormat;
+import org.ldbcouncil.snb.driver.runtime.scheduling.WaitStrategies;
 import org.ldbcouncil.snb.driver.temporal.TemporalUtil;
 import org.ldbcouncil.snb.driver.util.MapUtils;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcSnbInteractiveWorkload;
@@ -48,7 +53,8 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
     public static final String MODE_DEFAULT_STRING = MODE_DEFAULT;
     private static final String MODE_ARG_LONG = "mode";
     private static final String MODE_DESCRIPTION = 
-        "mode the driver should execute (e.g. create_validation, validate_database, create_statistics, execute_benchmark)";
+        "mode the driver should execute (e.g. create_validation, validate_database, create_statistics, " +
+        "compile_workload, execute_benchmark)";
 
     // --- REQUIRED ---
     public static final String OPERATION_COUNT_ARG = "oc";
@@ -185,6 +191,151 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             format( "number of operations to execute during warmup phase (default: %s)",
                     WARMUP_COUNT_DEFAULT_STRING );
 
+    public static final String WAIT_STRATEGY_ARG = "ws";
+    private static final String WAIT_STRATEGY_ARG_LONG = "wait_strategy";
+    public static final String WAIT_STRATEGY_DEFAULT = WaitStrategies.WaitStrategyType.SLEEP.name();
+    public static final String WAIT_STRATEGY_DEFAULT_STRING = WAIT_STRATEGY_DEFAULT;
+    private static final String WAIT_STRATEGY_DESCRIPTION =
+            format( "strategy used by busy wait loops while waiting for scheduled start times, valid:%s",
+                    Arrays.toString( WaitStrategies.WaitStrategyType.values() ) );
+
+    public static final String EXECUTOR_TYPE_ARG = "et";
+    private static final String EXECUTOR_TYPE_ARG_LONG = "executor_type";
+    public static final String EXECUTOR_TYPE_DEFAULT = OperationExecutorType.THREAD_POOL.name();
+    public static final String EXECUTOR_TYPE_DEFAULT_STRING = EXECUTOR_TYPE_DEFAULT;
+    private static final String EXECUTOR_TYPE_DESCRIPTION =
+            format( "executor used for asynchronous operations, valid:%s",
+                    Arrays.toString( OperationExecutorType.values() ) );
+
+    public static final String COMPLETION_TIME_SERVICE_TYPE_ARG = "cts";
+    private static final String COMPLETION_TIME_SERVICE_TYPE_ARG_LONG = "completion_time_service";
+    public static final String COMPLETION_TIME_SERVICE_TYPE_DEFAULT = CompletionTimeServiceType.THREADED_QUEUED.name();
+    public static final String COMPLETION_TIME_SERVICE_TYPE_DEFAULT_STRING = COMPLETION_TIME_SERVICE_TYPE_DEFAULT;
+    private static final String COMPLETION_TIME_SERVICE_TYPE_DESCRIPTION =
+            format( "completion time service implementation, valid:%s",
+                    Arrays.toString( CompletionTimeServiceType.values() ) );
+
+    public static final String COMPLETION_TIME_TRACKER_TYPE_ARG = "ctt";
+    private static final String COMPLETION_TIME_TRACKER_TYPE_ARG_LONG = "completion_time_tracker";
+    public static final String COMPLETION_TIME_TRACKER_TYPE_DEFAULT = CompletionTimeTrackerType.TREE_MULTISET.name();
+    public static final String COMPLETION_TIME_TRACKER_TYPE_DEFAULT_STRING = COMPLETION_TIME_TRACKER_TYPE_DEFAULT;
+    private static final String COMPLETION_TIME_TRACKER_TYPE_DESCRIPTION =
+            format( "data structures used to track initiated & completed times, valid:%s",
+                    Arrays.toString( CompletionTimeTrackerType.values() ) );
+
+    public static final String RESULTS_LOG_FORMAT_ARG = "rlf";
+    private static final String RESULTS_LOG_FORMAT_ARG_LONG = "results_log_format";
+    public static final String RESULTS_LOG_FORMAT_DEFAULT = ResultsLogFormat.CSV.name();
+    public static final String RESULTS_LOG_FORMAT_DEFAULT_STRING = RESULTS_LOG_FORMAT_DEFAULT;
+    private static final String RESULTS_LOG_FORMAT_DESCRIPTION =
+            format( "format of results log, valid:%s",
+                    Arrays.toString( ResultsLogFormat.values() ) );
+
+    public static final String WORKLOAD_OFFSET_INDEX_FILE_PATH_ARG = "woi";
+    private static final String WORKLOAD_OFFSET_INDEX_FILE_PATH_ARG_LONG = "workload_offset_index";
+    public static final String WORKLOAD_OFFSET_INDEX_FILE_PATH_DEFAULT = null;
+    public static final String WORKLOAD_OFFSET_INDEX_FILE_PATH_DEFAULT_STRING = WORKLOAD_OFFSET_INDEX_FILE_PATH_DEFAULT;
+    private static final String WORKLOAD_OFFSET_INDEX_FILE_PATH_DESCRIPTION =
+            "file where the operation counts needed from each workload stream, to apply skip, warmup and operation " +
+            "count, are persisted and reused by later runs. default = no index";
+
+    public static final String PRECOMPILED_WORKLOAD_FILE_PATH_ARG = "pw";
+    private static final String PRECOMPILED_WORKLOAD_FILE_PATH_ARG_LONG = "precompiled_workload";
+    public static final String PRECOMPILED_WORKLOAD_FILE_PATH_DEFAULT = null;
+    public static final String PRECOMPILED_WORKLOAD_FILE_PATH_DEFAULT_STRING = PRECOMPILED_WORKLOAD_FILE_PATH_DEFAULT;
+    private static final String PRECOMPILED_WORKLOAD_FILE_PATH_DESCRIPTION =
+            "file the compile_workload mode writes the operation streams of the configured workload to, and that " +
+            "execute_benchmark replays them from. default = generate operations while executing";
+
+    public static final String SHARD_COUNT_ARG = "sc";
+    private static final String SHARD_COUNT_ARG_LONG = "shard_count";
+    public static final int SHARD_COUNT_DEFAULT = 1;
+    public static final String SHARD_COUNT_DEFAULT_STRING = Integer.toString( SHARD_COUNT_DEFAULT );
+    private static final String SHARD_COUNT_DESCRIPTION =
+            "number of driver processes the workload is sharded across, each executing one shard. default = 1";
+
+    public static final String SHARD_INDEX_ARG = "si";
+    private static final String SHARD_INDEX_ARG_LONG = "shard_index";
+    public static final int SHARD_INDEX_DEFAULT = 0;
+    public static final String SHARD_INDEX_DEFAULT_STRING = Integer.toString( SHARD_INDEX_DEFAULT );
+    private static final String SHARD_INDEX_DESCRIPTION =
+            "shard executed by this driver process, in [0, shard_count). default = 0";
+
+    public static final String SHARD_COORDINATOR_ADDRESS_ARG = "sca";
+    private static final String SHARD_COORDINATOR_ADDRESS_ARG_LONG = "shard_coordinator";
+    public static final String SHARD_COORDINATOR_ADDRESS_DEFAULT = "localhost:5454";
+    public static final String SHARD_COORDINATOR_ADDRESS_DEFAULT_STRING = SHARD_COORDINATOR_ADDRESS_DEFAULT;
+    private static final String SHARD_COORDINATOR_ADDRESS_DESCRIPTION =
+            "host:port of the completion time coordinator, hosted by shard 0. default = localhost:5454";
+
+    public static final String CLOSED_LOOP_CLIENTS_ARG = "clc";
+    private static final String CLOSED_LOOP_CLIENTS_ARG_LONG = "closed_loop_clients";
+    public static final int CLOSED_LOOP_CLIENTS_DEFAULT = 0;
+    public static final String CLOSED_LOOP_CLIENTS_DEFAULT_STRING = Integer.toString( CLOSED_LOOP_CLIENTS_DEFAULT );
+    private static final String CLOSED_LOOP_CLIENTS_DESCRIPTION =
+            "number of clients of closed loop execution, each issuing its next operation as soon as its previous " +
+            "one completed, scheduled start times are ignored. default = 0 (open loop)";
+
+    public static final String SEARCH_LATENCY_THRESHOLD_ARG = "slt";
+    private static final String SEARCH_LATENCY_THRESHOLD_ARG_LONG = "search_latency_threshold";
+    public static final long SEARCH_LATENCY_THRESHOLD_DEFAULT = 0;
+    public static final String SEARCH_LATENCY_THRESHOLD_DEFAULT_STRING =
+            Long.toString( SEARCH_LATENCY_THRESHOLD_DEFAULT );
+    private static final String SEARCH_LATENCY_THRESHOLD_DESCRIPTION =
+            "search_throughput: a step fails when the 99th percentile run time of any operation type exceeds " +
+            "this many milliseconds. default = 0 (not checked)";
+
+    public static final String SEARCH_STEP_FACTOR_ARG = "ssf";
+    private static final String SEARCH_STEP_FACTOR_ARG_LONG = "search_step_factor";
+    public static final double SEARCH_STEP_FACTOR_DEFAULT = 2.0;
+    public static final String SEARCH_STEP_FACTOR_DEFAULT_STRING = Double.toString( SEARCH_STEP_FACTOR_DEFAULT );
+    private static final String SEARCH_STEP_FACTOR_DESCRIPTION =
+            "search_throughput: factor by which every step increases the load, dividing time_compression_ratio " +
+            "or multiplying closed_loop_clients. default = 2.0";
+
+    public static final String SEARCH_MAX_STEPS_ARG = "sms";
+    private static final String SEARCH_MAX_STEPS_ARG_LONG = "search_max_steps";
+    public static final int SEARCH_MAX_STEPS_DEFAULT = 10;
+    public static final String SEARCH_MAX_STEPS_DEFAULT_STRING = Integer.toString( SEARCH_MAX_STEPS_DEFAULT );
+    private static final String SEARCH_MAX_STEPS_DESCRIPTION =
+            "search_throughput: maximum number of steps, the search ends earlier at the first failing step. " +
+            "default = 10";
+
+    public static final String ADAPTIVE_TIME_COMPRESSION_ARG = "atc";
+    private static final String ADAPTIVE_TIME_COMPRESSION_ARG_LONG = "adaptive_time_compression";
+    public static final boolean ADAPTIVE_TIME_COMPRESSION_DEFAULT = false;
+    public static final String ADAPTIVE_TIME_COMPRESSION_DEFAULT_STRING =
+            Boolean.toString( ADAPTIVE_TIME_COMPRESSION_DEFAULT );
+    private static final String ADAPTIVE_TIME_COMPRESSION_DESCRIPTION =
+            "time compression ratio is adjusted while the workload executes, starting from the configured ratio, " +
+            "to the fastest ratio at which operations still start on schedule";
+
+    public static final String RESPONSE_TIME_EXPECTED_INTERVAL_ARG = "rtei";
+    private static final String RESPONSE_TIME_EXPECTED_INTERVAL_ARG_LONG = "response_time_expected_interval";
+    public static final long RESPONSE_TIME_EXPECTED_INTERVAL_DEFAULT = 0;
+    public static final String RESPONSE_TIME_EXPECTED_INTERVAL_DEFAULT_STRING =
+            Long.toString( RESPONSE_TIME_EXPECTED_INTERVAL_DEFAULT );
+    private static final String RESPONSE_TIME_EXPECTED_INTERVAL_DESCRIPTION =
+            "expected interval between operations of a type, response times longer than it are corrected for " +
+            "coordinated omission. default = 0 (not corrected)";
+
+    public static final String HISTOGRAM_LOG_INTERVAL_ARG = "hli";
+    private static final String HISTOGRAM_LOG_INTERVAL_ARG_LONG = "histogram_log_interval";
+    public static final long HISTOGRAM_LOG_INTERVAL_DEFAULT = 0;
+    public static final String HISTOGRAM_LOG_INTERVAL_DEFAULT_STRING = Long.toString( HISTOGRAM_LOG_INTERVAL_DEFAULT );
+    private static final String HISTOGRAM_LOG_INTERVAL_DESCRIPTION =
+            "interval at which run time histograms of every operation type are written to interval histogram " +
+            "logs. default = 0 (not written)";
+
+    public static final String VALIDATION_PARAMS_RESUME_ARG = "vpr";
+    private static final String VALIDATION_PARAMS_RESUME_ARG_LONG = "validation_parameters_resume";
+    public static final boolean VALIDATION_PARAMS_RESUME_DEFAULT = false;
+    public static final String VALIDATION_PARAMS_RESUME_DEFAULT_STRING =
+            Boolean.toString( VALIDATION_PARAMS_RESUME_DEFAULT );
+    private static final String VALIDATION_PARAMS_RESUME_DESCRIPTION =
+            "validation parameter creation continues after the rows already in the validation parameters file, " +
+            "instead of overwriting it";
+
     public static final String PROPERTY_FILE_ARG = "P";
     private static final String PROPERTY_FILE_DESCRIPTION =
             "load properties from file(s) - files will be loaded in the order provided\n" +
@@ -224,6 +375,30 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         defaultParamsMap.put( SPINNER_SLEEP_DURATION_ARG, SPINNER_SLEEP_DURATION_DEFAULT_STRING );
         defaultParamsMap.put( WARMUP_COUNT_ARG, WARMUP_COUNT_DEFAULT_STRING );
         defaultParamsMap.put( SKIP_COUNT_ARG, SKIP_COUNT_DEFAULT_STRING );
+        defaultParamsMap.put( WAIT_STRATEGY_ARG, WAIT_STRATEGY_DEFAULT_STRING );
+        defaultParamsMap.put( EXECUTOR_TYPE_ARG, EXECUTOR_TYPE_DEFAULT_STRING );
+        defaultParamsMap.put( COMPLETION_TIME_SERVICE_TYPE_ARG, COMPLETION_TIME_SERVICE_TYPE_DEFAULT_STRING );
+        defaultParamsMap.put( COMPLETION_TIME_TRACKER_TYPE_ARG, COMPLETION_TIME_TRACKER_TYPE_DEFAULT_STRING );
+        defaultParamsMap.put( RESULTS_LOG_FORMAT_ARG, RESULTS_LOG_FORMAT_DEFAULT_STRING );
+        if ( null != WORKLOAD_OFFSET_INDEX_FILE_PATH_DEFAULT_STRING )
+        {
+            defaultParamsMap.put( WORKLOAD_OFFSET_INDEX_FILE_PATH_ARG, WORKLOAD_OFFSET_INDEX_FILE_PATH_DEFAULT_STRING );
+        }
+        if ( null != PRECOMPILED_WORKLOAD_FILE_PATH_DEFAULT_STRING )
+        {
+            defaultParamsMap.put( PRECOMPILED_WORKLOAD_FILE_PATH_ARG, PRECOMPILED_WORKLOAD_FILE_PATH_DEFAULT_STRING );
+        }
+        defaultParamsMap.put( SHARD_COUNT_ARG, SHARD_COUNT_DEFAULT_STRING );
+        defaultParamsMap.put( SHARD_INDEX_ARG, SHARD_INDEX_DEFAULT_STRING );
+        defaultParamsMap.put( SHARD_COORDINATOR_ADDRESS_ARG, SHARD_COORDINATOR_ADDRESS_DEFAULT_STRING );
+        defaultParamsMap.put( CLOSED_LOOP_CLIENTS_ARG, CLOSED_LOOP_CLIENTS_DEFAULT_STRING );
+        defaultParamsMap.put( SEARCH_LATENCY_THRESHOLD_ARG, SEARCH_LATENCY_THRESHOLD_DEFAULT_STRING );
+        defaultParamsMap.put( SEARCH_STEP_FACTOR_ARG, SEARCH_STEP_FACTOR_DEFAULT_STRING );
+        defaultParamsMap.put( SEARCH_MAX_STEPS_ARG, SEARCH_MAX_STEPS_DEFAULT_STRING );
+        defaultParamsMap.put( ADAPTIVE_TIME_COMPRESSION_ARG, ADAPTIVE_TIME_COMPRESSION_DEFAULT_STRING );
+        defaultParamsMap.put( RESPONSE_TIME_EXPECTED_INTERVAL_ARG, RESPONSE_TIME_EXPECTED_INTERVAL_DEFAULT_STRING );
+        defaultParamsMap.put( HISTOGRAM_LOG_INTERVAL_ARG, HISTOGRAM_LOG_INTERVAL_DEFAULT_STRING );
+        defaultParamsMap.put( VALIDATION_PARAMS_RESUME_ARG, VALIDATION_PARAMS_RESUME_DEFAULT_STRING );
         return defaultParamsMap;
     }
 
@@ -255,6 +430,16 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                     missingParams.add( ConsoleAndFileDriverConfiguration.OPERATION_COUNT_ARG );
                 }
                 break;
+            case compile_workload:
+                if ( 0 == configuration.operationCount() )
+                {
+                    missingParams.add( ConsoleAndFileDriverConfiguration.OPERATION_COUNT_ARG );
+                }
+                if ( null == configuration.precompiledWorkloadFilePath() )
+                {
+                    missingParams.add( ConsoleAndFileDriverConfiguration.PRECOMPILED_WORKLOAD_FILE_PATH_ARG );
+                }
+                break;
             case validate_database:
                 if ( null == configuration.dbClassName() )
                 {
@@ -332,6 +517,27 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             boolean ignoreScheduledStartTimes =
                     Boolean.parseBoolean( paramsMap.get( IGNORE_SCHEDULED_START_TIMES_ARG ) );
             boolean flushLog = Boolean.parseBoolean( paramsMap.get( FLUSH_LOG_ARG ) );
+            String waitStrategy = WaitStrategies.parseType( paramsMap.get( WAIT_STRATEGY_ARG ) ).name();
+            String executorType = OperationExecutorType.parse( paramsMap.get( EXECUTOR_TYPE_ARG ) ).name();
+            String completionTimeServiceType =
+                    CompletionTimeServiceType.parse( paramsMap.get( COMPLETION_TIME_SERVICE_TYPE_ARG ) ).name();
+            String completionTimeTrackerType =
+                    CompletionTimeTrackerType.parse( paramsMap.get( COMPLETION_TIME_TRACKER_TYPE_ARG ) ).name();
+            String resultsLogFormat = ResultsLogFormat.parse( paramsMap.get( RESULTS_LOG_FORMAT_ARG ) ).name();
+            String workloadOffsetIndexFilePath = paramsMap.get( WORKLOAD_OFFSET_INDEX_FILE_PATH_ARG );
+            String precompiledWorkloadFilePath = paramsMap.get( PRECOMPILED_WORKLOAD_FILE_PATH_ARG );
+            int shardCount = Integer.parseInt( paramsMap.get( SHARD_COUNT_ARG ) );
+            int shardIndex = Integer.parseInt( paramsMap.get( SHARD_INDEX_ARG ) );
+            String shardCoordinatorAddress = paramsMap.get( SHARD_COORDINATOR_ADDRESS_ARG );
+            int closedLoopClients = Integer.parseInt( paramsMap.get( CLOSED_LOOP_CLIENTS_ARG ) );
+            long searchLatencyThresholdAsMilli = Long.parseLong( paramsMap.get( SEARCH_LATENCY_THRESHOLD_ARG ) );
+            double searchStepFactor = Double.parseDouble( paramsMap.get( SEARCH_STEP_FACTOR_ARG ) );
+            int searchMaxSteps = Integer.parseInt( paramsMap.get( SEARCH_MAX_STEPS_ARG ) );
+            boolean adaptiveTimeCompression = Boolean.parseBoolean( paramsMap.get( ADAPTIVE_TIME_COMPRESSION_ARG ) );
+            long responseTimeExpectedIntervalAsMilli =
+                    Long.parseLong( paramsMap.get( RESPONSE_TIME_EXPECTED_INTERVAL_ARG ) );
+            long histogramLogIntervalAsMilli = Long.parseLong( paramsMap.get( HISTOGRAM_LOG_INTERVAL_ARG ) );
+            boolean validationParametersResume = Boolean.parseBoolean( paramsMap.get( VALIDATION_PARAMS_RESUME_ARG ) );
             return new ConsoleAndFileDriverConfiguration(
                     paramsMap,
                     mode,
@@ -353,7 +559,25 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                     ignoreScheduledStartTimes,
                     warmupCount,
                     skipCount,
-                    flushLog
+                    flushLog,
+                    waitStrategy,
+                    executorType,
+                    completionTimeServiceType,
+                    completionTimeTrackerType,
+                    resultsLogFormat,
+                    workloadOffsetIndexFilePath,
+                    precompiledWorkloadFilePath,
+                    shardCount,
+                    shardIndex,
+                    shardCoordinatorAddress,
+                    closedLoopClients,
+                    searchLatencyThresholdAsMilli,
+                    searchStepFactor,
+                    searchMaxSteps,
+                    adaptiveTimeCompression,
+                    responseTimeExpectedIntervalAsMilli,
+                    histogramLogIntervalAsMilli,
+                    validationParametersResume
             );
         }
         catch ( DriverConfigurationException e )
@@ -488,6 +712,99 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             cmdParams.put( SKIP_COUNT_ARG, cmd.getOptionValue( SKIP_COUNT_ARG ) );
         }
 
+        if ( cmd.hasOption( WAIT_STRATEGY_ARG ) )
+        {
+            cmdParams.put( WAIT_STRATEGY_ARG, cmd.getOptionValue( WAIT_STRATEGY_ARG ) );
+        }
+
+        if ( cmd.hasOption( EXECUTOR_TYPE_ARG ) )
+        {
+            cmdParams.put( EXECUTOR_TYPE_ARG, cmd.getOptionValue( EXECUTOR_TYPE_ARG ) );
+        }
+
+        if ( cmd.hasOption( COMPLETION_TIME_SERVICE_TYPE_ARG ) )
+        {
+            cmdParams.put( COMPLETION_TIME_SERVICE_TYPE_ARG, cmd.getOptionValue( COMPLETION_TIME_SERVICE_TYPE_ARG ) );
+        }
+
+        if ( cmd.hasOption( COMPLETION_TIME_TRACKER_TYPE_ARG ) )
+        {
+            cmdParams.put( COMPLETION_TIME_TRACKER_TYPE_ARG, cmd.getOptionValue( COMPLETION_TIME_TRACKER_TYPE_ARG ) );
+        }
+
+        if ( cmd.hasOption( RESULTS_LOG_FORMAT_ARG ) )
+        {
+            cmdParams.put( RESULTS_LOG_FORMAT_ARG, cmd.getOptionValue( RESULTS_LOG_FORMAT_ARG ) );
+        }
+
+        if ( cmd.hasOption( WORKLOAD_OFFSET_INDEX_FILE_PATH_ARG ) )
+        {
+            cmdParams.put( WORKLOAD_OFFSET_INDEX_FILE_PATH_ARG,
+                    cmd.getOptionValue( WORKLOAD_OFFSET_INDEX_FILE_PATH_ARG ) );
+        }
+
+        if ( cmd.hasOption( PRECOMPILED_WORKLOAD_FILE_PATH_ARG ) )
+        {
+            cmdParams.put( PRECOMPILED_WORKLOAD_FILE_PATH_ARG,
+                    cmd.getOptionValue( PRECOMPILED_WORKLOAD_FILE_PATH_ARG ) );
+        }
+
+        if ( cmd.hasOption( SHARD_COUNT_ARG ) )
+        {
+            cmdParams.put( SHARD_COUNT_ARG, cmd.getOptionValue( SHARD_COUNT_ARG ) );
+        }
+
+        if ( cmd.hasOption( SHARD_INDEX_ARG ) )
+        {
+            cmdParams.put( SHARD_INDEX_ARG, cmd.getOptionValue( SHARD_INDEX_ARG ) );
+        }
+
+        if ( cmd.hasOption( SHARD_COORDINATOR_ADDRESS_ARG ) )
+        {
+            cmdParams.put( SHARD_COORDINATOR_ADDRESS_ARG, cmd.getOptionValue( SHARD_COORDINATOR_ADDRESS_ARG ) );
+        }
+
+        if ( cmd.hasOption( CLOSED_LOOP_CLIENTS_ARG ) )
+        {
+            cmdParams.put( CLOSED_LOOP_CLIENTS_ARG, cmd.getOptionValue( CLOSED_LOOP_CLIENTS_ARG ) );
+        }
+
+        if ( cmd.hasOption( SEARCH_LATENCY_THRESHOLD_ARG ) )
+        {
+            cmdParams.put( SEARCH_LATENCY_THRESHOLD_ARG, cmd.getOptionValue( SEARCH_LATENCY_THRESHOLD_ARG ) );
+        }
+
+        if ( cmd.hasOption( SEARCH_STEP_FACTOR_ARG ) )
+        {
+            cmdParams.put( SEARCH_STEP_FACTOR_ARG, cmd.getOptionValue( SEARCH_STEP_FACTOR_ARG ) );
+        }
+
+        if ( cmd.hasOption( SEARCH_MAX_STEPS_ARG ) )
+        {
+            cmdParams.put( SEARCH_MAX_STEPS_ARG, cmd.getOptionValue( SEARCH_MAX_STEPS_ARG ) );
+        }
+
+        if ( cmd.hasOption( ADAPTIVE_TIME_COMPRESSION_ARG ) )
+        {
+            cmdParams.put( ADAPTIVE_TIME_COMPRESSION_ARG, Boolean.toString( true ) );
+        }
+
+        if ( cmd.hasOption( RESPONSE_TIME_EXPECTED_INTERVAL_ARG ) )
+        {
+            cmdParams.put( RESPONSE_TIME_EXPECTED_INTERVAL_ARG,
+                    cmd.getOptionValue( RESPONSE_TIME_EXPECTED_INTERVAL_ARG ) );
+        }
+
+        if ( cmd.hasOption( HISTOGRAM_LOG_INTERVAL_ARG ) )
+        {
+            cmdParams.put( HISTOGRAM_LOG_INTERVAL_ARG, cmd.getOptionValue( HISTOGRAM_LOG_INTERVAL_ARG ) );
+        }
+
+        if ( cmd.hasOption( VALIDATION_PARAMS_RESUME_ARG ) )
+        {
+            cmdParams.put( VALIDATION_PARAMS_RESUME_ARG, Boolean.toString( true ) );
+        }
+
         if ( cmd.hasOption( PROPERTY_FILE_ARG ) )
         {
             for ( String propertyFilePath : cmd.getOptionValues( PROPERTY_FILE_ARG ) )
@@ -545,6 +862,27 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         paramsMap = replaceKey( paramsMap, SPINNER_SLEEP_DURATION_ARG_LONG, SPINNER_SLEEP_DURATION_ARG );
         paramsMap = replaceKey( paramsMap, WARMUP_COUNT_ARG_LONG, WARMUP_COUNT_ARG );
         paramsMap = replaceKey( paramsMap, SKIP_COUNT_ARG_LONG, SKIP_COUNT_ARG );
+        paramsMap = replaceKey( paramsMap, WAIT_STRATEGY_ARG_LONG, WAIT_STRATEGY_ARG );
+        paramsMap = replaceKey( paramsMap, EXECUTOR_TYPE_ARG_LONG, EXECUTOR_TYPE_ARG );
+        paramsMap = replaceKey( paramsMap, COMPLETION_TIME_SERVICE_TYPE_ARG_LONG, COMPLETION_TIME_SERVICE_TYPE_ARG );
+        paramsMap = replaceKey( paramsMap, COMPLETION_TIME_TRACKER_TYPE_ARG_LONG, COMPLETION_TIME_TRACKER_TYPE_ARG );
+        paramsMap = replaceKey( paramsMap, RESULTS_LOG_FORMAT_ARG_LONG, RESULTS_LOG_FORMAT_ARG );
+        paramsMap = replaceKey( paramsMap, WORKLOAD_OFFSET_INDEX_FILE_PATH_ARG_LONG,
+                WORKLOAD_OFFSET_INDEX_FILE_PATH_ARG );
+        paramsMap = replaceKey( paramsMap, PRECOMPILED_WORKLOAD_FILE_PATH_ARG_LONG,
+                PRECOMPILED_WORKLOAD_FILE_PATH_ARG );
+        paramsMap = replaceKey( paramsMap, SHARD_COUNT_ARG_LONG, SHARD_COUNT_ARG );
+        paramsMap = replaceKey( paramsMap, SHARD_INDEX_ARG_LONG, SHARD_INDEX_ARG );
+        paramsMap = replaceKey( paramsMap, SHARD_COORDINATOR_ADDRESS_ARG_LONG, SHARD_COORDINATOR_ADDRESS_ARG );
+        paramsMap = replaceKey( paramsMap, CLOSED_LOOP_CLIENTS_ARG_LONG, CLOSED_LOOP_CLIENTS_ARG );
+        paramsMap = replaceKey( paramsMap, SEARCH_LATENCY_THRESHOLD_ARG_LONG, SEARCH_LATENCY_THRESHOLD_ARG );
+        paramsMap = replaceKey( paramsMap, SEARCH_STEP_FACTOR_ARG_LONG, SEARCH_STEP_FACTOR_ARG );
+        paramsMap = replaceKey( paramsMap, SEARCH_MAX_STEPS_ARG_LONG, SEARCH_MAX_STEPS_ARG );
+        paramsMap = replaceKey( paramsMap, ADAPTIVE_TIME_COMPRESSION_ARG_LONG, ADAPTIVE_TIME_COMPRESSION_ARG );
+        paramsMap = replaceKey( paramsMap, RESPONSE_TIME_EXPECTED_INTERVAL_ARG_LONG,
+                RESPONSE_TIME_EXPECTED_INTERVAL_ARG );
+        paramsMap = replaceKey( paramsMap, HISTOGRAM_LOG_INTERVAL_ARG_LONG, HISTOGRAM_LOG_INTERVAL_ARG );
+        paramsMap = replaceKey( paramsMap, VALIDATION_PARAMS_RESUME_ARG_LONG, VALIDATION_PARAMS_RESUME_ARG );
         return paramsMap;
     }
 
@@ -670,6 +1008,111 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                         .create( IGNORE_SCHEDULED_START_TIMES_ARG );
         options.addOption( ignoreScheduledStartTimesOption );
 
+        Option waitStrategyOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "strategy" ).withDescription( WAIT_STRATEGY_DESCRIPTION )
+                        .withLongOpt( WAIT_STRATEGY_ARG_LONG ).create( WAIT_STRATEGY_ARG );
+        options.addOption( waitStrategyOption );
+
+        Option executorTypeOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "type" ).withDescription( EXECUTOR_TYPE_DESCRIPTION )
+                        .withLongOpt( EXECUTOR_TYPE_ARG_LONG ).create( EXECUTOR_TYPE_ARG );
+        options.addOption( executorTypeOption );
+
+        Option completionTimeServiceTypeOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "type" )
+                        .withDescription( COMPLETION_TIME_SERVICE_TYPE_DESCRIPTION )
+                        .withLongOpt( COMPLETION_TIME_SERVICE_TYPE_ARG_LONG )
+                        .create( COMPLETION_TIME_SERVICE_TYPE_ARG );
+        options.addOption( completionTimeServiceTypeOption );
+
+        Option completionTimeTrackerTypeOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "type" )
+                        .withDescription( COMPLETION_TIME_TRACKER_TYPE_DESCRIPTION )
+                        .withLongOpt( COMPLETION_TIME_TRACKER_TYPE_ARG_LONG )
+                        .create( COMPLETION_TIME_TRACKER_TYPE_ARG );
+        options.addOption( completionTimeTrackerTypeOption );
+
+        Option resultsLogFormatOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "format" ).withDescription( RESULTS_LOG_FORMAT_DESCRIPTION )
+                        .withLongOpt( RESULTS_LOG_FORMAT_ARG_LONG ).create( RESULTS_LOG_FORMAT_ARG );
+        options.addOption( resultsLogFormatOption );
+
+        Option workloadOffsetIndexFilePathOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "path" )
+                        .withDescription( WORKLOAD_OFFSET_INDEX_FILE_PATH_DESCRIPTION )
+                        .withLongOpt( WORKLOAD_OFFSET_INDEX_FILE_PATH_ARG_LONG )
+                        .create( WORKLOAD_OFFSET_INDEX_FILE_PATH_ARG );
+        options.addOption( workloadOffsetIndexFilePathOption );
+
+        Option precompiledWorkloadFilePathOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "path" )
+                        .withDescription( PRECOMPILED_WORKLOAD_FILE_PATH_DESCRIPTION )
+                        .withLongOpt( PRECOMPILED_WORKLOAD_FILE_PATH_ARG_LONG )
+                        .create( PRECOMPILED_WORKLOAD_FILE_PATH_ARG );
+        options.addOption( precompiledWorkloadFilePathOption );
+
+        Option shardCountOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "count" ).withDescription( SHARD_COUNT_DESCRIPTION )
+                        .withLongOpt( SHARD_COUNT_ARG_LONG ).create( SHARD_COUNT_ARG );
+        options.addOption( shardCountOption );
+
+        Option shardIndexOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "index" ).withDescription( SHARD_INDEX_DESCRIPTION )
+                        .withLongOpt( SHARD_INDEX_ARG_LONG ).create( SHARD_INDEX_ARG );
+        options.addOption( shardIndexOption );
+
+        Option shardCoordinatorAddressOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "host:port" )
+                        .withDescription( SHARD_COORDINATOR_ADDRESS_DESCRIPTION )
+                        .withLongOpt( SHARD_COORDINATOR_ADDRESS_ARG_LONG )
+                        .create( SHARD_COORDINATOR_ADDRESS_ARG );
+        options.addOption( shardCoordinatorAddressOption );
+
+        Option closedLoopClientsOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "count" ).withDescription( CLOSED_LOOP_CLIENTS_DESCRIPTION )
+                        .withLongOpt( CLOSED_LOOP_CLIENTS_ARG_LONG ).create( CLOSED_LOOP_CLIENTS_ARG );
+        options.addOption( closedLoopClientsOption );
+
+        Option searchLatencyThresholdAsMilliOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "milliseconds" )
+                        .withDescription( SEARCH_LATENCY_THRESHOLD_DESCRIPTION )
+                        .withLongOpt( SEARCH_LATENCY_THRESHOLD_ARG_LONG ).create( SEARCH_LATENCY_THRESHOLD_ARG );
+        options.addOption( searchLatencyThresholdAsMilliOption );
+
+        Option searchStepFactorOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "factor" ).withDescription( SEARCH_STEP_FACTOR_DESCRIPTION )
+                        .withLongOpt( SEARCH_STEP_FACTOR_ARG_LONG ).create( SEARCH_STEP_FACTOR_ARG );
+        options.addOption( searchStepFactorOption );
+
+        Option searchMaxStepsOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "count" ).withDescription( SEARCH_MAX_STEPS_DESCRIPTION )
+                        .withLongOpt( SEARCH_MAX_STEPS_ARG_LONG ).create( SEARCH_MAX_STEPS_ARG );
+        options.addOption( searchMaxStepsOption );
+
+        Option adaptiveTimeCompressionOption =
+                OptionBuilder.withDescription( ADAPTIVE_TIME_COMPRESSION_DESCRIPTION )
+                        .withLongOpt( ADAPTIVE_TIME_COMPRESSION_ARG_LONG ).create( ADAPTIVE_TIME_COMPRESSION_ARG );
+        options.addOption( adaptiveTimeCompressionOption );
+
+        Option responseTimeExpectedIntervalAsMilliOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "milliseconds" )
+                        .withDescription( RESPONSE_TIME_EXPECTED_INTERVAL_DESCRIPTION )
+                        .withLongOpt( RESPONSE_TIME_EXPECTED_INTERVAL_ARG_LONG )
+                        .create( RESPONSE_TIME_EXPECTED_INTERVAL_ARG );
+        options.addOption( responseTimeExpectedIntervalAsMilliOption );
+
+        Option histogramLogIntervalAsMilliOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "milliseconds" )
+                        .withDescription( HISTOGRAM_LOG_INTERVAL_DESCRIPTION )
+                        .withLongOpt( HISTOGRAM_LOG_INTERVAL_ARG_LONG )
+                        .create( HISTOGRAM_LOG_INTERVAL_ARG );
+        options.addOption( histogramLogIntervalAsMilliOption );
+
+        Option validationParametersResumeOption =
+                OptionBuilder.withDescription( VALIDATION_PARAMS_RESUME_DESCRIPTION )
+                        .withLongOpt( VALIDATION_PARAMS_RESUME_ARG_LONG ).create( VALIDATION_PARAMS_RESUME_ARG );
+        options.addOption( validationParametersResumeOption );
+
         Option propertyFileOption = OptionBuilder.hasArgs().withValueSeparator( COMMANDLINE_SEPARATOR_CHAR )
                 .withArgName( "file1" + COMMANDLINE_SEPARATOR_CHAR + "file2" ).withDescription(
                         PROPERTY_FILE_DESCRIPTION ).create( PROPERTY_FILE_ARG );
@@ -685,9 +1128,9 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
 
     /**
      * Returns a HashSet of Strings
-     * @return
+     * @return keys of parameters that configure the driver itself, all other parameters configure the workload
      */
-    private static Set<String> coreConfigurationParameterKeys()
+    public static Set<String> coreConfigurationParameterKeys()
     {
         return Sets.newHashSet(
                 MODE_ARG,
@@ -707,7 +1150,25 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 HELP_ARG,
                 IGNORE_SCHEDULED_START_TIMES_ARG,
                 WARMUP_COUNT_ARG,
-                SKIP_COUNT_ARG
+                SKIP_COUNT_ARG,
+                WAIT_STRATEGY_ARG,
+                EXECUTOR_TYPE_ARG,
+                COMPLETION_TIME_SERVICE_TYPE_ARG,
+                COMPLETION_TIME_TRACKER_TYPE_ARG,
+                RESULTS_LOG_FORMAT_ARG,
+                WORKLOAD_OFFSET_INDEX_FILE_PATH_ARG,
+                PRECOMPILED_WORKLOAD_FILE_PATH_ARG,
+                SHARD_COUNT_ARG,
+                SHARD_INDEX_ARG,
+                SHARD_COORDINATOR_ADDRESS_ARG,
+                CLOSED_LOOP_CLIENTS_ARG,
+                SEARCH_LATENCY_THRESHOLD_ARG,
+                SEARCH_STEP_FACTOR_ARG,
+                SEARCH_MAX_STEPS_ARG,
+                ADAPTIVE_TIME_COMPRESSION_ARG,
+                RESPONSE_TIME_EXPECTED_INTERVAL_ARG,
+                HISTOGRAM_LOG_INTERVAL_ARG,
+                VALIDATION_PARAMS_RESUME_ARG
         );
     }
 
@@ -756,6 +1217,24 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
     private final long warmupCount;
     private final long skipCount;
     private final boolean flushLog;
+    private final String waitStrategy;
+    private final String executorType;
+    private final String completionTimeServiceType;
+    private final String completionTimeTrackerType;
+    private final String resultsLogFormat;
+    private final String workloadOffsetIndexFilePath;
+    private final String precompiledWorkloadFilePath;
+    private final int shardCount;
+    private final int shardIndex;
+    private final String shardCoordinatorAddress;
+    private final int closedLoopClients;
+    private final long searchLatencyThresholdAsMilli;
+    private final double searchStepFactor;
+    private final int searchMaxSteps;
+    private final boolean adaptiveTimeCompression;
+    private final long responseTimeExpectedIntervalAsMilli;
+    private final long histogramLogIntervalAsMilli;
+    private final boolean validationParametersResume;
 
     public ConsoleAndFileDriverConfiguration( Map<String,String> paramsMap,
             String mode,
@@ -777,7 +1256,25 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             boolean ignoreScheduledStartTimes,
             long warmupCount,
             long skipCount,
-            boolean flushLog )
+            boolean flushLog,
+            String waitStrategy,
+            String executorType,
+            String completionTimeServiceType,
+            String completionTimeTrackerType,
+            String resultsLogFormat,
+            String workloadOffsetIndexFilePath,
+            String precompiledWorkloadFilePath,
+            int shardCount,
+            int shardIndex,
+            String shardCoordinatorAddress,
+            int closedLoopClients,
+            long searchLatencyThresholdAsMilli,
+            double searchStepFactor,
+            int searchMaxSteps,
+            boolean adaptiveTimeCompression,
+            long responseTimeExpectedIntervalAsMilli,
+            long histogramLogIntervalAsMilli,
+            boolean validationParametersResume )
     {
         if ( null == paramsMap )
         {
@@ -804,6 +1301,24 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         this.warmupCount = warmupCount;
         this.skipCount = skipCount;
         this.flushLog = flushLog;
+        this.waitStrategy = waitStrategy;
+        this.executorType = executorType;
+        this.completionTimeServiceType = completionTimeServiceType;
+        this.completionTimeTrackerType = completionTimeTrackerType;
+        this.resultsLogFormat = resultsLogFormat;
+        this.workloadOffsetIndexFilePath = workloadOffsetIndexFilePath;
+        this.precompiledWorkloadFilePath = precompiledWorkloadFilePath;
+        this.shardCount = shardCount;
+        this.shardIndex = shardIndex;
+        this.shardCoordinatorAddress = shardCoordinatorAddress;
+        this.closedLoopClients = closedLoopClients;
+        this.searchLatencyThresholdAsMilli = searchLatencyThresholdAsMilli;
+        this.searchStepFactor = searchStepFactor;
+        this.searchMaxSteps = searchMaxSteps;
+        this.adaptiveTimeCompression = adaptiveTimeCompression;
+        this.responseTimeExpectedIntervalAsMilli = responseTimeExpectedIntervalAsMilli;
+        this.histogramLogIntervalAsMilli = histogramLogIntervalAsMilli;
+        this.validationParametersResume = validationParametersResume;
 
         if ( null != mode )
         {
@@ -839,6 +1354,30 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         paramsMap.put( WARMUP_COUNT_ARG, Long.toString( warmupCount ) );
         paramsMap.put( SKIP_COUNT_ARG, Long.toString( skipCount ) );
         paramsMap.put( FLUSH_LOG_ARG, Boolean.toString( flushLog ) );
+        paramsMap.put( WAIT_STRATEGY_ARG, waitStrategy );
+        paramsMap.put( EXECUTOR_TYPE_ARG, executorType );
+        paramsMap.put( COMPLETION_TIME_SERVICE_TYPE_ARG, completionTimeServiceType );
+        paramsMap.put( COMPLETION_TIME_TRACKER_TYPE_ARG, completionTimeTrackerType );
+        paramsMap.put( RESULTS_LOG_FORMAT_ARG, resultsLogFormat );
+        if ( null != workloadOffsetIndexFilePath )
+        {
+            paramsMap.put( WORKLOAD_OFFSET_INDEX_FILE_PATH_ARG, workloadOffsetIndexFilePath );
+        }
+        if ( null != precompiledWorkloadFilePath )
+        {
+            paramsMap.put( PRECOMPILED_WORKLOAD_FILE_PATH_ARG, precompiledWorkloadFilePath );
+        }
+        paramsMap.put( SHARD_COUNT_ARG, Integer.toString( shardCount ) );
+        paramsMap.put( SHARD_INDEX_ARG, Integer.toString( shardIndex ) );
+        paramsMap.put( SHARD_COORDINATOR_ADDRESS_ARG, shardCoordinatorAddress );
+        paramsMap.put( CLOSED_LOOP_CLIENTS_ARG, Integer.toString( closedLoopClients ) );
+        paramsMap.put( SEARCH_LATENCY_THRESHOLD_ARG, Long.toString( searchLatencyThresholdAsMilli ) );
+        paramsMap.put( SEARCH_STEP_FACTOR_ARG, Double.toString( searchStepFactor ) );
+        paramsMap.put( SEARCH_MAX_STEPS_ARG, Integer.toString( searchMaxSteps ) );
+        paramsMap.put( ADAPTIVE_TIME_COMPRESSION_ARG, Boolean.toString( adaptiveTimeCompression ) );
+        paramsMap.put( RESPONSE_TIME_EXPECTED_INTERVAL_ARG, Long.toString( responseTimeExpectedIntervalAsMilli ) );
+        paramsMap.put( HISTOGRAM_LOG_INTERVAL_ARG, Long.toString( histogramLogIntervalAsMilli ) );
+        paramsMap.put( VALIDATION_PARAMS_RESUME_ARG, Boolean.toString( validationParametersResume ) );
         // Validation specific
         if ( null != databaseValidationFilePath )
         {
@@ -978,6 +1517,114 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
     @Override
     public boolean flushLog() { return flushLog; }
 
+    @Override
+    public String waitStrategy()
+    {
+        return waitStrategy;
+    }
+
+    @Override
+    public String executorType()
+    {
+        return executorType;
+    }
+
+    @Override
+    public String completionTimeServiceType()
+    {
+        return completionTimeServiceType;
+    }
+
+    @Override
+    public String completionTimeTrackerType()
+    {
+        return completionTimeTrackerType;
+    }
+
+    @Override
+    public String resultsLogFormat()
+    {
+        return resultsLogFormat;
+    }
+
+    @Override
+    public String workloadOffsetIndexFilePath()
+    {
+        return workloadOffsetIndexFilePath;
+    }
+
+    @Override
+    public String precompiledWorkloadFilePath()
+    {
+        return precompiledWorkloadFilePath;
+    }
+
+    @Override
+    public int shardCount()
+    {
+        return shardCount;
+    }
+
+    @Override
+    public int shardIndex()
+    {
+        return shardIndex;
+    }
+
+    @Override
+    public String shardCoordinatorAddress()
+    {
+        return shardCoordinatorAddress;
+    }
+
+    @Override
+    public int closedLoopClients()
+    {
+        return closedLoopClients;
+    }
+
+    @Override
+    public long searchLatencyThresholdAsMilli()
+    {
+        return searchLatencyThresholdAsMilli;
+    }
+
+    @Override
+    public double searchStepFactor()
+    {
+        return searchStepFactor;
+    }
+
+    @Override
+    public int searchMaxSteps()
+    {
+        return searchMaxSteps;
+    }
+
+    @Override
+    public boolean adaptiveTimeCompression()
+    {
+        return adaptiveTimeCompression;
+    }
+
+    @Override
+    public long responseTimeExpectedIntervalAsMilli()
+    {
+        return responseTimeExpectedIntervalAsMilli;
+    }
+
+    @Override
+    public long histogramLogIntervalAsMilli()
+    {
+        return histogramLogIntervalAsMilli;
+    }
+
+    @Override
+    public boolean validationParametersResume()
+    {
+        return validationParametersResume;
+    }
+
     @Override
     public Map<String,String> asMap()
     {
@@ -1104,6 +1751,69 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         boolean newFlushLog = (newParamsMapWithShortKeys.containsKey( FLUSH_LOG_ARG )) ?
                         Boolean.parseBoolean( newParamsMapWithShortKeys.get( FLUSH_LOG_ARG ) ) :
                         flushLog;
+        String newWaitStrategy = (newParamsMapWithShortKeys.containsKey( WAIT_STRATEGY_ARG )) ?
+                WaitStrategies.parseType( newParamsMapWithShortKeys.get( WAIT_STRATEGY_ARG ) ).name() :
+                waitStrategy;
+        String newExecutorType = (newParamsMapWithShortKeys.containsKey( EXECUTOR_TYPE_ARG )) ?
+                OperationExecutorType.parse( newParamsMapWithShortKeys.get( EXECUTOR_TYPE_ARG ) ).name() :
+                executorType;
+        String newCompletionTimeServiceType =
+                (newParamsMapWithShortKeys.containsKey( COMPLETION_TIME_SERVICE_TYPE_ARG )) ?
+                CompletionTimeServiceType.parse(
+                        newParamsMapWithShortKeys.get( COMPLETION_TIME_SERVICE_TYPE_ARG ) ).name() :
+                completionTimeServiceType;
+        String newCompletionTimeTrackerType =
+                (newParamsMapWithShortKeys.containsKey( COMPLETION_TIME_TRACKER_TYPE_ARG )) ?
+                CompletionTimeTrackerType.parse(
+                        newParamsMapWithShortKeys.get( COMPLETION_TIME_TRACKER_TYPE_ARG ) ).name() :
+                completionTimeTrackerType;
+        String newResultsLogFormat = (newParamsMapWithShortKeys.containsKey( RESULTS_LOG_FORMAT_ARG )) ?
+                ResultsLogFormat.parse( newParamsMapWithShortKeys.get( RESULTS_LOG_FORMAT_ARG ) ).name() :
+                resultsLogFormat;
+        String newWorkloadOffsetIndexFilePath =
+                (newParamsMapWithShortKeys.containsKey( WORKLOAD_OFFSET_INDEX_FILE_PATH_ARG )) ?
+                newParamsMapWithShortKeys.get( WORKLOAD_OFFSET_INDEX_FILE_PATH_ARG ) :
+                workloadOffsetIndexFilePath;
+        String newPrecompiledWorkloadFilePath =
+                (newParamsMapWithShortKeys.containsKey( PRECOMPILED_WORKLOAD_FILE_PATH_ARG )) ?
+                newParamsMapWithShortKeys.get( PRECOMPILED_WORKLOAD_FILE_PATH_ARG ) :
+                precompiledWorkloadFilePath;
+        int newShardCount = (newParamsMapWithShortKeys.containsKey( SHARD_COUNT_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( SHARD_COUNT_ARG ) ) :
+                shardCount;
+        int newShardIndex = (newParamsMapWithShortKeys.containsKey( SHARD_INDEX_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( SHARD_INDEX_ARG ) ) :
+                shardIndex;
+        String newShardCoordinatorAddress = (newParamsMapWithShortKeys.containsKey( SHARD_COORDINATOR_ADDRESS_ARG )) ?
+                newParamsMapWithShortKeys.get( SHARD_COORDINATOR_ADDRESS_ARG ) :
+                shardCoordinatorAddress;
+        int newClosedLoopClients = (newParamsMapWithShortKeys.containsKey( CLOSED_LOOP_CLIENTS_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( CLOSED_LOOP_CLIENTS_ARG ) ) :
+                closedLoopClients;
+        long newSearchLatencyThresholdAsMilli =
+                (newParamsMapWithShortKeys.containsKey( SEARCH_LATENCY_THRESHOLD_ARG )) ?
+                Long.parseLong( newParamsMapWithShortKeys.get( SEARCH_LATENCY_THRESHOLD_ARG ) ) :
+                searchLatencyThresholdAsMilli;
+        double newSearchStepFactor = (newParamsMapWithShortKeys.containsKey( SEARCH_STEP_FACTOR_ARG )) ?
+                Double.parseDouble( newParamsMapWithShortKeys.get( SEARCH_STEP_FACTOR_ARG ) ) :
+                searchStepFactor;
+        int newSearchMaxSteps = (newParamsMapWithShortKeys.containsKey( SEARCH_MAX_STEPS_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( SEARCH_MAX_STEPS_ARG ) ) :
+                searchMaxSteps;
+        boolean newAdaptiveTimeCompression = (newParamsMapWithShortKeys.containsKey( ADAPTIVE_TIME_COMPRESSION_ARG )) ?
+                Boolean.parseBoolean( newParamsMapWithShortKeys.get( ADAPTIVE_TIME_COMPRESSION_ARG ) ) :
+                adaptiveTimeCompression;
+        long newResponseTimeExpectedIntervalAsMilli =
+                (newParamsMapWithShortKeys.containsKey( RESPONSE_TIME_EXPECTED_INTERVAL_ARG )) ?
+                Long.parseLong( newParamsMapWithShortKeys.get( RESPONSE_TIME_EXPECTED_INTERVAL_ARG ) ) :
+                responseTimeExpectedIntervalAsMilli;
+        long newHistogramLogIntervalAsMilli = (newParamsMapWithShortKeys.containsKey( HISTOGRAM_LOG_INTERVAL_ARG )) ?
+                Long.parseLong( newParamsMapWithShortKeys.get( HISTOGRAM_LOG_INTERVAL_ARG ) ) :
+                histogramLogIntervalAsMilli;
+        boolean newValidationParametersResume =
+                (newParamsMapWithShortKeys.containsKey( VALIDATION_PARAMS_RESUME_ARG )) ?
+                Boolean.parseBoolean( newParamsMapWithShortKeys.get( VALIDATION_PARAMS_RESUME_ARG ) ) :
+                validationParametersResume;
 
         return new ConsoleAndFileDriverConfiguration(
                 newOtherParams,
@@ -1126,7 +1836,25 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 newIgnoreScheduledStartTimes,
                 newWarmupCount,
                 newSkipCount,
-                newFlushLog
+                newFlushLog,
+                newWaitStrategy,
+                newExecutorType,
+                newCompletionTimeServiceType,
+                newCompletionTimeTrackerType,
+                newResultsLogFormat,
+                newWorkloadOffsetIndexFilePath,
+                newPrecompiledWorkloadFilePath,
+                newShardCount,
+                newShardIndex,
+                newShardCoordinatorAddress,
+                newClosedLoopClients,
+                newSearchLatencyThresholdAsMilli,
+                newSearchStepFactor,
+                newSearchMaxSteps,
+                newAdaptiveTimeCompression,
+                newResponseTimeExpectedIntervalAsMilli,
+                newHistogramLogIntervalAsMilli,
+                newValidationParametersResume
         );
     }
 
@@ -1182,6 +1910,41 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         {
             argsList.add( "-" + IGNORE_SCHEDULED_START_TIMES_ARG );
         }
+        argsList.addAll( Lists.newArrayList( "-" + WAIT_STRATEGY_ARG, waitStrategy ) );
+        argsList.addAll( Lists.newArrayList( "-" + EXECUTOR_TYPE_ARG, executorType ) );
+        argsList.addAll( Lists.newArrayList( "-" + COMPLETION_TIME_SERVICE_TYPE_ARG, completionTimeServiceType ) );
+        argsList.addAll( Lists.newArrayList( "-" + COMPLETION_TIME_TRACKER_TYPE_ARG, completionTimeTrackerType ) );
+        argsList.addAll( Lists.newArrayList( "-" + RESULTS_LOG_FORMAT_ARG, resultsLogFormat ) );
+        if ( null != workloadOffsetIndexFilePath )
+        {
+            argsList.addAll(
+                    Lists.newArrayList( "-" + WORKLOAD_OFFSET_INDEX_FILE_PATH_ARG, workloadOffsetIndexFilePath ) );
+        }
+        if ( null != precompiledWorkloadFilePath )
+        {
+            argsList.addAll(
+                    Lists.newArrayList( "-" + PRECOMPILED_WORKLOAD_FILE_PATH_ARG, precompiledWorkloadFilePath ) );
+        }
+        argsList.addAll( Lists.newArrayList( "-" + SHARD_COUNT_ARG, Integer.toString( shardCount ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + SHARD_INDEX_ARG, Integer.toString( shardIndex ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + SHARD_COORDINATOR_ADDRESS_ARG, shardCoordinatorAddress ) );
+        argsList.addAll( Lists.newArrayList( "-" + CLOSED_LOOP_CLIENTS_ARG, Integer.toString( closedLoopClients ) ) );
+        argsList.addAll( Lists.newArrayList(
+                "-" + SEARCH_LATENCY_THRESHOLD_ARG, Long.toString( searchLatencyThresholdAsMilli ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + SEARCH_STEP_FACTOR_ARG, Double.toString( searchStepFactor ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + SEARCH_MAX_STEPS_ARG, Integer.toString( searchMaxSteps ) ) );
+        if ( adaptiveTimeCompression )
+        {
+            argsList.add( "-" + ADAPTIVE_TIME_COMPRESSION_ARG );
+        }
+        argsList.addAll( Lists.newArrayList(
+                "-" + RESPONSE_TIME_EXPECTED_INTERVAL_ARG, Long.toString( responseTimeExpectedIntervalAsMilli ) ) );
+        argsList.addAll( Lists.newArrayList(
+                "-" + HISTOGRAM_LOG_INTERVAL_ARG, Long.toString( histogramLogIntervalAsMilli ) ) );
+        if ( validationParametersResume )
+        {
+            argsList.add( "-" + VALIDATION_PARAMS_RESUME_ARG );
+        }
         // additional, workload/database-related params
         Map<String,String> additionalParameters =
                 MapUtils.copyExcludingKeys( paramsMap, coreConfigurationParameterKeys() );
@@ -1316,6 +2079,170 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         sb.append( "# COMMAND: " ).append( "-" ).append( IGNORE_SCHEDULED_START_TIMES_ARG ).append( "\n" );
         sb.append( IGNORE_SCHEDULED_START_TIMES_ARG ).append( "=" ).append( ignoreScheduledStartTimes ).append( "\n" );
         sb.append( "\n" );
+        sb.append( "# strategy used by busy wait loops while waiting for scheduled start times\n" );
+        sb.append( "# SLEEP = sleep for spinner wait duration, SPIN = busy spin, YIELD = spin then yield,\n" );
+        sb.append( "# PARK = park with back-off (at most spinner wait duration), then spin for the final millisecond\n" );
+        sb.append( "# ENUM ([SLEEP, SPIN, YIELD, PARK])\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( WAIT_STRATEGY_ARG ).append( "/--" )
+                .append( WAIT_STRATEGY_ARG_LONG ).append( "\n" );
+        sb.append( WAIT_STRATEGY_ARG_LONG ).append( "=" ).append( waitStrategy ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# executor used for asynchronous operations\n" );
+        sb.append( "# THREAD_POOL = workers wait for scheduled start times\n" );
+        sb.append( "# TIMER_WHEEL = operations are handed to workers when due\n" );
+        sb.append( "# VIRTUAL_THREAD = thread per operation, at most thread_count in flight\n" );
+        sb.append( "# DISRUPTOR = workers take operations from a pre-allocated ring buffer\n" );
+        sb.append( "# ENUM ([THREAD_POOL, TIMER_WHEEL, VIRTUAL_THREAD, DISRUPTOR])\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( EXECUTOR_TYPE_ARG ).append( "/--" )
+                .append( EXECUTOR_TYPE_ARG_LONG ).append( "\n" );
+        sb.append( EXECUTOR_TYPE_ARG_LONG ).append( "=" ).append( executorType ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# completion time service implementation\n" );
+        sb.append( "# THREADED_QUEUED = dedicated thread, SYNCHRONIZED = lock, LOCK_FREE = per writer ring buffers\n" );
+        sb.append( "# ENUM ([THREADED_QUEUED, SYNCHRONIZED, LOCK_FREE])\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( COMPLETION_TIME_SERVICE_TYPE_ARG ).append( "/--" )
+                .append( COMPLETION_TIME_SERVICE_TYPE_ARG_LONG ).append( "\n" );
+        sb.append( COMPLETION_TIME_SERVICE_TYPE_ARG_LONG ).append( "=" ).append( completionTimeServiceType )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# data structures used to track initiated & completed times\n" );
+        sb.append( "# TREE_MULTISET/ARRAY_LIST = boxed times, PRIMITIVE = primitive longs\n" );
+        sb.append( "# (ignored by LOCK_FREE completion time service)\n" );
+        sb.append( "# ENUM ([TREE_MULTISET, ARRAY_LIST, PRIMITIVE])\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( COMPLETION_TIME_TRACKER_TYPE_ARG ).append( "/--" )
+                .append( COMPLETION_TIME_TRACKER_TYPE_ARG_LONG ).append( "\n" );
+        sb.append( COMPLETION_TIME_TRACKER_TYPE_ARG_LONG ).append( "=" ).append( completionTimeTrackerType )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# format of the results log, which records every executed operation\n" );
+        sb.append( "# CSV = text row per operation, BINARY = fixed width binary record per operation\n" );
+        sb.append( "# (converted to CSV with ResultsLogConverter)\n" );
+        sb.append( "# ENUM ([CSV, BINARY])\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( RESULTS_LOG_FORMAT_ARG ).append( "/--" )
+                .append( RESULTS_LOG_FORMAT_ARG_LONG ).append( "\n" );
+        sb.append( RESULTS_LOG_FORMAT_ARG_LONG ).append( "=" ).append( resultsLogFormat ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# file where the operation counts needed from each workload stream, to apply skip, warmup and\n" );
+        sb.append( "# operation count, are persisted and reused by later runs of the same workload configuration\n" );
+        sb.append( "# parameter value specifies where to create (or find) the index file\n" );
+        sb.append( "# STRING\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( WORKLOAD_OFFSET_INDEX_FILE_PATH_ARG ).append( "/--" )
+                .append( WORKLOAD_OFFSET_INDEX_FILE_PATH_ARG_LONG ).append( "\n" );
+        if ( null == workloadOffsetIndexFilePath )
+        {
+            sb.append( "# " ).append( WORKLOAD_OFFSET_INDEX_FILE_PATH_ARG_LONG ).append( "=" ).append( "\n" );
+        }
+        else
+        {
+            sb.append( WORKLOAD_OFFSET_INDEX_FILE_PATH_ARG_LONG ).append( "=" ).append( workloadOffsetIndexFilePath )
+                    .append( "\n" );
+        }
+        sb.append( "\n" );
+        sb.append( "# file the compile_workload mode writes the time ordered operation streams of the configured\n" );
+        sb.append( "# workload to, with their scheduled start and dependency times, and that execute_benchmark\n" );
+        sb.append( "# replays them from\n" );
+        sb.append( "# parameter value specifies where to create (or find) the precompiled workload file\n" );
+        sb.append( "# STRING\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( PRECOMPILED_WORKLOAD_FILE_PATH_ARG ).append( "/--" )
+                .append( PRECOMPILED_WORKLOAD_FILE_PATH_ARG_LONG ).append( "\n" );
+        if ( null == precompiledWorkloadFilePath )
+        {
+            sb.append( "# " ).append( PRECOMPILED_WORKLOAD_FILE_PATH_ARG_LONG ).append( "=" ).append( "\n" );
+        }
+        else
+        {
+            sb.append( PRECOMPILED_WORKLOAD_FILE_PATH_ARG_LONG ).append( "=" ).append( precompiledWorkloadFilePath )
+                    .append( "\n" );
+        }
+        sb.append( "\n" );
+        sb.append( "# number of driver processes the workload is sharded across, each executing one shard\n" );
+        sb.append( "# blocking streams (e.g., update stream partitions) are assigned to shards round robin,\n" );
+        sb.append( "# operations of the asynchronous stream are dealt out round robin\n" );
+        sb.append( "# INTEGER (1 = not sharded)\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( SHARD_COUNT_ARG ).append( "/--" )
+                .append( SHARD_COUNT_ARG_LONG ).append( "\n" );
+        sb.append( SHARD_COUNT_ARG_LONG ).append( "=" ).append( Integer.toString( shardCount ) ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# shard executed by this driver process, shard 0 also hosts the completion time coordinator\n" );
+        sb.append( "# INTEGER ([0, shard_count))\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( SHARD_INDEX_ARG ).append( "/--" )
+                .append( SHARD_INDEX_ARG_LONG ).append( "\n" );
+        sb.append( SHARD_INDEX_ARG_LONG ).append( "=" ).append( Integer.toString( shardIndex ) ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# host:port of the completion time coordinator, through which shards exchange completion times\n" );
+        sb.append( "# shard 0 listens on the port, the other shards connect to it\n" );
+        sb.append( "# STRING (host:port)\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( SHARD_COORDINATOR_ADDRESS_ARG ).append( "/--" )
+                .append( SHARD_COORDINATOR_ADDRESS_ARG_LONG ).append( "\n" );
+        sb.append( SHARD_COORDINATOR_ADDRESS_ARG_LONG ).append( "=" ).append( shardCoordinatorAddress ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# number of clients of closed loop execution, each client issues its next operation as soon as\n" );
+        sb.append( "# its previous one completed, ignoring scheduled start times but still respecting dependencies\n" );
+        sb.append( "# 0 = open loop, operations start at their scheduled start times\n" );
+        sb.append( "# INTEGER (0 = open loop)\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( CLOSED_LOOP_CLIENTS_ARG ).append( "/--" )
+                .append( CLOSED_LOOP_CLIENTS_ARG_LONG ).append( "\n" );
+        sb.append( CLOSED_LOOP_CLIENTS_ARG_LONG ).append( "=" ).append( Integer.toString( closedLoopClients ) )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# search_throughput: a step fails when the 99th percentile run time of any operation type\n" );
+        sb.append( "# exceeds this, 0 = not checked\n" );
+        sb.append( "# LONG (milliseconds)\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( SEARCH_LATENCY_THRESHOLD_ARG ).append( "/--" )
+                .append( SEARCH_LATENCY_THRESHOLD_ARG_LONG ).append( "\n" );
+        sb.append( SEARCH_LATENCY_THRESHOLD_ARG_LONG ).append( "=" )
+                .append( Long.toString( searchLatencyThresholdAsMilli ) ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# search_throughput: factor by which every step increases the load, open loop steps divide\n" );
+        sb.append( "# time_compression_ratio by it, closed loop steps multiply closed_loop_clients by it\n" );
+        sb.append( "# DOUBLE (> 1)\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( SEARCH_STEP_FACTOR_ARG ).append( "/--" )
+                .append( SEARCH_STEP_FACTOR_ARG_LONG ).append( "\n" );
+        sb.append( SEARCH_STEP_FACTOR_ARG_LONG ).append( "=" ).append( Double.toString( searchStepFactor ) )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# search_throughput: maximum number of steps, the search ends at the first failing step\n" );
+        sb.append( "# INTEGER\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( SEARCH_MAX_STEPS_ARG ).append( "/--" )
+                .append( SEARCH_MAX_STEPS_ARG_LONG ).append( "\n" );
+        sb.append( SEARCH_MAX_STEPS_ARG_LONG ).append( "=" ).append( Integer.toString( searchMaxSteps ) )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# time compression ratio is adjusted while the workload executes, starting from\n" );
+        sb.append( "# time_compression_ratio, to the fastest ratio at which operations still start within the\n" );
+        sb.append( "# delay threshold of the schedule audit\n" );
+        sb.append( "# BOOLEAN\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( ADAPTIVE_TIME_COMPRESSION_ARG ).append( "/--" )
+                .append( ADAPTIVE_TIME_COMPRESSION_ARG_LONG ).append( "\n" );
+        sb.append( ADAPTIVE_TIME_COMPRESSION_ARG_LONG ).append( "=" )
+                .append( Boolean.toString( adaptiveTimeCompression ) ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# expected interval between operations of a type, response times longer than it are\n" );
+        sb.append( "# corrected for coordinated omission, by recording the samples missed while waiting.\n" );
+        sb.append( "# 0 = not corrected\n" );
+        sb.append( "# LONG (milliseconds)\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( RESPONSE_TIME_EXPECTED_INTERVAL_ARG ).append( "/--" )
+                .append( RESPONSE_TIME_EXPECTED_INTERVAL_ARG_LONG ).append( "\n" );
+        sb.append( RESPONSE_TIME_EXPECTED_INTERVAL_ARG_LONG ).append( "=" )
+                .append( Long.toString( responseTimeExpectedIntervalAsMilli ) ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# interval at which run time histograms of every operation type are written to interval\n" );
+        sb.append( "# histogram logs, one HdrHistogram interval log per operation type, in the results directory.\n" );
+        sb.append( "# 0 = not written\n" );
+        sb.append( "# LONG (milliseconds)\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( HISTOGRAM_LOG_INTERVAL_ARG ).append( "/--" )
+                .append( HISTOGRAM_LOG_INTERVAL_ARG_LONG ).append( "\n" );
+        sb.append( HISTOGRAM_LOG_INTERVAL_ARG_LONG ).append( "=" )
+                .append( Long.toString( histogramLogIntervalAsMilli ) ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# validation parameter creation continues after the rows already in the validation\n" );
+        sb.append( "# parameters file, e.g., of an interrupted run, instead of overwriting it\n" );
+        sb.append( "# BOOLEAN\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( VALIDATION_PARAMS_RESUME_ARG ).append( "/--" )
+                .append( VALIDATION_PARAMS_RESUME_ARG_LONG ).append( "\n" );
+        sb.append( VALIDATION_PARAMS_RESUME_ARG_LONG ).append( "=" )
+                .append( Boolean.toString( validationParametersResume ) ).append( "\n" );
+        sb.append( "\n" );
         sb.append( "# ***************************************************************\n" );
         sb.append( "# *** the following should be set by workload implementations ***\n" );
         sb.append( "# ***************************************************************\n" );
@@ -1426,6 +2353,43 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Ignore Scheduled Start Times:" ) )
                 .append( ignoreScheduledStartTimes ).append( "\n" );
 
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Wait Strategy:" ) )
+                .append( waitStrategy ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Executor Type:" ) )
+                .append( executorType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Completion Time Service:" ) )
+                .append( completionTimeServiceType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Completion Time Tracker:" ) )
+                .append( completionTimeTrackerType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Results Log Format:" ) )
+                .append( resultsLogFormat ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Workload Offset Index:" ) )
+                .append( workloadOffsetIndexFilePath ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Precompiled Workload:" ) )
+                .append( precompiledWorkloadFilePath ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Shard Count:" ) )
+                .append( shardCount ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Shard Index:" ) )
+                .append( shardIndex ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Shard Coordinator:" ) )
+                .append( shardCoordinatorAddress ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Closed Loop Clients:" ) )
+                .append( closedLoopClients ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Search Latency Threshold (ms):" ) )
+                .append( searchLatencyThresholdAsMilli ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Search Step Factor:" ) )
+                .append( searchStepFactor ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Search Max Steps:" ) )
+                .append( searchMaxSteps ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Adaptive Time Compression:" ) )
+                .append( adaptiveTimeCompression ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Response Time Expected Interval (ms):" ) )
+                .append( responseTimeExpectedIntervalAsMilli ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Histogram Log Interval (ms):" ) )
+                .append( histogramLogIntervalAsMilli ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Resume Validation Parameters:" ) )
+                .append( validationParametersResume ).append( "\n" );
+
         Set<String> excludedKeys = coreConfigurationParameterKeys();
 
         Map<String,String> filteredParamsMap =
@@ -1529,6 +2493,87 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             return false;
         }
 
+        if ( waitStrategy != null ? !waitStrategy.equals( that.waitStrategy ) : that.waitStrategy != null )
+        {
+            return false;
+        }
+        if ( executorType != null ? !executorType.equals( that.executorType ) : that.executorType != null )
+        {
+            return false;
+        }
+        if ( completionTimeServiceType != null ? !completionTimeServiceType.equals( that.completionTimeServiceType )
+                                               : that.completionTimeServiceType != null )
+        {
+            return false;
+        }
+        if ( completionTimeTrackerType != null ? !completionTimeTrackerType.equals( that.completionTimeTrackerType )
+                                               : that.completionTimeTrackerType != null )
+        {
+            return false;
+        }
+        if ( resultsLogFormat != null ? !resultsLogFormat.equals( that.resultsLogFormat )
+                                      : that.resultsLogFormat != null )
+        {
+            return false;
+        }
+        if ( workloadOffsetIndexFilePath != null
+             ? !workloadOffsetIndexFilePath.equals( that.workloadOffsetIndexFilePath )
+             : that.workloadOffsetIndexFilePath != null )
+        {
+            return false;
+        }
+        if ( precompiledWorkloadFilePath != null
+             ? !precompiledWorkloadFilePath.equals( that.precompiledWorkloadFilePath )
+             : that.precompiledWorkloadFilePath != null )
+        {
+            return false;
+        }
+        if ( shardCount != that.shardCount )
+        {
+            return false;
+        }
+        if ( shardIndex != that.shardIndex )
+        {
+            return false;
+        }
+        if ( shardCoordinatorAddress != null
+             ? !shardCoordinatorAddress.equals( that.shardCoordinatorAddress )
+             : that.shardCoordinatorAddress != null )
+        {
+            return false;
+        }
+        if ( closedLoopClients != that.closedLoopClients )
+        {
+            return false;
+        }
+        if ( searchLatencyThresholdAsMilli != that.searchLatencyThresholdAsMilli )
+        {
+            return false;
+        }
+        if ( Double.compare( that.searchStepFactor, searchStepFactor ) != 0 )
+        {
+            return false;
+        }
+        if ( searchMaxSteps != that.searchMaxSteps )
+        {
+            return false;
+        }
+        if ( adaptiveTimeCompression != that.adaptiveTimeCompression )
+        {
+            return false;
+        }
+        if ( responseTimeExpectedIntervalAsMilli != that.responseTimeExpectedIntervalAsMilli )
+        {
+            return false;
+        }
+        if ( histogramLogIntervalAsMilli != that.histogramLogIntervalAsMilli )
+        {
+            return false;
+        }
+        if ( validationParametersResume != that.validationParametersResume )
+        {
+            return false;
+        }
         return true;
     }
 
@@ -1556,6 +2601,26 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         result = 31 * result + (int) (spinnerSleepDurationAsMilli ^ (spinnerSleepDurationAsMilli >>> 32));
         result = 31 * result + (printHelp ? 1 : 0);
         result = 31 * result + (ignoreScheduledStartTimes ? 1 : 0);
+        result = 31 * result + (waitStrategy != null ? waitStrategy.hashCode() : 0);
+        result = 31 * result + (executorType != null ? executorType.hashCode() : 0);
+        result = 31 * result + (completionTimeServiceType != null ? completionTimeServiceType.hashCode() : 0);
+        result = 31 * result + (completionTimeTrackerType != null ? completionTimeTrackerType.hashCode() : 0);
+        result = 31 * result + (resultsLogFormat != null ? resultsLogFormat.hashCode() : 0);
+        result = 31 * result + (workloadOffsetIndexFilePath != null ? workloadOffsetIndexFilePath.hashCode() : 0);
+        result = 31 * result + (precompiledWorkloadFilePath != null ? precompiledWorkloadFilePath.hashCode() : 0);
+        result = 31 * result + shardCount;
+        result = 31 * result + shardIndex;
+        result = 31 * result + (shardCoordinatorAddress != null ? shardCoordinatorAddress.hashCode() : 0);
+        result = 31 * result + closedLoopClients;
+        result = 31 * result + (int) (searchLatencyThresholdAsMilli ^ (searchLatencyThresholdAsMilli >>> 32));
+        temp = Double.doubleToLongBits( searchStepFactor );
+        result = 31 * result + (int) (temp ^ (temp >>> 32));
+        result = 31 * result + searchMaxSteps;
+        result = 31 * result + (adaptiveTimeCompression ? 1 : 0);
+        result = 31 * result +
+                 (int) (responseTimeExpectedIntervalAsMilli ^ (responseTimeExpectedIntervalAsMilli >>> 32));
+        result = 31 * result + (int) (histogramLogIntervalAsMilli ^ (histogramLogIntervalAsMilli >>> 32));
+        result = 31 * result + (validationParametersResume ? 1 : 0);
         return result;
     }
 }
@@ -51,6 +51,42 @@ public interface DriverConfiguration
 
     boolean flushLog();
 
+    String waitStrategy();
+
+    String executorType();
+
+    String completionTimeServiceType();
+
+    String completionTimeTrackerType();
+
+    String resultsLogFormat();
+
+    String workloadOffsetIndexFilePath();
+
+    String precompiledWorkloadFilePath();
+
+    int shardCount();
+
+    int shardIndex();
+
+    String shardCoordinatorAddress();
+
+    int closedLoopClients();
+
+    long searchLatencyThresholdAsMilli();
+
+    double searchStepFactor();
+
+    int searchMaxSteps();
+
+    boolean adaptiveTimeCompression();
+
+    long responseTimeExpectedIntervalAsMilli();
+
+    long histogramLogIntervalAsMilli();
+
+    boolean validationParametersResume();
+
     String toPropertiesString() throws DriverConfigurationException;
 
     Map<String,String> asMap();
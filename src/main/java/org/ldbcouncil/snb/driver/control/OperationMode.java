@@ -4,5 +4,7 @@ public enum OperationMode {
     create_validation,
     validate_database,
     create_statistics,
+    compile_workload,
+    search_throughput,
     execute_benchmark;
 }
@@ -0,0 +1,171 @@
+package org.ldbcouncil.snb.driver.csv.charseeker;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link CharReadable} over a memory mapped UTF-8 file.
+ * <p/>
+ * Characters are decoded straight from the mapped file into the buffer of the caller, e.g., {@link BufferedCharSeeker},
+ * without the intermediate {@code byte[]} and {@link java.nio.charset.CharsetDecoder} of an
+ * {@link java.io.InputStreamReader}. ASCII bytes, which is all of most LDBC parameter and update stream files, are
+ * widened to {@code char} directly, other characters are decoded as UTF-8, malformed sequences are replaced with
+ * U+FFFD.
+ * <p/>
+ * File is mapped one window at a time, as a single mapping can not exceed 2GB.
+ */
+public class MappedFileReadable implements CharReadable {
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+    private static final char REPLACEMENT_CHARACTER = '\uFFFD';
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int windowSize;
+    private MappedByteBuffer window;
+    private long windowPosition;
+    private final char[] surrogatePair = new char[2];
+    // low surrogate of a pair that did not fit in buffer of previous read, or 0
+    private char pendingLowSurrogate = 0;
+
+    public MappedFileReadable(File file) throws IOException {
+        this(file, DEFAULT_WINDOW_SIZE);
+    }
+
+    public MappedFileReadable(File file, int windowSize) throws IOException {
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        this.windowSize = Math.max(windowSize, 4);
+        this.windowPosition = 0;
+        this.window = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(this.windowSize, fileSize));
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        int read = 0;
+        if (0 != pendingLowSurrogate && length > 0) {
+            buffer[offset + read++] = pendingLowSurrogate;
+            pendingLowSurrogate = 0;
+        }
+        while (read < length) {
+            if (!window.hasRemaining() && !remap()) {
+                break;
+            }
+            // ASCII fast path
+            int asciiLimit = Math.min(window.remaining(), length - read);
+            int i = 0;
+            byte b = 0;
+            while (i < asciiLimit && (b = window.get()) >= 0) {
+                buffer[offset + read + i] = (char) b;
+                i++;
+            }
+            read += i;
+            if (i == asciiLimit) {
+                continue;
+            }
+            // b is first byte of a multi byte sequence, or malformed
+            window.position(window.position() - 1);
+            int sequenceLength = sequenceLength(b);
+            if (sequenceLength > window.remaining()) {
+                // sequence crosses window boundary, or file ends with an incomplete sequence
+                remap();
+            }
+            if (sequenceLength == 4 && read + 2 > length) {
+                // no room for low surrogate of pair, return it from next read
+                if (2 == decode(sequenceLength, surrogatePair, 0)) {
+                    pendingLowSurrogate = surrogatePair[1];
+                }
+                buffer[offset + read++] = surrogatePair[0];
+                break;
+            }
+            read += decode(sequenceLength, buffer, offset + read);
+        }
+        return read == 0 ? -1 : read;
+    }
+
+    private static int sequenceLength(byte firstByte) {
+        int b = firstByte & 0xFF;
+        if (b >= 0xC2 && b <= 0xDF) {
+            return 2;
+        } else if (b >= 0xE0 && b <= 0xEF) {
+            return 3;
+        } else if (b >= 0xF0 && b <= 0xF4) {
+            return 4;
+        } else {
+            // continuation byte without start byte, start of overlong sequence, or invalid byte
+            return 1;
+        }
+    }
+
+    /**
+     * Ranges of second byte exclude overlong sequences, surrogates, and code points above U+10FFFF,
+     * so every sequence that passes them is valid
+     */
+    private static boolean isValidSecondByte(int firstByte, int secondByte) {
+        switch (firstByte) {
+            case 0xE0:
+                return secondByte >= 0xA0 && secondByte <= 0xBF;
+            case 0xED:
+                return secondByte >= 0x80 && secondByte <= 0x9F;
+            case 0xF0:
+                return secondByte >= 0x90 && secondByte <= 0xBF;
+            case 0xF4:
+                return secondByte >= 0x80 && secondByte <= 0x8F;
+            default:
+                return secondByte >= 0x80 && secondByte <= 0xBF;
+        }
+    }
+
+    /**
+     * Malformed sequences are replaced by one U+FFFD each, up to (excluding) the first byte that can not continue
+     * them, i.e., maximal subparts are replaced as recommended by the Unicode standard
+     *
+     * @return number of chars written to buffer
+     */
+    private int decode(int sequenceLength, char[] buffer, int offset) {
+        int firstByte = window.get() & 0xFF;
+        if (1 == sequenceLength) {
+            buffer[offset] = REPLACEMENT_CHARACTER;
+            return 1;
+        }
+        int codePoint = firstByte & (0xFF >> (sequenceLength + 1));
+        for (int i = 1; i < sequenceLength; i++) {
+            int position = window.position();
+            int continuation = (position < window.limit()) ? window.get(position) & 0xFF : -1;
+            boolean valid = (1 == i)
+                    ? isValidSecondByte(firstByte, continuation)
+                    : continuation >= 0x80 && continuation <= 0xBF;
+            if (!valid) {
+                // truncated sequence, continue decoding from the byte that can not continue it
+                buffer[offset] = REPLACEMENT_CHARACTER;
+                return 1;
+            }
+            window.position(position + 1);
+            codePoint = (codePoint << 6) | (continuation & 0x3F);
+        }
+        return Character.toChars(codePoint, buffer, offset);
+    }
+
+    /**
+     * Maps next window, starting at current position, so a sequence that crossed the previous window is in this one
+     *
+     * @return false at end of file
+     */
+    private boolean remap() throws IOException {
+        long position = windowPosition + window.position();
+        if (position >= fileSize) {
+            return false;
+        }
+        windowPosition = position;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowPosition,
+                Math.min(windowSize, fileSize - windowPosition));
+        return window.remaining() > 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
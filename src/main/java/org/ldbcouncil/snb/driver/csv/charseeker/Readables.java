@@ -153,6 +153,13 @@ public class Readables {
         return FROM_FILE.apply(file);
     }
 
+    /**
+     * Uncompressed UTF-8 file, memory mapped, see {@link MappedFileReadable}
+     */
+    public static CharReadable mappedFile(File file) throws IOException {
+        return new MappedFileReadable(file);
+    }
+
     public static CharReadable multipleFiles(File... files) {
         return new MultiReadable(iterator(files, FROM_FILE));
     }
@@ -21,6 +21,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.ToLongFunction;
 
 import static java.lang.String.format;
 
@@ -513,25 +514,20 @@ public class GeneratorFactory
 
     /**
      * Returned generator will merge all input generators into one, sorting on the scheduled start time of operations,
-     * ascending
+     * ascending. Operations with equal scheduled start times are returned in the order of their input generators
      *
      * @param generators
      * @return
      */
     public Iterator<Operation> mergeSortOperationsByScheduledStartTime( Iterator<Operation>... generators )
     {
-        return mergeSort(
-                new Comparator<Operation>()
+        return new LongKeyOrderedMultiGenerator<>(
+                new ToLongFunction<Operation>()
                 {
                     @Override
-                    public int compare( Operation o1, Operation o2 )
+                    public long applyAsLong( Operation operation )
                     {
-                        if ( o1.scheduledStartTimeAsMilli() > o2.scheduledStartTimeAsMilli() )
-                        { return 1; }
-                        else if ( o1.scheduledStartTimeAsMilli() < o2.scheduledStartTimeAsMilli() )
-                        { return -1; }
-                        else
-                        { return 0; }
+                        return operation.scheduledStartTimeAsMilli();
                     }
                 },
                 generators
@@ -539,25 +535,21 @@ public class GeneratorFactory
     }
 
     /**
-     * Returned generator will merge all input generators into one, sorting on the time stamp of operations, ascending
+     * Returned generator will merge all input generators into one, sorting on the time stamp of operations, ascending.
+     * Operations with equal time stamps are returned in the order of their input generators
      *
      * @param generators
      * @return
      */
     public Iterator<Operation> mergeSortOperationsByTimeStamp( Iterator<Operation>... generators )
     {
-        return mergeSort(
-                new Comparator<Operation>()
+        return new LongKeyOrderedMultiGenerator<>(
+                new ToLongFunction<Operation>()
                 {
                     @Override
-                    public int compare( Operation o1, Operation o2 )
+                    public long applyAsLong( Operation operation )
                     {
-                        if ( o1.timeStamp() > o2.timeStamp() )
-                        { return 1; }
-                        else if ( o1.timeStamp() < o2.timeStamp() )
-                        { return -1; }
-                        else
-                        { return 0; }
+                        return operation.timeStamp();
                     }
                 },
                 generators
@@ -565,25 +557,21 @@ public class GeneratorFactory
     }
 
     /**
-     * Returned generator will merge all input generators into one, sorting by value, ascending
+     * Returned generator will merge all input generators into one, sorting by value, ascending.
+     * Values with equal long values are returned in the order of their input generators
      *
      * @param generators
      * @return
      */
     public <T extends Number> Iterator<T> mergeSortNumbers( Iterator<T>... generators )
     {
-        return mergeSort(
-                new Comparator<T>()
+        return new LongKeyOrderedMultiGenerator<>(
+                new ToLongFunction<T>()
                 {
                     @Override
-                    public int compare( T t1, T t2 )
+                    public long applyAsLong( T t )
                     {
-                        if ( t1.longValue() > t2.longValue() )
-                        { return 1; }
-                        else if ( t1.longValue() < t2.longValue() )
-                        { return -1; }
-                        else
-                        { return 0; }
+                        return t.longValue();
                     }
                 },
                 generators
@@ -718,6 +706,30 @@ public class GeneratorFactory
         return new TimeMappingOperationGenerator( generator, newStartTimeAsMilli, compressionRatio );
     }
 
+    /**
+     * Map start times of operations in stream with the given function, when they are retrieved from the stream.
+     *
+     * @param generator
+     * @param startTimeAsMilliMappingFun maps scheduled start time to new scheduled start time
+     * @return
+     */
+    public Iterator<Operation> timeMap( Iterator<Operation> generator,
+            final Function1<Long,Long,RuntimeException> startTimeAsMilliMappingFun )
+    {
+        Function1<Operation,Operation,RuntimeException> timeMappingFun =
+                new Function1<Operation,Operation,RuntimeException>()
+                {
+                    @Override
+                    public Operation apply( Operation operation )
+                    {
+                        operation.setScheduledStartTimeAsMilli(
+                                startTimeAsMilliMappingFun.apply( operation.scheduledStartTimeAsMilli() ) );
+                        return operation;
+                    }
+                };
+        return new MappingGenerator<>( generator, timeMappingFun );
+    }
+
     /**
      * Prefix every generated item with prefix string
      *
@@ -753,6 +765,20 @@ public class GeneratorFactory
         return new LimitGenerator<T>( generator, limit );
     }
 
+    /**
+     * Returns one of shardCount disjoint shards of generator, items are dealt out to shards round robin
+     *
+     * @param generator
+     * @param shardIndex shard to return, in [0, shardCount)
+     * @param shardCount
+     * @param <T>
+     * @return
+     */
+    public <T> Iterator<T> shard( Iterator<T> generator, int shardIndex, int shardCount )
+    {
+        return new ShardGenerator<T>( generator, shardIndex, shardCount );
+    }
+
     /**
      * next() returns single item from set of items. Each item has equal probability of being chosen.
      *
@@ -0,0 +1,134 @@
+package org.ldbcouncil.snb.driver.generator;
+
+import java.util.Iterator;
+import java.util.function.ToLongFunction;
+
+/**
+ * Merges ordered generators by a primitive long key, e.g., time stamp of operations, ascending.
+ * <p>
+ * Generator heads are kept in a binary min-heap, and the key of every head is extracted once, when it is retrieved
+ * from its generator, so comparisons neither call back into elements nor box keys. Elements with equal keys are
+ * returned in the order of their generators in the constructor arguments.
+ * Input generators are not read until the first element is requested.
+ */
+public class LongKeyOrderedMultiGenerator<GENERATE_TYPE> extends Generator<GENERATE_TYPE>
+{
+    private final ToLongFunction<GENERATE_TYPE> keyFunction;
+    private final Iterator<GENERATE_TYPE>[] generators;
+    // indexed by generator
+    private final Object[] heads;
+    private final long[] headKeys;
+    // heap of generator indexes, only generators that have a head are in heap
+    private final int[] heap;
+    private int heapSize;
+    private boolean initialized;
+
+    public LongKeyOrderedMultiGenerator(
+            ToLongFunction<GENERATE_TYPE> keyFunction,
+            Iterator<GENERATE_TYPE>... generators )
+    {
+        this.keyFunction = keyFunction;
+        this.generators = generators;
+        this.heads = new Object[generators.length];
+        this.headKeys = new long[generators.length];
+        this.heap = new int[generators.length];
+        this.heapSize = 0;
+        this.initialized = false;
+    }
+
+    @Override
+    protected GENERATE_TYPE doNext() throws GeneratorException
+    {
+        if ( !initialized )
+        {
+            initializeHeap();
+        }
+        if ( 0 == heapSize )
+        {
+            return null;
+        }
+        int generatorIndex = heap[0];
+        GENERATE_TYPE next = head( generatorIndex );
+        if ( !advance( generatorIndex ) )
+        {
+            // generator is exhausted, replace it with last generator in heap
+            heapSize--;
+            heap[0] = heap[heapSize];
+        }
+        siftDown( 0 );
+        return next;
+    }
+
+    @SuppressWarnings( "unchecked" )
+    private GENERATE_TYPE head( int generatorIndex )
+    {
+        return (GENERATE_TYPE) heads[generatorIndex];
+    }
+
+    /**
+     * @return false if generator is exhausted
+     */
+    private boolean advance( int generatorIndex )
+    {
+        Iterator<GENERATE_TYPE> generator = generators[generatorIndex];
+        if ( generator.hasNext() )
+        {
+            GENERATE_TYPE head = generator.next();
+            heads[generatorIndex] = head;
+            headKeys[generatorIndex] = keyFunction.applyAsLong( head );
+            return true;
+        }
+        else
+        {
+            heads[generatorIndex] = null;
+            return false;
+        }
+    }
+
+    private void initializeHeap()
+    {
+        for ( int i = 0; i < generators.length; i++ )
+        {
+            if ( advance( i ) )
+            {
+                heap[heapSize++] = i;
+            }
+        }
+        for ( int i = heapSize / 2 - 1; i >= 0; i-- )
+        {
+            siftDown( i );
+        }
+        initialized = true;
+    }
+
+    private void siftDown( int position )
+    {
+        int generatorIndex = heap[position];
+        while ( true )
+        {
+            int child = 2 * position + 1;
+            if ( child >= heapSize )
+            {
+                break;
+            }
+            if ( child + 1 < heapSize && lessThan( heap[child + 1], heap[child] ) )
+            {
+                child = child + 1;
+            }
+            if ( !lessThan( heap[child], generatorIndex ) )
+            {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = generatorIndex;
+    }
+
+    private boolean lessThan( int generatorIndex1, int generatorIndex2 )
+    {
+        long key1 = headKeys[generatorIndex1];
+        long key2 = headKeys[generatorIndex2];
+        return key1 < key2 || (key1 == key2 && generatorIndex1 < generatorIndex2);
+    }
+}
@@ -5,9 +5,19 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 
+/**
+ * Merges generators, each of which must be ordered (or at most lookAheadDistance elements out of order).
+ * Generator heads are kept in a binary min-heap, ordered by head element and then by position of generator in the
+ * constructor arguments, so each next() costs O(log(generators)) comparisons and equal elements are returned in
+ * generator order.
+ */
 public class OrderedMultiGenerator<GENERATE_TYPE> extends Generator<GENERATE_TYPE> {
     private final List<GeneratorHead<GENERATE_TYPE>> generatorHeads;
     private final Comparator<GENERATE_TYPE> comparator;
+    // heap of indexes into generatorHeads, only non-empty generator heads are in heap
+    private final int[] heap;
+    private int heapSize;
+    private boolean initialized = false;
 
     public OrderedMultiGenerator(Comparator<GENERATE_TYPE> comparator, int lookAheadDistance, Iterator<GENERATE_TYPE>... generators) {
         this.comparator = comparator;
@@ -16,6 +26,8 @@ public class OrderedMultiGenerator<GENERATE_TYPE> extends Generator<GENERATE_TYP
         } else {
             this.generatorHeads = buildLookAheadGeneratorHeads(comparator, lookAheadDistance, generators);
         }
+        this.heap = new int[generatorHeads.size()];
+        this.heapSize = 0;
     }
 
     private static <T1> List<GeneratorHead<T1>> buildSimpleGeneratorHeads(Iterator<T1>... generators) {
@@ -36,27 +48,56 @@ public class OrderedMultiGenerator<GENERATE_TYPE> extends Generator<GENERATE_TYP
 
     @Override
     protected GENERATE_TYPE doNext() throws GeneratorException {
-        GeneratorHead<GENERATE_TYPE> minGeneratorHead = getMinGeneratorHead();
-        return (null == minGeneratorHead) ? null : minGeneratorHead.removeHead();
+        if (false == initialized) {
+            initializeHeap();
+        }
+        if (0 == heapSize) {
+            return null;
+        }
+        GeneratorHead<GENERATE_TYPE> minGeneratorHead = generatorHeads.get(heap[0]);
+        GENERATE_TYPE next = minGeneratorHead.removeHead();
+        if (null == minGeneratorHead.inspectHead()) {
+            // generator is exhausted, replace it with last generator in heap
+            heapSize--;
+            heap[0] = heap[heapSize];
+        }
+        siftDown(0);
+        return next;
     }
 
-    private GeneratorHead<GENERATE_TYPE> getMinGeneratorHead() {
-        GeneratorHead<GENERATE_TYPE> minGeneratorHead = null;
-
-        // Get generator head with lowest head element (removing empty ones encountered first)
+    private void initializeHeap() {
         for (int i = 0; i < generatorHeads.size(); i++) {
-            GeneratorHead<GENERATE_TYPE> generatorHead = generatorHeads.get(i);
-            if (null == generatorHead) continue;
-            if (null == generatorHead.inspectHead()) {
-                generatorHeads.set(i, null);
-                continue;
+            if (null != generatorHeads.get(i).inspectHead()) {
+                heap[heapSize++] = i;
             }
-            if (null == minGeneratorHead || comparator.compare(generatorHead.inspectHead(), minGeneratorHead.inspectHead()) < 0) {
-                minGeneratorHead = generatorHead;
+        }
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+        initialized = true;
+    }
+
+    private void siftDown(int position) {
+        int generatorIndex = heap[position];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && lessThan(heap[child + 1], heap[child])) {
+                child = child + 1;
             }
+            if (false == lessThan(heap[child], generatorIndex)) break;
+            heap[position] = heap[child];
+            position = child;
         }
+        heap[position] = generatorIndex;
+    }
 
-        return minGeneratorHead;
+    private boolean lessThan(int generatorIndex1, int generatorIndex2) {
+        int comparison = comparator.compare(
+                generatorHeads.get(generatorIndex1).inspectHead(),
+                generatorHeads.get(generatorIndex2).inspectHead());
+        // ties are broken by generator order, to give same order as a linear scan over generator heads
+        return comparison < 0 || (0 == comparison && generatorIndex1 < generatorIndex2);
     }
 
     private static interface GeneratorHead<T1> {
@@ -0,0 +1,238 @@
+package org.ldbcouncil.snb.driver.generator;
+
+import org.ldbcouncil.snb.driver.csv.charseeker.CharReadable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import static java.lang.String.format;
+
+/**
+ * Parses a line-oriented character stream ahead of its consumer.
+ * <p>
+ * A dedicated splitter thread reads the stream and cuts it into chunks of whole lines, each chunk is parsed on the
+ * given (typically shared) parser thread pool, and the pending chunk results are kept in a bounded queue in the
+ * order they were read. Elements are therefore returned in stream order, while parsing, element construction, etc.
+ * happen on other threads, at most lookAheadChunkCount chunks ahead of the consumer.
+ * <p>
+ * Errors of the splitter or of a parser are rethrown to the consumer as GeneratorException, when it reaches the
+ * chunk that failed.
+ */
+public class ParallelLookAheadGenerator<GENERATE_TYPE> extends Generator<GENERATE_TYPE> implements Closeable
+{
+    public static final int DEFAULT_CHUNK_SIZE = 256 * 1024;
+    public static final int DEFAULT_LOOK_AHEAD_CHUNK_COUNT = 16;
+
+    private final Future<List<GENERATE_TYPE>> endOfStream = CompletableFuture.completedFuture( null );
+    private final CharReadable reader;
+    private final ChunkParser<GENERATE_TYPE> chunkParser;
+    private final ExecutorService parserThreadPool;
+    private final int chunkSize;
+    private final BlockingQueue<Future<List<GENERATE_TYPE>>> parsedChunks;
+    private final Thread splitterThread;
+    private volatile boolean closed = false;
+    private Iterator<GENERATE_TYPE> currentChunk = null;
+    private boolean finished = false;
+
+    public interface ChunkParser<T>
+    {
+        /**
+         * @param chunk one or more complete lines, the last line may or may not be terminated by a line separator
+         * @return parsed elements, in the order they appear in chunk
+         */
+        List<T> parse( char[] chunk ) throws Exception;
+    }
+
+    public ParallelLookAheadGenerator(
+            String name,
+            CharReadable reader,
+            ChunkParser<GENERATE_TYPE> chunkParser,
+            ExecutorService parserThreadPool,
+            int chunkSize,
+            int lookAheadChunkCount )
+    {
+        this.reader = reader;
+        this.chunkParser = chunkParser;
+        this.parserThreadPool = parserThreadPool;
+        this.chunkSize = chunkSize;
+        // + 1 to leave room for end of stream marker
+        this.parsedChunks = new ArrayBlockingQueue<>( lookAheadChunkCount + 1 );
+        this.splitterThread = new Thread(
+                new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        split();
+                    }
+                },
+                ParallelLookAheadGenerator.class.getSimpleName() + "-" + name
+        );
+        this.splitterThread.setDaemon( true );
+        this.splitterThread.start();
+    }
+
+    @Override
+    protected GENERATE_TYPE doNext() throws GeneratorException
+    {
+        while ( null == currentChunk || !currentChunk.hasNext() )
+        {
+            if ( finished )
+            {
+                return null;
+            }
+            List<GENERATE_TYPE> chunk;
+            try
+            {
+                chunk = parsedChunks.take().get();
+            }
+            catch ( InterruptedException e )
+            {
+                throw new GeneratorException( "Interrupted while waiting for next parsed chunk", e );
+            }
+            catch ( ExecutionException e )
+            {
+                finished = true;
+                throw new GeneratorException( "Error while parsing ahead", e.getCause() );
+            }
+            if ( null == chunk )
+            {
+                finished = true;
+                return null;
+            }
+            currentChunk = chunk.iterator();
+        }
+        return currentChunk.next();
+    }
+
+    private void split()
+    {
+        try
+        {
+            char[] buffer = new char[chunkSize];
+            int length = 0;
+            int charsRead;
+            while ( !closed && -1 != (charsRead = reader.read( buffer, length, buffer.length - length )) )
+            {
+                length += charsRead;
+                if ( length < buffer.length )
+                {
+                    continue;
+                }
+                int chunkLength = lastLineSeparatorIndex( buffer, length ) + 1;
+                if ( 0 == chunkLength )
+                {
+                    // line is longer than chunk size
+                    buffer = Arrays.copyOf( buffer, buffer.length * 2 );
+                    continue;
+                }
+                submit( Arrays.copyOf( buffer, chunkLength ) );
+                System.arraycopy( buffer, chunkLength, buffer, 0, length - chunkLength );
+                length = length - chunkLength;
+            }
+            if ( length > 0 )
+            {
+                submit( Arrays.copyOf( buffer, length ) );
+            }
+            parsedChunks.put( endOfStream );
+        }
+        catch ( InterruptedException e )
+        {
+            // closed, consumer is no longer interested
+        }
+        catch ( Throwable e )
+        {
+            if ( !closed )
+            {
+                CompletableFuture<List<GENERATE_TYPE>> failure = new CompletableFuture<>();
+                failure.completeExceptionally( e );
+                try
+                {
+                    parsedChunks.put( failure );
+                }
+                catch ( InterruptedException interruptedException )
+                {
+                    // closed, consumer is no longer interested
+                }
+            }
+        }
+    }
+
+    private void submit( final char[] chunk ) throws InterruptedException
+    {
+        Future<List<GENERATE_TYPE>> parsedChunk;
+        try
+        {
+            parsedChunk = parserThreadPool.submit( new Callable<List<GENERATE_TYPE>>()
+            {
+                @Override
+                public List<GENERATE_TYPE> call() throws Exception
+                {
+                    return chunkParser.parse( chunk );
+                }
+            } );
+        }
+        catch ( RejectedExecutionException e )
+        {
+            throw new GeneratorException( "Parser thread pool rejected chunk", e );
+        }
+        // blocks when consumer is lookAheadChunkCount chunks behind
+        parsedChunks.put( parsedChunk );
+    }
+
+    private static int lastLineSeparatorIndex( char[] buffer, int length )
+    {
+        for ( int i = length - 1; i >= 0; i-- )
+        {
+            if ( '\n' == buffer[i] )
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Stops splitter thread, discards chunks that were parsed ahead, and closes the underlying reader.
+     * Does not shut down the parser thread pool, which may be shared by other generators.
+     */
+    @Override
+    public void close() throws IOException
+    {
+        if ( closed )
+        {
+            return;
+        }
+        closed = true;
+        splitterThread.interrupt();
+        try
+        {
+            splitterThread.join();
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new IOException( format( "Interrupted while stopping %s", splitterThread.getName() ), e );
+        }
+        finally
+        {
+            for ( Future<List<GENERATE_TYPE>> parsedChunk : parsedChunks )
+            {
+                parsedChunk.cancel( false );
+            }
+            parsedChunks.clear();
+            reader.close();
+        }
+    }
+}
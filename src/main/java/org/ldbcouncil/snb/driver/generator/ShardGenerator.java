@@ -0,0 +1,38 @@
+package org.ldbcouncil.snb.driver.generator;
+
+import java.util.Iterator;
+
+/**
+ * Returns the items of one shard of the wrapped generator, items are dealt out to shards round robin, i.e.,
+ * shard i gets items i, i + shardCount, i + 2 * shardCount, ...
+ */
+public class ShardGenerator<GENERATE_TYPE> extends Generator<GENERATE_TYPE>
+{
+    private final Iterator<GENERATE_TYPE> generator;
+    private final int shardIndex;
+    private final int shardCount;
+    private boolean skippedToShard = false;
+
+    ShardGenerator( Iterator<GENERATE_TYPE> generator, int shardIndex, int shardCount )
+    {
+        this.generator = generator;
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCount;
+    }
+
+    @Override
+    protected GENERATE_TYPE doNext() throws GeneratorException
+    {
+        int toSkip = (skippedToShard) ? shardCount - 1 : shardIndex;
+        skippedToShard = true;
+        for ( int i = 0; i < toSkip; i++ )
+        {
+            if ( !generator.hasNext() )
+            {
+                return null;
+            }
+            generator.next();
+        }
+        return (generator.hasNext()) ? generator.next() : null;
+    }
+}
@@ -3,20 +3,28 @@ package org.ldbcouncil.snb.driver.runtime;
 import org.ldbcouncil.snb.driver.Db;
 import org.ldbcouncil.snb.driver.WorkloadException;
 import org.ldbcouncil.snb.driver.WorkloadStreams;
+import org.ldbcouncil.snb.driver.control.LoggingService;
 import org.ldbcouncil.snb.driver.control.LoggingServiceFactory;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeException;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeService;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeWriter;
 import org.ldbcouncil.snb.driver.runtime.coordination.DummyCompletionTimeWriter;
+import org.ldbcouncil.snb.driver.runtime.executor.DisruptorOperationExecutor;
 import org.ldbcouncil.snb.driver.runtime.executor.OperationExecutor;
 import org.ldbcouncil.snb.driver.runtime.executor.OperationExecutorException;
+import org.ldbcouncil.snb.driver.runtime.executor.OperationExecutorType;
 import org.ldbcouncil.snb.driver.runtime.executor.OperationStreamExecutorService;
 import org.ldbcouncil.snb.driver.runtime.executor.SameThreadOperationExecutor;
 import org.ldbcouncil.snb.driver.runtime.executor.ThreadPoolOperationExecutor;
+import org.ldbcouncil.snb.driver.runtime.executor.TimerWheelOperationExecutor;
+import org.ldbcouncil.snb.driver.runtime.executor.VirtualThreadOperationExecutor;
 import org.ldbcouncil.snb.driver.runtime.metrics.MetricsCollectionException;
 import org.ldbcouncil.snb.driver.runtime.metrics.MetricsService;
 import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
+import org.ldbcouncil.snb.driver.runtime.scheduling.WaitStrategies;
+import org.ldbcouncil.snb.driver.runtime.scheduling.WaitStrategy;
 import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.HdrHistogram.AbstractHistogram;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -48,6 +56,8 @@ public class WorkloadRunner
             int threadCount,
             long statusDisplayIntervalAsSeconds,
             long spinnerSleepDurationAsMilli,
+            WaitStrategies.WaitStrategyType waitStrategyType,
+            OperationExecutorType executorType,
             boolean ignoreScheduleStartTimes,
             int operationHandlerExecutorsBoundedQueueSize ) throws WorkloadException, MetricsCollectionException
     {
@@ -62,6 +72,8 @@ public class WorkloadRunner
                 threadCount,
                 statusDisplayIntervalAsSeconds,
                 spinnerSleepDurationAsMilli,
+                waitStrategyType,
+                executorType,
                 ignoreScheduleStartTimes,
                 operationHandlerExecutorsBoundedQueueSize
         );
@@ -92,6 +104,8 @@ public class WorkloadRunner
                 int threadCount,
                 long statusDisplayIntervalAsSeconds,
                 long spinnerSleepDurationAsMilli,
+                WaitStrategies.WaitStrategyType waitStrategyType,
+                OperationExecutorType executorType,
                 boolean ignoreScheduleStartTimes,
                 int operationHandlerExecutorsBoundedQueueSize ) throws MetricsCollectionException, WorkloadException
         {
@@ -106,6 +120,8 @@ public class WorkloadRunner
                     threadCount,
                     statusDisplayIntervalAsSeconds,
                     spinnerSleepDurationAsMilli,
+                    waitStrategyType,
+                    executorType,
                     ignoreScheduleStartTimes,
                     operationHandlerExecutorsBoundedQueueSize
             );
@@ -270,6 +286,7 @@ public class WorkloadRunner
     private static class WorkloadRunnerThread extends Thread
     {
         private final Spinner spinner;
+        private final LoggingService loggingService;
         private WorkloadStatusThread workloadStatusThread;
         private final ConcurrentErrorReporter errorReporter;
         private final OperationExecutor executorForAsynchronous;
@@ -295,13 +312,21 @@ public class WorkloadRunner
                 int threadCount,
                 long statusDisplayIntervalAsSeconds,
                 long spinnerSleepDurationAsMilli,
+                WaitStrategies.WaitStrategyType waitStrategyType,
+                OperationExecutorType executorType,
                 boolean ignoreScheduleStartTimes,
                 int operationHandlerExecutorsBoundedQueueSize ) throws WorkloadException, MetricsCollectionException
         {
             this.errorReporter = errorReporter;
             this.statusDisplayIntervalAsMilli = statusDisplayIntervalAsSeconds;
 
-            this.spinner = new Spinner( timeSource, spinnerSleepDurationAsMilli, ignoreScheduleStartTimes );
+            WaitStrategy waitStrategy = WaitStrategies.create( waitStrategyType, spinnerSleepDurationAsMilli );
+            this.spinner = new Spinner(
+                    timeSource,
+                    ignoreScheduleStartTimes,
+                    waitStrategy
+            );
+            this.loggingService = loggingServiceFactory.loggingServiceFor( getClass().getSimpleName() );
 
             if ( statusDisplayIntervalAsSeconds > 0 )
             {
@@ -327,19 +352,65 @@ public class WorkloadRunner
             {
                 throw new WorkloadException( "Error while attempting to create completion time writer", e );
             }
-            this.executorForAsynchronous = new ThreadPoolOperationExecutor(
-                    threadCount,
-                    operationHandlerExecutorsBoundedQueueSize,
-                    db,
-                    asynchronousStream,
-                    completionTimeWriterForAsynchronous,
-                    completionTimeService,
-                    spinner,
-                    timeSource,
-                    errorReporter,
-                    metricsService,
-                    asynchronousStream.childOperationGenerator()
-            );
+            if ( OperationExecutorType.VIRTUAL_THREAD == executorType )
+            {
+                this.executorForAsynchronous = new VirtualThreadOperationExecutor(
+                        threadCount,
+                        db,
+                        asynchronousStream,
+                        completionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        asynchronousStream.childOperationGenerator()
+                );
+            }
+            else if ( OperationExecutorType.DISRUPTOR == executorType )
+            {
+                this.executorForAsynchronous = new DisruptorOperationExecutor(
+                        threadCount,
+                        operationHandlerExecutorsBoundedQueueSize,
+                        waitStrategyType,
+                        db,
+                        asynchronousStream,
+                        completionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        asynchronousStream.childOperationGenerator()
+                );
+            }
+            else
+            {
+                OperationExecutor threadPoolExecutorForAsynchronous = new ThreadPoolOperationExecutor(
+                        threadCount,
+                        operationHandlerExecutorsBoundedQueueSize,
+                        db,
+                        asynchronousStream,
+                        completionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        asynchronousStream.childOperationGenerator()
+                );
+                // when scheduled start times are ignored every operation is due immediately, a wheel is of no use
+                this.executorForAsynchronous =
+                        (OperationExecutorType.TIMER_WHEEL == executorType && !ignoreScheduleStartTimes)
+                        ? new TimerWheelOperationExecutor(
+                                threadPoolExecutorForAsynchronous,
+                                operationHandlerExecutorsBoundedQueueSize,
+                                timeSource,
+                                waitStrategy,
+                                errorReporter
+                        )
+                        : threadPoolExecutorForAsynchronous;
+            }
             this.asynchronousStreamExecutorService = new OperationStreamExecutorService(
                     errorReporter,
                     asynchronousStream,
@@ -446,6 +517,7 @@ public class WorkloadRunner
             else
             {
                 shutdownEverything( ShutdownType.NORMAL, errorReporter );
+                logStartDelays();
                 if ( errorReporter.errorEncountered() )
                 {
                     stateRef.set( WorkloadRunnerThreadState.COMPLETED_FAILED );
@@ -457,6 +529,26 @@ public class WorkloadRunner
             }
         }
 
+        private void logStartDelays()
+        {
+            AbstractHistogram startDelays = spinner.startDelayHistogramAsMicro();
+            if ( 0 == startDelays.getTotalCount() )
+            {
+                return;
+            }
+            loggingService.info( format(
+                    "Start delays (us) of %s operations that waited for their scheduled start time\n" +
+                    "    min: %s, mean: %.1f, 50th: %s, 90th: %s, 99th: %s, 99.9th: %s, max: %s",
+                    startDelays.getTotalCount(),
+                    startDelays.getMinValue(),
+                    startDelays.getMean(),
+                    startDelays.getValueAtPercentile( 50 ),
+                    startDelays.getValueAtPercentile( 90 ),
+                    startDelays.getValueAtPercentile( 99 ),
+                    startDelays.getValueAtPercentile( 99.9 ),
+                    startDelays.getMaxValue() ) );
+        }
+
         private void shutdownEverything( ShutdownType shutdownType, ConcurrentErrorReporter errorReporter )
         {
             // if forced shutdown (error) some handlers likely still running,
@@ -0,0 +1,275 @@
+package org.ldbcouncil.snb.driver.runtime.coordination;
+
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static java.lang.String.format;
+
+/**
+ * Coordinates completion time of a workload that is sharded across multiple driver processes, each of which tracks
+ * the completion time of its own operations with a {@link ShardedCompletionTimeService}. Hosted by shard 0.
+ * <p/>
+ * Every shard connects once per run (warmup and measurement are separate runs). Once all shards have joined no more
+ * connections are accepted, and every shard is sent the same workload start time. Shards then repeatedly send their
+ * local completion time, and are sent the lowest local completion time of all other shards in return. Global
+ * completion time is the lowest local completion time of all shards, as every operation with a lower time stamp has
+ * completed in every shard. A shard that has executed all its operations sends FINISHED, as it no longer holds back
+ * global completion time, and disconnects.
+ * <p/>
+ * Messages, all big endian:
+ * <pre>
+ * shard -> coordinator  int shardIndex, int shardCount
+ * coordinator -> shard  long workloadStartTimeAsMilli (FAILED if shard was rejected)
+ * shard -> coordinator  long localCompletionTimeAsMilli (FINISHED after last operation, then disconnect)
+ * coordinator -> shard  long lowestCompletionTimeOfOtherShardsAsMilli (FAILED if another shard disconnected early)
+ * </pre>
+ */
+public class CompletionTimeCoordinator
+{
+    static final long FINISHED = Long.MAX_VALUE;
+    static final long FAILED = Long.MIN_VALUE;
+
+    private final ServerSocket serverSocket;
+    private final int shardCount;
+    private final long workloadStartDelayAsMilli;
+    private final TimeSource timeSource;
+    // -1 = undefined, same as completion time of a completion time service before its writers initiated anything
+    private final AtomicLongArray shardCompletionTimesAsMilli;
+    private final AtomicBoolean failed = new AtomicBoolean( false );
+    private final List<Thread> shardThreads = new ArrayList<>();
+    private final Thread joinThread;
+    private volatile String failureMessage = null;
+
+    /**
+     * @param port port to listen on
+     * @param shardCount number of shards that will join
+     * @param workloadStartDelayAsMilli workload starts this long after the last shard joined
+     * @param timeSource time source
+     * @throws CompletionTimeException if port can not be listened on
+     */
+    public CompletionTimeCoordinator(
+            int port,
+            int shardCount,
+            long workloadStartDelayAsMilli,
+            TimeSource timeSource ) throws CompletionTimeException
+    {
+        this.shardCount = shardCount;
+        this.workloadStartDelayAsMilli = workloadStartDelayAsMilli;
+        this.timeSource = timeSource;
+        this.shardCompletionTimesAsMilli = new AtomicLongArray( shardCount );
+        for ( int i = 0; i < shardCount; i++ )
+        {
+            shardCompletionTimesAsMilli.set( i, -1 );
+        }
+        try
+        {
+            this.serverSocket = new ServerSocket();
+            // warmup and measurement runs listen on the same port, one after the other
+            serverSocket.setReuseAddress( true );
+            serverSocket.bind( new InetSocketAddress( port ) );
+        }
+        catch ( IOException e )
+        {
+            throw new CompletionTimeException( format( "Unable to listen for shards on port: %s", port ), e );
+        }
+        this.joinThread = new JoinThread();
+        joinThread.start();
+    }
+
+    /**
+     * Waits until every shard has finished, or disconnected, then stops coordinating
+     *
+     * @throws CompletionTimeException if a shard was rejected or disconnected before it finished
+     */
+    public void shutdown() throws CompletionTimeException
+    {
+        try
+        {
+            joinThread.join();
+            for ( Thread shardThread : shardThreads )
+            {
+                shardThread.join();
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new CompletionTimeException( "Interrupted while waiting for shards to finish", e );
+        }
+        finally
+        {
+            closeQuietly( serverSocket );
+        }
+        if ( failed.get() )
+        {
+            throw new CompletionTimeException( failureMessage );
+        }
+    }
+
+    /**
+     * Stops accepting shards, those that have not joined yet never will
+     */
+    void stopAccepting()
+    {
+        closeQuietly( serverSocket );
+    }
+
+    private void fail( String message )
+    {
+        if ( failed.compareAndSet( false, true ) )
+        {
+            failureMessage = message;
+        }
+    }
+
+    private long lowestCompletionTimeOfOtherShardsAsMilli( int shardIndex )
+    {
+        long lowestCompletionTimeAsMilli = FINISHED;
+        for ( int i = 0; i < shardCount; i++ )
+        {
+            if ( i != shardIndex )
+            {
+                lowestCompletionTimeAsMilli =
+                        Math.min( lowestCompletionTimeAsMilli, shardCompletionTimesAsMilli.get( i ) );
+            }
+        }
+        return lowestCompletionTimeAsMilli;
+    }
+
+    private static void closeQuietly( Closeable closeable )
+    {
+        try
+        {
+            closeable.close();
+        }
+        catch ( IOException e )
+        {
+            // nothing more can be done
+        }
+    }
+
+    private class JoinThread extends Thread
+    {
+        private JoinThread()
+        {
+            super( CompletionTimeCoordinator.class.getSimpleName() + "-join" );
+            setDaemon( true );
+        }
+
+        @Override
+        public void run()
+        {
+            Socket[] sockets = new Socket[shardCount];
+            DataOutputStream[] outs = new DataOutputStream[shardCount];
+            DataInputStream[] ins = new DataInputStream[shardCount];
+            try
+            {
+                for ( int joined = 0; joined < shardCount; joined++ )
+                {
+                    Socket socket = serverSocket.accept();
+                    socket.setTcpNoDelay( true );
+                    DataInputStream in = new DataInputStream( new BufferedInputStream( socket.getInputStream() ) );
+                    DataOutputStream out =
+                            new DataOutputStream( new BufferedOutputStream( socket.getOutputStream() ) );
+                    int shardIndex = in.readInt();
+                    int shardCountOfShard = in.readInt();
+                    if ( shardCountOfShard != shardCount || shardIndex < 0 || shardIndex >= shardCount ||
+                         null != sockets[shardIndex] )
+                    {
+                        fail( format( "Rejected shard %s of %s, expected %s distinct shards",
+                                shardIndex, shardCountOfShard, shardCount ) );
+                        out.writeLong( FAILED );
+                        out.flush();
+                        closeQuietly( socket );
+                        joined--;
+                        continue;
+                    }
+                    sockets[shardIndex] = socket;
+                    ins[shardIndex] = in;
+                    outs[shardIndex] = out;
+                }
+                // stop accepting, shards of the next run can only join a new coordinator
+                closeQuietly( serverSocket );
+                long workloadStartTimeAsMilli = timeSource.nowAsMilli() + workloadStartDelayAsMilli;
+                for ( int i = 0; i < shardCount; i++ )
+                {
+                    outs[i].writeLong( workloadStartTimeAsMilli );
+                    outs[i].flush();
+                    Thread shardThread = new ShardThread( i, sockets[i], ins[i], outs[i] );
+                    shardThreads.add( shardThread );
+                    shardThread.start();
+                }
+            }
+            catch ( IOException e )
+            {
+                // server socket was closed before all shards joined, or a shard failed while joining
+                fail( format( "Not all shards joined: %s", e.getMessage() ) );
+                for ( Socket socket : sockets )
+                {
+                    if ( null != socket )
+                    {
+                        closeQuietly( socket );
+                    }
+                }
+            }
+        }
+    }
+
+    private class ShardThread extends Thread
+    {
+        private final int shardIndex;
+        private final Socket socket;
+        private final DataInputStream in;
+        private final DataOutputStream out;
+
+        private ShardThread( int shardIndex, Socket socket, DataInputStream in, DataOutputStream out )
+        {
+            super( CompletionTimeCoordinator.class.getSimpleName() + "-shard-" + shardIndex );
+            setDaemon( true );
+            this.shardIndex = shardIndex;
+            this.socket = socket;
+            this.in = in;
+            this.out = out;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                while ( true )
+                {
+                    long completionTimeAsMilli = in.readLong();
+                    shardCompletionTimesAsMilli.set( shardIndex, completionTimeAsMilli );
+                    if ( FINISHED == completionTimeAsMilli )
+                    {
+                        return;
+                    }
+                    out.writeLong( (failed.get()) ? FAILED : lowestCompletionTimeOfOtherShardsAsMilli( shardIndex ) );
+                    out.flush();
+                }
+            }
+            catch ( IOException e )
+            {
+                fail( format( "Shard %s disconnected before it finished: %s", shardIndex, e.getMessage() ) );
+            }
+            finally
+            {
+                closeQuietly( socket );
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.ldbcouncil.snb.driver.runtime.coordination;
+
+public interface CompletionTimeNotifier
+{
+    /**
+     * Registers a waiter that is notified as soon as completion time is greater than or equal to the given time.
+     * If completion time has already reached that time the waiter is notified immediately, from the calling thread.
+     *
+     * @param completionTimeToWaitForAsMilli completion time to wait for
+     * @param waiter waiter to notify
+     * @throws CompletionTimeException
+     */
+    void notifyWhenCompletionTimeReaches( long completionTimeToWaitForAsMilli, CompletionTimeWaiter waiter )
+            throws CompletionTimeException;
+
+    /**
+     * Deregisters a waiter that has not been notified yet, e.g., because its thread stopped waiting for it.
+     * Does nothing if the waiter has already been notified.
+     *
+     * @param waiter waiter to deregister
+     */
+    void cancelNotification( CompletionTimeWaiter waiter );
+}
@@ -3,7 +3,7 @@ package org.ldbcouncil.snb.driver.runtime.coordination;
 import java.util.List;
 import java.util.concurrent.Future;
 
-public interface CompletionTimeService extends CompletionTimeReader
+public interface CompletionTimeService extends CompletionTimeReader, CompletionTimeNotifier
 {
     CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException;
 
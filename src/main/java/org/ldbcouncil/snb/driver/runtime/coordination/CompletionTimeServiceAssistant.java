@@ -4,8 +4,11 @@ import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
 import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
 import org.ldbcouncil.snb.driver.temporal.TimeSource;
 
+import java.net.InetSocketAddress;
 import java.util.List;
 
+import static java.lang.String.format;
+
 public class CompletionTimeServiceAssistant
 {
     public void writeInitiatedAndCompletedTimesToAllWriters(
@@ -50,10 +53,119 @@ public class CompletionTimeServiceAssistant
         return new SynchronizedCompletionTimeService();
     }
 
+    public SynchronizedCompletionTimeService newSynchronizedCompletionTimeService(
+            CompletionTimeTrackerType trackerType ) throws CompletionTimeException
+    {
+        return new SynchronizedCompletionTimeService( trackerType );
+    }
+
     public ThreadedQueuedCompletionTimeService newThreadedQueuedCompletionTimeService(
             TimeSource timeSource,
             ConcurrentErrorReporter errorReporter ) throws CompletionTimeException
     {
         return new ThreadedQueuedCompletionTimeService( timeSource, errorReporter );
     }
+
+    public ThreadedQueuedCompletionTimeService newThreadedQueuedCompletionTimeService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            CompletionTimeTrackerType trackerType ) throws CompletionTimeException
+    {
+        return new ThreadedQueuedCompletionTimeService( timeSource, errorReporter, trackerType );
+    }
+
+    public LockFreeCompletionTimeService newLockFreeCompletionTimeService() throws CompletionTimeException
+    {
+        return new LockFreeCompletionTimeService( LockFreeCompletionTimeService.DEFAULT_RING_BUFFER_CAPACITY );
+    }
+
+    /**
+     * Joins the shards of a sharded workload, returns once all shards have joined. Shard 0 also hosts the coordinator,
+     * listening on the port of the coordinator address.
+     *
+     * @param localCompletionTimeService completion time service that tracks the operations of this shard
+     * @param coordinatorAddress host:port of coordinator
+     * @param shardIndex shard executed by this driver process
+     * @param shardCount number of shards
+     * @param workloadStartDelayAsMilli workload starts this long after the last shard joined
+     * @param timeSource time source
+     * @param errorReporter error reporter
+     * @return completion time service reporting global completion time, of all shards
+     * @throws CompletionTimeException
+     */
+    public ShardedCompletionTimeService newShardedCompletionTimeService(
+            CompletionTimeService localCompletionTimeService,
+            String coordinatorAddress,
+            int shardIndex,
+            int shardCount,
+            long workloadStartDelayAsMilli,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter ) throws CompletionTimeException
+    {
+        int portSeparatorIndex = coordinatorAddress.lastIndexOf( ':' );
+        String host;
+        int port;
+        try
+        {
+            host = coordinatorAddress.substring( 0, portSeparatorIndex );
+            port = Integer.parseInt( coordinatorAddress.substring( portSeparatorIndex + 1 ) );
+        }
+        catch ( IndexOutOfBoundsException | NumberFormatException e )
+        {
+            throw new CompletionTimeException(
+                    format( "Coordinator address must be host:port, was: %s", coordinatorAddress ), e );
+        }
+        CompletionTimeCoordinator coordinator = (0 == shardIndex)
+                                                ? new CompletionTimeCoordinator(
+                                                        port, shardCount, workloadStartDelayAsMilli, timeSource )
+                                                : null;
+        try
+        {
+            return new ShardedCompletionTimeService(
+                    localCompletionTimeService,
+                    coordinator,
+                    new InetSocketAddress( host, port ),
+                    shardIndex,
+                    shardCount,
+                    ShardedCompletionTimeService.DEFAULT_JOIN_TIMEOUT_AS_MILLI,
+                    errorReporter
+            );
+        }
+        catch ( CompletionTimeException e )
+        {
+            if ( null != coordinator )
+            {
+                coordinator.stopAccepting();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @param completionTimeServiceType completion time service implementation
+     * @param trackerType data structures used to track times, ignored by LOCK_FREE, which uses its own ring buffers
+     * @param timeSource time source
+     * @param errorReporter error reporter
+     * @return new completion time service
+     * @throws CompletionTimeException
+     */
+    public CompletionTimeService newCompletionTimeService(
+            CompletionTimeServiceType completionTimeServiceType,
+            CompletionTimeTrackerType trackerType,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter ) throws CompletionTimeException
+    {
+        switch ( completionTimeServiceType )
+        {
+        case THREADED_QUEUED:
+            return newThreadedQueuedCompletionTimeService( timeSource, errorReporter, trackerType );
+        case SYNCHRONIZED:
+            return newSynchronizedCompletionTimeService( trackerType );
+        case LOCK_FREE:
+            return newLockFreeCompletionTimeService();
+        default:
+            throw new CompletionTimeException(
+                    "Unrecognized completion time service type: " + completionTimeServiceType );
+        }
+    }
 }
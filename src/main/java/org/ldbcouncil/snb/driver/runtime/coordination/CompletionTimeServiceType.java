@@ -0,0 +1,31 @@
+package org.ldbcouncil.snb.driver.runtime.coordination;
+
+import java.util.Arrays;
+
+import static java.lang.String.format;
+
+/**
+ * Implementation used to track completion time.
+ */
+public enum CompletionTimeServiceType
+{
+    // times are queued to, and completion time is computed by, a dedicated thread
+    THREADED_QUEUED,
+    // times are submitted to, and completion time is computed by, the submitting thread while holding a lock
+    SYNCHRONIZED,
+    // times are recorded in per writer ring buffers, completion time is computed without locks by submitting threads
+    LOCK_FREE;
+
+    public static CompletionTimeServiceType parse( String completionTimeServiceTypeString )
+    {
+        try
+        {
+            return CompletionTimeServiceType.valueOf( completionTimeServiceTypeString.trim().toUpperCase() );
+        }
+        catch ( IllegalArgumentException | NullPointerException e )
+        {
+            throw new IllegalArgumentException( format( "Unsupported completion time service type: %s\nValid values: %s",
+                    completionTimeServiceTypeString, Arrays.toString( CompletionTimeServiceType.values() ) ) );
+        }
+    }
+}
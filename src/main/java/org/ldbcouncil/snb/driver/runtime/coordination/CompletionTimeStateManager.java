@@ -7,6 +7,7 @@ import org.ldbcouncil.snb.driver.util.Function1;
 import org.ldbcouncil.snb.driver.util.Function2;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -26,12 +27,32 @@ import static java.lang.String.format;
 public class CompletionTimeStateManager implements CompletionTimeReaderWriter
 {
     private long completionTimeAsMilli = -1;
-    private final InitiatedTimeTracker initiatedTimeTracker = InitiatedTimeTrackerImpl.createUsingTreeMultiSet();
-    private final CompletedTimeTracker completedTimeTracker = CompletedTimeTrackerImpl.createUsingTreeMultiSet();
+    private final InitiatedTimeTracker initiatedTimeTracker;
+    private final CompletedTimeTracker completedTimeTracker;
     private long lastKnownLowestInitiatedTimeAsMilli = -1;
 
     CompletionTimeStateManager()
     {
+        this( CompletionTimeTrackerType.TREE_MULTISET );
+    }
+
+    CompletionTimeStateManager( CompletionTimeTrackerType trackerType )
+    {
+        switch ( trackerType )
+        {
+        case ARRAY_LIST:
+            this.initiatedTimeTracker = InitiatedTimeTrackerImpl.createUsingArrayList();
+            this.completedTimeTracker = CompletedTimeTrackerImpl.createUsingArrayList();
+            break;
+        case PRIMITIVE:
+            this.initiatedTimeTracker = new PrimitiveInitiatedTimeTracker();
+            this.completedTimeTracker = new PrimitiveCompletedTimeTracker();
+            break;
+        default:
+            this.initiatedTimeTracker = InitiatedTimeTrackerImpl.createUsingTreeMultiSet();
+            this.completedTimeTracker = CompletedTimeTrackerImpl.createUsingTreeMultiSet();
+            break;
+        }
     }
 
     @Override
@@ -323,4 +344,206 @@ public class CompletionTimeStateManager implements CompletionTimeReaderWriter
                    '}';
         }
     }
+
+    /**
+     * Initiated times arrive in ascending order, so they are appended to a sorted ring buffer of primitive longs.
+     * Completed times are found by binary search and flagged as removed, the head skips over removed times.
+     * Ring buffer capacity doubles when full, no objects are allocated per time.
+     */
+    static class PrimitiveInitiatedTimeTracker implements InitiatedTimeTracker
+    {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final TemporalUtil temporalUtil = new TemporalUtil();
+        private long[] initiatedTimesAsMilli = new long[INITIAL_CAPACITY];
+        private boolean[] removed = new boolean[INITIAL_CAPACITY];
+        private int mask = INITIAL_CAPACITY - 1;
+        // head is the index of the lowest initiated time that has not been removed, size counts removed times too
+        private int head = 0;
+        private int size = 0;
+        private long lastKnownLowestInitiatedTimeAsMilli = -1;
+        private long highestInitiatedTimeAsMilli = -1;
+        private int uncompletedInitiatedTimes = 0;
+
+        @Override
+        public long addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli( long initiatedTimeAsMilli )
+                throws CompletionTimeException
+        {
+            if ( -1 != highestInitiatedTimeAsMilli && initiatedTimeAsMilli < highestInitiatedTimeAsMilli )
+            {
+                String errMsg = format( "Submitted initiated time is lower than previously submitted initiated time\n"
+                                        + "  Submitted: %s (%s ms)\n"
+                                        + "  Previous: %s (%s ms)",
+                        temporalUtil.milliTimeToDateTimeString( initiatedTimeAsMilli ), initiatedTimeAsMilli,
+                        temporalUtil.milliTimeToDateTimeString( highestInitiatedTimeAsMilli ),
+                        highestInitiatedTimeAsMilli
+                );
+                throw new CompletionTimeException( errMsg );
+            }
+            highestInitiatedTimeAsMilli = initiatedTimeAsMilli;
+
+            if ( 0 == uncompletedInitiatedTimes )
+            { lastKnownLowestInitiatedTimeAsMilli = initiatedTimeAsMilli; }
+            if ( size == initiatedTimesAsMilli.length )
+            { grow(); }
+            int index = (head + size) & mask;
+            initiatedTimesAsMilli[index] = initiatedTimeAsMilli;
+            removed[index] = false;
+            size++;
+            uncompletedInitiatedTimes++;
+            return lastKnownLowestInitiatedTimeAsMilli;
+        }
+
+        @Override
+        public long removeTimeAndReturnLastKnownLowestTimeAsMilli( long timeAsMilli ) throws CompletionTimeException
+        {
+            int offset = indexOfUncompleted( timeAsMilli );
+            if ( -1 == offset )
+            {
+                throw new CompletionTimeException( format(
+                        "Initiated time [%s] of completed event does not map to any uncompleted operation",
+                        timeAsMilli ) );
+            }
+            removed[(head + offset) & mask] = true;
+            uncompletedInitiatedTimes--;
+            while ( 0 < size && removed[head] )
+            {
+                head = (head + 1) & mask;
+                size--;
+            }
+            lastKnownLowestInitiatedTimeAsMilli = (0 == uncompletedInitiatedTimes)
+                                                  ? highestInitiatedTimeAsMilli
+                                                  : initiatedTimesAsMilli[head];
+            return lastKnownLowestInitiatedTimeAsMilli;
+        }
+
+        // offset from head of the first time equal to the given time that has not been removed, or -1 if none exists
+        private int indexOfUncompleted( long timeAsMilli )
+        {
+            int low = 0;
+            int high = size;
+            while ( low < high )
+            {
+                int middle = (low + high) >>> 1;
+                if ( initiatedTimesAsMilli[(head + middle) & mask] < timeAsMilli )
+                { low = middle + 1; }
+                else
+                { high = middle; }
+            }
+            for ( int offset = low; offset < size; offset++ )
+            {
+                int index = (head + offset) & mask;
+                if ( initiatedTimesAsMilli[index] != timeAsMilli )
+                { return -1; }
+                if ( !removed[index] )
+                { return offset; }
+            }
+            return -1;
+        }
+
+        private void grow()
+        {
+            int capacity = initiatedTimesAsMilli.length;
+            long[] newInitiatedTimesAsMilli = new long[capacity * 2];
+            boolean[] newRemoved = new boolean[capacity * 2];
+            for ( int offset = 0; offset < size; offset++ )
+            {
+                newInitiatedTimesAsMilli[offset] = initiatedTimesAsMilli[(head + offset) & mask];
+                newRemoved[offset] = removed[(head + offset) & mask];
+            }
+            initiatedTimesAsMilli = newInitiatedTimesAsMilli;
+            removed = newRemoved;
+            mask = newInitiatedTimesAsMilli.length - 1;
+            head = 0;
+        }
+
+        @Override
+        public long highestInitiatedTimeAsMilli()
+        {
+            return highestInitiatedTimeAsMilli;
+        }
+
+        @Override
+        public int uncompletedInitiatedTimes()
+        {
+            return uncompletedInitiatedTimes;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "PrimitiveInitiatedTimeTracker{" +
+                   "lastKnownLowestInitiatedTimeAsMilli=" + lastKnownLowestInitiatedTimeAsMilli +
+                   ", highestInitiatedTimeAsMilli=" + highestInitiatedTimeAsMilli +
+                   ", uncompletedInitiatedTimes=" + uncompletedInitiatedTimes +
+                   '}';
+        }
+    }
+
+    /**
+     * Completed times arrive in any order, they are kept in a binary min-heap of primitive longs.
+     * Heap capacity doubles when full, no objects are allocated per time.
+     */
+    static class PrimitiveCompletedTimeTracker implements CompletedTimeTracker
+    {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private long[] heap = new long[INITIAL_CAPACITY];
+        private int size = 0;
+
+        @Override
+        public void addCompletedTimeAsMilli( long completedTimeAsMilli )
+        {
+            if ( size == heap.length )
+            { heap = Arrays.copyOf( heap, size * 2 ); }
+            int index = size++;
+            while ( 0 < index )
+            {
+                int parent = (index - 1) >>> 1;
+                if ( heap[parent] <= completedTimeAsMilli )
+                { break; }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = completedTimeAsMilli;
+        }
+
+        @Override
+        public long removeTimesLowerThanAndReturnHighestRemoved( long timeAsMilli )
+        {
+            long highestRemovedAsMilli = -1;
+            while ( 0 < size && heap[0] < timeAsMilli )
+            {
+                // times are removed in ascending order
+                highestRemovedAsMilli = heap[0];
+                removeMin();
+            }
+            return highestRemovedAsMilli;
+        }
+
+        private void removeMin()
+        {
+            long last = heap[--size];
+            int index = 0;
+            int child;
+            while ( (child = 2 * index + 1) < size )
+            {
+                if ( child + 1 < size && heap[child + 1] < heap[child] )
+                { child++; }
+                if ( last <= heap[child] )
+                { break; }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = last;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "PrimitiveCompletedTimeTracker{" +
+                   "completedTimesAsMilli=" + Arrays.toString( Arrays.copyOf( heap, size ) ) +
+                   '}';
+        }
+    }
 }
@@ -0,0 +1,31 @@
+package org.ldbcouncil.snb.driver.runtime.coordination;
+
+import java.util.Arrays;
+
+import static java.lang.String.format;
+
+/**
+ * Data structures used by CompletionTimeStateManager to track initiated and completed times.
+ */
+public enum CompletionTimeTrackerType
+{
+    // sorted multisets of boxed times
+    TREE_MULTISET,
+    // lists of boxed times
+    ARRAY_LIST,
+    // initiated times in a sorted array deque, completed times in a min-heap, both of primitive longs
+    PRIMITIVE;
+
+    public static CompletionTimeTrackerType parse( String completionTimeTrackerTypeString )
+    {
+        try
+        {
+            return CompletionTimeTrackerType.valueOf( completionTimeTrackerTypeString.trim().toUpperCase() );
+        }
+        catch ( IllegalArgumentException | NullPointerException e )
+        {
+            throw new IllegalArgumentException( format( "Unsupported completion time tracker type: %s\nValid values: %s",
+                    completionTimeTrackerTypeString, Arrays.toString( CompletionTimeTrackerType.values() ) ) );
+        }
+    }
+}
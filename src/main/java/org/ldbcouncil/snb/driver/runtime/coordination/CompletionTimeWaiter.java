@@ -0,0 +1,12 @@
+package org.ldbcouncil.snb.driver.runtime.coordination;
+
+public interface CompletionTimeWaiter
+{
+    /**
+     * Called once, by the thread that advanced completion time, or by the registering thread if completion time had
+     * already been reached at registration. Must be cheap and must not block, e.g., unpark a waiting thread.
+     *
+     * @param completionTimeAsMilli completion time that satisfied the waiter
+     */
+    void completionTimeReached( long completionTimeAsMilli );
+}
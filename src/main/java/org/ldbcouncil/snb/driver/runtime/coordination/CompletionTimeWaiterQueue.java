@@ -0,0 +1,116 @@
+package org.ldbcouncil.snb.driver.runtime.coordination;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Priority queue of waiters, ordered by the completion time they wait for, released as completion time advances.
+ * Registration and advancing may be performed by any thread, completion time never moves backwards,
+ * even when advances from concurrent threads arrive out of order.
+ * <p>
+ * Advancing is cheap while no registered waiter can be released, it only reads the lowest awaited time.
+ */
+public class CompletionTimeWaiterQueue implements CompletionTimeNotifier
+{
+    private final PriorityQueue<RegisteredWaiter> waiters = new PriorityQueue<>( 64, new Comparator<RegisteredWaiter>()
+    {
+        @Override
+        public int compare( RegisteredWaiter waiter1, RegisteredWaiter waiter2 )
+        {
+            return Long.compare( waiter1.completionTimeToWaitForAsMilli, waiter2.completionTimeToWaitForAsMilli );
+        }
+    } );
+    private final AtomicLong completionTimeAsMilli = new AtomicLong( -1 );
+    private volatile long lowestAwaitedCompletionTimeAsMilli = Long.MAX_VALUE;
+
+    @Override
+    public void notifyWhenCompletionTimeReaches( long completionTimeToWaitForAsMilli, CompletionTimeWaiter waiter )
+    {
+        synchronized ( waiters )
+        {
+            waiters.add( new RegisteredWaiter( completionTimeToWaitForAsMilli, waiter ) );
+            lowestAwaitedCompletionTimeAsMilli = waiters.peek().completionTimeToWaitForAsMilli;
+            // publish awaited time BEFORE reading completion time, advancing does the reverse,
+            // so either this thread sees the new completion time or the advancing thread sees this waiter
+            releaseWaitersUpTo( completionTimeAsMilli.get() );
+        }
+    }
+
+    @Override
+    public void cancelNotification( CompletionTimeWaiter waiter )
+    {
+        synchronized ( waiters )
+        {
+            Iterator<RegisteredWaiter> registeredWaiters = waiters.iterator();
+            while ( registeredWaiters.hasNext() )
+            {
+                if ( registeredWaiters.next().waiter == waiter )
+                {
+                    registeredWaiters.remove();
+                    break;
+                }
+            }
+            lowestAwaitedCompletionTimeAsMilli = (waiters.isEmpty())
+                                                 ? Long.MAX_VALUE
+                                                 : waiters.peek().completionTimeToWaitForAsMilli;
+        }
+    }
+
+    /**
+     * @param newCompletionTimeAsMilli new completion time, ignored if lower than current completion time
+     */
+    public void completionTimeAdvanced( long newCompletionTimeAsMilli )
+    {
+        long previousCompletionTimeAsMilli;
+        do
+        {
+            previousCompletionTimeAsMilli = completionTimeAsMilli.get();
+            if ( newCompletionTimeAsMilli <= previousCompletionTimeAsMilli )
+            {
+                return;
+            }
+        }
+        while ( !completionTimeAsMilli.compareAndSet( previousCompletionTimeAsMilli, newCompletionTimeAsMilli ) );
+        if ( newCompletionTimeAsMilli >= lowestAwaitedCompletionTimeAsMilli )
+        {
+            synchronized ( waiters )
+            {
+                releaseWaitersUpTo( newCompletionTimeAsMilli );
+            }
+        }
+    }
+
+    public int size()
+    {
+        synchronized ( waiters )
+        {
+            return waiters.size();
+        }
+    }
+
+    // must be called while holding lock on waiters
+    private void releaseWaitersUpTo( long completionTimeAsMilli )
+    {
+        while ( !waiters.isEmpty() && waiters.peek().completionTimeToWaitForAsMilli <= completionTimeAsMilli )
+        {
+            waiters.poll().waiter.completionTimeReached( completionTimeAsMilli );
+        }
+        lowestAwaitedCompletionTimeAsMilli = (waiters.isEmpty())
+                                             ? Long.MAX_VALUE
+                                             : waiters.peek().completionTimeToWaitForAsMilli;
+    }
+
+    private static class RegisteredWaiter
+    {
+        private final long completionTimeToWaitForAsMilli;
+        private final CompletionTimeWaiter waiter;
+
+        private RegisteredWaiter( long completionTimeToWaitForAsMilli, CompletionTimeWaiter waiter )
+        {
+            this.completionTimeToWaitForAsMilli = completionTimeToWaitForAsMilli;
+            this.waiter = waiter;
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package org.ldbcouncil.snb.driver.runtime.coordination;
+
+import org.ldbcouncil.snb.driver.temporal.TemporalUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Completion time service without a completion time thread, locks, or per-event allocation.
+ * <p/>
+ * Every writer owns a ring buffer of primitive long initiated times. Initiated times are appended by a single thread
+ * (the thread that submits them, in ascending order), completed times are submitted by any number of threads, which
+ * mark the matching ring buffer slot as completed. Completed slots at the head of the ring buffer are then consumed,
+ * advancing the writer's low watermark (its lowest uncompleted initiated time) and its local completion time.
+ * Whichever thread caused a change publishes it and recomputes global completion time from the writer watermarks.
+ * <p/>
+ * Semantics are the same as those of MultiWriterCompletionTimeStateManager:
+ * global completion time is the highest writer completion time that is lower than the lowest initiated time of all
+ * writers, and it is undefined (-1) until every writer has submitted at least one initiated time.
+ * <p/>
+ * IMPORTANT: all writers must be created before initiated/completed times are submitted.
+ */
+public class LockFreeCompletionTimeService implements CompletionTimeService
+{
+    public static final int DEFAULT_RING_BUFFER_CAPACITY = 1 << 14;
+
+    private final int ringBufferCapacity;
+    private final AtomicLong completionTimeAsMilli = new AtomicLong( -1 );
+    private final CompletionTimeWaiterQueue completionTimeWaiterQueue = new CompletionTimeWaiterQueue();
+    private final AtomicBoolean isShuttingDown = new AtomicBoolean( false );
+    private final List<CompletionTimeWriter> writers = new ArrayList<>();
+    // replaced (never modified) when a writer is added, so it can be iterated without locking
+    private volatile LockFreeCompletionTimeWriter[] writersArray = new LockFreeCompletionTimeWriter[0];
+
+    LockFreeCompletionTimeService( int ringBufferCapacity ) throws CompletionTimeException
+    {
+        if ( ringBufferCapacity < 1 || Integer.bitCount( ringBufferCapacity ) != 1 )
+        {
+            throw new CompletionTimeException(
+                    format( "Ring buffer capacity must be a positive power of two: %s", ringBufferCapacity ) );
+        }
+        this.ringBufferCapacity = ringBufferCapacity;
+    }
+
+    @Override
+    public long completionTimeAsMilli()
+    {
+        return completionTimeAsMilli.get();
+    }
+
+    @Override
+    public long lastKnownLowestInitiatedTimeAsMilli()
+    {
+        long lowestInitiatedTimeAsMilli = -1;
+        for ( LockFreeCompletionTimeWriter writer : writersArray )
+        {
+            long writerInitiatedTimeAsMilli = writer.lowestInitiatedTimeAsMilli;
+            if ( -1 == writerInitiatedTimeAsMilli )
+            {
+                return -1;
+            }
+            if ( -1 == lowestInitiatedTimeAsMilli || writerInitiatedTimeAsMilli < lowestInitiatedTimeAsMilli )
+            {
+                lowestInitiatedTimeAsMilli = writerInitiatedTimeAsMilli;
+            }
+        }
+        return lowestInitiatedTimeAsMilli;
+    }
+
+    @Override
+    public void notifyWhenCompletionTimeReaches( long completionTimeToWaitForAsMilli, CompletionTimeWaiter waiter )
+    {
+        completionTimeWaiterQueue.notifyWhenCompletionTimeReaches( completionTimeToWaitForAsMilli, waiter );
+    }
+
+    @Override
+    public void cancelNotification( CompletionTimeWaiter waiter )
+    {
+        completionTimeWaiterQueue.cancelNotification( waiter );
+    }
+
+    @Override
+    synchronized public CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException
+    {
+        LockFreeCompletionTimeWriter writer = new LockFreeCompletionTimeWriter(
+                writersArray.length,
+                ringBufferCapacity,
+                this,
+                isShuttingDown );
+        LockFreeCompletionTimeWriter[] newWritersArray = new LockFreeCompletionTimeWriter[writersArray.length + 1];
+        System.arraycopy( writersArray, 0, newWritersArray, 0, writersArray.length );
+        newWritersArray[writersArray.length] = writer;
+        writersArray = newWritersArray;
+        writers.add( writer );
+        return writer;
+    }
+
+    @Override
+    public Future<Long> completionTimeAsMilliFuture()
+    {
+        return new SynchronizedCompletionTimeService.CompletionTimeAsMilliFuture( completionTimeAsMilli.get() );
+    }
+
+    @Override
+    synchronized public List<CompletionTimeWriter> getAllWriters()
+    {
+        return writers;
+    }
+
+    @Override
+    public void shutdown()
+    {
+        isShuttingDown.set( true );
+    }
+
+    // called after any writer has published a new watermark, possibly by many threads concurrently
+    private void updateCompletionTime()
+    {
+        LockFreeCompletionTimeWriter[] currentWriters = writersArray;
+        long lowestInitiatedTimeAsMilli = Long.MAX_VALUE;
+        for ( int i = 0; i < currentWriters.length; i++ )
+        {
+            long writerInitiatedTimeAsMilli = currentWriters[i].lowestInitiatedTimeAsMilli;
+            if ( -1 == writerInitiatedTimeAsMilli )
+            {
+                // if any initiation times are undefined, completion time is undefined
+                return;
+            }
+            lowestInitiatedTimeAsMilli = Math.min( lowestInitiatedTimeAsMilli, writerInitiatedTimeAsMilli );
+        }
+        // watermarks only ever increase, so values read above are never higher than current values,
+        // and any writer completion time lower than them is safe
+        long previousCompletionTimeAsMilli = completionTimeAsMilli.get();
+        long newCompletionTimeAsMilli = previousCompletionTimeAsMilli;
+        for ( int i = 0; i < currentWriters.length; i++ )
+        {
+            long writerCompletionTimeAsMilli = currentWriters[i].completionTimeAsMilli;
+            if ( writerCompletionTimeAsMilli < lowestInitiatedTimeAsMilli &&
+                 writerCompletionTimeAsMilli > newCompletionTimeAsMilli )
+            {
+                newCompletionTimeAsMilli = writerCompletionTimeAsMilli;
+            }
+        }
+        while ( newCompletionTimeAsMilli > previousCompletionTimeAsMilli )
+        {
+            if ( completionTimeAsMilli.compareAndSet( previousCompletionTimeAsMilli, newCompletionTimeAsMilli ) )
+            {
+                completionTimeWaiterQueue.completionTimeAdvanced( newCompletionTimeAsMilli );
+                return;
+            }
+            previousCompletionTimeAsMilli = completionTimeAsMilli.get();
+        }
+    }
+
+    public static class LockFreeCompletionTimeWriter implements CompletionTimeWriter
+    {
+        private static final TemporalUtil TEMPORAL_UTIL = new TemporalUtil();
+        private static final int UNCOMPLETED = 0;
+        private static final int COMPLETED = 1;
+
+        private final int writerId;
+        private final LockFreeCompletionTimeService completionTimeService;
+        private final AtomicBoolean sharedIsShuttingDownReference;
+        private final long[] initiatedTimesAsMilli;
+        private final AtomicIntegerArray completedFlags;
+        private final int mask;
+        // sequence of next initiated time, written only by initiated time submitting thread
+        private final AtomicLong tail = new AtomicLong( 0 );
+        // sequence of lowest uncompleted initiated time, written only while holding advancing flag
+        private volatile long head = 0;
+        private volatile long highestInitiatedTimeAsMilli = -1;
+        private final AtomicBoolean advancing = new AtomicBoolean( false );
+        // written only while holding advancing flag
+        private long highestConsumedTimeAsMilli = -1;
+        private long highestConsumedTimeBelowHighestAsMilli = -1;
+        // published watermark, read by service
+        private volatile long lowestInitiatedTimeAsMilli = -1;
+        private volatile long completionTimeAsMilli = -1;
+
+        private LockFreeCompletionTimeWriter( int writerId,
+                int ringBufferCapacity,
+                LockFreeCompletionTimeService completionTimeService,
+                AtomicBoolean sharedIsShuttingDownReference )
+        {
+            this.writerId = writerId;
+            this.completionTimeService = completionTimeService;
+            this.sharedIsShuttingDownReference = sharedIsShuttingDownReference;
+            this.initiatedTimesAsMilli = new long[ringBufferCapacity];
+            this.completedFlags = new AtomicIntegerArray( ringBufferCapacity );
+            this.mask = ringBufferCapacity - 1;
+        }
+
+        /**
+         * NOTE, initiated times MUST be submitted in ascending order, and by one thread at a time
+         */
+        @Override
+        public void submitInitiatedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            if ( sharedIsShuttingDownReference.get() )
+            {
+                throw new CompletionTimeException( "Can not submit initiated time after calling shutdown" );
+            }
+            if ( timeAsMilli < highestInitiatedTimeAsMilli )
+            {
+                throw new CompletionTimeException( format(
+                        "Submitted initiated time is lower than previously submitted initiated time\n"
+                        + "  Submitted: %s (%s ms)\n"
+                        + "  Previous: %s (%s ms)",
+                        TEMPORAL_UTIL.milliTimeToDateTimeString( timeAsMilli ), timeAsMilli,
+                        TEMPORAL_UTIL.milliTimeToDateTimeString( highestInitiatedTimeAsMilli ),
+                        highestInitiatedTimeAsMilli ) );
+            }
+            long sequence = tail.get();
+            while ( sequence - head >= initiatedTimesAsMilli.length )
+            {
+                // ring buffer full, wait for oldest initiated times to complete
+                Thread.yield();
+            }
+            int index = (int) (sequence & mask);
+            initiatedTimesAsMilli[index] = timeAsMilli;
+            completedFlags.set( index, UNCOMPLETED );
+            highestInitiatedTimeAsMilli = timeAsMilli;
+            // publishes slot to completing threads
+            tail.set( sequence + 1 );
+            advanceWatermark();
+        }
+
+        /**
+         * May be called by many threads concurrently
+         */
+        @Override
+        public void submitCompletedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            while ( true )
+            {
+                long searchHead = head;
+                long searchTail = tail.get();
+                if ( markCompleted( timeAsMilli, searchHead, searchTail ) )
+                {
+                    advanceWatermark();
+                    return;
+                }
+                if ( searchHead == head )
+                {
+                    // no slot was consumed (and reused) during search, so the failed search is conclusive
+                    throw new CompletionTimeException( format(
+                            "Initiated time [%s] of completed event does not map to any uncompleted operation",
+                            timeAsMilli ) );
+                }
+            }
+        }
+
+        // binary search for first slot with matching time, then mark first uncompleted slot with that time
+        private boolean markCompleted( long timeAsMilli, long searchHead, long searchTail )
+        {
+            long low = searchHead;
+            long high = searchTail;
+            while ( low < high )
+            {
+                long middle = (low + high) >>> 1;
+                if ( initiatedTimesAsMilli[(int) (middle & mask)] < timeAsMilli )
+                {
+                    low = middle + 1;
+                }
+                else
+                {
+                    high = middle;
+                }
+            }
+            for ( long sequence = low; sequence < searchTail; sequence++ )
+            {
+                int index = (int) (sequence & mask);
+                if ( initiatedTimesAsMilli[index] != timeAsMilli )
+                {
+                    return false;
+                }
+                if ( completedFlags.compareAndSet( index, UNCOMPLETED, COMPLETED ) )
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void advanceWatermark()
+        {
+            boolean watermarkChanged = false;
+            while ( advancing.compareAndSet( false, true ) )
+            {
+                long currentTail = tail.get();
+                long currentHead = head;
+                while ( currentHead < currentTail && COMPLETED == completedFlags.get( (int) (currentHead & mask) ) )
+                {
+                    long consumedTimeAsMilli = initiatedTimesAsMilli[(int) (currentHead & mask)];
+                    if ( consumedTimeAsMilli != highestConsumedTimeAsMilli )
+                    {
+                        highestConsumedTimeBelowHighestAsMilli = highestConsumedTimeAsMilli;
+                        highestConsumedTimeAsMilli = consumedTimeAsMilli;
+                    }
+                    currentHead++;
+                }
+                // with no uncompleted initiated times, the highest initiated time is the lowest
+                long newLowestInitiatedTimeAsMilli = (currentHead < currentTail)
+                                                     ? initiatedTimesAsMilli[(int) (currentHead & mask)]
+                                                     : highestInitiatedTimeAsMilli;
+                // completion time must be lower than lowest initiated time
+                long newCompletionTimeAsMilli = (highestConsumedTimeAsMilli < newLowestInitiatedTimeAsMilli)
+                                                ? highestConsumedTimeAsMilli
+                                                : highestConsumedTimeBelowHighestAsMilli;
+                head = currentHead;
+                if ( newLowestInitiatedTimeAsMilli != lowestInitiatedTimeAsMilli ||
+                     newCompletionTimeAsMilli != completionTimeAsMilli )
+                {
+                    lowestInitiatedTimeAsMilli = newLowestInitiatedTimeAsMilli;
+                    completionTimeAsMilli = newCompletionTimeAsMilli;
+                    watermarkChanged = true;
+                }
+                advancing.set( false );
+                // another thread may have changed state while this one held the flag, and given up on advancing
+                if ( currentTail == tail.get() &&
+                     (currentHead == currentTail || UNCOMPLETED == completedFlags.get( (int) (currentHead & mask) )) )
+                {
+                    break;
+                }
+            }
+            if ( watermarkChanged )
+            {
+                completionTimeService.updateCompletionTime();
+            }
+        }
+
+        int id()
+        {
+            return writerId;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "LockFreeCompletionTimeWriter{" + "writerId=" + writerId + '}';
+        }
+    }
+}
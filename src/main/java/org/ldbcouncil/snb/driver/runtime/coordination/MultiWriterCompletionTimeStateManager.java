@@ -16,7 +16,7 @@ import static java.lang.String.format;
  * This class performs the logic of tracking completion time.
  * It can be written to by multiple threads in a thread-safe manner.
  */
-public class MultiWriterCompletionTimeStateManager implements CompletionTimeReader
+public class MultiWriterCompletionTimeStateManager implements CompletionTimeReader, CompletionTimeNotifier
 {
     private enum Event
     {
@@ -27,12 +27,20 @@ public class MultiWriterCompletionTimeStateManager implements CompletionTimeRead
         ADD_WRITER
     }
 
+    private final CompletionTimeTrackerType trackerType;
     private final List<CompletionTimeReaderWriter> completionTimeReaderWriters = new ArrayList<>();
+    private final CompletionTimeWaiterQueue completionTimeWaiterQueue = new CompletionTimeWaiterQueue();
     private long completionTimeAsMilli = -1;
     private long initiationTimeAsMilli = -1;
 
     MultiWriterCompletionTimeStateManager()
     {
+        this( CompletionTimeTrackerType.TREE_MULTISET );
+    }
+
+    MultiWriterCompletionTimeStateManager( CompletionTimeTrackerType trackerType )
+    {
+        this.trackerType = trackerType;
     }
 
     @Override
@@ -47,6 +55,18 @@ public class MultiWriterCompletionTimeStateManager implements CompletionTimeRead
         return (long) processEvent( Event.READ_CT, -1, -1 );
     }
 
+    @Override
+    public void notifyWhenCompletionTimeReaches( long completionTimeToWaitForAsMilli, CompletionTimeWaiter waiter )
+    {
+        completionTimeWaiterQueue.notifyWhenCompletionTimeReaches( completionTimeToWaitForAsMilli, waiter );
+    }
+
+    @Override
+    public void cancelNotification( CompletionTimeWaiter waiter )
+    {
+        completionTimeWaiterQueue.cancelNotification( waiter );
+    }
+
     void submitInitiatedTime( int writerId, long scheduledStartTimeAsMilli ) throws CompletionTimeException
     {
         processEvent( Event.WRITE_IT, writerId, scheduledStartTimeAsMilli );
@@ -102,7 +122,7 @@ public class MultiWriterCompletionTimeStateManager implements CompletionTimeRead
         case ADD_WRITER:
         {
             int nextWriterId = completionTimeReaderWriters.size();
-            CompletionTimeReaderWriter completionTimeReaderWriter = new CompletionTimeStateManager();
+            CompletionTimeReaderWriter completionTimeReaderWriter = new CompletionTimeStateManager( trackerType );
             CompletionTimeWriter completionTimeWriter =
                     new MultiWriterCompletionTimeStateManagerWriter( nextWriterId, this );
             completionTimeReaderWriters.add( completionTimeReaderWriter );
@@ -165,6 +185,11 @@ public class MultiWriterCompletionTimeStateManager implements CompletionTimeRead
                 // continue checking completion times of other readers
             }
         }
-        completionTimeAsMilli = tempCompletionTimeAsMilli;
+        if ( tempCompletionTimeAsMilli != completionTimeAsMilli )
+        {
+            completionTimeAsMilli = tempCompletionTimeAsMilli;
+            // waiters re-read completion time via this class, they block until this write event has been processed
+            completionTimeWaiterQueue.completionTimeAdvanced( completionTimeAsMilli );
+        }
     }
 }
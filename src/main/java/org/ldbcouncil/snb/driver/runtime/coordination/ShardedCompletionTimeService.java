@@ -0,0 +1,262 @@
+package org.ldbcouncil.snb.driver.runtime.coordination;
+
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Completion time service of one shard of a workload that is sharded across multiple driver processes.
+ * <p/>
+ * Times of the operations executed by this shard are tracked by a local completion time service, writers are those of
+ * the local service. Reported completion time is global completion time, the lower of local completion time and the
+ * lowest completion time of all other shards, which is exchanged with the {@link CompletionTimeCoordinator} by a
+ * dedicated thread.
+ */
+public class ShardedCompletionTimeService implements CompletionTimeService
+{
+    // time to wait for the coordinator to accept this shard, and for all other shards to join
+    public static final long DEFAULT_JOIN_TIMEOUT_AS_MILLI = TimeUnit.MINUTES.toMillis( 10 );
+    private static final long CONNECT_RETRY_INTERVAL_AS_MILLI = 100;
+    private static final long EXCHANGE_INTERVAL_AS_MILLI = 1;
+
+    private final CompletionTimeService localCompletionTimeService;
+    private final CompletionTimeCoordinator coordinator;
+    private final ConcurrentErrorReporter errorReporter;
+    private final CompletionTimeWaiterQueue completionTimeWaiterQueue = new CompletionTimeWaiterQueue();
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private final long workloadStartTimeAsMilli;
+    private final ExchangeThread exchangeThread;
+    private volatile long otherShardsCompletionTimeAsMilli = -1;
+    private volatile boolean finished = false;
+
+    /**
+     * Joins the coordinator, returns once all shards have joined
+     *
+     * @param localCompletionTimeService tracks times of the operations executed by this shard
+     * @param coordinator coordinator hosted by this shard, shut down with this service, or null
+     * @param coordinatorAddress address of coordinator
+     * @param shardIndex shard executed by this driver process
+     * @param shardCount number of shards
+     * @param joinTimeoutAsMilli time to wait for coordinator and all other shards
+     * @param errorReporter error reporter, notified if exchanging completion times fails
+     * @throws CompletionTimeException if this shard could not join
+     */
+    ShardedCompletionTimeService(
+            CompletionTimeService localCompletionTimeService,
+            CompletionTimeCoordinator coordinator,
+            InetSocketAddress coordinatorAddress,
+            int shardIndex,
+            int shardCount,
+            long joinTimeoutAsMilli,
+            ConcurrentErrorReporter errorReporter ) throws CompletionTimeException
+    {
+        this.localCompletionTimeService = localCompletionTimeService;
+        this.coordinator = coordinator;
+        this.errorReporter = errorReporter;
+        this.socket = connect( coordinatorAddress, joinTimeoutAsMilli );
+        try
+        {
+            socket.setTcpNoDelay( true );
+            socket.setSoTimeout( (int) joinTimeoutAsMilli );
+            this.in = new DataInputStream( new BufferedInputStream( socket.getInputStream() ) );
+            this.out = new DataOutputStream( new BufferedOutputStream( socket.getOutputStream() ) );
+            out.writeInt( shardIndex );
+            out.writeInt( shardCount );
+            out.flush();
+            this.workloadStartTimeAsMilli = in.readLong();
+        }
+        catch ( IOException e )
+        {
+            closeSocket();
+            throw new CompletionTimeException(
+                    format( "Shard %s of %s failed to join coordinator: %s", shardIndex, shardCount,
+                            coordinatorAddress ), e );
+        }
+        if ( CompletionTimeCoordinator.FAILED == workloadStartTimeAsMilli )
+        {
+            closeSocket();
+            throw new CompletionTimeException(
+                    format( "Coordinator %s rejected shard %s of %s", coordinatorAddress, shardIndex, shardCount ) );
+        }
+        this.exchangeThread = new ExchangeThread();
+        exchangeThread.start();
+    }
+
+    private static Socket connect( InetSocketAddress coordinatorAddress, long joinTimeoutAsMilli )
+            throws CompletionTimeException
+    {
+        // coordinator may not be listening yet, e.g., shard 0 is still starting, or still finishing previous run
+        long timeoutTimeAsMilli = System.currentTimeMillis() + joinTimeoutAsMilli;
+        while ( true )
+        {
+            Socket socket = new Socket();
+            try
+            {
+                socket.connect( coordinatorAddress, (int) CONNECT_RETRY_INTERVAL_AS_MILLI );
+                return socket;
+            }
+            catch ( IOException e )
+            {
+                try
+                {
+                    socket.close();
+                }
+                catch ( IOException e1 )
+                {
+                    // nothing more can be done
+                }
+                if ( System.currentTimeMillis() >= timeoutTimeAsMilli )
+                {
+                    throw new CompletionTimeException(
+                            format( "Timed out connecting to coordinator: %s", coordinatorAddress ), e );
+                }
+                Spinner.powerNap( CONNECT_RETRY_INTERVAL_AS_MILLI );
+            }
+        }
+    }
+
+    /**
+     * @return workload start time agreed by all shards, scheduled start times of all shards are offset from it
+     */
+    public long workloadStartTimeAsMilli()
+    {
+        return workloadStartTimeAsMilli;
+    }
+
+    @Override
+    public long completionTimeAsMilli() throws CompletionTimeException
+    {
+        return Math.min( localCompletionTimeService.completionTimeAsMilli(), otherShardsCompletionTimeAsMilli );
+    }
+
+    @Override
+    public long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException
+    {
+        return localCompletionTimeService.lastKnownLowestInitiatedTimeAsMilli();
+    }
+
+    @Override
+    public void notifyWhenCompletionTimeReaches( long completionTimeToWaitForAsMilli, CompletionTimeWaiter waiter )
+            throws CompletionTimeException
+    {
+        completionTimeWaiterQueue.completionTimeAdvanced( completionTimeAsMilli() );
+        completionTimeWaiterQueue.notifyWhenCompletionTimeReaches( completionTimeToWaitForAsMilli, waiter );
+    }
+
+    @Override
+    public void cancelNotification( CompletionTimeWaiter waiter )
+    {
+        completionTimeWaiterQueue.cancelNotification( waiter );
+    }
+
+    @Override
+    public CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException
+    {
+        return localCompletionTimeService.newCompletionTimeWriter();
+    }
+
+    @Override
+    public Future<Long> completionTimeAsMilliFuture() throws CompletionTimeException
+    {
+        return new SynchronizedCompletionTimeService.CompletionTimeAsMilliFuture( completionTimeAsMilli() );
+    }
+
+    @Override
+    public List<CompletionTimeWriter> getAllWriters() throws CompletionTimeException
+    {
+        return localCompletionTimeService.getAllWriters();
+    }
+
+    /**
+     * Tells the coordinator this shard has finished, must only be called once all its operations have completed.
+     * If this shard hosts the coordinator, waits for all other shards to finish.
+     */
+    @Override
+    public void shutdown() throws CompletionTimeException
+    {
+        localCompletionTimeService.shutdown();
+        finished = true;
+        try
+        {
+            exchangeThread.join();
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new CompletionTimeException( "Interrupted while waiting for completion time exchange to finish", e );
+        }
+        if ( null != coordinator )
+        {
+            coordinator.shutdown();
+        }
+    }
+
+    private void closeSocket()
+    {
+        try
+        {
+            socket.close();
+        }
+        catch ( IOException e )
+        {
+            // nothing more can be done
+        }
+    }
+
+    private class ExchangeThread extends Thread
+    {
+        private ExchangeThread()
+        {
+            super( ShardedCompletionTimeService.class.getSimpleName() + "-exchange" );
+            setDaemon( true );
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                while ( !finished )
+                {
+                    out.writeLong( localCompletionTimeService.completionTimeAsMilli() );
+                    out.flush();
+                    long completionTimeAsMilli = in.readLong();
+                    if ( CompletionTimeCoordinator.FAILED == completionTimeAsMilli )
+                    {
+                        errorReporter.reportError( this, "Coordinator failed, another shard disconnected early" );
+                        return;
+                    }
+                    otherShardsCompletionTimeAsMilli = completionTimeAsMilli;
+                    completionTimeWaiterQueue.completionTimeAdvanced( completionTimeAsMilli() );
+                    Spinner.powerNap( EXCHANGE_INTERVAL_AS_MILLI );
+                }
+                out.writeLong( CompletionTimeCoordinator.FINISHED );
+                out.flush();
+            }
+            catch ( IOException | CompletionTimeException e )
+            {
+                errorReporter.reportError( this,
+                        format( "Error exchanging completion time with coordinator\n%s",
+                                ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+            finally
+            {
+                closeSocket();
+            }
+        }
+    }
+}
@@ -19,6 +19,11 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
     }
 
     SynchronizedCompletionTimeService() throws CompletionTimeException
+    {
+        this( CompletionTimeTrackerType.TREE_MULTISET );
+    }
+
+    SynchronizedCompletionTimeService( CompletionTimeTrackerType trackerType ) throws CompletionTimeException
     {
         // *** CT Reader ***
         // Completion Time will only get read from MultiWriterCompletionTimeStateManager,
@@ -33,7 +38,7 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         // which will result in an error when the lower Initiated Time is finally submitted.
         // MultiWriterCompletionTimeStateManagerWriter instances, via newCompletionTimeWriter(),
         // will perform the Completion Time writing
-        this.completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        this.completionTimeStateManager = new MultiWriterCompletionTimeStateManager( trackerType );
         this.completionTimeWriters = new ArrayList<>();
     }
 
@@ -62,6 +67,19 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         return (long) processEvent( Event.READ_COMPLETION_TIME );
     }
 
+    @Override
+    public void notifyWhenCompletionTimeReaches( long completionTimeToWaitForAsMilli, CompletionTimeWaiter waiter )
+    {
+        // thread safe, and must not synchronize on state manager, waiters may be released by a writer holding it
+        completionTimeStateManager.notifyWhenCompletionTimeReaches( completionTimeToWaitForAsMilli, waiter );
+    }
+
+    @Override
+    public void cancelNotification( CompletionTimeWaiter waiter )
+    {
+        completionTimeStateManager.cancelNotification( waiter );
+    }
+
     @Override
     public CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException
     {
@@ -105,7 +123,7 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         }
     }
 
-    private static class CompletionTimeAsMilliFuture implements Future<Long>
+    static class CompletionTimeAsMilliFuture implements Future<Long>
     {
         private final long completionTimeValueAsMilli;
 
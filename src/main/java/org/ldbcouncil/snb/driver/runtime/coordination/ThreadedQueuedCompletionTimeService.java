@@ -25,6 +25,7 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
     private final TimeSource timeSource;
     private final QueueEventSubmitter<CompletionTimeEvent> queueEventSubmitter;
     private final AtomicLong sharedCtReference;
+    private final CompletionTimeWaiterQueue completionTimeWaiterQueue;
     private final AtomicLong sharedWriteEventCountReference;
     private final ThreadedQueuedCompletionTimeServiceThread threadedQueuedCompletionTimeServiceThread;
     private final AtomicBoolean sharedIsShuttingDownReference = new AtomicBoolean( false );
@@ -33,6 +34,13 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
 
     ThreadedQueuedCompletionTimeService( TimeSource timeSource,
             ConcurrentErrorReporter errorReporter ) throws CompletionTimeException
+    {
+        this( timeSource, errorReporter, CompletionTimeTrackerType.TREE_MULTISET );
+    }
+
+    ThreadedQueuedCompletionTimeService( TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            CompletionTimeTrackerType trackerType ) throws CompletionTimeException
     {
         this.timeSource = timeSource;
         this.errorReporter = errorReporter;
@@ -40,10 +48,13 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
         this.queueEventSubmitter = QueueEventSubmitter.queueEventSubmitterFor( completionTimeEventQueue );
         this.sharedCtReference = new AtomicLong( -1 );
         this.sharedWriteEventCountReference = new AtomicLong( 0 );
+        this.completionTimeWaiterQueue = new CompletionTimeWaiterQueue();
         threadedQueuedCompletionTimeServiceThread = new ThreadedQueuedCompletionTimeServiceThread(
                 completionTimeEventQueue,
                 errorReporter,
-                sharedCtReference );
+                sharedCtReference,
+                completionTimeWaiterQueue,
+                trackerType );
         threadedQueuedCompletionTimeServiceThread.start();
     }
 
@@ -53,6 +64,18 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
         return sharedCtReference.get();
     }
 
+    @Override
+    public void notifyWhenCompletionTimeReaches( long completionTimeToWaitForAsMilli, CompletionTimeWaiter waiter )
+    {
+        completionTimeWaiterQueue.notifyWhenCompletionTimeReaches( completionTimeToWaitForAsMilli, waiter );
+    }
+
+    @Override
+    public void cancelNotification( CompletionTimeWaiter waiter )
+    {
+        completionTimeWaiterQueue.cancelNotification( waiter );
+    }
+
     @Override
     public CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException
     {
@@ -33,6 +33,7 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread
     private final TemporalUtil temporalUtil = new TemporalUtil();
     private final MultiWriterCompletionTimeStateManager completionTimeStateManager;
     private final AtomicLong completionTimeSharedReference;
+    private final CompletionTimeWaiterQueue completionTimeWaiterQueue;
     private final QueueEventFetcher<CompletionTimeEvent> completionTimeEventQueueEventFetcher;
     private final ConcurrentErrorReporter errorReporter;
     private Long processedWriteEventCount = 0L;
@@ -43,7 +44,9 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread
     ThreadedQueuedCompletionTimeServiceThread(
             Queue<CompletionTimeEvent> completionTimeQueue,
             ConcurrentErrorReporter errorReporter,
-            AtomicLong completionTimeSharedReference ) throws CompletionTimeException
+            AtomicLong completionTimeSharedReference,
+            CompletionTimeWaiterQueue completionTimeWaiterQueue,
+            CompletionTimeTrackerType trackerType ) throws CompletionTimeException
     {
         super( ThreadedQueuedCompletionTimeServiceThread.class.getSimpleName() + "-" +
                System.currentTimeMillis() );
@@ -60,11 +63,12 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread
         // which will result in an error when the lower Initiated Time is finally submitted.
         // MultiWriterCompletionTimeStateManagerWriter instances, via newCompletionTimeWriter(),
         // will perform the Completion Time writing
-        completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
+        completionTimeStateManager = new MultiWriterCompletionTimeStateManager( trackerType );
         this.completionTimeWriters = new HashMap<>();
         this.completionTimeEventQueueEventFetcher = QueueEventFetcher.queueEventFetcherFor( completionTimeQueue );
         this.errorReporter = errorReporter;
         this.completionTimeSharedReference = completionTimeSharedReference;
+        this.completionTimeWaiterQueue = completionTimeWaiterQueue;
         this.completionTimeSharedReference.set( completionTimeStateManager.completionTimeAsMilli() );
     }
 
@@ -187,9 +191,11 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread
                             temporalUtil.milliTimeToDateTimeString( prevCompletionTimeAsMilli ),
                             prevCompletionTimeAsMilli ) );
         }
-        else
+        else if ( newCompletionTimeAsMilli != prevCompletionTimeAsMilli )
         {
             completionTimeSharedReference.set( newCompletionTimeAsMilli );
+            // release waiters only after new CT is visible to readers
+            completionTimeWaiterQueue.completionTimeAdvanced( newCompletionTimeAsMilli );
         }
     }
 }
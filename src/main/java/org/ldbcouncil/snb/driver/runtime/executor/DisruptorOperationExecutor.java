@@ -0,0 +1,334 @@
+package org.ldbcouncil.snb.driver.runtime.executor;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.EventFactory;
+import com.lmax.disruptor.EventTranslatorOneArg;
+import com.lmax.disruptor.ExceptionHandler;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WorkHandler;
+import com.lmax.disruptor.YieldingWaitStrategy;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import org.ldbcouncil.snb.driver.ChildOperationGenerator;
+import org.ldbcouncil.snb.driver.Db;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.OperationHandlerRunnableContext;
+import org.ldbcouncil.snb.driver.WorkloadStreams;
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeReader;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeWriter;
+import org.ldbcouncil.snb.driver.runtime.metrics.MetricsService;
+import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
+import org.ldbcouncil.snb.driver.runtime.scheduling.WaitStrategies;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import static java.lang.String.format;
+
+/**
+ * Hands operation handlers to a fixed pool of workers through a pre-allocated Disruptor ring buffer, rather than
+ * through the blocking queue of a ThreadPoolExecutor. Submitting an operation claims a slot, stores the handler in it
+ * and publishes it, so there is no queue node allocation and no lock on the submit path.
+ * <p>
+ * Each slot is consumed by exactly one worker. Submission blocks while all slots are in use, i.e., while the ring is
+ * full. Idle workers wait for new slots using the Disruptor equivalent of the configured wait strategy.
+ */
+public class DisruptorOperationExecutor implements OperationExecutor
+{
+    private static final long POLL_INTERVAL_WHILE_WAITING_FOR_HANDLERS_AS_MILLI = 10;
+
+    private final Disruptor<OperationHandlerSlot> disruptor;
+    private final RingBuffer<OperationHandlerSlot> ringBuffer;
+    private final ExecutorService workerThreads;
+    private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final ChildOperationGenerator childOperationGenerator;
+    private final ChildOperationExecutor childOperationExecutor = new ChildOperationExecutor();
+    private final ConcurrentErrorReporter errorReporter;
+
+    /**
+     * @param ringBufferSize minimum number of slots, rounded up to the next power of 2
+     */
+    public DisruptorOperationExecutor( int threadCount,
+            int ringBufferSize,
+            WaitStrategies.WaitStrategyType waitStrategyType,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator )
+    {
+        this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
+                streamDefinition,
+                db,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService
+        );
+        this.childOperationGenerator = childOperationGenerator;
+        this.errorReporter = errorReporter;
+        // worker pool needs one dedicated thread per worker
+        this.workerThreads = Executors.newFixedThreadPool( threadCount, new ThreadFactory()
+        {
+            private final long factoryTimeStampId = System.currentTimeMillis();
+            int count = 0;
+
+            @Override
+            public Thread newThread( Runnable runnable )
+            {
+                return new Thread(
+                        runnable,
+                        DisruptorOperationExecutor.class.getSimpleName() + "-id(" + factoryTimeStampId + ")" +
+                        "-thread(" + count++ + ")"
+                );
+            }
+        } );
+        this.disruptor = new Disruptor<>(
+                new OperationHandlerSlotFactory(),
+                ringBufferSizeFor( ringBufferSize ),
+                workerThreads,
+                // child operation executors and wrapping executors may submit from threads other than the stream's
+                ProducerType.MULTI,
+                disruptorWaitStrategyFor( waitStrategyType )
+        );
+        OperationHandlerWorker[] workers = new OperationHandlerWorker[threadCount];
+        for ( int i = 0; i < threadCount; i++ )
+        {
+            workers[i] = new OperationHandlerWorker();
+        }
+        disruptor.handleEventsWithWorkerPool( workers );
+        disruptor.handleExceptionsWith( new WorkerExceptionHandler() );
+        this.ringBuffer = disruptor.start();
+    }
+
+    static int ringBufferSizeFor( int minimumSize )
+    {
+        if ( minimumSize <= 1 )
+        {
+            return 1;
+        }
+        int size = Integer.highestOneBit( minimumSize - 1 ) << 1;
+        if ( size <= 0 )
+        {
+            throw new IllegalArgumentException( format( "Ring buffer size too large: %s", minimumSize ) );
+        }
+        return size;
+    }
+
+    static com.lmax.disruptor.WaitStrategy disruptorWaitStrategyFor( WaitStrategies.WaitStrategyType waitStrategyType )
+    {
+        switch ( waitStrategyType )
+        {
+        case SLEEP:
+            // lowest CPU usage, idle workers block until an operation is published
+            return new BlockingWaitStrategy();
+        case SPIN:
+            return new BusySpinWaitStrategy();
+        case YIELD:
+            return new YieldingWaitStrategy();
+        case PARK:
+            // spins, then yields, then parks
+            return new SleepingWaitStrategy();
+        default:
+            throw new IllegalArgumentException( format( "Unsupported wait strategy: %s", waitStrategyType ) );
+        }
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        uncompletedHandlers.incrementAndGet();
+        try
+        {
+            OperationHandlerRunnableContext operationHandlerRunnableContext =
+                    operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+            // --- BLOCKING CALL (when ring buffer is full) ---
+            ringBuffer.publishEvent( OperationHandlerSlot.TRANSLATOR, operationHandlerRunnableContext );
+        }
+        catch ( Throwable e )
+        {
+            throw new OperationExecutorException(
+                    format( "Error retrieving handler\nOperation: %s\n%s",
+                            operation,
+                            ConcurrentErrorReporter.stackTraceToString( e ) ),
+                    e );
+        }
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        try
+        {
+            long deadlineAsMilli = System.currentTimeMillis() + waitAsMilli;
+            while ( 0 < uncompletedHandlers.get() && System.currentTimeMillis() < deadlineAsMilli )
+            {
+                Spinner.powerNap( POLL_INTERVAL_WHILE_WAITING_FOR_HANDLERS_AS_MILLI );
+            }
+            long handlersNotYetStarted = ringBuffer.getBufferSize() - ringBuffer.remainingCapacity();
+            long uncompletedHandlersAtShutdown = uncompletedHandlers.get();
+            disruptor.halt();
+            workerThreads.shutdown();
+            if ( 0 < uncompletedHandlersAtShutdown )
+            {
+                List<Runnable> stillRunningThreads = workerThreads.shutdownNow();
+                String errMsg = format(
+                        "%s shutdown before all handlers could complete\n%s handlers were queued for execution " +
+                        "but not yet started\n%s handlers were mid-execution\n%s worker threads were still running",
+                        getClass().getSimpleName(),
+                        handlersNotYetStarted,
+                        uncompletedHandlersAtShutdown - handlersNotYetStarted,
+                        stillRunningThreads.size() );
+                throw new OperationExecutorException( errMsg );
+            }
+            workerThreads.awaitTermination( waitAsMilli, TimeUnit.MILLISECONDS );
+        }
+        catch ( Throwable e )
+        {
+            throw new OperationExecutorException( "Error encountered while trying to shutdown", e );
+        }
+        finally
+        {
+            shutdown.set( true );
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        return uncompletedHandlers.get();
+    }
+
+    // for asynchronous handlers, this occurs in the thread that completed the operation
+    private void afterCompletion( OperationHandlerRunnableContext operationHandlerRunnableContext )
+    {
+        try
+        {
+            childOperationExecutor.execute(
+                    childOperationGenerator,
+                    operationHandlerRunnableContext.operation(),
+                    operationHandlerRunnableContext.resultReporter().result(),
+                    operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                    operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                    operationHandlerRunnableContextRetriever
+            );
+        }
+        catch ( Throwable e )
+        {
+            errorReporter.reportError( this,
+                    format( "Error retrieving handler\n%s", ConcurrentErrorReporter.stackTraceToString( e ) ) );
+        }
+        finally
+        {
+            uncompletedHandlers.decrementAndGet();
+            operationHandlerRunnableContext.cleanup();
+        }
+    }
+
+    static class OperationHandlerSlot
+    {
+        static final EventTranslatorOneArg<OperationHandlerSlot,OperationHandlerRunnableContext> TRANSLATOR =
+                new EventTranslatorOneArg<OperationHandlerSlot,OperationHandlerRunnableContext>()
+                {
+                    @Override
+                    public void translateTo( OperationHandlerSlot slot,
+                            long sequence,
+                            OperationHandlerRunnableContext operationHandlerRunnableContext )
+                    {
+                        slot.operationHandlerRunnableContext = operationHandlerRunnableContext;
+                    }
+                };
+
+        private OperationHandlerRunnableContext operationHandlerRunnableContext = null;
+    }
+
+    private static class OperationHandlerSlotFactory implements EventFactory<OperationHandlerSlot>
+    {
+        @Override
+        public OperationHandlerSlot newInstance()
+        {
+            return new OperationHandlerSlot();
+        }
+    }
+
+    private class OperationHandlerWorker implements WorkHandler<OperationHandlerSlot>
+    {
+        @Override
+        public void onEvent( OperationHandlerSlot slot ) throws Exception
+        {
+            final OperationHandlerRunnableContext operationHandlerRunnableContext =
+                    slot.operationHandlerRunnableContext;
+            // context is returned to its pool after completion, slot must not keep it reachable
+            slot.operationHandlerRunnableContext = null;
+            if ( operationHandlerRunnableContext.isAsync() )
+            {
+                // worker is released as soon as operation has been started
+                operationHandlerRunnableContext.runAsync().whenComplete( new BiConsumer<Void,Throwable>()
+                {
+                    @Override
+                    public void accept( Void ignored, Throwable throwable )
+                    {
+                        afterCompletion( operationHandlerRunnableContext );
+                    }
+                } );
+            }
+            else
+            {
+                operationHandlerRunnableContext.run();
+                afterCompletion( operationHandlerRunnableContext );
+            }
+        }
+    }
+
+    private class WorkerExceptionHandler implements ExceptionHandler<Object>
+    {
+        @Override
+        public void handleEventException( Throwable ex, long sequence, Object event )
+        {
+            errorReporter.reportError( this,
+                    format( "Error executing handler\nSequence: %s\n%s",
+                            sequence,
+                            ConcurrentErrorReporter.stackTraceToString( ex ) ) );
+        }
+
+        @Override
+        public void handleOnStartException( Throwable ex )
+        {
+            errorReporter.reportError( this,
+                    format( "Error starting %s worker\n%s",
+                            DisruptorOperationExecutor.class.getSimpleName(),
+                            ConcurrentErrorReporter.stackTraceToString( ex ) ) );
+        }
+
+        @Override
+        public void handleOnShutdownException( Throwable ex )
+        {
+            errorReporter.reportError( this,
+                    format( "Error shutting down %s worker\n%s",
+                            DisruptorOperationExecutor.class.getSimpleName(),
+                            ConcurrentErrorReporter.stackTraceToString( ex ) ) );
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.ldbcouncil.snb.driver.runtime.executor;
+
+import java.util.Arrays;
+
+import static java.lang.String.format;
+
+/**
+ * Executor used for the asynchronous operation stream.
+ */
+public enum OperationExecutorType
+{
+    // operations are submitted to pool as soon as they are read, workers wait for scheduled start times
+    THREAD_POOL,
+    // operations are held in a timing wheel until their scheduled start time, workers only execute due operations
+    TIMER_WHEEL,
+    // every operation runs on its own (virtual, where supported) thread, thread count bounds operations in flight
+    VIRTUAL_THREAD,
+    // operations are handed to workers through a pre-allocated ring buffer, workers wait for scheduled start times
+    DISRUPTOR;
+
+    public static OperationExecutorType parse( String operationExecutorTypeString )
+    {
+        try
+        {
+            return OperationExecutorType.valueOf( operationExecutorTypeString.trim().toUpperCase() );
+        }
+        catch ( IllegalArgumentException | NullPointerException e )
+        {
+            throw new IllegalArgumentException( format( "Unsupported executor type: %s\nValid values: %s",
+                    operationExecutorTypeString, Arrays.toString( OperationExecutorType.values() ) ) );
+        }
+    }
+}
@@ -15,18 +15,20 @@ import org.ldbcouncil.snb.driver.temporal.TimeSource;
 
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 
 import static java.lang.String.format;
 
 public class ThreadPoolOperationExecutor implements OperationExecutor
 {
-    private final ExecutorService threadPoolExecutorService;
+    private static final long POLL_INTERVAL_WHILE_WAITING_FOR_ASYNC_HANDLERS_AS_MILLI = 10;
+
+    private final ThreadPoolExecutorWithAfterExecute threadPoolExecutorService;
     private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
     private final AtomicBoolean shutdown = new AtomicBoolean( false );
     private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
@@ -87,7 +89,7 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
         {
             OperationHandlerRunnableContext operationHandlerRunnableContext =
                     operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
-            threadPoolExecutorService.execute( operationHandlerRunnableContext );
+            threadPoolExecutorService.executeHandler( operationHandlerRunnableContext );
         }
         catch ( Throwable e )
         {
@@ -106,6 +108,7 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
         {
             throw new OperationExecutorException( "Executor has already been shutdown" );
         }
+        long startTimeAsMilli = System.currentTimeMillis();
         try
         {
             threadPoolExecutorService.shutdown();
@@ -125,6 +128,22 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                     throw new OperationExecutorException( errMsg );
                 }
             }
+            else
+            {
+                // asynchronous handlers may still be in flight after the pool has terminated
+                long deadlineAsMilli = startTimeAsMilli + waitAsMilli;
+                while ( 0 < uncompletedHandlers.get() && System.currentTimeMillis() < deadlineAsMilli )
+                {
+                    Spinner.powerNap( POLL_INTERVAL_WHILE_WAITING_FOR_ASYNC_HANDLERS_AS_MILLI );
+                }
+                if ( 0 < uncompletedHandlers.get() )
+                {
+                    throw new OperationExecutorException( format(
+                            "%s shutdown before all handlers could complete\n%s asynchronous handlers were in flight",
+                            getClass().getSimpleName(),
+                            uncompletedHandlers.get() ) );
+                }
+            }
         }
         catch ( Throwable e )
         {
@@ -197,13 +216,33 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
             this.errorReporter = errorReporter;
         }
 
+        // asynchronous handlers release the worker thread as soon as their operation has been started
+        void executeHandler( OperationHandlerRunnableContext operationHandlerRunnableContext )
+        {
+            if ( operationHandlerRunnableContext.isAsync() )
+            {
+                execute( new AsyncHandlerRunnable( operationHandlerRunnableContext ) );
+            }
+            else
+            {
+                execute( operationHandlerRunnableContext );
+            }
+        }
+
         // Note, this occurs in same worker thread as beforeExecute() and run()
         @Override
         protected void afterExecute( Runnable runnable, Throwable throwable )
         {
             super.afterExecute( runnable, throwable );
-            OperationHandlerRunnableContext operationHandlerRunnableContext =
-                    (OperationHandlerRunnableContext) runnable;
+            if ( runnable instanceof OperationHandlerRunnableContext )
+            {
+                afterCompletion( (OperationHandlerRunnableContext) runnable );
+            }
+        }
+
+        // for asynchronous handlers, this occurs in the thread that completed the operation
+        private void afterCompletion( OperationHandlerRunnableContext operationHandlerRunnableContext )
+        {
             try
             {
                 childOperationExecutor.execute(
@@ -226,5 +265,28 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                 operationHandlerRunnableContext.cleanup();
             }
         }
+
+        private class AsyncHandlerRunnable implements Runnable
+        {
+            private final OperationHandlerRunnableContext operationHandlerRunnableContext;
+
+            private AsyncHandlerRunnable( OperationHandlerRunnableContext operationHandlerRunnableContext )
+            {
+                this.operationHandlerRunnableContext = operationHandlerRunnableContext;
+            }
+
+            @Override
+            public void run()
+            {
+                operationHandlerRunnableContext.runAsync().whenComplete( new BiConsumer<Void,Throwable>()
+                {
+                    @Override
+                    public void accept( Void ignored, Throwable throwable )
+                    {
+                        afterCompletion( operationHandlerRunnableContext );
+                    }
+                } );
+            }
+        }
     }
 }
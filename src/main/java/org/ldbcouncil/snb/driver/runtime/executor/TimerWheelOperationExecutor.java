@@ -0,0 +1,230 @@
+package org.ldbcouncil.snb.driver.runtime.executor;
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.runtime.DefaultQueues;
+import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
+import org.ldbcouncil.snb.driver.runtime.scheduling.TimingWheel;
+import org.ldbcouncil.snb.driver.runtime.scheduling.WaitStrategy;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Holds operations in a timing wheel, keyed by scheduled start time, and only hands them to the wrapped executor
+ * once they are due. Worker threads of the wrapped executor therefore spend their time executing operations,
+ * rather than sleeping until scheduled start times, and thread count translates into concurrent requests.
+ * <p>
+ * Operations still pass through Spinner when executed, but at that point their scheduled start time has passed,
+ * i.e., workers only wait for dependency checks.
+ */
+public class TimerWheelOperationExecutor implements OperationExecutor
+{
+    private static final long POLL_INTERVAL_WHILE_WAITING_FOR_DISPATCH_AS_MILLI = 10;
+
+    private final OperationExecutor delegate;
+    private final BlockingQueue<Operation> submittedOperations;
+    // operations submitted but not yet handed to delegate
+    private final AtomicLong undispatchedOperations = new AtomicLong( 0 );
+    private final AtomicBoolean started = new AtomicBoolean( false );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final DispatcherThread dispatcherThread;
+
+    /**
+     * @param delegate executor that due operations are handed to
+     * @param boundedQueueSize maximum number of operations held in wheel, submission blocks while wheel is full
+     * @param timeSource time source
+     * @param waitStrategy how dispatcher thread waits for the next millisecond, or for new operations
+     * @param errorReporter error reporter
+     */
+    public TimerWheelOperationExecutor( OperationExecutor delegate,
+            int boundedQueueSize,
+            TimeSource timeSource,
+            WaitStrategy waitStrategy,
+            ConcurrentErrorReporter errorReporter )
+    {
+        this.delegate = delegate;
+        this.submittedOperations = DefaultQueues.newAlwaysBlockingBounded( boundedQueueSize );
+        this.dispatcherThread = new DispatcherThread(
+                delegate,
+                submittedOperations,
+                undispatchedOperations,
+                boundedQueueSize,
+                timeSource,
+                waitStrategy,
+                errorReporter
+        );
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        if ( !started.get() && started.compareAndSet( false, true ) )
+        {
+            dispatcherThread.start();
+        }
+        undispatchedOperations.incrementAndGet();
+        try
+        {
+            // --- BLOCKING CALL (when bounded queue is full) ---
+            submittedOperations.put( operation );
+        }
+        catch ( InterruptedException e )
+        {
+            undispatchedOperations.decrementAndGet();
+            throw new OperationExecutorException(
+                    format( "Interrupted while submitting operation\nOperation: %s", operation ), e );
+        }
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        long startTimeAsMilli = System.currentTimeMillis();
+        long undispatchedOperationCount;
+        try
+        {
+            while ( 0 < undispatchedOperations.get() && dispatcherThread.isAlive() &&
+                    System.currentTimeMillis() - startTimeAsMilli < waitAsMilli )
+            {
+                Spinner.powerNap( POLL_INTERVAL_WHILE_WAITING_FOR_DISPATCH_AS_MILLI );
+            }
+            dispatcherThread.shutdown();
+            dispatcherThread.join( waitAsMilli );
+            undispatchedOperationCount = undispatchedOperations.get();
+            long remainingWaitAsMilli = Math.max( 1, waitAsMilli - (System.currentTimeMillis() - startTimeAsMilli) );
+            delegate.shutdown( remainingWaitAsMilli );
+        }
+        catch ( OperationExecutorException e )
+        {
+            throw e;
+        }
+        catch ( Throwable e )
+        {
+            throw new OperationExecutorException( "Error encountered while trying to shutdown", e );
+        }
+        finally
+        {
+            shutdown.set( true );
+        }
+        if ( 0 < undispatchedOperationCount )
+        {
+            throw new OperationExecutorException( format(
+                    "%s shutdown before all operations could be dispatched\n" +
+                    "%s operations were waiting for their scheduled start time",
+                    getClass().getSimpleName(),
+                    undispatchedOperationCount ) );
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        // read undispatched first, dispatcher increments delegate count before decrementing undispatched count
+        long undispatchedOperationCount = undispatchedOperations.get();
+        return undispatchedOperationCount + delegate.uncompletedOperationHandlerCount();
+    }
+
+    private static class DispatcherThread extends Thread
+    {
+        private final OperationExecutor delegate;
+        private final BlockingQueue<Operation> submittedOperations;
+        private final AtomicLong undispatchedOperations;
+        private final int maxWheelSize;
+        private final TimeSource timeSource;
+        private final WaitStrategy waitStrategy;
+        private final ConcurrentErrorReporter errorReporter;
+        private final AtomicBoolean shutdownRequested = new AtomicBoolean( false );
+
+        private DispatcherThread( OperationExecutor delegate,
+                BlockingQueue<Operation> submittedOperations,
+                AtomicLong undispatchedOperations,
+                int maxWheelSize,
+                TimeSource timeSource,
+                WaitStrategy waitStrategy,
+                ConcurrentErrorReporter errorReporter )
+        {
+            super( TimerWheelOperationExecutor.class.getSimpleName() + "-" + System.currentTimeMillis() );
+            this.delegate = delegate;
+            this.submittedOperations = submittedOperations;
+            this.undispatchedOperations = undispatchedOperations;
+            this.maxWheelSize = maxWheelSize;
+            this.timeSource = timeSource;
+            this.waitStrategy = waitStrategy;
+            this.errorReporter = errorReporter;
+        }
+
+        private void shutdown()
+        {
+            shutdownRequested.set( true );
+        }
+
+        @Override
+        public void run()
+        {
+            TimingWheel<Operation> timingWheel = new TimingWheel<>( timeSource.nowAsMilli() );
+            List<Operation> dueOperations = new ArrayList<>();
+            Operation operation = null;
+            int idleCount = 0;
+            try
+            {
+                while ( !shutdownRequested.get() )
+                {
+                    // operations that are already due skip the wheel
+                    while ( timingWheel.size() < maxWheelSize && null != (operation = submittedOperations.poll()) )
+                    {
+                        if ( !timingWheel.add( operation.scheduledStartTimeAsMilli(), operation ) )
+                        {
+                            dueOperations.add( operation );
+                        }
+                    }
+                    timingWheel.advanceTo( timeSource.nowAsMilli(), dueOperations );
+
+                    if ( dueOperations.isEmpty() )
+                    {
+                        if ( timingWheel.isEmpty() )
+                        {
+                            waitStrategy.idle( idleCount++ );
+                        }
+                        else
+                        {
+                            // wheel has millisecond resolution, nothing can become due before the next millisecond
+                            waitStrategy.idleUntil( TimeUnit.MILLISECONDS.toNanos( 1 ) );
+                        }
+                        continue;
+                    }
+
+                    idleCount = 0;
+                    for ( int i = 0; i < dueOperations.size(); i++ )
+                    {
+                        operation = dueOperations.get( i );
+                        // --- BLOCKING CALL (when bounded queue of delegate is full) ---
+                        delegate.execute( operation );
+                        undispatchedOperations.decrementAndGet();
+                    }
+                    dueOperations.clear();
+                }
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError(
+                        this,
+                        format( "Error dispatching operation\nOperation: %s\n%s",
+                                operation,
+                                ConcurrentErrorReporter.stackTraceToString( e ) )
+                );
+            }
+        }
+    }
+}
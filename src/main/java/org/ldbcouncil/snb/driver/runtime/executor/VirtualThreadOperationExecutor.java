@@ -0,0 +1,319 @@
+package org.ldbcouncil.snb.driver.runtime.executor;
+
+import org.ldbcouncil.snb.driver.ChildOperationGenerator;
+import org.ldbcouncil.snb.driver.Db;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.OperationHandlerRunnableContext;
+import org.ldbcouncil.snb.driver.WorkloadStreams;
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeReader;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeWriter;
+import org.ldbcouncil.snb.driver.runtime.metrics.MetricsService;
+import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import static java.lang.String.format;
+
+/**
+ * Runs every operation handler on its own thread, the number of handlers in flight is bounded by a semaphore
+ * rather than by the size of a thread pool. Submission blocks while the limit is reached.
+ * <p>
+ * Threads are virtual threads when the JVM supports them (Java 21+), so handlers that block on synchronous
+ * database clients are cheap to park and thousands of them can be in flight. On older JVMs the driver still
+ * targets, threads are platform threads from a cached pool, which behaves the same but costs more per thread.
+ */
+public class VirtualThreadOperationExecutor implements OperationExecutor
+{
+    // Executors.newVirtualThreadPerTaskExecutor() is only available from Java 21 onwards
+    private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = newVirtualThreadPerTaskExecutorHandle();
+    private static final long POLL_INTERVAL_WHILE_WAITING_FOR_ASYNC_HANDLERS_AS_MILLI = 10;
+
+    private final ExecutorService executorService;
+    private final boolean usesVirtualThreads;
+    private final Semaphore inFlightPermits;
+    private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final ChildOperationGenerator childOperationGenerator;
+    private final ChildOperationExecutor childOperationExecutor = new ChildOperationExecutor();
+    private final ConcurrentErrorReporter errorReporter;
+
+    /**
+     * @param maxInFlightOperations maximum number of operation handlers executing at the same time
+     */
+    public VirtualThreadOperationExecutor( int maxInFlightOperations,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator )
+    {
+        this(
+                maxInFlightOperations,
+                true,
+                db,
+                streamDefinition,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                childOperationGenerator
+        );
+    }
+
+    VirtualThreadOperationExecutor( int maxInFlightOperations,
+            boolean preferVirtualThreads,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator )
+    {
+        this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
+                streamDefinition,
+                db,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService
+        );
+        this.inFlightPermits = new Semaphore( maxInFlightOperations );
+        this.childOperationGenerator = childOperationGenerator;
+        this.errorReporter = errorReporter;
+        ExecutorService virtualThreadExecutorService = (preferVirtualThreads)
+                                                       ? newVirtualThreadPerTaskExecutor()
+                                                       : null;
+        this.usesVirtualThreads = null != virtualThreadExecutorService;
+        this.executorService = (usesVirtualThreads)
+                               ? virtualThreadExecutorService
+                               : Executors.newCachedThreadPool( new ThreadFactory()
+                               {
+                                   private final long factoryTimeStampId = System.currentTimeMillis();
+                                   private final AtomicLong count = new AtomicLong( 0 );
+
+                                   @Override
+                                   public Thread newThread( Runnable runnable )
+                                   {
+                                       return new Thread(
+                                               runnable,
+                                               VirtualThreadOperationExecutor.class.getSimpleName() +
+                                               "-id(" + factoryTimeStampId + ")" +
+                                               "-thread(" + count.getAndIncrement() + ")"
+                                       );
+                                   }
+                               } );
+    }
+
+    /**
+     * @return true if handlers run on virtual threads, false if the JVM does not support them
+     */
+    public boolean usesVirtualThreads()
+    {
+        return usesVirtualThreads;
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        try
+        {
+            // --- BLOCKING CALL (when in flight limit is reached) ---
+            inFlightPermits.acquire();
+        }
+        catch ( InterruptedException e )
+        {
+            throw new OperationExecutorException(
+                    format( "Interrupted while waiting to execute operation\nOperation: %s", operation ), e );
+        }
+        uncompletedHandlers.incrementAndGet();
+        try
+        {
+            OperationHandlerRunnableContext operationHandlerRunnableContext =
+                    operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+            executorService.execute( new HandlerRunnable( operationHandlerRunnableContext ) );
+        }
+        catch ( Throwable e )
+        {
+            uncompletedHandlers.decrementAndGet();
+            inFlightPermits.release();
+            throw new OperationExecutorException(
+                    format( "Error retrieving handler\nOperation: %s\n%s",
+                            operation,
+                            ConcurrentErrorReporter.stackTraceToString( e ) ),
+                    e );
+        }
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        try
+        {
+            executorService.shutdown();
+            long startTimeAsMilli = System.currentTimeMillis();
+            boolean allHandlersCompleted = executorService.awaitTermination( waitAsMilli, TimeUnit.MILLISECONDS );
+            // asynchronous handlers may still be in flight after all threads have terminated
+            long deadlineAsMilli = startTimeAsMilli + waitAsMilli;
+            while ( allHandlersCompleted && 0 < uncompletedHandlers.get() )
+            {
+                if ( System.currentTimeMillis() >= deadlineAsMilli )
+                {
+                    throw new OperationExecutorException( format(
+                            "%s shutdown before all handlers could complete\n%s asynchronous handlers were in flight",
+                            getClass().getSimpleName(),
+                            uncompletedHandlers.get() ) );
+                }
+                Spinner.powerNap( POLL_INTERVAL_WHILE_WAITING_FOR_ASYNC_HANDLERS_AS_MILLI );
+            }
+            if ( !allHandlersCompleted )
+            {
+                List<Runnable> notStartedHandlers = executorService.shutdownNow();
+                String errMsg = format(
+                        "%s shutdown before all handlers could complete\n%s handlers were queued for execution " +
+                        "but not yet started\n%s handlers were mid-execution",
+                        getClass().getSimpleName(),
+                        notStartedHandlers.size(),
+                        uncompletedHandlers.get() - notStartedHandlers.size() );
+                throw new OperationExecutorException( errMsg );
+            }
+        }
+        catch ( OperationExecutorException e )
+        {
+            throw e;
+        }
+        catch ( Throwable e )
+        {
+            throw new OperationExecutorException( "Error encountered while trying to shutdown", e );
+        }
+        finally
+        {
+            shutdown.set( true );
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        return uncompletedHandlers.get();
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor()
+    {
+        if ( null == NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR )
+        {
+            return null;
+        }
+        try
+        {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke();
+        }
+        catch ( Throwable e )
+        {
+            // e.g., virtual threads are a preview feature of the running JVM, and previews are not enabled
+            return null;
+        }
+    }
+
+    private static MethodHandle newVirtualThreadPerTaskExecutorHandle()
+    {
+        try
+        {
+            return MethodHandles.lookup().findStatic(
+                    Executors.class,
+                    "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType( ExecutorService.class ) );
+        }
+        catch ( Exception e )
+        {
+            return null;
+        }
+    }
+
+    private class HandlerRunnable implements Runnable
+    {
+        private final OperationHandlerRunnableContext operationHandlerRunnableContext;
+
+        private HandlerRunnable( OperationHandlerRunnableContext operationHandlerRunnableContext )
+        {
+            this.operationHandlerRunnableContext = operationHandlerRunnableContext;
+        }
+
+        @Override
+        public void run()
+        {
+            if ( operationHandlerRunnableContext.isAsync() )
+            {
+                // thread is released as soon as operation has been started, permit is held until it completes
+                operationHandlerRunnableContext.runAsync().whenComplete( new BiConsumer<Void,Throwable>()
+                {
+                    @Override
+                    public void accept( Void ignored, Throwable throwable )
+                    {
+                        afterCompletion();
+                    }
+                } );
+            }
+            else
+            {
+                operationHandlerRunnableContext.run();
+                afterCompletion();
+            }
+        }
+
+        // for asynchronous handlers, this occurs in the thread that completed the operation
+        private void afterCompletion()
+        {
+            try
+            {
+                childOperationExecutor.execute(
+                        childOperationGenerator,
+                        operationHandlerRunnableContext.operation(),
+                        operationHandlerRunnableContext.resultReporter().result(),
+                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                        operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                        operationHandlerRunnableContextRetriever
+                );
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this,
+                        format( "Error executing handler\n%s", ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+            finally
+            {
+                uncompletedHandlers.decrementAndGet();
+                operationHandlerRunnableContext.cleanup();
+                inFlightPermits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package org.ldbcouncil.snb.driver.runtime.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.ldbcouncil.snb.driver.runtime.metrics.BinaryResultsLogWriter.DICTIONARY_ENTRY_TAG;
+import static org.ldbcouncil.snb.driver.runtime.metrics.BinaryResultsLogWriter.MAGIC_NUMBER;
+import static org.ldbcouncil.snb.driver.runtime.metrics.BinaryResultsLogWriter.RESULT_RECORD_BODY_SIZE;
+import static org.ldbcouncil.snb.driver.runtime.metrics.BinaryResultsLogWriter.VERSION;
+import static java.lang.String.format;
+
+/**
+ * Reads results logs written by BinaryResultsLogWriter, or a range of one.
+ * File is memory mapped one window at a time, as a single mapping can not exceed 2GB.
+ * A log the driver did not close may end with an incomplete entry, it is read up to the entry before it.
+ */
+public class BinaryResultsLogReader implements ResultsLogReader
+{
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final FileChannel channel;
+    // end of the file, or of the range being read
+    private final long endPosition;
+    private final int windowSize;
+    private final TimeUnit unit;
+    private final List<String> operationNames;
+    private MappedByteBuffer window;
+    private long windowPosition;
+    // set once an entry can not be read, as nothing after an incomplete entry can be read either
+    private boolean endOfFile = false;
+
+    private String operationName = null;
+    private long scheduledStartTimeAsMilli;
+    private long actualStartTimeAsMilli;
+    private long runDurationAsNano;
+    private int resultCode;
+    private long originalStartTime;
+
+    public BinaryResultsLogReader( File resultsLog ) throws IOException
+    {
+        this( resultsLog, DEFAULT_WINDOW_SIZE );
+    }
+
+    public BinaryResultsLogReader( File resultsLog, int windowSize ) throws IOException
+    {
+        this.channel = FileChannel.open( resultsLog.toPath(), StandardOpenOption.READ );
+        this.endPosition = channel.size();
+        this.windowSize = windowSize;
+        this.windowPosition = 0;
+        this.window = channel.map( FileChannel.MapMode.READ_ONLY, 0, Math.min( windowSize, endPosition ) );
+        this.operationNames = new ArrayList<>();
+        this.unit = processHeader( resultsLog );
+    }
+
+    /**
+     * Reads the range of a results log created by {@link #split(File, long)}
+     *
+     * @param operationNames operation names defined before startPosition
+     */
+    BinaryResultsLogReader(
+            File resultsLog,
+            long startPosition,
+            long endPosition,
+            TimeUnit unit,
+            List<String> operationNames,
+            int windowSize ) throws IOException
+    {
+        this.channel = FileChannel.open( resultsLog.toPath(), StandardOpenOption.READ );
+        this.endPosition = endPosition;
+        this.windowSize = windowSize;
+        this.windowPosition = startPosition;
+        this.window = channel.map(
+                FileChannel.MapMode.READ_ONLY,
+                startPosition,
+                Math.min( windowSize, endPosition - startPosition ) );
+        this.operationNames = new ArrayList<>( operationNames );
+        this.unit = unit;
+    }
+
+    /**
+     * Splits a results log into ranges of about rangeSize bytes, which start and end between entries.
+     * Only tags are read, to find the operation names defined before each range.
+     */
+    static List<ResultsLogRange> split( File resultsLog, long rangeSize ) throws IOException
+    {
+        if ( rangeSize < 1 )
+        {
+            throw new IllegalArgumentException( format( "Range size must be at least 1, was %s", rangeSize ) );
+        }
+        BinaryResultsLogReader reader = new BinaryResultsLogReader( resultsLog );
+        try
+        {
+            List<ResultsLogRange> ranges = new ArrayList<>();
+            long startPosition = reader.position();
+            // end of the last complete entry
+            long position = startPosition;
+            List<String> startOperationNames = new ArrayList<>();
+            while ( reader.skip() )
+            {
+                position = reader.position();
+                if ( position - startPosition >= rangeSize )
+                {
+                    ranges.add( new ResultsLogRange( resultsLog, ResultsLogFormat.BINARY, startPosition, position,
+                            reader.unit, startOperationNames ) );
+                    startPosition = position;
+                    startOperationNames = new ArrayList<>( reader.operationNames );
+                }
+            }
+            if ( ranges.isEmpty() || position > startPosition )
+            {
+                ranges.add( new ResultsLogRange( resultsLog, ResultsLogFormat.BINARY, startPosition,
+                        position, reader.unit, startOperationNames ) );
+            }
+            return ranges;
+        }
+        finally
+        {
+            reader.channel.close();
+        }
+    }
+
+    private long position()
+    {
+        return windowPosition + window.position();
+    }
+
+    /**
+     * Advances past the next entry, reading only dictionary entries
+     *
+     * @return false at end of file, or if the next entry is incomplete
+     */
+    private boolean skip() throws IOException
+    {
+        if ( !ensureAvailable( 4 ) )
+        {
+            return false;
+        }
+        int tag = window.getInt();
+        if ( DICTIONARY_ENTRY_TAG == tag )
+        {
+            String dictionaryOperationName = readString();
+            if ( null == dictionaryOperationName )
+            {
+                return false;
+            }
+            operationNames.add( dictionaryOperationName );
+        }
+        else
+        {
+            if ( !ensureAvailable( RESULT_RECORD_BODY_SIZE ) )
+            {
+                return false;
+            }
+            window.position( window.position() + RESULT_RECORD_BODY_SIZE );
+        }
+        return true;
+    }
+
+    private TimeUnit processHeader( File resultsLog ) throws IOException
+    {
+        if ( !ensureAvailable( 4 + 2 + 2 ) )
+        {
+            throw new RuntimeException( "Expected binary results log header but file was empty" );
+        }
+        int magicNumber = window.getInt();
+        if ( MAGIC_NUMBER != magicNumber )
+        {
+            throw new RuntimeException( format( "Not a binary results log: %s", resultsLog.getAbsolutePath() ) );
+        }
+        short version = window.getShort();
+        if ( VERSION != version )
+        {
+            throw new RuntimeException( format( "Unsupported binary results log version: %s", version ) );
+        }
+        String unitName = readString();
+        if ( null == unitName )
+        {
+            throw new RuntimeException( "Binary results log ends within its header" );
+        }
+        return TimeUnit.valueOf( unitName );
+    }
+
+    @Override
+    public boolean next()
+    {
+        try
+        {
+            while ( ensureAvailable( 4 ) )
+            {
+                int tag = window.getInt();
+                if ( DICTIONARY_ENTRY_TAG == tag )
+                {
+                    String dictionaryOperationName = readString();
+                    if ( null == dictionaryOperationName )
+                    {
+                        break;
+                    }
+                    operationNames.add( dictionaryOperationName );
+                }
+                else
+                {
+                    if ( !ensureAvailable( RESULT_RECORD_BODY_SIZE ) )
+                    {
+                        break;
+                    }
+                    operationName = operationNames.get( tag );
+                    scheduledStartTimeAsMilli = window.getLong();
+                    actualStartTimeAsMilli = window.getLong();
+                    runDurationAsNano = window.getLong();
+                    resultCode = window.getInt();
+                    originalStartTime = window.getLong();
+                    return true;
+                }
+            }
+            operationName = null;
+            return false;
+        }
+        catch ( IOException e )
+        {
+            throw new RuntimeException( "Error reading binary results log", e );
+        }
+    }
+
+    /**
+     * @return null if the file ends before the string does
+     */
+    private String readString() throws IOException
+    {
+        if ( !ensureAvailable( 2 ) )
+        {
+            return null;
+        }
+        int length = window.getShort();
+        if ( !ensureAvailable( length ) )
+        {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        window.get( bytes );
+        return new String( bytes, StandardCharsets.UTF_8 );
+    }
+
+    /**
+     * @return true if byteCount bytes can be read from window, remapping it if necessary, false at end of file
+     */
+    private boolean ensureAvailable( int byteCount ) throws IOException
+    {
+        if ( endOfFile )
+        {
+            return false;
+        }
+        if ( window.remaining() >= byteCount )
+        {
+            return true;
+        }
+        long position = position();
+        if ( position + byteCount > endPosition )
+        {
+            endOfFile = true;
+            return false;
+        }
+        windowPosition = position;
+        window = channel.map(
+                FileChannel.MapMode.READ_ONLY,
+                windowPosition,
+                Math.min( Math.max( windowSize, byteCount ), endPosition - windowPosition ) );
+        return true;
+    }
+
+    @Override
+    public TimeUnit unit()
+    {
+        return unit;
+    }
+
+    @Override
+    public String getOperationName()
+    {
+        assertRecordRead();
+        return operationName;
+    }
+
+    @Override
+    public long getScheduledStartTimeAsMilli()
+    {
+        assertRecordRead();
+        return scheduledStartTimeAsMilli;
+    }
+
+    @Override
+    public long getActualStartTimeAsMilli()
+    {
+        assertRecordRead();
+        return actualStartTimeAsMilli;
+    }
+
+    @Override
+    public long getRunDurationAsNano()
+    {
+        assertRecordRead();
+        return runDurationAsNano;
+    }
+
+    @Override
+    public int getResultCode()
+    {
+        assertRecordRead();
+        return resultCode;
+    }
+
+    @Override
+    public long getOriginalStartTime()
+    {
+        assertRecordRead();
+        return originalStartTime;
+    }
+
+    private void assertRecordRead()
+    {
+        if ( null == operationName )
+        {
+            throw new RuntimeException( "Nothing to read. Reader has not been advanced or has reached EOF." );
+        }
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        channel.close();
+    }
+}
@@ -0,0 +1,141 @@
+package org.ldbcouncil.snb.driver.runtime.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Writes the results log as fixed width binary records, through a direct buffer that is drained to a file channel.
+ * <p>
+ * Format (big endian):
+ * <pre>
+ * header:           int magic number, short version, short length + ASCII name of time unit
+ * dictionary entry: int -1, short length + UTF-8 operation name (id of entry is number of preceding entries)
+ * result record:    int operation type id, long scheduled start time (ms), long actual start time (ms),
+ *                   long run duration (ns), int result code, long original start time
+ * </pre>
+ * Dictionary entries are written immediately before the first record of their operation type, so a log is
+ * readable up to its last complete record even if the driver did not close it. Run durations are stored in
+ * nanoseconds, time unit is only applied when converting to CSV.
+ */
+public class BinaryResultsLogWriter implements ResultsLogWriter
+{
+    // "LDBR"
+    static final int MAGIC_NUMBER = 0x4C444252;
+    static final short VERSION = 1;
+    static final int DICTIONARY_ENTRY_TAG = -1;
+    // operation type id is not included
+    static final int RESULT_RECORD_BODY_SIZE = 8 + 8 + 8 + 4 + 8;
+    static final int MAX_OPERATION_NAME_SIZE = Short.MAX_VALUE;
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final boolean flushLog;
+    private final Map<String,Integer> operationTypeIds = new HashMap<>();
+
+    public BinaryResultsLogWriter( File resultsLog, TimeUnit unit, boolean flushLog ) throws IOException
+    {
+        this( resultsLog, unit, flushLog, DEFAULT_BUFFER_SIZE );
+    }
+
+    public BinaryResultsLogWriter( File resultsLog, TimeUnit unit, boolean flushLog, int bufferSize )
+            throws IOException
+    {
+        if ( bufferSize < 4 + 2 + MAX_OPERATION_NAME_SIZE )
+        {
+            throw new IOException( format( "Buffer size must be at least %s bytes, was %s",
+                    4 + 2 + MAX_OPERATION_NAME_SIZE, bufferSize ) );
+        }
+        this.channel = FileChannel.open(
+                resultsLog.toPath(),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING );
+        this.buffer = ByteBuffer.allocateDirect( bufferSize );
+        this.flushLog = flushLog;
+        byte[] unitName = unit.name().getBytes( StandardCharsets.US_ASCII );
+        buffer.putInt( MAGIC_NUMBER );
+        buffer.putShort( VERSION );
+        buffer.putShort( (short) unitName.length );
+        buffer.put( unitName );
+        drain();
+    }
+
+    @Override
+    public void write(
+            String operationName,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int resultCode,
+            long originalStartTime ) throws IOException
+    {
+        Integer operationTypeId = operationTypeIds.get( operationName );
+        if ( null == operationTypeId )
+        {
+            operationTypeId = writeDictionaryEntry( operationName );
+        }
+        if ( buffer.remaining() < 4 + RESULT_RECORD_BODY_SIZE )
+        {
+            drain();
+        }
+        buffer.putInt( operationTypeId );
+        buffer.putLong( scheduledStartTimeAsMilli );
+        buffer.putLong( actualStartTimeAsMilli );
+        buffer.putLong( runDurationAsNano );
+        buffer.putInt( resultCode );
+        buffer.putLong( originalStartTime );
+        if ( flushLog )
+        {
+            drain();
+        }
+    }
+
+    private int writeDictionaryEntry( String operationName ) throws IOException
+    {
+        byte[] name = operationName.getBytes( StandardCharsets.UTF_8 );
+        if ( name.length > MAX_OPERATION_NAME_SIZE )
+        {
+            throw new IOException( format( "Operation name is too long: %s", operationName ) );
+        }
+        if ( buffer.remaining() < 4 + 2 + name.length )
+        {
+            drain();
+        }
+        int operationTypeId = operationTypeIds.size();
+        buffer.putInt( DICTIONARY_ENTRY_TAG );
+        buffer.putShort( (short) name.length );
+        buffer.put( name );
+        operationTypeIds.put( operationName, operationTypeId );
+        return operationTypeId;
+    }
+
+    private void drain() throws IOException
+    {
+        buffer.flip();
+        while ( buffer.hasRemaining() )
+        {
+            channel.write( buffer );
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        if ( channel.isOpen() )
+        {
+            drain();
+            channel.close();
+        }
+    }
+}
@@ -33,6 +33,23 @@ public class ContinuousMetricManager
         histogram.recordValue( value );
     }
 
+    /**
+     * Records value, and corrects for coordinated omission: if value is larger than the expected interval between
+     * samples, the samples that would have been taken while waiting for this one are recorded too
+     *
+     * @param value
+     * @param expectedIntervalBetweenValueSamples no correction if not greater than 0
+     */
+    public void addMeasurement( long value, long expectedIntervalBetweenValueSamples )
+    {
+        histogram.recordValueWithExpectedInterval( value, expectedIntervalBetweenValueSamples );
+    }
+
+    public String name()
+    {
+        return name;
+    }
+
     public ContinuousMetricSnapshot snapshot()
     {
         return new ContinuousMetricSnapshot(
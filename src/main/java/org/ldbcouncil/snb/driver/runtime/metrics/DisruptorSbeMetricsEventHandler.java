@@ -34,6 +34,7 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
             TimeUnit unit,
             TimeSource timeSource,
             long maxRuntimeDurationAsNano,
+            long responseTimeExpectedIntervalAsNano,
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
     {
@@ -43,6 +44,7 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
                 timeSource,
                 unit,
                 maxRuntimeDurationAsNano,
+                responseTimeExpectedIntervalAsNano,
                 operationTypeToClassMapping,
                 loggingServiceFactory );
         operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
@@ -93,7 +95,8 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
                     resultCode,
                     originalStartTime );
 
-            metricsManager.measure( actualStartTimeAsMilli, runDurationAsNano, operationType );
+            metricsManager.measure( scheduledStartTimeAsMilli, actualStartTimeAsMilli, runDurationAsNano,
+                    operationType );
             processedEventCount++;
             break;
         }
@@ -7,7 +7,6 @@ import org.ldbcouncil.snb.driver.runtime.metrics.sbe.MetricsEvent;
 import org.ldbcouncil.snb.driver.temporal.TimeSource;
 import com.lmax.disruptor.BlockingWaitStrategy;
 import com.lmax.disruptor.EventTranslator;
-import com.lmax.disruptor.EventTranslatorVararg;
 import com.lmax.disruptor.RingBuffer;
 import com.lmax.disruptor.TimeoutException;
 import com.lmax.disruptor.dsl.Disruptor;
@@ -56,6 +55,32 @@ public class DisruptorSbeMetricsService implements MetricsService
             ResultsLogWriter resultsLogWriter,
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+    {
+        this(
+                timeSource,
+                errorReporter,
+                timeUnit,
+                maxRuntimeDurationAsNano,
+                0,
+                resultsLogWriter,
+                operationTypeToClassMapping,
+                loggingServiceFactory
+        );
+    }
+
+    /**
+     * @param responseTimeExpectedIntervalAsNano response times longer than this are corrected for coordinated
+     * omission, not corrected if not greater than 0
+     */
+    public DisruptorSbeMetricsService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            TimeUnit timeUnit,
+            long maxRuntimeDurationAsNano,
+            long responseTimeExpectedIntervalAsNano,
+            ResultsLogWriter resultsLogWriter,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
     {
         // Specify the size of the ring buffer, must be power of 2
         int bufferSize = 1024;
@@ -84,6 +109,7 @@ public class DisruptorSbeMetricsService implements MetricsService
                 timeUnit,
                 timeSource,
                 maxRuntimeDurationAsNano,
+                responseTimeExpectedIntervalAsNano,
                 operationTypeToClassMapping,
                 loggingServiceFactory
         );
@@ -230,8 +256,19 @@ public class DisruptorSbeMetricsService implements MetricsService
                 alreadyShutdownPolicy.apply();
             }
             initiatedEvents.incrementAndGet();
-            ringBuffer.publishEvent( submitOperationResultTranslator, operationType, scheduledStartTimeAsMilli,
-                    actualStartTimeAsMilli, runDurationAsNano, resultCode, originalStartTime );
+            // claim and publish directly, rather than via publishEvent(EventTranslatorVararg,Object...),
+            // which would allocate an array and box every field of every result
+            long sequence = ringBuffer.next();
+            try
+            {
+                submitOperationResultTranslator.translateTo( ringBuffer.get( sequence ), sequence, operationType,
+                        scheduledStartTimeAsMilli, actualStartTimeAsMilli, runDurationAsNano, resultCode,
+                        originalStartTime );
+            }
+            finally
+            {
+                ringBuffer.publish( sequence );
+            }
         }
 
         @Override
@@ -268,7 +305,10 @@ public class DisruptorSbeMetricsService implements MetricsService
             return resultsSnapshotReference.getReference();
         }
 
-        public static class SubmitOperationResultTranslator implements EventTranslatorVararg<DirectBuffer>
+        /**
+         * Primitive specialized translator, Disruptor only provides translators that take fields as objects
+         */
+        public static class SubmitOperationResultTranslator
         {
             private final MetricsEvent metricsEvent;
 
@@ -277,17 +317,23 @@ public class DisruptorSbeMetricsService implements MetricsService
                 this.metricsEvent = metricsEvent;
             }
 
-            @Override
-            public void translateTo( DirectBuffer event, long l, Object... fields )
+            public void translateTo( DirectBuffer event,
+                    long l,
+                    int operationType,
+                    long scheduledStartTimeAsMilli,
+                    long actualStartTimeAsMilli,
+                    long runDurationAsNano,
+                    int resultCode,
+                    long originalStartTime )
             {
                 metricsEvent.wrapForEncode( event, MESSAGE_HEADER_SIZE )
                         .eventType( SUBMIT_OPERATION_RESULT )
-                        .operationType( (int) fields[0] )
-                        .scheduledStartTimeAsMilli( (long) fields[1] )
-                        .actualStartTimeAsMilli( (long) fields[2] )
-                        .runDurationAsNano( (long) fields[3] )
-                        .resultCode( (int) fields[4] )
-                        .originalStartTime((long) fields[5]);
+                        .operationType( operationType )
+                        .scheduledStartTimeAsMilli( scheduledStartTimeAsMilli )
+                        .actualStartTimeAsMilli( actualStartTimeAsMilli )
+                        .runDurationAsNano( runDurationAsNano )
+                        .resultCode( resultCode )
+                        .originalStartTime( originalStartTime );
             }
         }
 
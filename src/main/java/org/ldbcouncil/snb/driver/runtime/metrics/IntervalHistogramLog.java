@@ -0,0 +1,234 @@
+package org.ldbcouncil.snb.driver.runtime.metrics;
+
+import org.HdrHistogram.AbstractHistogram;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+import static java.lang.String.format;
+
+/**
+ * Logs, per operation type, a histogram of the run times of operations that completed in each interval, so run time
+ * percentiles can be followed over the course of a run. Each operation type is logged to its own file, in HdrHistogram
+ * interval log format, with interval start times relative to the start time of the log.
+ * <p>
+ * Histograms are encoded with the bundled HdrHistogram, but written by the driver, as HdrHistogram's own log writer
+ * depends on javax.xml.bind, which newer JVMs no longer provide.
+ */
+public class IntervalHistogramLog implements Closeable
+{
+    public static final String FILENAME_SUFFIX = ".hlog";
+    private static final String LOG_FORMAT_VERSION = "1.01";
+    private static final int NUMBER_OF_SIGNIFICANT_DIGITS = 4;
+    // interval max column is scaled down as HdrHistogram's log writer does, histograms hold unscaled values
+    private static final double MAX_VALUE_UNIT_RATIO = 1000000.0;
+
+    private final TimeSource timeSource;
+    private final TimeUnit unit;
+    private final long highestTrackableValue;
+    private final long startTimeAsMilli;
+    private final IntervalHistogramRecorder[] recorders;
+    private final PrintStream[] logs;
+    private ByteBuffer buffer = null;
+
+    public static File logFile( File directory, String operationName )
+    {
+        return new File( directory, operationName + FILENAME_SUFFIX );
+    }
+
+    public IntervalHistogramLog(
+            File directory,
+            TimeSource timeSource,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping ) throws MetricsCollectionException
+    {
+        this.timeSource = timeSource;
+        this.unit = unit;
+        this.highestTrackableValue = unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS );
+        this.startTimeAsMilli = timeSource.nowAsMilli();
+        String[] operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
+        this.recorders = new IntervalHistogramRecorder[operationNames.length];
+        this.logs = new PrintStream[operationNames.length];
+        for ( int operationType = 0; operationType < operationNames.length; operationType++ )
+        {
+            if ( null == operationNames[operationType] )
+            {
+                continue;
+            }
+            recorders[operationType] = new IntervalHistogramRecorder(
+                    highestTrackableValue,
+                    NUMBER_OF_SIGNIFICANT_DIGITS,
+                    startTimeAsMilli );
+            File logFile = logFile( directory, operationNames[operationType] );
+            try
+            {
+                logs[operationType] =
+                        new PrintStream( new FileOutputStream( logFile ), false, StandardCharsets.UTF_8.name() );
+            }
+            catch ( FileNotFoundException | UnsupportedEncodingException e )
+            {
+                close();
+                throw new MetricsCollectionException(
+                        format( "Error creating interval histogram log: %s", logFile.getAbsolutePath() ), e );
+            }
+            writeHeader( logs[operationType], operationNames[operationType] );
+        }
+    }
+
+    private void writeHeader( PrintStream log, String operationName )
+    {
+        log.format( "#[%s run time (%s)]\n", operationName, unit.name() );
+        log.format( "#[Histogram log format version %s]\n", LOG_FORMAT_VERSION );
+        log.format( Locale.US, "#[StartTime: %.3f (seconds since epoch), %s]\n",
+                startTimeAsMilli / 1000.0, new Date( startTimeAsMilli ) );
+        log.print( "\"StartTimestamp\",\"Interval_Length\",\"Interval_Max\",\"Interval_Compressed_Histogram\"\n" );
+        log.flush();
+    }
+
+    /**
+     * Wait-free, so may be called by any thread, concurrently with {@link #writeIntervals()}
+     */
+    public void record( int operationType, long runDurationAsNano )
+    {
+        long runDuration = unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS );
+        // run times too long to track are recorded as the longest that can be, run time metrics report them
+        recorders[operationType].recordValue( Math.min( runDuration, highestTrackableValue ) );
+    }
+
+    /**
+     * Ends the current interval, and writes the histogram of every operation type for it
+     */
+    public synchronized void writeIntervals() throws MetricsCollectionException
+    {
+        long nowAsMilli = timeSource.nowAsMilli();
+        for ( int operationType = 0; operationType < recorders.length; operationType++ )
+        {
+            if ( null == recorders[operationType] )
+            {
+                continue;
+            }
+            AbstractHistogram intervalHistogram = recorders[operationType].intervalHistogram( nowAsMilli );
+            writeInterval( logs[operationType], intervalHistogram );
+            if ( logs[operationType].checkError() )
+            {
+                throw new MetricsCollectionException( "Error writing interval histogram log" );
+            }
+        }
+    }
+
+    private void writeInterval( PrintStream log, AbstractHistogram intervalHistogram )
+    {
+        if ( null == buffer || buffer.capacity() < intervalHistogram.getNeededByteBufferCapacity() )
+        {
+            buffer = ByteBuffer.allocate( intervalHistogram.getNeededByteBufferCapacity() );
+        }
+        buffer.clear();
+        int length = intervalHistogram.encodeIntoCompressedByteBuffer( buffer, Deflater.BEST_COMPRESSION );
+        log.format( Locale.US, "%.3f,%.3f,%.3f,%s\n",
+                (intervalHistogram.getStartTimeStamp() - startTimeAsMilli) / 1000.0,
+                (intervalHistogram.getEndTimeStamp() - intervalHistogram.getStartTimeStamp()) / 1000.0,
+                intervalHistogram.getMaxValue() / MAX_VALUE_UNIT_RATIO,
+                Base64.getEncoder().encodeToString( Arrays.copyOf( buffer.array(), length ) ) );
+        log.flush();
+    }
+
+    @Override
+    public synchronized void close()
+    {
+        for ( PrintStream log : logs )
+        {
+            if ( null != log )
+            {
+                log.close();
+            }
+        }
+    }
+
+    /**
+     * @return metrics service that records the run time of every operation result submitted to it in this log,
+     * before submitting it to the given metrics service
+     */
+    public MetricsService recordingIntervalsOf( MetricsService metricsService )
+    {
+        return new IntervalRecordingMetricsService( metricsService );
+    }
+
+    private class IntervalRecordingMetricsService implements MetricsService
+    {
+        private final MetricsService metricsService;
+
+        private IntervalRecordingMetricsService( MetricsService metricsService )
+        {
+            this.metricsService = metricsService;
+        }
+
+        @Override
+        public void shutdown() throws MetricsCollectionException
+        {
+            metricsService.shutdown();
+        }
+
+        @Override
+        public MetricsServiceWriter getWriter() throws MetricsCollectionException
+        {
+            return new IntervalRecordingMetricsServiceWriter( metricsService.getWriter() );
+        }
+    }
+
+    private class IntervalRecordingMetricsServiceWriter implements MetricsService.MetricsServiceWriter
+    {
+        private final MetricsService.MetricsServiceWriter metricsServiceWriter;
+
+        private IntervalRecordingMetricsServiceWriter( MetricsService.MetricsServiceWriter metricsServiceWriter )
+        {
+            this.metricsServiceWriter = metricsServiceWriter;
+        }
+
+        @Override
+        public void submitOperationResult(
+                int operationType,
+                long scheduledStartTimeAsMilli,
+                long actualStartTimeAsMilli,
+                long runDurationAsNano,
+                int resultCode,
+                long originalStartTime ) throws MetricsCollectionException
+        {
+            record( operationType, runDurationAsNano );
+            metricsServiceWriter.submitOperationResult(
+                    operationType,
+                    scheduledStartTimeAsMilli,
+                    actualStartTimeAsMilli,
+                    runDurationAsNano,
+                    resultCode,
+                    originalStartTime );
+        }
+
+        @Override
+        public WorkloadStatusSnapshot status() throws MetricsCollectionException
+        {
+            return metricsServiceWriter.status();
+        }
+
+        @Override
+        public WorkloadResultsSnapshot results() throws MetricsCollectionException
+        {
+            return metricsServiceWriter.results();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.ldbcouncil.snb.driver.runtime.metrics;
+
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.String.format;
+
+/**
+ * Periodically writes the interval histograms of an {@link IntervalHistogramLog}, while the workload executes
+ */
+public class IntervalHistogramLogThread extends Thread
+{
+    private final IntervalHistogramLog intervalHistogramLog;
+    private final long intervalAsMilli;
+    private final ConcurrentErrorReporter errorReporter;
+    private AtomicBoolean continueRunning = new AtomicBoolean( true );
+
+    public IntervalHistogramLogThread(
+            IntervalHistogramLog intervalHistogramLog,
+            long intervalAsMilli,
+            ConcurrentErrorReporter errorReporter )
+    {
+        super( IntervalHistogramLogThread.class.getSimpleName() + "-" + System.currentTimeMillis() );
+        setDaemon( true );
+        this.intervalHistogramLog = intervalHistogramLog;
+        this.intervalAsMilli = intervalAsMilli;
+        this.errorReporter = errorReporter;
+    }
+
+    @Override
+    public void run()
+    {
+        while ( continueRunning.get() )
+        {
+            try
+            {
+                Spinner.powerNap( intervalAsMilli );
+                intervalHistogramLog.writeIntervals();
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError(
+                        this,
+                        format(
+                                "Interval histogram log thread encountered unexpected error - exiting\n%s",
+                                ConcurrentErrorReporter.stackTraceToString( e )
+                        )
+                );
+                break;
+            }
+        }
+    }
+
+    synchronized public final void shutdown()
+    {
+        continueRunning.set( false );
+    }
+}
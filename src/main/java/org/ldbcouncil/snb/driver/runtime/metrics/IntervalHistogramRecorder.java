@@ -0,0 +1,92 @@
+package org.ldbcouncil.snb.driver.runtime.metrics;
+
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.AtomicHistogram;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records values into one of two histograms, so the values recorded during an interval can be taken without stopping
+ * recording: recorders never block, or wait for the thread taking the interval histogram.
+ * <p>
+ * Recorders enter a phase (even or odd) before recording, and leave it after recording. Taking the interval histogram
+ * swaps the histograms, flips the phase, then waits for recorders still in the previous phase, which may still be
+ * recording into the histogram that was swapped out. Histograms are atomic, as recorders in the same phase record
+ * into the same histogram concurrently.
+ */
+class IntervalHistogramRecorder
+{
+    private final AtomicLong startEpoch = new AtomicLong( 0 );
+    private final AtomicLong evenEndEpoch = new AtomicLong( 0 );
+    private final AtomicLong oddEndEpoch = new AtomicLong( Long.MIN_VALUE );
+    private volatile AtomicHistogram activeHistogram;
+    private AtomicHistogram inactiveHistogram;
+
+    IntervalHistogramRecorder( long highestTrackableValue, int numberOfSignificantDigits, long startTimeAsMilli )
+    {
+        long lowestTrackableValue = 1;
+        this.activeHistogram =
+                new AtomicHistogram( lowestTrackableValue, highestTrackableValue, numberOfSignificantDigits );
+        this.inactiveHistogram =
+                new AtomicHistogram( lowestTrackableValue, highestTrackableValue, numberOfSignificantDigits );
+        this.activeHistogram.setStartTimeStamp( startTimeAsMilli );
+    }
+
+    void recordValue( long value )
+    {
+        long epochAtEnter = startEpoch.getAndIncrement();
+        try
+        {
+            activeHistogram.recordValue( value );
+        }
+        finally
+        {
+            if ( epochAtEnter < 0 )
+            {
+                oddEndEpoch.getAndIncrement();
+            }
+            else
+            {
+                evenEndEpoch.getAndIncrement();
+            }
+        }
+    }
+
+    /**
+     * Histogram is only valid until the next call, which reuses it
+     *
+     * @param nowAsMilli end of the interval, and start of the next one
+     * @return histogram of values recorded since the previous call, with interval start and end time stamps
+     */
+    synchronized AbstractHistogram intervalHistogram( long nowAsMilli )
+    {
+        AtomicHistogram intervalHistogram = activeHistogram;
+        inactiveHistogram.reset();
+        inactiveHistogram.setStartTimeStamp( nowAsMilli );
+        activeHistogram = inactiveHistogram;
+        flipPhase();
+        inactiveHistogram = intervalHistogram;
+        intervalHistogram.setEndTimeStamp( nowAsMilli );
+        return intervalHistogram;
+    }
+
+    private void flipPhase()
+    {
+        boolean nextPhaseIsEven = startEpoch.get() < 0;
+        long initialEpoch = (nextPhaseIsEven) ? 0 : Long.MIN_VALUE;
+        if ( nextPhaseIsEven )
+        {
+            evenEndEpoch.set( initialEpoch );
+        }
+        else
+        {
+            oddEndEpoch.set( initialEpoch );
+        }
+        long epochAtFlip = startEpoch.getAndSet( initialEpoch );
+        AtomicLong previousPhaseEndEpoch = (nextPhaseIsEven) ? oddEndEpoch : evenEndEpoch;
+        while ( previousPhaseEndEpoch.get() != epochAtFlip )
+        {
+            Thread.yield();
+        }
+    }
+}
@@ -45,6 +45,7 @@ public class MetricsManager
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
             TimeUnit unit,
             long highestExpectedRuntimeDurationAsNano,
+            long responseTimeExpectedIntervalAsNano,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
     {
         if ( operationTypeToClassMapping.isEmpty() )
@@ -76,6 +77,7 @@ public class MetricsManager
                             operationClass.getSimpleName(),
                             unit,
                             highestExpectedRuntimeDurationAsNano,
+                            responseTimeExpectedIntervalAsNano,
                             loggingServiceFactory
                     );
                 }
@@ -122,11 +124,33 @@ public class MetricsManager
             long highestExpectedRuntimeDurationAsNano,
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+    {
+        this(
+                timeSource,
+                unit,
+                highestExpectedRuntimeDurationAsNano,
+                0,
+                operationTypeToClassMapping,
+                loggingServiceFactory
+        );
+    }
+
+    /**
+     * @param responseTimeExpectedIntervalAsNano response times longer than this are corrected for coordinated
+     * omission, not corrected if not greater than 0
+     */
+    public MetricsManager( TimeSource timeSource,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            long responseTimeExpectedIntervalAsNano,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
     {
         operationTypeMetricsManagers = toOperationTypeMetricsManagerArray(
                 operationTypeToClassMapping,
                 unit,
                 highestExpectedRuntimeDurationAsNano,
+                responseTimeExpectedIntervalAsNano,
                 loggingServiceFactory
         );
         this.operationTypeToClassMapping = operationTypeToClassMapping;
@@ -140,6 +164,16 @@ public class MetricsManager
 
     public void measure( long actualStartTimeAsMilli, long runDurationAsNano, int operationType )
             throws MetricsCollectionException
+    {
+        measure( actualStartTimeAsMilli, actualStartTimeAsMilli, runDurationAsNano, operationType );
+    }
+
+    /**
+     * Measures run time, from actual start time, and response time, from scheduled start time. Response time includes
+     * the time an operation waited to start, e.g., because the system under test stalled, which run time omits.
+     */
+    public void measure( long scheduledStartTimeAsMilli, long actualStartTimeAsMilli, long runDurationAsNano,
+            int operationType ) throws MetricsCollectionException
     {
         if ( actualStartTimeAsMilli < startTimeAsMilli )
         {
@@ -152,7 +186,10 @@ public class MetricsManager
             latestFinishTimeAsMilli = operationFinishTimeAsMilli;
         }
 
-        operationTypeMetricsManagers[operationType].measure( runDurationAsNano );
+        // operations may start ahead of schedule, e.g., when scheduled start times are ignored
+        long startDelayAsNano = TimeUnit.MILLISECONDS.toNanos(
+                Math.max( 0, actualStartTimeAsMilli - scheduledStartTimeAsMilli ) );
+        operationTypeMetricsManagers[operationType].measure( runDurationAsNano, startDelayAsNano + runDurationAsNano );
     }
 
     public void applyResultsLog( ResultsLogReader reader ) throws MetricsCollectionException
@@ -161,7 +198,8 @@ public class MetricsManager
         while ( reader.next() )
         {
             int operationType = simpleNameToTypeMapping.get( reader.getOperationName() );
-            measure( reader.getActualStartTimeAsMilli(), reader.getRunDurationAsNano(), operationType );
+            measure( reader.getScheduledStartTimeAsMilli(), reader.getActualStartTimeAsMilli(),
+                    reader.getRunDurationAsNano(), operationType );
         }
     }
 
@@ -13,6 +13,8 @@ public class OperationMetricsSnapshot {
     private long count;
     @JsonProperty("run_time")
     private ContinuousMetricSnapshot rutTimeMetric;
+    @JsonProperty("response_time")
+    private ContinuousMetricSnapshot responseTimeMetric;
 
     private OperationMetricsSnapshot() {
     }
@@ -21,10 +23,19 @@ public class OperationMetricsSnapshot {
                                     TimeUnit durationUnit,
                                     long count,
                                     ContinuousMetricSnapshot rutTimeMetric) {
+        this(name, durationUnit, count, rutTimeMetric, null);
+    }
+
+    public OperationMetricsSnapshot(String name,
+                                    TimeUnit durationUnit,
+                                    long count,
+                                    ContinuousMetricSnapshot rutTimeMetric,
+                                    ContinuousMetricSnapshot responseTimeMetric) {
         this.name = name;
         this.durationUnit = durationUnit;
         this.count = count;
         this.rutTimeMetric = rutTimeMetric;
+        this.responseTimeMetric = responseTimeMetric;
     }
 
     public String name() {
@@ -43,6 +54,13 @@ public class OperationMetricsSnapshot {
         return rutTimeMetric;
     }
 
+    /**
+     * @return time from scheduled start to end of operation, null if results were recorded without it
+     */
+    public ContinuousMetricSnapshot responseTimeMetric() {
+        return responseTimeMetric;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -55,6 +73,9 @@ public class OperationMetricsSnapshot {
         if (name != null ? !name.equals(that.name) : that.name != null) return false;
         if (rutTimeMetric != null ? !rutTimeMetric.equals(that.rutTimeMetric) : that.rutTimeMetric != null)
             return false;
+        if (responseTimeMetric != null ? !responseTimeMetric.equals(that.responseTimeMetric) :
+                that.responseTimeMetric != null)
+            return false;
 
         return true;
     }
@@ -65,6 +86,7 @@ public class OperationMetricsSnapshot {
         result = 31 * result + (durationUnit != null ? durationUnit.hashCode() : 0);
         result = 31 * result + (int) (count ^ (count >>> 32));
         result = 31 * result + (rutTimeMetric != null ? rutTimeMetric.hashCode() : 0);
+        result = 31 * result + (responseTimeMetric != null ? responseTimeMetric.hashCode() : 0);
         return result;
     }
 
@@ -75,6 +97,7 @@ public class OperationMetricsSnapshot {
                 ", durationUnit=" + durationUnit +
                 ", count=" + count +
                 ", rutTimeMetric=" + rutTimeMetric +
+                ", responseTimeMetric=" + responseTimeMetric +
                 '}';
     }
 }
@@ -12,23 +12,29 @@ import static java.lang.String.format;
 public class OperationTypeMetricsManager
 {
     private static final String METRIC_RUNTIME = "Runtime";
+    private static final String METRIC_RESPONSE_TIME = "Response Time";
 
     private final TemporalUtil temporalUtil = new TemporalUtil();
     private final ContinuousMetricManager runTimeMetric;
+    private final ContinuousMetricManager responseTimeMetric;
     private final String name;
     private final TimeUnit unit;
     private final long highestExpectedRuntimeDurationAsNano;
+    private final long responseTimeExpectedIntervalInAppropriateUnit;
     private final LoggingService loggingService;
 
     OperationTypeMetricsManager(
             String name,
             TimeUnit unit,
             long highestExpectedRuntimeDurationAsNano,
+            long responseTimeExpectedIntervalAsNano,
             LoggingServiceFactory loggingServiceFactory )
     {
         this.name = name;
         this.unit = unit;
         this.highestExpectedRuntimeDurationAsNano = highestExpectedRuntimeDurationAsNano;
+        this.responseTimeExpectedIntervalInAppropriateUnit =
+                unit.convert( responseTimeExpectedIntervalAsNano, TimeUnit.NANOSECONDS );
         loggingService = loggingServiceFactory.loggingServiceFor( getClass().getSimpleName() );
         this.runTimeMetric = new ContinuousMetricManager(
                 METRIC_RUNTIME,
@@ -36,46 +42,69 @@ public class OperationTypeMetricsManager
                 unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
                 4
         );
+        this.responseTimeMetric = new ContinuousMetricManager(
+                METRIC_RESPONSE_TIME,
+                unit,
+                unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                4
+        );
     }
 
-    void measure( long runDurationAsNano ) throws MetricsCollectionException
+    /**
+     * @param runDurationAsNano service time, from actual start time
+     * @param responseTimeAsNano response time, from scheduled start time
+     */
+    void measure( long runDurationAsNano, long responseTimeAsNano ) throws MetricsCollectionException
     {
         //
         // Measure operation runtime
         //
-        if ( runDurationAsNano > highestExpectedRuntimeDurationAsNano )
+        measure( runTimeMetric, runDurationAsNano, 0 );
+
+        //
+        // Measure operation response time
+        //
+        measure( responseTimeMetric, responseTimeAsNano, responseTimeExpectedIntervalInAppropriateUnit );
+    }
+
+    private void measure( ContinuousMetricManager metric, long durationAsNano, long expectedIntervalInAppropriateUnit )
+            throws MetricsCollectionException
+    {
+        if ( durationAsNano > highestExpectedRuntimeDurationAsNano )
         {
             String errMsg = format(
-                    "Error recording runtime - reported value exceeds maximum allowed. Time " +
+                    "Error recording %s - reported value exceeds maximum allowed. Time " +
                     "reported as maximum.\n"
                     + "Reported: %s %s / %s\n"
                     + "For: %s\n"
                     + "Maximum: %s %s / %s",
-                    runDurationAsNano,
+                    metric.name(),
+                    durationAsNano,
                     TimeUnit.NANOSECONDS.name(),
-                    temporalUtil.nanoDurationToString( runDurationAsNano ),
+                    temporalUtil.nanoDurationToString( durationAsNano ),
                     name,
                     highestExpectedRuntimeDurationAsNano,
                     TimeUnit.NANOSECONDS.name(),
                     temporalUtil.nanoDurationToString( highestExpectedRuntimeDurationAsNano )
             );
             loggingService.info( errMsg );
-            runDurationAsNano = highestExpectedRuntimeDurationAsNano;
+            durationAsNano = highestExpectedRuntimeDurationAsNano;
         }
 
-        long runtimeInAppropriateUnit = unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS );
+        long durationInAppropriateUnit = unit.convert( durationAsNano, TimeUnit.NANOSECONDS );
 
         try
         {
-            runTimeMetric.addMeasurement( runtimeInAppropriateUnit );
+            metric.addMeasurement( durationInAppropriateUnit, expectedIntervalInAppropriateUnit );
         }
         catch ( Throwable e )
         {
             String errMsg = format(
-                    "Error encountered adding runtime: %s %s / %s %s\nTo: %s\nHighest expected value: %s %s / %s %s",
-                    runDurationAsNano,
+                    "Error encountered adding %s: %s %s / %s %s\nTo: %s\nHighest expected value: %s %s / %s %s",
+                    metric.name(),
+                    durationAsNano,
                     TimeUnit.NANOSECONDS.name(),
-                    runtimeInAppropriateUnit,
+                    durationInAppropriateUnit,
                     unit.name(),
                     name,
                     highestExpectedRuntimeDurationAsNano,
@@ -89,7 +118,8 @@ public class OperationTypeMetricsManager
 
     public OperationMetricsSnapshot snapshot()
     {
-        return new OperationMetricsSnapshot( name, unit, count(), runTimeMetric.snapshot() );
+        return new OperationMetricsSnapshot( name, unit, count(), runTimeMetric.snapshot(),
+                responseTimeMetric.snapshot() );
     }
 
     public String name()
@@ -0,0 +1,59 @@
+package org.ldbcouncil.snb.driver.runtime.metrics;
+
+import java.io.File;
+import java.io.IOException;
+
+import static java.lang.String.format;
+
+/**
+ * Converts results logs between formats, e.g., binary results logs to the CSV format expected by existing tooling.
+ * <p>
+ * Usage: java -cp driver.jar org.ldbcouncil.snb.driver.runtime.metrics.ResultsLogConverter in.bin out.csv
+ */
+public class ResultsLogConverter
+{
+    public static void main( String[] args ) throws Exception
+    {
+        if ( 2 != args.length )
+        {
+            System.err.println( format( "Usage: %s <input results log> <output csv results log>",
+                    ResultsLogConverter.class.getName() ) );
+            System.exit( 1 );
+        }
+        long count = convert( new File( args[0] ), new File( args[1] ), ResultsLogFormat.CSV );
+        System.out.println( format( "Converted %s results to %s", count, args[1] ) );
+    }
+
+    /**
+     * Input format is detected from its content, time unit of input is preserved
+     *
+     * @return number of results converted
+     */
+    public static long convert( File inputResultsLog, File outputResultsLog, ResultsLogFormat outputFormat )
+            throws Exception
+    {
+        if ( inputResultsLog.getCanonicalFile().equals( outputResultsLog.getCanonicalFile() ) )
+        {
+            throw new IOException( format( "Input and output results log must differ: %s",
+                    inputResultsLog.getAbsolutePath() ) );
+        }
+        long count = 0;
+        try ( ResultsLogReader reader = ResultsLogFormat.openReader( inputResultsLog );
+              ResultsLogWriter writer = outputFormat.newWriter( outputResultsLog, reader.unit(), false ) )
+        {
+            while ( reader.next() )
+            {
+                writer.write(
+                        reader.getOperationName(),
+                        reader.getScheduledStartTimeAsMilli(),
+                        reader.getActualStartTimeAsMilli(),
+                        reader.getRunDurationAsNano(),
+                        reader.getResultCode(),
+                        reader.getOriginalStartTime()
+                );
+                count++;
+            }
+        }
+        return count;
+    }
+}
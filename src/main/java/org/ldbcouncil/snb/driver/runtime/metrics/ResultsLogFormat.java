@@ -0,0 +1,114 @@
+package org.ldbcouncil.snb.driver.runtime.metrics;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * File format of the results log, which records every executed operation.
+ */
+public enum ResultsLogFormat
+{
+    // one text row per operation, written via SimpleResultsLogWriter
+    CSV( "-results_log.csv" ),
+    // fixed width binary record per operation, written via BinaryResultsLogWriter
+    BINARY( "-results_log.bin" );
+
+    private final String filenameSuffix;
+
+    ResultsLogFormat( String filenameSuffix )
+    {
+        this.filenameSuffix = filenameSuffix;
+    }
+
+    public String filenameSuffix()
+    {
+        return filenameSuffix;
+    }
+
+    public ResultsLogWriter newWriter( File resultsLog, TimeUnit unit, boolean flushLog ) throws IOException
+    {
+        switch ( this )
+        {
+        case CSV:
+            return new SimpleResultsLogWriter( resultsLog, unit, flushLog );
+        case BINARY:
+            return new BinaryResultsLogWriter( resultsLog, unit, flushLog );
+        default:
+            throw new IllegalStateException( format( "Unsupported results log format: %s", this ) );
+        }
+    }
+
+    public ResultsLogReader newReader( File resultsLog ) throws IOException
+    {
+        switch ( this )
+        {
+        case CSV:
+            return new SimpleResultsLogReader( resultsLog );
+        case BINARY:
+            return new BinaryResultsLogReader( resultsLog );
+        default:
+            throw new IllegalStateException( format( "Unsupported results log format: %s", this ) );
+        }
+    }
+
+    /**
+     * Splits an existing results log of this format into ranges of about rangeSize bytes, which can be read in
+     * parallel. There is always at least one range.
+     */
+    public List<ResultsLogRange> split( File resultsLog, long rangeSize ) throws IOException
+    {
+        switch ( this )
+        {
+        case CSV:
+            return SimpleResultsLogRangeReader.split( resultsLog, rangeSize );
+        case BINARY:
+            return BinaryResultsLogReader.split( resultsLog, rangeSize );
+        default:
+            throw new IllegalStateException( format( "Unsupported results log format: %s", this ) );
+        }
+    }
+
+    /**
+     * Detects format of an existing results log from its content, rather than from its name
+     */
+    public static ResultsLogFormat of( File resultsLog ) throws IOException
+    {
+        try ( DataInputStream in = new DataInputStream( new FileInputStream( resultsLog ) ) )
+        {
+            return (BinaryResultsLogWriter.MAGIC_NUMBER == in.readInt()) ? BINARY : CSV;
+        }
+        catch ( EOFException e )
+        {
+            return CSV;
+        }
+    }
+
+    /**
+     * Opens a reader for an existing results log of either format
+     */
+    public static ResultsLogReader openReader( File resultsLog ) throws IOException
+    {
+        return of( resultsLog ).newReader( resultsLog );
+    }
+
+    public static ResultsLogFormat parse( String resultsLogFormatString )
+    {
+        try
+        {
+            return ResultsLogFormat.valueOf( resultsLogFormatString.trim().toUpperCase() );
+        }
+        catch ( IllegalArgumentException | NullPointerException e )
+        {
+            throw new IllegalArgumentException( format( "Unsupported results log format: %s\nValid values: %s",
+                    resultsLogFormatString, Arrays.toString( ResultsLogFormat.values() ) ) );
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.ldbcouncil.snb.driver.runtime.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Byte range of a results log, whose results can be read independently of the rest of the log, e.g., by another
+ * thread. Created via {@link ResultsLogFormat#split(File, long)}.
+ */
+public class ResultsLogRange
+{
+    private final File resultsLog;
+    private final ResultsLogFormat resultsLogFormat;
+    private final long startPosition;
+    private final long endPosition;
+    private final TimeUnit unit;
+    // binary results log only, operation names defined before the range
+    private final List<String> operationNames;
+
+    ResultsLogRange(
+            File resultsLog,
+            ResultsLogFormat resultsLogFormat,
+            long startPosition,
+            long endPosition,
+            TimeUnit unit,
+            List<String> operationNames )
+    {
+        this.resultsLog = resultsLog;
+        this.resultsLogFormat = resultsLogFormat;
+        this.startPosition = startPosition;
+        this.endPosition = endPosition;
+        this.unit = unit;
+        this.operationNames = operationNames;
+    }
+
+    public long startPosition()
+    {
+        return startPosition;
+    }
+
+    public long endPosition()
+    {
+        return endPosition;
+    }
+
+    /**
+     * Opens a reader over the results in this range only
+     */
+    public ResultsLogReader newReader() throws IOException
+    {
+        switch ( resultsLogFormat )
+        {
+        case CSV:
+            return new SimpleResultsLogRangeReader( resultsLog, startPosition, endPosition, unit,
+                    SimpleResultsLogRangeReader.DEFAULT_BUFFER_SIZE );
+        case BINARY:
+            return new BinaryResultsLogReader( resultsLog, startPosition, endPosition, unit, operationNames,
+                    BinaryResultsLogReader.DEFAULT_WINDOW_SIZE );
+        default:
+            throw new IllegalStateException( format( "Unsupported results log format: %s", resultsLogFormat ) );
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ResultsLogRange{" +
+               "resultsLog=" + resultsLog +
+               ", resultsLogFormat=" + resultsLogFormat +
+               ", startPosition=" + startPosition +
+               ", endPosition=" + endPosition +
+               '}';
+    }
+}
@@ -82,6 +82,21 @@ public class SimpleDetailedWorkloadMetricsFormatter implements WorkloadMetricsFo
         sb.append( offset ).append( offset )
                 .append( String.format( "%1$-" + padRightDistance + "s", "99th Percentile:" ) )
                 .append( INTEGER_FORMATTER.format( metric.runTimeMetric().percentile99() ) ).append( "\n" );
+        if ( null != metric.responseTimeMetric() )
+        {
+            sb.append( offset ).append( offset )
+                    .append( String.format( "%1$-" + padRightDistance + "s", "Response Mean:" ) )
+                    .append( FLOAT_FORMATTER.format( metric.responseTimeMetric().mean() ) ).append( "\n" );
+            sb.append( offset ).append( offset )
+                    .append( String.format( "%1$-" + padRightDistance + "s", "Response 50th:" ) )
+                    .append( INTEGER_FORMATTER.format( metric.responseTimeMetric().percentile50() ) ).append( "\n" );
+            sb.append( offset ).append( offset )
+                    .append( String.format( "%1$-" + padRightDistance + "s", "Response 90th:" ) )
+                    .append( INTEGER_FORMATTER.format( metric.responseTimeMetric().percentile90() ) ).append( "\n" );
+            sb.append( offset ).append( offset )
+                    .append( String.format( "%1$-" + padRightDistance + "s", "Response 99th:" ) )
+                    .append( INTEGER_FORMATTER.format( metric.responseTimeMetric().percentile99() ) ).append( "\n" );
+        }
         return sb.toString();
     }
 }
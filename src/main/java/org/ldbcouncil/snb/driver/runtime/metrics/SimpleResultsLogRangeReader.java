@@ -0,0 +1,386 @@
+package org.ldbcouncil.snb.driver.runtime.metrics;
+
+import org.ldbcouncil.snb.driver.csv.simple.SimpleCsvFileReader;
+import org.ldbcouncil.snb.driver.csv.simple.SimpleCsvFileWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.ldbcouncil.snb.driver.runtime.metrics.ResultsLogWriter.HEADER_EXECUTION_DURATION_PREFIX;
+import static org.ldbcouncil.snb.driver.runtime.metrics.ResultsLogWriter.INDEX_ACTUAL_START_TIME;
+import static org.ldbcouncil.snb.driver.runtime.metrics.ResultsLogWriter.INDEX_EXECUTION_DURATION;
+import static org.ldbcouncil.snb.driver.runtime.metrics.ResultsLogWriter.INDEX_OPERATION_TYPE;
+import static org.ldbcouncil.snb.driver.runtime.metrics.ResultsLogWriter.INDEX_ORIGINAL_START_TIME;
+import static org.ldbcouncil.snb.driver.runtime.metrics.ResultsLogWriter.INDEX_RESULT_CODE;
+import static org.ldbcouncil.snb.driver.runtime.metrics.ResultsLogWriter.INDEX_SCHEDULED_START_TIME;
+import static java.lang.String.format;
+
+/**
+ * Reads the rows of a CSV results log that start within a byte range of the file, the first row of the file being
+ * its header. Rows are tokenized directly from bytes, columns are only parsed when they are read, and operation
+ * names are decoded once per distinct name.
+ */
+class SimpleResultsLogRangeReader implements ResultsLogReader
+{
+    static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+    private static final byte COLUMN_SEPARATOR = (byte) SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR.charAt( 0 );
+    private static final int MAX_COLUMN_COUNT = INDEX_ORIGINAL_START_TIME + 1;
+
+    private final FileChannel channel;
+    private final long endPosition;
+    private final TimeUnit unit;
+    private final List<byte[]> operationNameBytes = new ArrayList<>();
+    private final List<String> operationNames = new ArrayList<>();
+    private final int[] columnStarts = new int[MAX_COLUMN_COUNT];
+    private final int[] columnEnds = new int[MAX_COLUMN_COUNT];
+    private byte[] buffer;
+    private int bufferLimit = 0;
+    // position of the first byte of buffer in the file
+    private long bufferPosition;
+    // position in buffer of the first byte of the next row
+    private int rowPosition = 0;
+    private boolean endOfFile = false;
+
+    private String operationName = null;
+    private int columnCount;
+
+    /**
+     * @param startPosition rows that start at or after this position are read
+     * @param endPosition rows that start before this position are read
+     * @param unit unit of execution durations, null if the header of the results log does not declare it
+     */
+    SimpleResultsLogRangeReader( File resultsLog, long startPosition, long endPosition, TimeUnit unit, int bufferSize )
+            throws IOException
+    {
+        this.channel = FileChannel.open( resultsLog.toPath(), StandardOpenOption.READ );
+        this.endPosition = endPosition;
+        this.unit = unit;
+        this.buffer = new byte[bufferSize];
+        // first row of the file is the header, the first row that starts before the range belongs to the previous
+        // range, unless the byte before the range ends it
+        this.bufferPosition = (0 == startPosition) ? 0 : startPosition - 1;
+        skipRow();
+    }
+
+    /**
+     * Splits a CSV results log into ranges of about rangeSize bytes
+     */
+    static List<ResultsLogRange> split( File resultsLog, long rangeSize ) throws IOException
+    {
+        if ( rangeSize < 1 )
+        {
+            throw new IllegalArgumentException( format( "Range size must be at least 1, was %s", rangeSize ) );
+        }
+        TimeUnit unit = unitFromHeaders( resultsLog );
+        long fileSize = resultsLog.length();
+        List<ResultsLogRange> ranges = new ArrayList<>();
+        long startPosition = 0;
+        do
+        {
+            long endPosition = Math.min( startPosition + rangeSize, fileSize );
+            ranges.add( new ResultsLogRange( resultsLog, ResultsLogFormat.CSV, startPosition, endPosition, unit,
+                    null ) );
+            startPosition = endPosition;
+        }
+        while ( startPosition < fileSize );
+        return ranges;
+    }
+
+    private static TimeUnit unitFromHeaders( File resultsLog )
+    {
+        try ( SimpleCsvFileReader reader = new SimpleCsvFileReader(
+                resultsLog,
+                SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
+        {
+            if ( !reader.hasNext() )
+            {
+                return null;
+            }
+            String[] headers = reader.next();
+            if ( headers.length > INDEX_EXECUTION_DURATION &&
+                 headers[INDEX_EXECUTION_DURATION].startsWith( HEADER_EXECUTION_DURATION_PREFIX ) )
+            {
+                try
+                {
+                    return TimeUnit.valueOf(
+                            headers[INDEX_EXECUTION_DURATION].replace( HEADER_EXECUTION_DURATION_PREFIX, "" ) );
+                }
+                catch ( IllegalArgumentException e )
+                {
+                    throw new RuntimeException( format( "Unsupported execution duration unit in headers: %s",
+                            Arrays.toString( headers ) ), e );
+                }
+            }
+            return null;
+        }
+        catch ( IOException e )
+        {
+            throw new RuntimeException( format( "Error reading headers of results log: %s",
+                    resultsLog.getAbsolutePath() ), e );
+        }
+    }
+
+    @Override
+    public boolean next()
+    {
+        try
+        {
+            while ( bufferPosition + rowPosition < endPosition )
+            {
+                int rowEnd = findRowEnd();
+                if ( -1 == rowEnd )
+                {
+                    break;
+                }
+                int rowStart = rowPosition;
+                rowPosition = Math.min( rowEnd + 1, bufferLimit );
+                if ( rowEnd > rowStart && '\r' == buffer[rowEnd - 1] )
+                {
+                    rowEnd--;
+                }
+                if ( rowEnd > rowStart )
+                {
+                    tokenize( rowStart, rowEnd );
+                    return true;
+                }
+            }
+            operationName = null;
+            return false;
+        }
+        catch ( IOException e )
+        {
+            throw new RuntimeException( "Error reading results log", e );
+        }
+    }
+
+    private void skipRow() throws IOException
+    {
+        int rowEnd = findRowEnd();
+        rowPosition = (-1 == rowEnd) ? bufferLimit : Math.min( rowEnd + 1, bufferLimit );
+    }
+
+    /**
+     * @return position in buffer of the newline that ends the row at rowPosition, or of the end of the file if the
+     * last row has no newline, reading more of the file if necessary. -1 if there is no row at rowPosition
+     */
+    private int findRowEnd() throws IOException
+    {
+        int scannedCount = 0;
+        while ( true )
+        {
+            for ( int position = rowPosition + scannedCount; position < bufferLimit; position++ )
+            {
+                if ( '\n' == buffer[position] )
+                {
+                    return position;
+                }
+            }
+            // fill may move the row to the start of buffer
+            scannedCount = bufferLimit - rowPosition;
+            if ( !fill() )
+            {
+                return (rowPosition < bufferLimit) ? bufferLimit : -1;
+            }
+        }
+    }
+
+    /**
+     * Moves the row at rowPosition to the start of buffer, growing buffer if the row fills it, and reads more of the
+     * file after it
+     *
+     * @return false at end of file
+     */
+    private boolean fill() throws IOException
+    {
+        if ( endOfFile )
+        {
+            return false;
+        }
+        if ( rowPosition > 0 )
+        {
+            System.arraycopy( buffer, rowPosition, buffer, 0, bufferLimit - rowPosition );
+            bufferPosition += rowPosition;
+            bufferLimit -= rowPosition;
+            rowPosition = 0;
+        }
+        else if ( bufferLimit == buffer.length )
+        {
+            buffer = Arrays.copyOf( buffer, buffer.length * 2 );
+        }
+        int readCount = channel.read(
+                ByteBuffer.wrap( buffer, bufferLimit, buffer.length - bufferLimit ),
+                bufferPosition + bufferLimit );
+        if ( readCount <= 0 )
+        {
+            endOfFile = true;
+            return false;
+        }
+        bufferLimit += readCount;
+        return true;
+    }
+
+    private void tokenize( int rowStart, int rowEnd )
+    {
+        columnCount = 0;
+        int columnStart = rowStart;
+        for ( int position = rowStart; position < rowEnd && columnCount < MAX_COLUMN_COUNT; position++ )
+        {
+            if ( COLUMN_SEPARATOR == buffer[position] )
+            {
+                columnStarts[columnCount] = columnStart;
+                columnEnds[columnCount] = position;
+                columnCount++;
+                columnStart = position + 1;
+            }
+        }
+        if ( columnCount < MAX_COLUMN_COUNT )
+        {
+            columnStarts[columnCount] = columnStart;
+            columnEnds[columnCount] = rowEnd;
+            columnCount++;
+        }
+        operationName = operationName( columnStarts[INDEX_OPERATION_TYPE], columnEnds[INDEX_OPERATION_TYPE] );
+    }
+
+    private String operationName( int start, int end )
+    {
+        int length = end - start;
+        for ( int i = 0; i < operationNameBytes.size(); i++ )
+        {
+            byte[] nameBytes = operationNameBytes.get( i );
+            if ( nameBytes.length == length && equalBytes( nameBytes, start ) )
+            {
+                return operationNames.get( i );
+            }
+        }
+        byte[] nameBytes = Arrays.copyOfRange( buffer, start, end );
+        String name = new String( nameBytes, StandardCharsets.UTF_8 );
+        operationNameBytes.add( nameBytes );
+        operationNames.add( name );
+        return name;
+    }
+
+    private boolean equalBytes( byte[] nameBytes, int start )
+    {
+        for ( int i = 0; i < nameBytes.length; i++ )
+        {
+            if ( nameBytes[i] != buffer[start + i] )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long parseColumn( int index )
+    {
+        assertRecordRead();
+        if ( index >= columnCount )
+        {
+            throw new RuntimeException( format( "Row has no column %s", index ) );
+        }
+        int start = columnStarts[index];
+        int end = columnEnds[index];
+        boolean negative = start < end && '-' == buffer[start];
+        int position = negative ? start + 1 : start;
+        if ( position == end )
+        {
+            throw numberFormatException( start, end );
+        }
+        long value = 0;
+        for ( ; position < end; position++ )
+        {
+            int digit = buffer[position] - '0';
+            if ( digit < 0 || digit > 9 || value < (Long.MIN_VALUE + digit) / 10 )
+            {
+                throw numberFormatException( start, end );
+            }
+            // accumulated negatively, so that Long.MIN_VALUE can be parsed
+            value = value * 10 - digit;
+        }
+        if ( negative )
+        {
+            return value;
+        }
+        if ( Long.MIN_VALUE == value )
+        {
+            throw numberFormatException( start, end );
+        }
+        return -value;
+    }
+
+    private NumberFormatException numberFormatException( int start, int end )
+    {
+        return new NumberFormatException( format( "For input string: \"%s\"",
+                new String( buffer, start, end - start, StandardCharsets.UTF_8 ) ) );
+    }
+
+    @Override
+    public TimeUnit unit()
+    {
+        return unit;
+    }
+
+    @Override
+    public String getOperationName()
+    {
+        assertRecordRead();
+        return operationName;
+    }
+
+    @Override
+    public long getScheduledStartTimeAsMilli()
+    {
+        return parseColumn( INDEX_SCHEDULED_START_TIME );
+    }
+
+    @Override
+    public long getActualStartTimeAsMilli()
+    {
+        return parseColumn( INDEX_ACTUAL_START_TIME );
+    }
+
+    @Override
+    public long getRunDurationAsNano()
+    {
+        if ( null == unit )
+        {
+            throw new RuntimeException( "Results log headers do not declare the unit of execution durations" );
+        }
+        return unit.toNanos( parseColumn( INDEX_EXECUTION_DURATION ) );
+    }
+
+    @Override
+    public int getResultCode()
+    {
+        return (int) parseColumn( INDEX_RESULT_CODE );
+    }
+
+    @Override
+    public long getOriginalStartTime()
+    {
+        return parseColumn( INDEX_ORIGINAL_START_TIME );
+    }
+
+    private void assertRecordRead()
+    {
+        if ( null == operationName )
+        {
+            throw new RuntimeException( "Nothing to read. Reader has not been advanced or has reached EOF." );
+        }
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        channel.close();
+    }
+}
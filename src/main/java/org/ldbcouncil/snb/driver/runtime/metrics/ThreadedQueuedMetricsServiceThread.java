@@ -117,6 +117,7 @@ public class ThreadedQueuedMetricsServiceThread extends Thread
             try
             {
                 metricsManager.measure(
+                        submitOperationResultEvent.scheduledStartTimeAsMilli(),
                         submitOperationResultEvent.actualStartTimeAsMilli(),
                         submitOperationResultEvent.runDurationAsNano(),
                         submitOperationResultEvent.operationType()
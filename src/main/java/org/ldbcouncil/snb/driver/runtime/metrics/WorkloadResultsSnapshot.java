@@ -18,7 +18,7 @@ public class WorkloadResultsSnapshot
     private List<OperationMetricsSnapshot> metrics;
 
     @JsonProperty( value = "format_version" )
-    private int formatVersion = 3;
+    private int formatVersion = 4;
 
     @JsonProperty( value = "unit" )
     private TimeUnit unit;
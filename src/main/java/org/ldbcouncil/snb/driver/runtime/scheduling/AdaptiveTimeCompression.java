@@ -0,0 +1,288 @@
+package org.ldbcouncil.snb.driver.runtime.scheduling;
+
+import org.ldbcouncil.snb.driver.runtime.metrics.MetricsCollectionException;
+import org.ldbcouncil.snb.driver.runtime.metrics.MetricsService;
+import org.ldbcouncil.snb.driver.runtime.metrics.WorkloadResultsSnapshot;
+import org.ldbcouncil.snb.driver.runtime.metrics.WorkloadStatusSnapshot;
+import org.ldbcouncil.snb.driver.util.Function1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.String.format;
+
+/**
+ * Maps scheduled start times of a workload to the times at which operations are executed, with a time compression
+ * ratio that is adjusted while the workload executes, to find the fastest ratio at which operations still start on
+ * schedule.
+ * <p/>
+ * Operations are mapped lazily, when they are pulled from their streams, so a new ratio applies to operations that
+ * have not been pulled yet. Mapping is piecewise linear: a new ratio starts a segment at the highest scheduled start
+ * time mapped so far, at the time it was mapped to, so mapped times remain continuous and never move backwards.
+ * <p/>
+ * Start delays of executed operations (actual - scheduled start time) are recorded, and every {@link #adjust()}
+ * evaluates those recorded since the previous one, against the excessive delay threshold of the schedule audit:
+ * <ul>
+ * <li>more excessive delays than tolerated, or delays above half the threshold: slow down</li>
+ * <li>no delay above a tenth of the threshold: speed up</li>
+ * <li>otherwise: keep ratio</li>
+ * </ul>
+ */
+public class AdaptiveTimeCompression implements Function1<Long,Long,RuntimeException>
+{
+    static final double SLOW_DOWN_FACTOR = 1.5;
+    static final double SPEED_UP_FACTOR = 0.9;
+    static final double LAGGING_FRACTION_OF_THRESHOLD = 0.5;
+    static final double KEEPING_UP_FRACTION_OF_THRESHOLD = 0.1;
+
+    public enum Adjustment
+    {
+        NONE,
+        SLOWED_DOWN,
+        KEPT,
+        SPED_UP
+    }
+
+    private final long excessiveDelayThresholdAsMilli;
+    private final double toleratedExcessiveDelayFraction;
+
+    private final LongAdder windowOperationCount = new LongAdder();
+    private final LongAdder windowExcessiveDelayCount = new LongAdder();
+    private final AtomicLong windowMaxDelayAsMilli = new AtomicLong( 0 );
+
+    // guarded by this
+    private final List<Segment> segments = new ArrayList<>();
+    private long highestMappedTimeAsMilli = Long.MIN_VALUE;
+
+    private volatile double ratio;
+    private double previousWindowRatio;
+    private double sustainedRatio = Double.NaN;
+
+    /**
+     * @param initialRatio ratio of first segment, e.g. 2.0 = 2x slower, 0.5 = 2x faster
+     * @param excessiveDelayThresholdAsMilli start delay above which an operation is excessively delayed
+     * @param toleratedExcessiveDelayFraction fraction of operations that may be excessively delayed
+     */
+    public AdaptiveTimeCompression(
+            double initialRatio,
+            long excessiveDelayThresholdAsMilli,
+            double toleratedExcessiveDelayFraction )
+    {
+        this.ratio = initialRatio;
+        this.previousWindowRatio = initialRatio;
+        this.excessiveDelayThresholdAsMilli = excessiveDelayThresholdAsMilli;
+        this.toleratedExcessiveDelayFraction = toleratedExcessiveDelayFraction;
+    }
+
+    /**
+     * Must be called before any time is mapped
+     *
+     * @param originalStartTimeAsMilli earliest scheduled start time of the workload
+     * @param newStartTimeAsMilli time it is mapped to
+     */
+    synchronized public void startAt( long originalStartTimeAsMilli, long newStartTimeAsMilli )
+    {
+        segments.clear();
+        segments.add( new Segment( originalStartTimeAsMilli, newStartTimeAsMilli, ratio ) );
+        highestMappedTimeAsMilli = Long.MIN_VALUE;
+    }
+
+    @Override
+    synchronized public Long apply( Long originalTimeAsMilli )
+    {
+        if ( segments.isEmpty() )
+        {
+            throw new IllegalStateException( "Start time has not been set" );
+        }
+        // usually the last segment, streams that lag behind others may still be mapping times of earlier segments
+        int i = segments.size() - 1;
+        while ( i > 0 && originalTimeAsMilli < segments.get( i ).fromOriginalTimeAsMilli )
+        {
+            i--;
+        }
+        highestMappedTimeAsMilli = Math.max( highestMappedTimeAsMilli, originalTimeAsMilli );
+        return segments.get( i ).map( originalTimeAsMilli );
+    }
+
+    /**
+     * @param delayAsMilli actual start time - scheduled start time, of an executed operation
+     */
+    public void recordDelay( long delayAsMilli )
+    {
+        windowOperationCount.increment();
+        if ( delayAsMilli > excessiveDelayThresholdAsMilli )
+        {
+            windowExcessiveDelayCount.increment();
+        }
+        long maxDelayAsMilli = windowMaxDelayAsMilli.get();
+        while ( delayAsMilli > maxDelayAsMilli &&
+                !windowMaxDelayAsMilli.compareAndSet( maxDelayAsMilli, delayAsMilli ) )
+        {
+            maxDelayAsMilli = windowMaxDelayAsMilli.get();
+        }
+    }
+
+    /**
+     * Evaluates delays recorded since previous adjustment, and adjusts ratio accordingly
+     *
+     * @return adjustment made, NONE if no operation was executed since previous adjustment
+     */
+    synchronized public Adjustment adjust()
+    {
+        long operationCount = windowOperationCount.sumThenReset();
+        long excessiveDelayCount = windowExcessiveDelayCount.sumThenReset();
+        long maxDelayAsMilli = windowMaxDelayAsMilli.getAndSet( 0 );
+        if ( 0 == operationCount )
+        {
+            return Adjustment.NONE;
+        }
+        // operations executed in this window were mostly mapped during the previous one
+        double windowRatio = Math.max( ratio, previousWindowRatio );
+        previousWindowRatio = ratio;
+        if ( excessiveDelayCount > toleratedExcessiveDelayFraction * operationCount ||
+             maxDelayAsMilli > excessiveDelayThresholdAsMilli * LAGGING_FRACTION_OF_THRESHOLD )
+        {
+            setRatio( ratio * SLOW_DOWN_FACTOR );
+            return Adjustment.SLOWED_DOWN;
+        }
+        if ( Double.isNaN( sustainedRatio ) || windowRatio < sustainedRatio )
+        {
+            sustainedRatio = windowRatio;
+        }
+        if ( 0 == excessiveDelayCount &&
+             maxDelayAsMilli < excessiveDelayThresholdAsMilli * KEEPING_UP_FRACTION_OF_THRESHOLD )
+        {
+            setRatio( ratio * SPEED_UP_FACTOR );
+            return Adjustment.SPED_UP;
+        }
+        return Adjustment.KEPT;
+    }
+
+    synchronized void setRatio( double newRatio )
+    {
+        Segment lastSegment = segments.get( segments.size() - 1 );
+        if ( highestMappedTimeAsMilli < lastSegment.fromOriginalTimeAsMilli )
+        {
+            // nothing mapped with the current ratio yet
+            segments.set( segments.size() - 1, new Segment( lastSegment.fromOriginalTimeAsMilli,
+                    lastSegment.fromMappedTimeAsMilli, newRatio ) );
+        }
+        else
+        {
+            segments.add( new Segment( highestMappedTimeAsMilli, lastSegment.map( highestMappedTimeAsMilli ),
+                    newRatio ) );
+        }
+        ratio = newRatio;
+    }
+
+    /**
+     * @return ratio applied to times that have not been mapped yet
+     */
+    public double ratio()
+    {
+        return ratio;
+    }
+
+    /**
+     * @return fastest ratio at which operations started within the delay threshold, NaN if there is none
+     */
+    synchronized public double sustainedRatio()
+    {
+        return sustainedRatio;
+    }
+
+    /**
+     * @param metricsService metrics service operation results are submitted to
+     * @return metrics service that records start delays of submitted operation results with this, then submits them
+     * to given metrics service
+     */
+    public MetricsService recordingDelaysOf( MetricsService metricsService )
+    {
+        return new DelayRecordingMetricsService( metricsService );
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "%s{ratio=%s, sustainedRatio=%s}", getClass().getSimpleName(), ratio, sustainedRatio() );
+    }
+
+    private static class Segment
+    {
+        private final long fromOriginalTimeAsMilli;
+        private final long fromMappedTimeAsMilli;
+        private final double ratio;
+
+        private Segment( long fromOriginalTimeAsMilli, long fromMappedTimeAsMilli, double ratio )
+        {
+            this.fromOriginalTimeAsMilli = fromOriginalTimeAsMilli;
+            this.fromMappedTimeAsMilli = fromMappedTimeAsMilli;
+            this.ratio = ratio;
+        }
+
+        private long map( long originalTimeAsMilli )
+        {
+            return fromMappedTimeAsMilli + Math.round( (originalTimeAsMilli - fromOriginalTimeAsMilli) * ratio );
+        }
+    }
+
+    private class DelayRecordingMetricsService implements MetricsService
+    {
+        private final MetricsService metricsService;
+
+        private DelayRecordingMetricsService( MetricsService metricsService )
+        {
+            this.metricsService = metricsService;
+        }
+
+        @Override
+        public void shutdown() throws MetricsCollectionException
+        {
+            metricsService.shutdown();
+        }
+
+        @Override
+        public MetricsServiceWriter getWriter() throws MetricsCollectionException
+        {
+            return new DelayRecordingMetricsServiceWriter( metricsService.getWriter() );
+        }
+    }
+
+    private class DelayRecordingMetricsServiceWriter implements MetricsService.MetricsServiceWriter
+    {
+        private final MetricsService.MetricsServiceWriter metricsServiceWriter;
+
+        private DelayRecordingMetricsServiceWriter( MetricsService.MetricsServiceWriter metricsServiceWriter )
+        {
+            this.metricsServiceWriter = metricsServiceWriter;
+        }
+
+        @Override
+        public void submitOperationResult(
+                int operationType,
+                long scheduledStartTimeAsMilli,
+                long actualStartTimeAsMilli,
+                long runDurationAsNano,
+                int resultCode,
+                long originalStartTime ) throws MetricsCollectionException
+        {
+            recordDelay( actualStartTimeAsMilli - scheduledStartTimeAsMilli );
+            metricsServiceWriter.submitOperationResult( operationType, scheduledStartTimeAsMilli,
+                    actualStartTimeAsMilli, runDurationAsNano, resultCode, originalStartTime );
+        }
+
+        @Override
+        public WorkloadStatusSnapshot status() throws MetricsCollectionException
+        {
+            return metricsServiceWriter.status();
+        }
+
+        @Override
+        public WorkloadResultsSnapshot results() throws MetricsCollectionException
+        {
+            return metricsServiceWriter.results();
+        }
+    }
+}
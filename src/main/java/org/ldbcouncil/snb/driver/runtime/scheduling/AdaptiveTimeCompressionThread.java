@@ -0,0 +1,76 @@
+package org.ldbcouncil.snb.driver.runtime.scheduling;
+
+import org.ldbcouncil.snb.driver.control.LoggingService;
+import org.ldbcouncil.snb.driver.control.LoggingServiceFactory;
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.String.format;
+
+/**
+ * Periodically adjusts an {@link AdaptiveTimeCompression}, while the workload executes
+ */
+public class AdaptiveTimeCompressionThread extends Thread
+{
+    public static final long DEFAULT_ADJUSTMENT_INTERVAL_AS_MILLI = 1000;
+
+    private final AdaptiveTimeCompression adaptiveTimeCompression;
+    private final long adjustmentIntervalAsMilli;
+    private final ConcurrentErrorReporter errorReporter;
+    private final LoggingService loggingService;
+    private AtomicBoolean continueRunning = new AtomicBoolean( true );
+
+    public AdaptiveTimeCompressionThread(
+            AdaptiveTimeCompression adaptiveTimeCompression,
+            long adjustmentIntervalAsMilli,
+            ConcurrentErrorReporter errorReporter,
+            LoggingServiceFactory loggingServiceFactory )
+    {
+        super( AdaptiveTimeCompressionThread.class.getSimpleName() + "-" + System.currentTimeMillis() );
+        setDaemon( true );
+        this.adaptiveTimeCompression = adaptiveTimeCompression;
+        this.adjustmentIntervalAsMilli = adjustmentIntervalAsMilli;
+        this.errorReporter = errorReporter;
+        this.loggingService = loggingServiceFactory.loggingServiceFor( getClass().getSimpleName() );
+    }
+
+    @Override
+    public void run()
+    {
+        while ( continueRunning.get() )
+        {
+            try
+            {
+                Spinner.powerNap( adjustmentIntervalAsMilli );
+                double ratio = adaptiveTimeCompression.ratio();
+                AdaptiveTimeCompression.Adjustment adjustment = adaptiveTimeCompression.adjust();
+                if ( AdaptiveTimeCompression.Adjustment.SLOWED_DOWN == adjustment ||
+                     AdaptiveTimeCompression.Adjustment.SPED_UP == adjustment )
+                {
+                    loggingService.info( format( "Time compression ratio %s: %s -> %s",
+                            (AdaptiveTimeCompression.Adjustment.SLOWED_DOWN == adjustment) ? "slowed down"
+                                                                                            : "sped up",
+                            ratio,
+                            adaptiveTimeCompression.ratio() ) );
+                }
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError(
+                        this,
+                        format(
+                                "Time compression adjustment thread encountered unexpected error - exiting\n%s",
+                                ConcurrentErrorReporter.stackTraceToString( e )
+                        )
+                );
+                break;
+            }
+        }
+    }
+
+    synchronized public final void shutdown()
+    {
+        continueRunning.set( false );
+    }
+}
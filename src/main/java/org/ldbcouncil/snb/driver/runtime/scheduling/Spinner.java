@@ -3,6 +3,10 @@ package org.ldbcouncil.snb.driver.runtime.scheduling;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.temporal.TimeSource;
 import org.ldbcouncil.snb.driver.util.Function2;
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.AtomicHistogram;
+
+import java.util.concurrent.TimeUnit;
 
 // TODO if error policy DOES NOT terminate benchmark and DOES NOT allow the operation to complete something needs
 // TODO to be done about DEPENDENT/CT, because the IT for the operation has already been reported
@@ -18,17 +22,33 @@ public class Spinner
 {
     public static final long DEFAULT_SLEEP_DURATION_10_MILLI = 10;
     public static final SpinnerCheck TRUE_CHECK = new TrueCheck();
+    // start delays larger than this are recorded as this value
+    public static final long MAX_START_DELAY_AS_MICRO = TimeUnit.HOURS.toMicros( 1 );
 
     private final Function2<Operation,SpinnerCheck,Boolean,RuntimeException> spinFun;
+    private final AtomicHistogram startDelayHistogramAsMicro = new AtomicHistogram( MAX_START_DELAY_AS_MICRO, 3 );
 
     public Spinner(
             TimeSource timeSource,
             long sleepDurationAsMilli,
             boolean ignoreScheduleStartTimes )
+    {
+        this(
+                timeSource,
+                ignoreScheduleStartTimes,
+                WaitStrategies.create( WaitStrategies.WaitStrategyType.SLEEP, sleepDurationAsMilli )
+        );
+    }
+
+    public Spinner(
+            TimeSource timeSource,
+            boolean ignoreScheduleStartTimes,
+            WaitStrategy waitStrategy )
     {
         this.spinFun = (ignoreScheduleStartTimes)
-                       ? new WaitForChecksFun( sleepDurationAsMilli )
-                       : new WaitForChecksAndScheduledStartTimeFun( timeSource, sleepDurationAsMilli );
+                       ? new WaitForChecksFun( waitStrategy )
+                       : new WaitForChecksAndScheduledStartTimeFun( timeSource, waitStrategy,
+                               startDelayHistogramAsMicro );
     }
 
     boolean waitForScheduledStartTime( Operation operation )
@@ -54,6 +74,18 @@ public class Spinner
         return spinFun.apply( operation, check );
     }
 
+    /**
+     * Distribution of delays (microseconds) between the scheduled start times of operations and the times at which
+     * Spinner allowed them to start, i.e., the scheduling inaccuracy introduced by the driver itself.
+     * Only operations that had to wait for their scheduled start time are recorded.
+     *
+     * @return start delay histogram, values in microseconds
+     */
+    public AbstractHistogram startDelayHistogramAsMicro()
+    {
+        return startDelayHistogramAsMicro;
+    }
+
     // sleep to reduce CPU load while spinning
     // NOTE: longer sleep == lower scheduling accuracy AND lower achievable throughput
     public static void powerNap( long sleepMs )
@@ -75,14 +107,21 @@ public class Spinner
             Function2<Operation,SpinnerCheck,Boolean,RuntimeException>
     {
         private final TimeSource timeSource;
-        private final long sleepDurationAsMilli;
+        private final WaitStrategy waitStrategy;
+        private final AtomicHistogram startDelayHistogramAsMicro;
+        // anchors the nano clock to the milli clock, so start delays can be measured with sub-millisecond precision
+        private final long nanoToMilliClockOffsetAsNano;
 
         private WaitForChecksAndScheduledStartTimeFun(
                 TimeSource timeSource,
-                long sleepDurationAsMilli )
+                WaitStrategy waitStrategy,
+                AtomicHistogram startDelayHistogramAsMicro )
         {
             this.timeSource = timeSource;
-            this.sleepDurationAsMilli = sleepDurationAsMilli;
+            this.waitStrategy = waitStrategy;
+            this.startDelayHistogramAsMicro = startDelayHistogramAsMicro;
+            this.nanoToMilliClockOffsetAsNano =
+                    TimeUnit.MILLISECONDS.toNanos( timeSource.nowAsMilli() ) - timeSource.nanoSnapshot();
         }
 
         @Override
@@ -90,37 +129,55 @@ public class Spinner
         {
             // earliest time at which operation may start
             // wait for checks to have all passed before allowing operation to start
+            int idleCount = 0;
             while ( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING == check.doCheck( operation ) )
             {
-                powerNap( sleepDurationAsMilli );
+                waitStrategy.idle( idleCount++ );
             }
 
             // wait for scheduled operation start time
-            while ( timeSource.nowAsMilli() < operation.scheduledStartTimeAsMilli() )
+            long scheduledStartTimeAsMilli = operation.scheduledStartTimeAsMilli();
+            long remainingAsMilli = scheduledStartTimeAsMilli - timeSource.nowAsMilli();
+            if ( remainingAsMilli > 0 )
             {
-                powerNap( sleepDurationAsMilli );
+                do
+                {
+                    waitStrategy.idleUntil( TimeUnit.MILLISECONDS.toNanos( remainingAsMilli ) );
+                    remainingAsMilli = scheduledStartTimeAsMilli - timeSource.nowAsMilli();
+                }
+                while ( remainingAsMilli > 0 );
+                recordStartDelay( scheduledStartTimeAsMilli );
             }
 
             return SpinnerCheck.SpinnerCheckResult.PASSED == check.doCheck( operation );
         }
+
+        private void recordStartDelay( long scheduledStartTimeAsMilli )
+        {
+            long startDelayAsNano = timeSource.nanoSnapshot() + nanoToMilliClockOffsetAsNano -
+                                    TimeUnit.MILLISECONDS.toNanos( scheduledStartTimeAsMilli );
+            long startDelayAsMicro = TimeUnit.NANOSECONDS.toMicros( Math.max( 0, startDelayAsNano ) );
+            startDelayHistogramAsMicro.recordValue( Math.min( startDelayAsMicro, MAX_START_DELAY_AS_MICRO ) );
+        }
     }
 
     private static class WaitForChecksFun implements Function2<Operation,SpinnerCheck,Boolean,RuntimeException>
     {
-        private final long sleepDurationAsMilli;
+        private final WaitStrategy waitStrategy;
 
-        private WaitForChecksFun( long sleepDurationAsMilli )
+        private WaitForChecksFun( WaitStrategy waitStrategy )
         {
-            this.sleepDurationAsMilli = sleepDurationAsMilli;
+            this.waitStrategy = waitStrategy;
         }
 
         @Override
         public Boolean apply( Operation operation, SpinnerCheck check )
         {
             // wait for checks to have all passed before allowing operation to start
+            int idleCount = 0;
             while ( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING == check.doCheck( operation ) )
             {
-                powerNap( sleepDurationAsMilli );
+                waitStrategy.idle( idleCount++ );
             }
 
             return SpinnerCheck.SpinnerCheckResult.PASSED == check.doCheck( operation );
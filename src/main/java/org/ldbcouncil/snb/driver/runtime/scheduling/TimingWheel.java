@@ -0,0 +1,212 @@
+package org.ldbcouncil.snb.driver.runtime.scheduling;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Hierarchical timing wheel with millisecond resolution, holds items until their deadline has been reached.
+ * Level 0 has one slot per millisecond, every higher level has one slot per full rotation of the level below it.
+ * Items are placed in the lowest level that covers their deadline and cascade down as time advances,
+ * deadlines beyond the range of the highest level are kept in an overflow queue until they come into range.
+ * <p>
+ * Adding and expiring items is O(1), advancing time is O(1) per elapsed millisecond.
+ * NOT thread safe, expected to be owned by a single dispatcher thread.
+ *
+ * @param <T> type of items held by wheel
+ */
+public class TimingWheel<T>
+{
+    static final int LEVEL_0_BITS = 8;
+    static final int LEVEL_N_BITS = 6;
+    static final int LEVEL_COUNT = 4;
+    // 2^(8+6+6+6) milliseconds, i.e., ~18.6 hours
+    static final long RANGE_AS_MILLI = 1L << (LEVEL_0_BITS + (LEVEL_COUNT - 1) * LEVEL_N_BITS);
+
+    private final Node<T>[][] heads;
+    private final Node<T>[][] tails;
+    private final int[] shifts;
+    private final long[] masks;
+    private final PriorityQueue<Node<T>> overflow;
+    // next millisecond to be processed, i.e., every deadline before this time has expired
+    private long currentTimeAsMilli;
+    private long size = 0;
+
+    public TimingWheel( long startTimeAsMilli )
+    {
+        this.heads = newLevels();
+        this.tails = newLevels();
+        this.shifts = new int[LEVEL_COUNT];
+        this.masks = new long[LEVEL_COUNT];
+        for ( int level = 0; level < LEVEL_COUNT; level++ )
+        {
+            shifts[level] = (0 == level) ? 0 : LEVEL_0_BITS + (level - 1) * LEVEL_N_BITS;
+            masks[level] = heads[level].length - 1;
+        }
+        this.overflow = new PriorityQueue<>( 16, new Comparator<Node<T>>()
+        {
+            @Override
+            public int compare( Node<T> node1, Node<T> node2 )
+            {
+                return Long.compare( node1.deadlineAsMilli, node2.deadlineAsMilli );
+            }
+        } );
+        this.currentTimeAsMilli = startTimeAsMilli;
+    }
+
+    @SuppressWarnings( "unchecked" )
+    private static <T> Node<T>[][] newLevels()
+    {
+        Node<T>[][] levels = new Node[LEVEL_COUNT][];
+        for ( int level = 0; level < LEVEL_COUNT; level++ )
+        {
+            levels[level] = new Node[1 << ((0 == level) ? LEVEL_0_BITS : LEVEL_N_BITS)];
+        }
+        return levels;
+    }
+
+    /**
+     * @param deadlineAsMilli time at which item should expire
+     * @param item item to hold until deadline
+     * @return false if deadline has already passed, in which case item is not added
+     */
+    public boolean add( long deadlineAsMilli, T item )
+    {
+        if ( deadlineAsMilli < currentTimeAsMilli )
+        {
+            return false;
+        }
+        place( new Node<>( deadlineAsMilli, item ) );
+        size++;
+        return true;
+    }
+
+    /**
+     * Advances wheel time to (and including) the given time, appending expired items to expired.
+     * Items are appended in deadline order, order of items with equal deadlines is undefined.
+     *
+     * @param nowAsMilli time to advance to, calls with earlier times than previous calls have no effect
+     * @param expired list to append expired items to
+     * @return number of expired items
+     */
+    public int advanceTo( long nowAsMilli, List<T> expired )
+    {
+        int expiredCount = 0;
+        while ( currentTimeAsMilli <= nowAsMilli )
+        {
+            if ( 0 == size )
+            {
+                // nothing to cascade or expire, jump straight to the end
+                currentTimeAsMilli = nowAsMilli + 1;
+                break;
+            }
+            cascade();
+            int slot = (int) (currentTimeAsMilli & masks[0]);
+            Node<T> node = heads[0][slot];
+            heads[0][slot] = null;
+            tails[0][slot] = null;
+            while ( null != node )
+            {
+                expired.add( node.item );
+                expiredCount++;
+                size--;
+                node = node.next;
+            }
+            currentTimeAsMilli++;
+        }
+        return expiredCount;
+    }
+
+    public long size()
+    {
+        return size;
+    }
+
+    public boolean isEmpty()
+    {
+        return 0 == size;
+    }
+
+    /**
+     * @return the next millisecond to be processed, every item with an earlier deadline has already expired
+     */
+    public long currentTimeAsMilli()
+    {
+        return currentTimeAsMilli;
+    }
+
+    // on level boundaries, move items of the slot that has come into range down to lower levels, highest level first
+    private void cascade()
+    {
+        if ( 0 != (currentTimeAsMilli & masks[0]) )
+        {
+            return;
+        }
+        int highestLevel = 1;
+        while ( highestLevel < LEVEL_COUNT - 1 &&
+                0 == (currentTimeAsMilli & ((1L << shifts[highestLevel + 1]) - 1)) )
+        {
+            highestLevel++;
+        }
+        if ( LEVEL_COUNT - 1 == highestLevel )
+        {
+            while ( !overflow.isEmpty() &&
+                    overflow.peek().deadlineAsMilli - currentTimeAsMilli < RANGE_AS_MILLI )
+            {
+                place( overflow.poll() );
+            }
+        }
+        for ( int level = highestLevel; level > 0; level-- )
+        {
+            int slot = (int) ((currentTimeAsMilli >>> shifts[level]) & masks[level]);
+            Node<T> node = heads[level][slot];
+            heads[level][slot] = null;
+            tails[level][slot] = null;
+            while ( null != node )
+            {
+                Node<T> next = node.next;
+                node.next = null;
+                place( node );
+                node = next;
+            }
+        }
+    }
+
+    private void place( Node<T> node )
+    {
+        long deltaAsMilli = node.deadlineAsMilli - currentTimeAsMilli;
+        if ( deltaAsMilli >= RANGE_AS_MILLI )
+        {
+            overflow.add( node );
+            return;
+        }
+        int level = 0;
+        while ( level < LEVEL_COUNT - 1 && deltaAsMilli >= (1L << shifts[level + 1]) )
+        {
+            level++;
+        }
+        int slot = (int) ((node.deadlineAsMilli >>> shifts[level]) & masks[level]);
+        if ( null == tails[level][slot] )
+        {
+            heads[level][slot] = node;
+        }
+        else
+        {
+            tails[level][slot].next = node;
+        }
+        tails[level][slot] = node;
+    }
+
+    private static class Node<T>
+    {
+        private final long deadlineAsMilli;
+        private final T item;
+        private Node<T> next = null;
+
+        private Node( long deadlineAsMilli, T item )
+        {
+            this.deadlineAsMilli = deadlineAsMilli;
+            this.item = item;
+        }
+    }
+}
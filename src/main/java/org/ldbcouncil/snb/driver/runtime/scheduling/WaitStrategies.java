@@ -0,0 +1,204 @@
+package org.ldbcouncil.snb.driver.runtime.scheduling;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.lang.String.format;
+
+public class WaitStrategies
+{
+    public enum WaitStrategyType
+    {
+        // Thread.sleep() for spinner sleep duration, lowest CPU usage, accuracy limited to sleep duration
+        SLEEP,
+        // busy-spin, highest CPU usage, most accurate
+        SPIN,
+        // busy-spin briefly, then Thread.yield()
+        YIELD,
+        // LockSupport.parkNanos() with back-off, spinning only once the deadline is less than a millisecond away
+        PARK
+    }
+
+    // Thread.onSpinWait() is only available from Java 9 onwards, driver still targets Java 8
+    private static final MethodHandle ON_SPIN_WAIT = onSpinWaitMethodHandle();
+    static final long SPIN_THRESHOLD_AS_NANO = TimeUnit.MILLISECONDS.toNanos( 1 );
+    static final long MIN_PARK_DURATION_AS_NANO = TimeUnit.MICROSECONDS.toNanos( 10 );
+    static final long DEFAULT_MAX_PARK_DURATION_AS_NANO = TimeUnit.MILLISECONDS.toNanos( 1 );
+    static final int SPIN_TRIES_BEFORE_YIELD = 100;
+
+    public static WaitStrategyType parseType( String waitStrategyTypeString )
+    {
+        try
+        {
+            return WaitStrategyType.valueOf( waitStrategyTypeString.trim().toUpperCase() );
+        }
+        catch ( IllegalArgumentException | NullPointerException e )
+        {
+            throw new IllegalArgumentException( format( "Unsupported wait strategy: %s\nValid values: %s",
+                    waitStrategyTypeString, Arrays.toString( WaitStrategyType.values() ) ) );
+        }
+    }
+
+    public static WaitStrategy create( WaitStrategyType waitStrategyType, long sleepDurationAsMilli )
+    {
+        switch ( waitStrategyType )
+        {
+        case SLEEP:
+            return new SleepingWaitStrategy( sleepDurationAsMilli );
+        case SPIN:
+            return new BusySpinWaitStrategy();
+        case YIELD:
+            return new YieldingWaitStrategy();
+        case PARK:
+            long maxParkDurationAsNano = (sleepDurationAsMilli > 0)
+                                         ? TimeUnit.MILLISECONDS.toNanos( sleepDurationAsMilli )
+                                         : DEFAULT_MAX_PARK_DURATION_AS_NANO;
+            return new ParkingWaitStrategy( maxParkDurationAsNano );
+        default:
+            throw new IllegalArgumentException( format( "Unsupported wait strategy: %s", waitStrategyType ) );
+        }
+    }
+
+    /**
+     * Hint to the processor that the calling thread is in a spin loop.
+     * Calls Thread.onSpinWait() when running on Java 9+, otherwise does nothing.
+     */
+    public static void onSpinWait()
+    {
+        if ( null != ON_SPIN_WAIT )
+        {
+            try
+            {
+                ON_SPIN_WAIT.invokeExact();
+            }
+            catch ( Throwable e )
+            {
+                // do nothing
+            }
+        }
+    }
+
+    private static MethodHandle onSpinWaitMethodHandle()
+    {
+        try
+        {
+            return MethodHandles.lookup().findStatic( Thread.class, "onSpinWait", MethodType.methodType( void.class ) );
+        }
+        catch ( Exception e )
+        {
+            return null;
+        }
+    }
+
+    static class SleepingWaitStrategy implements WaitStrategy
+    {
+        private final long sleepDurationAsMilli;
+
+        SleepingWaitStrategy( long sleepDurationAsMilli )
+        {
+            this.sleepDurationAsMilli = sleepDurationAsMilli;
+        }
+
+        @Override
+        public void idle( int idleCount )
+        {
+            Spinner.powerNap( sleepDurationAsMilli );
+        }
+
+        @Override
+        public void idleUntil( long remainingAsNano )
+        {
+            Spinner.powerNap( sleepDurationAsMilli );
+        }
+    }
+
+    static class BusySpinWaitStrategy implements WaitStrategy
+    {
+        @Override
+        public void idle( int idleCount )
+        {
+            onSpinWait();
+        }
+
+        @Override
+        public void idleUntil( long remainingAsNano )
+        {
+            onSpinWait();
+        }
+    }
+
+    static class YieldingWaitStrategy implements WaitStrategy
+    {
+        @Override
+        public void idle( int idleCount )
+        {
+            if ( idleCount < SPIN_TRIES_BEFORE_YIELD )
+            {
+                onSpinWait();
+            }
+            else
+            {
+                Thread.yield();
+            }
+        }
+
+        @Override
+        public void idleUntil( long remainingAsNano )
+        {
+            if ( remainingAsNano > SPIN_THRESHOLD_AS_NANO )
+            {
+                Thread.yield();
+            }
+            else
+            {
+                onSpinWait();
+            }
+        }
+    }
+
+    static class ParkingWaitStrategy implements WaitStrategy
+    {
+        private final long maxParkDurationAsNano;
+
+        ParkingWaitStrategy( long maxParkDurationAsNano )
+        {
+            this.maxParkDurationAsNano = Math.max( MIN_PARK_DURATION_AS_NANO, maxParkDurationAsNano );
+        }
+
+        long maxParkDurationAsNano()
+        {
+            return maxParkDurationAsNano;
+        }
+
+        // exponential back-off: 10us, 20us, 40us, ... up to max park duration
+        @Override
+        public void idle( int idleCount )
+        {
+            long parkDurationAsNano = MIN_PARK_DURATION_AS_NANO << Math.min( idleCount, 20 );
+            LockSupport.parkNanos( Math.min( parkDurationAsNano, maxParkDurationAsNano ) );
+        }
+
+        // NOTE: remaining time is derived from a millisecond clock, i.e., actual remaining time may be up to 1ms less.
+        // Parking for (remaining - spin threshold) therefore never parks past the deadline, and each call brings the
+        // thread closer to the deadline, until it is close enough to spin through the final millisecond.
+        @Override
+        public void idleUntil( long remainingAsNano )
+        {
+            if ( remainingAsNano > SPIN_THRESHOLD_AS_NANO )
+            {
+                LockSupport.parkNanos(
+                        Math.min( Math.max( MIN_PARK_DURATION_AS_NANO, remainingAsNano - SPIN_THRESHOLD_AS_NANO ),
+                                maxParkDurationAsNano )
+                );
+            }
+            else
+            {
+                onSpinWait();
+            }
+        }
+    }
+}
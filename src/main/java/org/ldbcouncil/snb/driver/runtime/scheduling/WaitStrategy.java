@@ -0,0 +1,23 @@
+package org.ldbcouncil.snb.driver.runtime.scheduling;
+
+/**
+ * Decides how a thread passes time while Spinner waits for checks to pass or for a scheduled start time to arrive.
+ * Implementations must be thread safe, a single instance is shared by all threads that use the same Spinner.
+ */
+public interface WaitStrategy
+{
+    /**
+     * Called repeatedly while waiting for a condition that has no known deadline, e.g., a SpinnerCheck.
+     *
+     * @param idleCount number of times idle has been called during the current wait, starting at 0
+     */
+    void idle( int idleCount );
+
+    /**
+     * Called repeatedly while waiting for a known deadline.
+     * May return before the deadline has been reached, the caller is responsible for checking again.
+     *
+     * @param remainingAsNano time remaining until the deadline, always greater than 0
+     */
+    void idleUntil( long remainingAsNano );
+}
@@ -32,6 +32,7 @@ public class DbValidationResult
     private final Set<Class> missingHandlersForOperationTypes;
     private final List<Tuple2<Operation,String>> unableToExecuteOperations;
     private final List<Tuple3<Operation,Object,Object>> incorrectResultsForOperations;
+    private final Map<Class,ResultDifference> firstResultDifferencePerOperationType;
     private final Map<Class,Integer> successfullyExecutedOperationsPerOperationType;
     private final Map<Class,Integer> totalOperationsPerOperationType;
     private final ObjectMapper objectMapper;
@@ -48,6 +49,7 @@ public class DbValidationResult
         this.missingHandlersForOperationTypes = new HashSet<>();
         this.unableToExecuteOperations = new ArrayList<>();
         this.incorrectResultsForOperations = new ArrayList<>();
+        this.firstResultDifferencePerOperationType = new HashMap<>();
         this.successfullyExecutedOperationsPerOperationType = new HashMap<>();
         this.totalOperationsPerOperationType = new HashMap<>();
         this.objectMapper = new ObjectMapper();
@@ -67,9 +69,17 @@ public class DbValidationResult
         incrementOperationCountPerOperationType( operation.getClass() );
     }
 
-    void reportIncorrectResultForOperation( Operation operation, Object expectedResult, Object actualResult )
+    void reportIncorrectResultForOperation( Operation operation,
+            Object expectedResult,
+            Object actualResult,
+            ResultDifference resultDifference )
     {
         incorrectResultsForOperations.add( Tuple.tuple3( operation, expectedResult, actualResult ) );
+        if ( null != resultDifference &&
+             false == firstResultDifferencePerOperationType.containsKey( operation.getClass() ) )
+        {
+            firstResultDifferencePerOperationType.put( operation.getClass(), resultDifference );
+        }
         incrementOperationCountPerOperationType( operation.getClass() );
     }
 
@@ -242,6 +252,12 @@ public class DbValidationResult
             sb.
                     append( failedOperationType.getKey().getSimpleName() ).
                     append( "               " ).append( failedOperationType.getValue() ).append( "\n" );
+            if ( firstResultDifferencePerOperationType.containsKey( failedOperationType.getKey() ) )
+            {
+                sb.append( "    first difference " )
+                        .append( firstResultDifferencePerOperationType.get( failedOperationType.getKey() ) )
+                        .append( "\n" );
+            }
         }
         sb.append( "  ***\n" );
         return sb.toString();
@@ -1,5 +1,7 @@
 package org.ldbcouncil.snb.driver.validation;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import org.ldbcouncil.snb.driver.Db;
 import org.ldbcouncil.snb.driver.DbConnectionState;
 import org.ldbcouncil.snb.driver.DbException;
@@ -11,23 +13,29 @@ import org.ldbcouncil.snb.driver.Workload;
 import org.ldbcouncil.snb.driver.WorkloadException;
 import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
 
-// SNB Specific
-import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery14;
-import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery14Result;
-import org.ldbcouncil.snb.driver.workloads.interactive.LdbcSnbInteractiveWorkloadConfiguration;
-
 import java.text.DecimalFormat;
+import java.util.ArrayDeque;
 import java.util.Iterator;
-import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import static java.lang.String.format;
 
 public class DbValidator
 {
+    // validation parameters read ahead of the oldest one that has not been reported yet, per validation thread
+    private static final int READ_AHEAD_PER_THREAD = 64;
+    private static final ResultComparator RESULT_COMPARATOR = new ResultComparator();
+
     /**
-     * Validate the database using generated validation parameters.
+     * Validate the database using generated validation parameters, one at a time.
      * @param validationParameters Iterator of validation parameters created using 'create_validation' mode
-     * @param db The database connector 
+     * @param db The database connector
      * @param validationParamsCount Total validation parameters
      * @param workload The workload to use, e.g. @see org.ldbcouncil.snb.driver.workloads.interactive.LdbcSnbInteractiveWorkload
      * @return
@@ -38,107 +46,297 @@ public class DbValidator
             int validationParamsCount,
             Workload workload ) throws WorkloadException
     {
+        return validate( validationParameters, db, validationParamsCount, workload, 1 );
+    }
+
+    /**
+     * Validate the database using generated validation parameters, executing up to threadCount operations at a time.
+     * Writes (see {@link Workload#isWrite(Operation)}) are executed alone, once all operations before them have
+     * completed, and before any operation after them starts. Results are reported in the order of the validation
+     * parameters, regardless of thread count.
+     * @param threadCount Number of threads that execute operations
+     */
+    public DbValidationResult validate( Iterator<ValidationParam> validationParameters,
+            Db db,
+            int validationParamsCount,
+            Workload workload,
+            int threadCount ) throws WorkloadException
+    {
+        if ( threadCount < 1 )
+        {
+            throw new WorkloadException( format( "Validation thread count must be at least 1, was %s", threadCount ) );
+        }
         System.out.println( "----" );
-        DecimalFormat numberFormat = new DecimalFormat( "###,###,###,###,###" );
         DbValidationResult dbValidationResult = new DbValidationResult( db );
-        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
-        ResultReporter resultReporter = new ResultReporter.SimpleResultReporter( errorReporter );
-
-        Map<Integer, Class<? extends Operation>> operationMap =
-            LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping();
-
-        int validationParamsProcessedSoFar = 0;
-        int validationParamsCrashedSoFar = 0;
-        int validationParamsIncorrectSoFar = 0;
-
-        Operation operation = null;
-        while ( true )
-        {
-            if (null != operation) {
-                System.out.print(format(
-                        "Processed %s / %s -- Crashed %s -- Incorrect %s -- Currently processing %s...\r",
-                        numberFormat.format(validationParamsProcessedSoFar),
-                        numberFormat.format(validationParamsCount),
-                        numberFormat.format(validationParamsCrashedSoFar),
-                        numberFormat.format(validationParamsIncorrectSoFar),
-                        operation.getClass().getSimpleName()
-                ));
-                System.out.flush();
-            }
-
-            if (!validationParameters.hasNext()) {
-                break;
-            }
+        ValidationProgress validationProgress = new ValidationProgress( validationParamsCount );
 
-            ValidationParam validationParam = validationParameters.next();
-            operation = validationParam.operation();
-            Object expectedOperationResult = validationParam.operationResult();
+        ExecutorService validationThreads = Executors.newFixedThreadPool( threadCount, new ThreadFactory()
+        {
+            private final long factoryTimeStampId = System.currentTimeMillis();
+            int count = 0;
 
-            OperationHandlerRunnableContext handlerRunner;
-            try
-            {
-                handlerRunner = db.getOperationHandlerRunnableContext( operation );
-            }
-            catch ( Throwable e )
+            @Override
+            public Thread newThread( Runnable runnable )
             {
-
-                dbValidationResult.reportMissingHandlerForOperation( operation );
-                continue;
+                Thread thread = new Thread(
+                        runnable,
+                        DbValidator.class.getSimpleName() + "-id(" + factoryTimeStampId + ")" +
+                        "-thread(" + count++ + ")"
+                );
+                thread.setDaemon( true );
+                return thread;
             }
-
-            try
+        } );
+        // outcomes of operations that may still be executing, in order of validation parameters
+        Queue<Future<ValidationOutcome>> pendingOutcomes = new ArrayDeque<>();
+        try
+        {
+            while ( validationParameters.hasNext() )
             {
-                OperationHandler handler = handlerRunner.operationHandler();
-                DbConnectionState dbConnectionState = handlerRunner.dbConnectionState();
-                handler.executeOperation( operation, dbConnectionState, resultReporter );
-                if ( null == resultReporter.result() )
+                ValidationParam validationParam = validationParameters.next();
+                if ( workload.isWrite( validationParam.operation() ) )
                 {
-                    throw new DbException(
-                            format( "Db returned null result for: %s", operation.getClass().getSimpleName() ) );
+                    // write must see the effects of all operations before it, and all after it must see its effects
+                    while ( !pendingOutcomes.isEmpty() )
+                    {
+                        report( pendingOutcomes.remove(), dbValidationResult, validationProgress );
+                    }
+                    report( validate( validationParam, db, workload ), dbValidationResult, validationProgress );
+                }
+                else
+                {
+                    pendingOutcomes.add(
+                            validationThreads.submit( new ValidationTask( validationParam, db, workload ) ) );
+                    if ( pendingOutcomes.size() >= threadCount * READ_AHEAD_PER_THREAD )
+                    {
+                        report( pendingOutcomes.remove(), dbValidationResult, validationProgress );
+                    }
                 }
             }
-            catch ( Throwable e )
+            while ( !pendingOutcomes.isEmpty() )
             {
-                // Not necessary, but perhaps useful for debugging
-                e.printStackTrace();
-                validationParamsCrashedSoFar++;
-                dbValidationResult
-                        .reportUnableToExecuteOperation( operation, ConcurrentErrorReporter.stackTraceToString( e ) );
-                continue;
+                report( pendingOutcomes.remove(), dbValidationResult, validationProgress );
             }
-            finally
+        }
+        finally
+        {
+            validationThreads.shutdownNow();
+        }
+        System.out.println( "\n----" );
+        return dbValidationResult;
+    }
+
+    private static void report( Future<ValidationOutcome> pendingOutcome,
+            DbValidationResult dbValidationResult,
+            ValidationProgress validationProgress ) throws WorkloadException
+    {
+        try
+        {
+            report( pendingOutcome.get(), dbValidationResult, validationProgress );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new WorkloadException( "Interrupted while waiting for validation of operation", e );
+        }
+        catch ( ExecutionException e )
+        {
+            throw new WorkloadException( "Error encountered while validating operation", e.getCause() );
+        }
+    }
+
+    private static void report( ValidationOutcome outcome,
+            DbValidationResult dbValidationResult,
+            ValidationProgress validationProgress )
+    {
+        switch ( outcome.type )
+        {
+        case MISSING_HANDLER:
+            dbValidationResult.reportMissingHandlerForOperation( outcome.operation );
+            break;
+        case UNABLE_TO_EXECUTE:
+            validationProgress.processed++;
+            validationProgress.crashed++;
+            dbValidationResult.reportUnableToExecuteOperation( outcome.operation, outcome.errorMessage );
+            break;
+        case INCORRECT_RESULT:
+            validationProgress.processed++;
+            validationProgress.incorrect++;
+            dbValidationResult.reportIncorrectResultForOperation(
+                    outcome.operation, outcome.expectedResult, outcome.actualResult, outcome.resultDifference );
+            break;
+        case SUCCESSFUL:
+            validationProgress.processed++;
+            dbValidationResult.reportSuccessfulExecution( outcome.operation );
+            break;
+        }
+        validationProgress.print( outcome.operation );
+    }
+
+    private static ValidationOutcome validate( ValidationParam validationParam,
+            Db db,
+            Workload workload )
+    {
+        Operation operation = validationParam.operation();
+        ResultReporter resultReporter = new ResultReporter.SimpleResultReporter( new ConcurrentErrorReporter() );
+
+        OperationHandlerRunnableContext handlerRunner;
+        try
+        {
+            handlerRunner = db.getOperationHandlerRunnableContext( operation );
+        }
+        catch ( Throwable e )
+        {
+            return new ValidationOutcome( ValidationOutcomeType.MISSING_HANDLER, operation, null, null, null, null );
+        }
+
+        try
+        {
+            OperationHandler handler = handlerRunner.operationHandler();
+            DbConnectionState dbConnectionState = handlerRunner.dbConnectionState();
+            handler.executeOperation( operation, dbConnectionState, resultReporter );
+            if ( null == resultReporter.result() )
             {
-                validationParamsProcessedSoFar++;
-                handlerRunner.cleanup();
+                throw new DbException(
+                        format( "Db returned null result for: %s", operation.getClass().getSimpleName() ) );
             }
+        }
+        catch ( Throwable e )
+        {
+            // Not necessary, but perhaps useful for debugging
+            e.printStackTrace();
+            return new ValidationOutcome( ValidationOutcomeType.UNABLE_TO_EXECUTE, operation, null, null, null,
+                    ConcurrentErrorReporter.stackTraceToString( e ) );
+        }
+        finally
+        {
+            handlerRunner.cleanup();
+        }
+
+        Object actualOperationResult = resultReporter.result();
 
-            Object actualOperationResult = resultReporter.result();
-            
-            // Exception for Q14 where the path ordering for equal weights is not defined.
-            // This comparison should be made on list level and then on individual paths
-            // where paths with equal weights are grouped and compared.
-            // TODO: Either remove workload abstraction or move this to separate validator class.
-            if (LdbcQuery14.class  == operationMap.get(operation.type()))
+        // e.g., the path ordering of Q14 for equal weights is not defined, see Workload#resultComparisonTolerances
+        ResultDifference resultDifference;
+        try
+        {
+            // expected result read from a binary validation parameters file is compared as it was read, as tokens
+            TokenBuffer serializedExpectedOperationResult = validationParam.serializedOperationResult();
+            if ( null == serializedExpectedOperationResult )
             {
-                if (!LdbcQuery14Result.resultListEqual(expectedOperationResult, actualOperationResult)){
-                    validationParamsIncorrectSoFar++;
-                    dbValidationResult
-                            .reportIncorrectResultForOperation( operation, expectedOperationResult, actualOperationResult );
-                    continue;
-                }
+                resultDifference = RESULT_COMPARATOR.compare(
+                        validationParam.operationResult(),
+                        actualOperationResult,
+                        workload.resultComparisonTolerances( operation ) );
             }
-
-            else if ( false == actualOperationResult.equals(expectedOperationResult))
+            else
             {
-                validationParamsIncorrectSoFar++;
-                dbValidationResult
-                        .reportIncorrectResultForOperation( operation, expectedOperationResult, actualOperationResult );
-                continue;
+                try ( JsonParser expectedOperationResult = serializedExpectedOperationResult.asParser() )
+                {
+                    resultDifference = RESULT_COMPARATOR.compare(
+                            expectedOperationResult,
+                            actualOperationResult,
+                            workload.resultComparisonTolerances( operation ) );
+                }
             }
+        }
+        catch ( Throwable e )
+        {
+            return new ValidationOutcome( ValidationOutcomeType.UNABLE_TO_EXECUTE, operation, null, null, null,
+                    format( "Unable to compare result\n%s", ConcurrentErrorReporter.stackTraceToString( e ) ) );
+        }
+        if ( null == resultDifference )
+        {
+            return new ValidationOutcome( ValidationOutcomeType.SUCCESSFUL, operation, null, null, null, null );
+        }
+        // only deserialized if the expected result is reported
+        return new ValidationOutcome(
+                ValidationOutcomeType.INCORRECT_RESULT,
+                operation,
+                validationParam.operationResult(),
+                actualOperationResult,
+                resultDifference,
+                null );
+    }
+
+    private static class ValidationTask implements Callable<ValidationOutcome>
+    {
+        private final ValidationParam validationParam;
+        private final Db db;
+        private final Workload workload;
 
-            dbValidationResult.reportSuccessfulExecution( operation );
+        private ValidationTask( ValidationParam validationParam,
+                Db db,
+                Workload workload )
+        {
+            this.validationParam = validationParam;
+            this.db = db;
+            this.workload = workload;
+        }
+
+        @Override
+        public ValidationOutcome call()
+        {
+            return validate( validationParam, db, workload );
+        }
+    }
+
+    private enum ValidationOutcomeType
+    {
+        MISSING_HANDLER,
+        UNABLE_TO_EXECUTE,
+        INCORRECT_RESULT,
+        SUCCESSFUL
+    }
+
+    private static class ValidationOutcome
+    {
+        private final ValidationOutcomeType type;
+        private final Operation operation;
+        private final Object expectedResult;
+        private final Object actualResult;
+        private final ResultDifference resultDifference;
+        private final String errorMessage;
+
+        private ValidationOutcome( ValidationOutcomeType type,
+                Operation operation,
+                Object expectedResult,
+                Object actualResult,
+                ResultDifference resultDifference,
+                String errorMessage )
+        {
+            this.type = type;
+            this.operation = operation;
+            this.expectedResult = expectedResult;
+            this.actualResult = actualResult;
+            this.resultDifference = resultDifference;
+            this.errorMessage = errorMessage;
+        }
+    }
+
+    private static class ValidationProgress
+    {
+        private final DecimalFormat numberFormat = new DecimalFormat( "###,###,###,###,###" );
+        private final int validationParamsCount;
+        private int processed = 0;
+        private int crashed = 0;
+        private int incorrect = 0;
+
+        private ValidationProgress( int validationParamsCount )
+        {
+            this.validationParamsCount = validationParamsCount;
+        }
+
+        private void print( Operation lastReportedOperation )
+        {
+            System.out.print( format(
+                    "Processed %s / %s -- Crashed %s -- Incorrect %s -- Last processed %s...\r",
+                    numberFormat.format( processed ),
+                    numberFormat.format( validationParamsCount ),
+                    numberFormat.format( crashed ),
+                    numberFormat.format( incorrect ),
+                    lastReportedOperation.getClass().getSimpleName()
+            ) );
+            System.out.flush();
         }
-        System.out.println( "\n----" );
-        return dbValidationResult;
     }
 }
@@ -0,0 +1,494 @@
+package org.ldbcouncil.snb.driver.validation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares expected and actual operation results structurally, as the streams of Jackson tokens they serialize to,
+ * rather than via equals() of result objects. Both streams are read side by side, and comparison stops at the first
+ * difference, which is returned with its location in the result. Expected results that are already available as
+ * tokens, e.g., read from a binary validation parameters file, are compared without being deserialized, and only the
+ * actual result is serialized.
+ * <p>
+ * Objects must have the same fields in the same order, which is the case when both are serialized from the same
+ * result class. Numbers are equal if their values are within the tolerance of their field, regardless of type.
+ * Arrays are compared element by element; only elements of unordered arrays and of arrays that may contain ordering
+ * ties are buffered, to compare them regardless of their order. Like ListUtils.listsEqual, elements regardless of
+ * order are equal if there are as many of them, and each of either side is equal to one of the other.
+ */
+public class ResultComparator
+{
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String ROOT_PATH = "$";
+
+    /**
+     * @return first difference, null if results are equal
+     */
+    public ResultDifference compare( Object expectedResult,
+            Object actualResult,
+            ResultComparisonTolerances tolerances ) throws IOException
+    {
+        try ( JsonParser expected = tokens( expectedResult ); JsonParser actual = tokens( actualResult ) )
+        {
+            return compare( expected, actual, tolerances );
+        }
+    }
+
+    /**
+     * Only the actual result is serialized, e.g., when the expected result is read as tokens from a binary validation
+     * parameters file
+     *
+     * @param expected parser positioned before the expected result
+     * @return first difference, null if results are equal
+     */
+    public ResultDifference compare( JsonParser expected,
+            Object actualResult,
+            ResultComparisonTolerances tolerances ) throws IOException
+    {
+        try ( JsonParser actual = tokens( actualResult ) )
+        {
+            return compare( expected, actual, tolerances );
+        }
+    }
+
+    /**
+     * @param expected parser positioned before the expected result, e.g., one reading a validation parameters file
+     * @param actual parser positioned before the actual result
+     * @return first difference, null if results are equal
+     */
+    public ResultDifference compare( JsonParser expected,
+            JsonParser actual,
+            ResultComparisonTolerances tolerances ) throws IOException
+    {
+        expected.nextToken();
+        actual.nextToken();
+        return compareValues( expected, actual, null, new ArrayList<>(), tolerances );
+    }
+
+    private static JsonParser tokens( Object result ) throws IOException
+    {
+        TokenBuffer tokenBuffer = new TokenBuffer( OBJECT_MAPPER, false );
+        OBJECT_MAPPER.writeValue( tokenBuffer, result );
+        return tokenBuffer.asParser();
+    }
+
+    /**
+     * Both parsers are positioned at the first token of a value, and are left at its last token if it is equal
+     *
+     * @param fieldName name of the field the value, or array of values, belongs to
+     * @param path field names and array indexes leading to the value, only rendered once a difference is found
+     */
+    private static ResultDifference compareValues( JsonParser expected,
+            JsonParser actual,
+            String fieldName,
+            List<Object> path,
+            ResultComparisonTolerances tolerances ) throws IOException
+    {
+        JsonToken expectedToken = expected.getCurrentToken();
+        JsonToken actualToken = actual.getCurrentToken();
+        if ( null == expectedToken )
+        {
+            return (null == actualToken) ? null : difference( path, expected, actual );
+        }
+        switch ( expectedToken )
+        {
+        case START_OBJECT:
+            return (JsonToken.START_OBJECT == actualToken)
+                   ? compareObjects( expected, actual, path, tolerances )
+                   : difference( path, expected, actual );
+        case START_ARRAY:
+            if ( JsonToken.START_ARRAY != actualToken )
+            {
+                return difference( path, expected, actual );
+            }
+            if ( null != fieldName && tolerances.unorderedArrayFields().contains( fieldName ) )
+            {
+                return compareUnorderedArrays( expected, actual, fieldName, path, tolerances );
+            }
+            return (tolerances.orderingTieFields().isEmpty())
+                   ? compareArrays( expected, actual, fieldName, path, tolerances )
+                   : compareArraysWithOrderingTies( expected, actual, fieldName, path, tolerances );
+        case VALUE_NUMBER_INT:
+        case VALUE_NUMBER_FLOAT:
+            return (null != actualToken && actualToken.isNumeric() &&
+                    numbersEqual( expected, actual, tolerances.integerTolerance( fieldName ),
+                            tolerances.floatTolerance( fieldName ) ))
+                   ? null
+                   : difference( path, expected, actual );
+        case VALUE_STRING:
+            return (JsonToken.VALUE_STRING == actualToken && expected.getText().equals( actual.getText() ))
+                   ? null
+                   : difference( path, expected, actual );
+        default:
+            return (expectedToken == actualToken) ? null : difference( path, expected, actual );
+        }
+    }
+
+    private static ResultDifference compareObjects( JsonParser expected,
+            JsonParser actual,
+            List<Object> path,
+            ResultComparisonTolerances tolerances ) throws IOException
+    {
+        path.add( null );
+        while ( true )
+        {
+            JsonToken expectedToken = expected.nextToken();
+            JsonToken actualToken = actual.nextToken();
+            if ( JsonToken.END_OBJECT == expectedToken || JsonToken.END_OBJECT == actualToken )
+            {
+                path.remove( path.size() - 1 );
+                return (expectedToken == actualToken) ? null : difference( path, expected, actual );
+            }
+            String fieldName = expected.getCurrentName();
+            if ( !fieldName.equals( actual.getCurrentName() ) )
+            {
+                path.remove( path.size() - 1 );
+                return difference( path, expected, actual );
+            }
+            path.set( path.size() - 1, fieldName );
+            expected.nextToken();
+            actual.nextToken();
+            ResultDifference difference = compareValues( expected, actual, fieldName, path, tolerances );
+            if ( null != difference )
+            {
+                return difference;
+            }
+        }
+    }
+
+    private static ResultDifference compareArrays( JsonParser expected,
+            JsonParser actual,
+            String fieldName,
+            List<Object> path,
+            ResultComparisonTolerances tolerances ) throws IOException
+    {
+        path.add( 0 );
+        for ( int index = 0; ; index++ )
+        {
+            path.set( path.size() - 1, index );
+            JsonToken expectedToken = expected.nextToken();
+            JsonToken actualToken = actual.nextToken();
+            if ( JsonToken.END_ARRAY == expectedToken || JsonToken.END_ARRAY == actualToken )
+            {
+                ResultDifference difference = (expectedToken == actualToken)
+                                              ? null
+                                              : difference( path, expected, actual );
+                path.remove( path.size() - 1 );
+                return difference;
+            }
+            ResultDifference difference = compareValues( expected, actual, fieldName, path, tolerances );
+            if ( null != difference )
+            {
+                return difference;
+            }
+        }
+    }
+
+    /**
+     * Consecutive elements with equal values for an ordering tie field form a group, and each element of a group
+     * must be equal to an element of the group at the same positions of the other array, and vice versa
+     */
+    private static ResultDifference compareArraysWithOrderingTies( JsonParser expected,
+            JsonParser actual,
+            String fieldName,
+            List<Object> path,
+            ResultComparisonTolerances tolerances ) throws IOException
+    {
+        List<TokenBuffer> expectedElements = readElements( expected );
+        List<TokenBuffer> actualElements = readElements( actual );
+        int commonSize = Math.min( expectedElements.size(), actualElements.size() );
+        path.add( 0 );
+        int groupStart = 0;
+        while ( groupStart < commonSize )
+        {
+            int groupEnd = groupStart + 1;
+            while ( groupEnd < commonSize &&
+                    tied( expectedElements.get( groupStart ), expectedElements.get( groupEnd ), tolerances ) )
+            {
+                groupEnd++;
+            }
+            ResultDifference difference = compareElementsInAnyOrder( expectedElements, actualElements,
+                    groupStart, groupEnd, "no equal element of equal rank", fieldName, path, tolerances );
+            if ( null != difference )
+            {
+                return difference;
+            }
+            groupStart = groupEnd;
+        }
+        if ( expectedElements.size() != actualElements.size() )
+        {
+            return sizeDifference( expectedElements, actualElements, path );
+        }
+        path.remove( path.size() - 1 );
+        return null;
+    }
+
+    private static ResultDifference compareUnorderedArrays( JsonParser expected,
+            JsonParser actual,
+            String fieldName,
+            List<Object> path,
+            ResultComparisonTolerances tolerances ) throws IOException
+    {
+        List<TokenBuffer> expectedElements = readElements( expected );
+        List<TokenBuffer> actualElements = readElements( actual );
+        path.add( 0 );
+        if ( expectedElements.size() != actualElements.size() )
+        {
+            return sizeDifference( expectedElements, actualElements, path );
+        }
+        ResultDifference difference = compareElementsInAnyOrder( expectedElements, actualElements,
+                0, expectedElements.size(), "no equal element", fieldName, path, tolerances );
+        if ( null != difference )
+        {
+            return difference;
+        }
+        path.remove( path.size() - 1 );
+        return null;
+    }
+
+    /**
+     * Each element from start to end of either array must be equal to one of the elements at the same positions of
+     * the other array
+     *
+     * @param path path of the array, followed by a placeholder for the index of the element
+     */
+    private static ResultDifference compareElementsInAnyOrder( List<TokenBuffer> expectedElements,
+            List<TokenBuffer> actualElements,
+            int start,
+            int end,
+            String missingElementDescription,
+            String fieldName,
+            List<Object> path,
+            ResultComparisonTolerances tolerances ) throws IOException
+    {
+        for ( int i = start; i < end; i++ )
+        {
+            if ( !containsEqualElement( actualElements, start, end, expectedElements.get( i ), true, fieldName,
+                    tolerances ) )
+            {
+                path.set( path.size() - 1, i );
+                ResultDifference difference = compareElements(
+                        expectedElements.get( i ), actualElements.get( i ), fieldName, path, tolerances );
+                return (null != difference)
+                       ? difference
+                       : new ResultDifference( render( path ), describe( expectedElements.get( i ) ),
+                               missingElementDescription );
+            }
+        }
+        for ( int i = start; i < end; i++ )
+        {
+            if ( !containsEqualElement( expectedElements, start, end, actualElements.get( i ), false, fieldName,
+                    tolerances ) )
+            {
+                path.set( path.size() - 1, i );
+                return new ResultDifference( render( path ), missingElementDescription,
+                        describe( actualElements.get( i ) ) );
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param elementIsExpected true if element is an expected one, and elements are actual ones
+     */
+    private static boolean containsEqualElement( List<TokenBuffer> elements,
+            int start,
+            int end,
+            TokenBuffer element,
+            boolean elementIsExpected,
+            String fieldName,
+            ResultComparisonTolerances tolerances ) throws IOException
+    {
+        for ( int i = start; i < end; i++ )
+        {
+            ResultDifference difference = elementIsExpected
+                                          ? compareElements( element, elements.get( i ), fieldName,
+                                                  new ArrayList<>(), tolerances )
+                                          : compareElements( elements.get( i ), element, fieldName,
+                                                  new ArrayList<>(), tolerances );
+            if ( null == difference )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param path path of the array, followed by a placeholder for the index of the element
+     */
+    private static ResultDifference sizeDifference( List<TokenBuffer> expectedElements,
+            List<TokenBuffer> actualElements,
+            List<Object> path ) throws IOException
+    {
+        int commonSize = Math.min( expectedElements.size(), actualElements.size() );
+        path.set( path.size() - 1, commonSize );
+        return new ResultDifference(
+                render( path ),
+                (commonSize < expectedElements.size())
+                ? describe( expectedElements.get( commonSize ) )
+                : describe( JsonToken.END_ARRAY, null ),
+                (commonSize < actualElements.size())
+                ? describe( actualElements.get( commonSize ) )
+                : describe( JsonToken.END_ARRAY, null ) );
+    }
+
+    private static List<TokenBuffer> readElements( JsonParser parser ) throws IOException
+    {
+        List<TokenBuffer> elements = new ArrayList<>();
+        while ( JsonToken.END_ARRAY != parser.nextToken() )
+        {
+            TokenBuffer element = new TokenBuffer( parser );
+            element.copyCurrentStructure( parser );
+            elements.add( element );
+        }
+        return elements;
+    }
+
+    private static ResultDifference compareElements( TokenBuffer expectedElement,
+            TokenBuffer actualElement,
+            String fieldName,
+            List<Object> path,
+            ResultComparisonTolerances tolerances ) throws IOException
+    {
+        try ( JsonParser expected = expectedElement.asParser(); JsonParser actual = actualElement.asParser() )
+        {
+            expected.nextToken();
+            actual.nextToken();
+            return compareValues( expected, actual, fieldName, path, tolerances );
+        }
+    }
+
+    /**
+     * @return true if both elements are objects with equal values for one of the ordering tie fields
+     */
+    private static boolean tied( TokenBuffer element, TokenBuffer otherElement, ResultComparisonTolerances tolerances )
+            throws IOException
+    {
+        for ( String orderingTieField : tolerances.orderingTieFields() )
+        {
+            try ( JsonParser parser = fieldValue( element, orderingTieField );
+                  JsonParser otherParser = fieldValue( otherElement, orderingTieField ) )
+            {
+                if ( null != parser && null != otherParser &&
+                     null == compareValues( parser, otherParser, orderingTieField, new ArrayList<>(), tolerances ) )
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return parser positioned at the value of a field of an object, null if element is not an object with that field
+     */
+    private static JsonParser fieldValue( TokenBuffer element, String fieldName ) throws IOException
+    {
+        JsonParser parser = element.asParser();
+        if ( JsonToken.START_OBJECT == parser.nextToken() )
+        {
+            while ( JsonToken.FIELD_NAME == parser.nextToken() )
+            {
+                boolean found = fieldName.equals( parser.getCurrentName() );
+                parser.nextToken();
+                if ( found )
+                {
+                    return parser;
+                }
+                parser.skipChildren();
+            }
+        }
+        parser.close();
+        return null;
+    }
+
+    private static boolean numbersEqual( JsonParser expected,
+            JsonParser actual,
+            long integerTolerance,
+            double floatTolerance ) throws IOException
+    {
+        if ( JsonToken.VALUE_NUMBER_INT == expected.getCurrentToken() &&
+             JsonToken.VALUE_NUMBER_INT == actual.getCurrentToken() )
+        {
+            if ( 0 == integerTolerance &&
+                 JsonParser.NumberType.BIG_INTEGER != expected.getNumberType() &&
+                 JsonParser.NumberType.BIG_INTEGER != actual.getNumberType() )
+            {
+                return expected.getLongValue() == actual.getLongValue();
+            }
+            return expected.getBigIntegerValue().subtract( actual.getBigIntegerValue() ).abs()
+                           .compareTo( BigInteger.valueOf( integerTolerance ) ) <= 0;
+        }
+        double expectedValue = expected.getDoubleValue();
+        double actualValue = actual.getDoubleValue();
+        return 0 == Double.compare( expectedValue, actualValue ) ||
+               Math.abs( expectedValue - actualValue ) <= floatTolerance;
+    }
+
+    private static ResultDifference difference( List<Object> path, JsonParser expected, JsonParser actual )
+            throws IOException
+    {
+        return new ResultDifference(
+                render( path ),
+                describe( expected.getCurrentToken(), expected ),
+                describe( actual.getCurrentToken(), actual ) );
+    }
+
+    private static String render( List<Object> path )
+    {
+        StringBuilder sb = new StringBuilder( ROOT_PATH );
+        for ( Object pathElement : path )
+        {
+            if ( pathElement instanceof Integer )
+            {
+                sb.append( '[' ).append( pathElement ).append( ']' );
+            }
+            else if ( null != pathElement )
+            {
+                sb.append( '.' ).append( pathElement );
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String describe( TokenBuffer element ) throws IOException
+    {
+        try ( JsonParser parser = element.asParser() )
+        {
+            return describe( parser.nextToken(), parser );
+        }
+    }
+
+    private static String describe( JsonToken token, JsonParser parser ) throws IOException
+    {
+        if ( null == token )
+        {
+            return "nothing";
+        }
+        switch ( token )
+        {
+        case START_OBJECT:
+            return "{...}";
+        case START_ARRAY:
+            return "[...]";
+        case END_OBJECT:
+            return "end of object";
+        case END_ARRAY:
+            return "end of array";
+        case FIELD_NAME:
+            return "field " + parser.getCurrentName();
+        case VALUE_STRING:
+            return '"' + parser.getText() + '"';
+        default:
+            return parser.getText();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.ldbcouncil.snb.driver.validation;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Differences between expected and actual results that are not reported by ResultComparator
+ */
+public class ResultComparisonTolerances
+{
+    // same precision as ValidationEquality, which compares to 10 decimal places
+    public static final double DEFAULT_FLOAT_TOLERANCE = 1e-10;
+    public static final ResultComparisonTolerances DEFAULT = new ResultComparisonTolerances(
+            DEFAULT_FLOAT_TOLERANCE,
+            Collections.<String,Double>emptyMap(),
+            Collections.<String>emptySet()
+    );
+
+    private final double floatTolerance;
+    private final Map<String,Double> fieldFloatTolerances;
+    private final Map<String,Long> fieldIntegerTolerances;
+    private final Set<String> orderingTieFields;
+    private final Set<String> unorderedArrayFields;
+
+    /**
+     * Integers must be equal, and arrays must be in the same order, apart from ordering ties
+     */
+    public ResultComparisonTolerances(
+            double floatTolerance,
+            Map<String,Double> fieldFloatTolerances,
+            Set<String> orderingTieFields )
+    {
+        this(
+                floatTolerance,
+                fieldFloatTolerances,
+                Collections.<String,Long>emptyMap(),
+                orderingTieFields,
+                Collections.<String>emptySet()
+        );
+    }
+
+    /**
+     * @param floatTolerance maximum absolute difference of floating point values
+     * @param fieldFloatTolerances maximum absolute difference of floating point values of fields with these names,
+     * instead of floatTolerance
+     * @param fieldIntegerTolerances maximum absolute difference of integer values of fields with these names, e.g.,
+     * latencies that may be off by one due to leap seconds, integers of other fields must be equal
+     * @param orderingTieFields consecutive array elements that are objects with equal values for one of these fields
+     * may be in any order, e.g., paths of equal weight
+     * @param unorderedArrayFields arrays that are values of fields with these names are compared as sets, i.e., they
+     * must have the same size and every element of each must be equal to an element of the other, e.g., emails
+     */
+    public ResultComparisonTolerances(
+            double floatTolerance,
+            Map<String,Double> fieldFloatTolerances,
+            Map<String,Long> fieldIntegerTolerances,
+            Set<String> orderingTieFields,
+            Set<String> unorderedArrayFields )
+    {
+        this.floatTolerance = floatTolerance;
+        this.fieldFloatTolerances = new HashMap<>( fieldFloatTolerances );
+        this.fieldIntegerTolerances = new HashMap<>( fieldIntegerTolerances );
+        this.orderingTieFields = new HashSet<>( orderingTieFields );
+        this.unorderedArrayFields = new HashSet<>( unorderedArrayFields );
+    }
+
+    /**
+     * @param fieldName name of the field the value belongs to, null if it is not the value of a field
+     */
+    public double floatTolerance( String fieldName )
+    {
+        Double fieldFloatTolerance = (null == fieldName) ? null : fieldFloatTolerances.get( fieldName );
+        return (null == fieldFloatTolerance) ? floatTolerance : fieldFloatTolerance;
+    }
+
+    /**
+     * @param fieldName name of the field the value belongs to, null if it is not the value of a field
+     */
+    public long integerTolerance( String fieldName )
+    {
+        Long fieldIntegerTolerance = (null == fieldName) ? null : fieldIntegerTolerances.get( fieldName );
+        return (null == fieldIntegerTolerance) ? 0 : fieldIntegerTolerance;
+    }
+
+    public Set<String> orderingTieFields()
+    {
+        return orderingTieFields;
+    }
+
+    public Set<String> unorderedArrayFields()
+    {
+        return unorderedArrayFields;
+    }
+}
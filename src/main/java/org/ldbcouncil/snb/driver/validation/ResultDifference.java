@@ -0,0 +1,44 @@
+package org.ldbcouncil.snb.driver.validation;
+
+import static java.lang.String.format;
+
+/**
+ * First difference between an expected and an actual result, found by ResultComparator
+ */
+public class ResultDifference
+{
+    private final String path;
+    private final String expected;
+    private final String actual;
+
+    ResultDifference( String path, String expected, String actual )
+    {
+        this.path = path;
+        this.expected = expected;
+        this.actual = actual;
+    }
+
+    /**
+     * @return location of the difference in the result, e.g., $[2].pathWeight
+     */
+    public String path()
+    {
+        return path;
+    }
+
+    public String expected()
+    {
+        return expected;
+    }
+
+    public String actual()
+    {
+        return actual;
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "%s: expected %s, actual %s", path, expected, actual );
+    }
+}
@@ -2,7 +2,8 @@ package org.ldbcouncil.snb.driver.validation;
 /**
  * ResultsLogValidationSummaryCalculator.java
  * Stores per operation the delayed operations into a histogram (method RecordDelay)
- * and creates a summary of the delayed operations using (method snapshot)
+ * and creates a summary of the delayed operations using (method snapshot).
+ * Calculators that recorded different parts of a results log can be merged (method add).
  */
 
 import org.HdrHistogram.Histogram;
@@ -59,6 +60,38 @@ class ResultsLogValidationSummaryCalculator
         }
     }
 
+    /**
+     * Adds the delays recorded by another calculator, which must have the same maximum delay and threshold
+     * @param other Calculator that recorded delays of other operations
+     */
+    void add( ResultsLogValidationSummaryCalculator other )
+    {
+        delays.add( other.delays );
+        for ( Map.Entry<String,Histogram> otherDelayForType : other.delaysPerType.entrySet() )
+        {
+            Histogram delayForType = delaysPerType.get( otherDelayForType.getKey() );
+            if ( null == delayForType )
+            {
+                delaysPerType.put( otherDelayForType.getKey(), otherDelayForType.getValue().copy() );
+            }
+            else
+            {
+                delayForType.add( otherDelayForType.getValue() );
+            }
+        }
+        for ( Map.Entry<String,Long> otherDelaysAboveThresholdForType :
+                other.delaysAboveThresholdPerType.entrySet() )
+        {
+            Long delaysAboveThresholdForType = delaysAboveThresholdPerType.get(
+                    otherDelaysAboveThresholdForType.getKey() );
+            delaysAboveThresholdPerType.put(
+                    otherDelaysAboveThresholdForType.getKey(),
+                    ((null == delaysAboveThresholdForType) ? 0L : delaysAboveThresholdForType) +
+                    otherDelaysAboveThresholdForType.getValue() );
+        }
+        delaysAboveThreshold += other.delaysAboveThreshold;
+    }
+
     /**
      * Creates a summary with statistics of the delays
      * @return ResultsLogValidationSummary object
@@ -3,14 +3,25 @@ package org.ldbcouncil.snb.driver.validation;
  * ResultsLogValidator.java
  * This class computes and validates the results of the benchmark. Compute reads the result file
  * and records any delayed operation. Validate checks from the computed summary if it exceeds the
- * threshold.
+ * threshold. The result file is split into byte ranges, which are read in parallel.
  */
 
-import org.ldbcouncil.snb.driver.csv.simple.SimpleCsvFileReader;
+import org.ldbcouncil.snb.driver.runtime.metrics.ResultsLogFormat;
+import org.ldbcouncil.snb.driver.runtime.metrics.ResultsLogRange;
+import org.ldbcouncil.snb.driver.runtime.metrics.ResultsLogReader;
 import org.ldbcouncil.snb.driver.temporal.TemporalUtil;
 
 import java.io.File;
-import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.ldbcouncil.snb.driver.validation.ResultsLogValidationResult.ValidationErrorType;
 import static java.lang.String.format;
@@ -18,6 +29,36 @@ import static java.lang.String.format;
 public class ResultsLogValidator
 {
     private static final TemporalUtil TEMPORAL_UTIL = new TemporalUtil();
+    public static final long DEFAULT_RANGE_SIZE = 64 * 1024 * 1024;
+
+    private final int threadCount;
+    private final long rangeSize;
+
+    public ResultsLogValidator()
+    {
+        this( Runtime.getRuntime().availableProcessors(), DEFAULT_RANGE_SIZE );
+    }
+
+    /**
+     * @param threadCount Number of threads that read ranges of the result file in parallel. Each thread keeps its
+     * own histograms while computing the summary.
+     * @param rangeSize Approximate size in bytes of the ranges the result file is split into
+     */
+    public ResultsLogValidator( int threadCount, long rangeSize )
+    {
+        if ( threadCount < 1 )
+        {
+            throw new IllegalArgumentException(
+                    format( "Results log validation thread count must be at least 1, was %s", threadCount ) );
+        }
+        if ( rangeSize < 1 )
+        {
+            throw new IllegalArgumentException(
+                    format( "Results log validation range size must be at least 1, was %s", rangeSize ) );
+        }
+        this.threadCount = threadCount;
+        this.rangeSize = rangeSize;
+    }
 
     /**
      * Validates the result from the benchmark. Checks the amount of 
@@ -64,41 +105,45 @@ public class ResultsLogValidator
     /***
      * Loads the benchmark result file and uses the ResultsLogValidationSummaryCalculator to record delayed
      * operations.
-     * @param resultsLog The File object to the operation result log CSV-file.
+     * @param resultsLog The File object to the operation result log, in CSV or binary format.
      * @param excessiveDelayThresholdAsMilli The delay threshold when an operation is considered delayed.
      * @return Summary of the delayed operations in a ResultsLogValidationSummary object
-     * @throws ValidationException When the result CSV file could not be opened or invalid delay is computed.
+     * @throws ValidationException When the results log could not be opened or invalid delay is computed.
      */
     public ResultsLogValidationSummary compute( File resultsLog, long excessiveDelayThresholdAsMilli )
             throws ValidationException
     {
-        long maxDelayAsMilli = maxDelayAsMilli( resultsLog );
-        ResultsLogValidationSummaryCalculator calculator = new ResultsLogValidationSummaryCalculator(
-                maxDelayAsMilli,
-                excessiveDelayThresholdAsMilli
-        );
-
-        try ( SimpleCsvFileReader reader = new SimpleCsvFileReader(
-                resultsLog,
-                SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
+        List<ResultsLogRange> ranges = split( resultsLog );
+        long maxDelayAsMilli = maxDelayAsMilli( resultsLog, ranges );
+        List<ResultsLogValidationSummaryCalculator> calculators =
+                new ArrayList<>( Math.min( threadCount, ranges.size() ) );
+        for ( int i = 0; i < Math.min( threadCount, ranges.size() ); i++ )
         {
-            // skip headers
-            reader.next();
-            while ( reader.hasNext() )
+            calculators.add( new ResultsLogValidationSummaryCalculator(
+                    maxDelayAsMilli,
+                    excessiveDelayThresholdAsMilli
+            ) );
+        }
+        List<ResultVisitor> visitors = new ArrayList<>( calculators.size() );
+        for ( final ResultsLogValidationSummaryCalculator calculator : calculators )
+        {
+            visitors.add( new ResultVisitor()
             {
-                String[] row = reader.next();
-                String operationType = row[0];
-                long scheduledStartTimeAsMilli = Long.parseLong( row[1] );
-                long actualStartTimeAsMilli = Long.parseLong( row[2] );
-                // duration
-                // result code
-                long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
-                calculator.recordDelay( operationType, delayAsMilli );
-            }
+                @Override
+                public void visit( String operationType, long scheduledStartTimeAsMilli,
+                        long actualStartTimeAsMilli )
+                {
+                    long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
+                    calculator.recordDelay( operationType, delayAsMilli );
+                }
+            } );
         }
-        catch ( FileNotFoundException e )
+        visitResults( resultsLog, ranges, visitors );
+        // Merge per thread histograms
+        ResultsLogValidationSummaryCalculator calculator = calculators.get( 0 );
+        for ( int i = 1; i < calculators.size(); i++ )
         {
-            throw new ValidationException( format( "Error opening results log: %s", resultsLog.getAbsolutePath() ), e );
+            calculator.add( calculators.get( i ) );
         }
         // Create summary
         return calculator.snapshot();
@@ -106,54 +151,182 @@ public class ResultsLogValidator
 
     /**
      * Calculates the maximum delay in the results used to place results in the Histogram object.
-     * @param resultsLog The File object to the operation result log CSV-file.
+     * @param resultsLog The File object to the operation result log, in CSV or binary format.
+     * @param ranges Ranges of the result file
      * @return maximum delay found in the result file.
      * @throws ValidationException When the delay is invalid (negative)
      */
-    private long maxDelayAsMilli( File resultsLog ) throws ValidationException
+    private long maxDelayAsMilli( File resultsLog, List<ResultsLogRange> ranges ) throws ValidationException
     {
-        long maxDelayAsMilli = 0;
-        try ( SimpleCsvFileReader reader = new SimpleCsvFileReader(
-                resultsLog,
-                SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
-        {
-            // skip headers
-            reader.next();
-            while ( reader.hasNext() )
+        final long[] maxDelayAsMilli = new long[Math.min( threadCount, ranges.size() )];
+        List<ResultVisitor> visitors = new ArrayList<>( maxDelayAsMilli.length );
+        for ( int i = 0; i < maxDelayAsMilli.length; i++ )
+        {
+            final int visitorIndex = i;
+            visitors.add( new ResultVisitor()
             {
-                String[] row = reader.next();
-                // operation type
-                long scheduledStartTimeAsMilli = Long.parseLong( row[1] );
-                long actualStartTimeAsMilli = Long.parseLong( row[2] );
-                // duration
-                // result code
-                long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
-                if ( delayAsMilli < 0 )
+                @Override
+                public void visit( String operationType, long scheduledStartTimeAsMilli,
+                        long actualStartTimeAsMilli ) throws ValidationException
                 {
-                    throw new ValidationException(
-                        format( "Delay can not be negative\n" +
-                                "Delay: %s (ms) / %s\n" +
-                                "Scheduled Start Time: %s (ms) / %s\n" +
-                                "Actual Start Time: %s (ms) / %s",
-                                delayAsMilli,
-                                TEMPORAL_UTIL.milliDurationToString( delayAsMilli ),
-                                scheduledStartTimeAsMilli,
-                                TEMPORAL_UTIL.milliTimeToTimeString( scheduledStartTimeAsMilli ),
-                                actualStartTimeAsMilli,
-                                TEMPORAL_UTIL.milliTimeToTimeString( actualStartTimeAsMilli )
-                        )
-                    );
+                    long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
+                    if ( delayAsMilli < 0 )
+                    {
+                        throw new ValidationException(
+                            format( "Delay can not be negative\n" +
+                                    "Delay: %s (ms) / %s\n" +
+                                    "Scheduled Start Time: %s (ms) / %s\n" +
+                                    "Actual Start Time: %s (ms) / %s",
+                                    delayAsMilli,
+                                    TEMPORAL_UTIL.milliDurationToString( delayAsMilli ),
+                                    scheduledStartTimeAsMilli,
+                                    TEMPORAL_UTIL.milliTimeToTimeString( scheduledStartTimeAsMilli ),
+                                    actualStartTimeAsMilli,
+                                    TEMPORAL_UTIL.milliTimeToTimeString( actualStartTimeAsMilli )
+                            )
+                        );
+                    }
+                    if ( delayAsMilli > maxDelayAsMilli[visitorIndex] )
+                    {
+                        maxDelayAsMilli[visitorIndex] = delayAsMilli;
+                    }
                 }
-                if ( delayAsMilli > maxDelayAsMilli )
+            } );
+        }
+        visitResults( resultsLog, ranges, visitors );
+        long maxDelayOfAllAsMilli = 0;
+        for ( long maxDelayOfThreadAsMilli : maxDelayAsMilli )
+        {
+            maxDelayOfAllAsMilli = Math.max( maxDelayOfAllAsMilli, maxDelayOfThreadAsMilli );
+        }
+        return maxDelayOfAllAsMilli;
+    }
+
+    private List<ResultsLogRange> split( File resultsLog ) throws ValidationException
+    {
+        try
+        {
+            return ResultsLogFormat.of( resultsLog ).split( resultsLog, rangeSize );
+        }
+        catch ( RuntimeException e )
+        {
+            throw e;
+        }
+        catch ( Exception e )
+        {
+            throw new ValidationException( format( "Error opening results log: %s", resultsLog.getAbsolutePath() ), e );
+        }
+    }
+
+    /**
+     * Passes every result in the results log to one of the visitors, one thread per visitor. Threads take ranges
+     * in order of their position in the results log, so if visitors throw, the exception of the first range that
+     * failed is thrown.
+     */
+    private void visitResults( File resultsLog, final List<ResultsLogRange> ranges, List<ResultVisitor> visitors )
+            throws ValidationException
+    {
+        final AtomicInteger nextRangeIndex = new AtomicInteger( 0 );
+        final AtomicBoolean failed = new AtomicBoolean( false );
+        final Exception[] rangeExceptions = new Exception[ranges.size()];
+        ExecutorService validationThreads = Executors.newFixedThreadPool( visitors.size(), new ThreadFactory()
+        {
+            private final long factoryTimeStampId = System.currentTimeMillis();
+            int count = 0;
+
+            @Override
+            public Thread newThread( Runnable runnable )
+            {
+                Thread thread = new Thread(
+                        runnable,
+                        ResultsLogValidator.class.getSimpleName() + "-id(" + factoryTimeStampId + ")" +
+                        "-thread(" + count++ + ")"
+                );
+                thread.setDaemon( true );
+                return thread;
+            }
+        } );
+        try
+        {
+            List<Future<?>> visits = new ArrayList<>( visitors.size() );
+            for ( final ResultVisitor visitor : visitors )
+            {
+                visits.add( validationThreads.submit( new Callable<Void>()
                 {
-                    maxDelayAsMilli = delayAsMilli;
-                }
+                    @Override
+                    public Void call()
+                    {
+                        int rangeIndex;
+                        while ( !failed.get() && (rangeIndex = nextRangeIndex.getAndIncrement()) < ranges.size() )
+                        {
+                            try
+                            {
+                                visitRange( ranges.get( rangeIndex ), visitor );
+                            }
+                            catch ( Exception e )
+                            {
+                                rangeExceptions[rangeIndex] = e;
+                                failed.set( true );
+                            }
+                        }
+                        return null;
+                    }
+                } ) );
+            }
+            for ( Future<?> visit : visits )
+            {
+                visit.get();
             }
         }
-        catch ( FileNotFoundException e )
+        catch ( InterruptedException e )
         {
-            throw new ValidationException( format( "Error opening results log: %s", resultsLog.getAbsolutePath() ), e );
+            Thread.currentThread().interrupt();
+            throw new ValidationException( "Interrupted while reading results log", e );
+        }
+        catch ( ExecutionException e )
+        {
+            throw new ValidationException(
+                    format( "Error reading results log: %s", resultsLog.getAbsolutePath() ), e.getCause() );
+        }
+        finally
+        {
+            validationThreads.shutdownNow();
         }
-        return maxDelayAsMilli;
+        for ( Exception rangeException : rangeExceptions )
+        {
+            if ( rangeException instanceof ValidationException )
+            {
+                throw (ValidationException) rangeException;
+            }
+            else if ( rangeException instanceof RuntimeException )
+            {
+                throw (RuntimeException) rangeException;
+            }
+            else if ( null != rangeException )
+            {
+                throw new ValidationException(
+                        format( "Error opening results log: %s", resultsLog.getAbsolutePath() ), rangeException );
+            }
+        }
+    }
+
+    private static void visitRange( ResultsLogRange range, ResultVisitor visitor ) throws Exception
+    {
+        try ( ResultsLogReader reader = range.newReader() )
+        {
+            while ( reader.next() )
+            {
+                visitor.visit(
+                        reader.getOperationName(),
+                        reader.getScheduledStartTimeAsMilli(),
+                        reader.getActualStartTimeAsMilli() );
+            }
+        }
+    }
+
+    private interface ResultVisitor
+    {
+        void visit( String operationType, long scheduledStartTimeAsMilli, long actualStartTimeAsMilli )
+                throws ValidationException;
     }
 }
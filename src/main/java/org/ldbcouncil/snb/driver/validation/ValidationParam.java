@@ -1,10 +1,16 @@
 package org.ldbcouncil.snb.driver.validation;
 
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.generator.GeneratorException;
+
+import java.io.IOException;
 
 public class ValidationParam {
     private final Operation operation;
-    private final Object operationResult;
+    private Object operationResult;
+    // tokens of the operation result as read from validation parameters, null if created from the result object
+    private final TokenBuffer serializedOperationResult;
 
     public static <OPERATION extends Operation<RESULT>, RESULT> ValidationParam createTyped(OPERATION operation, RESULT operationResult) {
         return new ValidationParam(operation, operationResult);
@@ -14,19 +20,46 @@ public class ValidationParam {
         return new ValidationParam(operation, operationResult);
     }
 
+    /**
+     * @param serializedOperationResult tokens of the operation result, which is only deserialized when
+     *                                  {@link #operationResult()} is called, e.g., to report an incorrect result
+     */
+    public static ValidationParam createSerialized(Operation operation, TokenBuffer serializedOperationResult) {
+        return new ValidationParam(operation, null, serializedOperationResult);
+    }
+
     private ValidationParam(Operation operation, Object operationResult) {
+        this(operation, operationResult, null);
+    }
+
+    private ValidationParam(Operation operation, Object operationResult, TokenBuffer serializedOperationResult) {
         this.operation = operation;
         this.operationResult = operationResult;
+        this.serializedOperationResult = serializedOperationResult;
     }
 
     public Operation operation() {
         return operation;
     }
 
-    public Object operationResult() {
+    public synchronized Object operationResult() {
+        if (null == operationResult && null != serializedOperationResult) {
+            try {
+                operationResult = operation.deserializeResult(serializedOperationResult.asParser());
+            } catch (IOException e) {
+                throw new GeneratorException("Error deserializing operation result of validation parameter", e);
+            }
+        }
         return operationResult;
     }
 
+    /**
+     * @return tokens of the operation result, null if this validation parameter was created from the result object
+     */
+    public TokenBuffer serializedOperationResult() {
+        return serializedOperationResult;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -35,7 +68,9 @@ public class ValidationParam {
         ValidationParam that = (ValidationParam) o;
 
         if (operation != null ? !operation.equals(that.operation) : that.operation != null) return false;
-        if (operationResult != null ? !operationResult.equals(that.operationResult) : that.operationResult != null)
+        Object operationResult = operationResult();
+        Object thatOperationResult = that.operationResult();
+        if (operationResult != null ? !operationResult.equals(thatOperationResult) : thatOperationResult != null)
             return false;
 
         return true;
@@ -44,6 +79,7 @@ public class ValidationParam {
     @Override
     public int hashCode() {
         int result = operation != null ? operation.hashCode() : 0;
+        Object operationResult = operationResult();
         result = 31 * result + (operationResult != null ? operationResult.hashCode() : 0);
         return result;
     }
@@ -52,7 +88,7 @@ public class ValidationParam {
     public String toString() {
         return "ValidationParam{" +
                 "operation=" + operation +
-                ", operationResult=" + operationResult +
+                ", operationResult=" + operationResult() +
                 '}';
     }
 }
@@ -0,0 +1,343 @@
+package org.ldbcouncil.snb.driver.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.generator.GeneratorException;
+import org.ldbcouncil.snb.driver.util.ClassLoaderHelper;
+import org.ldbcouncil.snb.driver.util.ClassLoadingException;
+
+import java.io.BufferedInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.ldbcouncil.snb.driver.validation.ValidationParamsBinaryWriter.END_ARRAY_TAG;
+import static org.ldbcouncil.snb.driver.validation.ValidationParamsBinaryWriter.END_OBJECT_TAG;
+import static org.ldbcouncil.snb.driver.validation.ValidationParamsBinaryWriter.FALSE_TAG;
+import static org.ldbcouncil.snb.driver.validation.ValidationParamsBinaryWriter.FIELD_NAME_TAG;
+import static org.ldbcouncil.snb.driver.validation.ValidationParamsBinaryWriter.FLOAT_TAG;
+import static org.ldbcouncil.snb.driver.validation.ValidationParamsBinaryWriter.INTEGER_TAG;
+import static org.ldbcouncil.snb.driver.validation.ValidationParamsBinaryWriter.MAGIC_NUMBER;
+import static org.ldbcouncil.snb.driver.validation.ValidationParamsBinaryWriter.NULL_TAG;
+import static org.ldbcouncil.snb.driver.validation.ValidationParamsBinaryWriter.START_ARRAY_TAG;
+import static org.ldbcouncil.snb.driver.validation.ValidationParamsBinaryWriter.START_OBJECT_TAG;
+import static org.ldbcouncil.snb.driver.validation.ValidationParamsBinaryWriter.STRING_TAG;
+import static org.ldbcouncil.snb.driver.validation.ValidationParamsBinaryWriter.TRUE_TAG;
+import static org.ldbcouncil.snb.driver.validation.ValidationParamsBinaryWriter.VERSION;
+import static java.lang.String.format;
+
+/**
+ * Reads validation parameters written by ValidationParamsBinaryWriter, one at a time.
+ * Operations are deserialized into the class they were written from. Results are kept as the tokens they were
+ * written as, which DbValidator compares without deserializing them, and are only deserialized via
+ * {@link Operation#deserializeResult(com.fasterxml.jackson.core.JsonParser)} of that operation on demand.
+ */
+public class ValidationParamsBinaryReader implements ValidationParamsReader
+{
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final DataInputStream in;
+    private final List<String> operationClassNames = new ArrayList<>();
+    private final List<Class<? extends Operation>> operationClasses = new ArrayList<>();
+    private final List<String> fieldNames = new ArrayList<>();
+    private ValidationParam next = null;
+
+    public ValidationParamsBinaryReader( File file ) throws IOException
+    {
+        this.in = new DataInputStream( new BufferedInputStream( new FileInputStream( file ) ) );
+        processHeader( in, file );
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        if ( null == next )
+        {
+            try
+            {
+                next = readValidationParam();
+            }
+            catch ( IOException e )
+            {
+                throw new GeneratorException( "Error reading validation parameters", e );
+            }
+        }
+        return null != next;
+    }
+
+    @Override
+    public ValidationParam next()
+    {
+        if ( !hasNext() )
+        {
+            throw new NoSuchElementException();
+        }
+        ValidationParam validationParam = next;
+        next = null;
+        return validationParam;
+    }
+
+    private ValidationParam readValidationParam() throws IOException
+    {
+        int firstByte = in.read();
+        if ( -1 == firstByte )
+        {
+            return null;
+        }
+        int operationClassId = readId( in, firstByte, operationClassNames );
+        if ( operationClassId == operationClasses.size() )
+        {
+            String operationClassName = operationClassNames.get( operationClassId );
+            Class<?> operationClass;
+            try
+            {
+                operationClass = ClassLoaderHelper.loadClass( operationClassName );
+            }
+            catch ( ClassLoadingException e )
+            {
+                throw new IOException( format( "Unknown operation class: %s", operationClassName ), e );
+            }
+            if ( !Operation.class.isAssignableFrom( operationClass ) )
+            {
+                throw new IOException( format( "Not an operation class: %s", operationClassName ) );
+            }
+            operationClasses.add( operationClass.asSubclass( Operation.class ) );
+        }
+
+        TokenBuffer serializedOperation = new TokenBuffer( OBJECT_MAPPER, false );
+        readValue( in, fieldNames, serializedOperation );
+        Operation operation = OBJECT_MAPPER.readValue(
+                serializedOperation.asParser(), operationClasses.get( operationClassId ) );
+
+        // result is compared as tokens, and only deserialized if it is needed as an object
+        TokenBuffer serializedOperationResult = new TokenBuffer( OBJECT_MAPPER, false );
+        readValue( in, fieldNames, serializedOperationResult );
+
+        return ValidationParam.createSerialized( operation, serializedOperationResult );
+    }
+
+    @Override
+    public void remove()
+    {
+        throw new UnsupportedOperationException( "remove() not supported by " + getClass().getName() );
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        in.close();
+    }
+
+    /**
+     * Counts validation parameters without deserializing them
+     */
+    public static int count( File file ) throws IOException
+    {
+        try ( DataInputStream in = new DataInputStream( new BufferedInputStream( new FileInputStream( file ) ) ) )
+        {
+            processHeader( in, file );
+            List<String> operationClassNames = new ArrayList<>();
+            List<String> fieldNames = new ArrayList<>();
+            int count = 0;
+            int firstByte;
+            while ( -1 != (firstByte = in.read()) )
+            {
+                readId( in, firstByte, operationClassNames );
+                readValue( in, fieldNames, null );
+                readValue( in, fieldNames, null );
+                count++;
+            }
+            return count;
+        }
+    }
+
+    private static void processHeader( DataInput in, File file ) throws IOException
+    {
+        try
+        {
+            if ( MAGIC_NUMBER != in.readInt() )
+            {
+                throw new IOException( format( "Not a binary validation parameters file: %s",
+                        file.getAbsolutePath() ) );
+            }
+            short version = in.readShort();
+            if ( VERSION != version )
+            {
+                throw new IOException( format( "Unsupported binary validation parameters file version: %s",
+                        version ) );
+            }
+        }
+        catch ( EOFException e )
+        {
+            throw new IOException( format( "Not a binary validation parameters file: %s", file.getAbsolutePath() ),
+                    e );
+        }
+    }
+
+    /**
+     * Reads the tokens of one value
+     *
+     * @param tokenBuffer tokens are written to it, if null they are skipped
+     */
+    private static void readValue( DataInput in, List<String> fieldNames, TokenBuffer tokenBuffer )
+            throws IOException
+    {
+        int depth = 0;
+        do
+        {
+            byte tag = in.readByte();
+            switch ( tag )
+            {
+            case START_OBJECT_TAG:
+                depth++;
+                if ( null != tokenBuffer )
+                {
+                    tokenBuffer.writeStartObject();
+                }
+                break;
+            case END_OBJECT_TAG:
+                depth--;
+                if ( null != tokenBuffer )
+                {
+                    tokenBuffer.writeEndObject();
+                }
+                break;
+            case START_ARRAY_TAG:
+                depth++;
+                if ( null != tokenBuffer )
+                {
+                    tokenBuffer.writeStartArray();
+                }
+                break;
+            case END_ARRAY_TAG:
+                depth--;
+                if ( null != tokenBuffer )
+                {
+                    tokenBuffer.writeEndArray();
+                }
+                break;
+            case FIELD_NAME_TAG:
+                int fieldNameId = readId( in, in.readUnsignedByte(), fieldNames );
+                if ( null != tokenBuffer )
+                {
+                    tokenBuffer.writeFieldName( fieldNames.get( fieldNameId ) );
+                }
+                break;
+            case STRING_TAG:
+                if ( null != tokenBuffer )
+                {
+                    tokenBuffer.writeString( readString( in ) );
+                }
+                else
+                {
+                    in.skipBytes( readLength( in, in.readUnsignedByte() ) );
+                }
+                break;
+            case INTEGER_TAG:
+                long zigZagValue = readVarLong( in, in.readUnsignedByte() );
+                long value = (zigZagValue >>> 1) ^ -(zigZagValue & 1);
+                if ( null != tokenBuffer )
+                {
+                    // same number types as when parsing JSON text
+                    if ( (int) value == value )
+                    {
+                        tokenBuffer.writeNumber( (int) value );
+                    }
+                    else
+                    {
+                        tokenBuffer.writeNumber( value );
+                    }
+                }
+                break;
+            case FLOAT_TAG:
+                double floatValue = in.readDouble();
+                if ( null != tokenBuffer )
+                {
+                    tokenBuffer.writeNumber( floatValue );
+                }
+                break;
+            case TRUE_TAG:
+                if ( null != tokenBuffer )
+                {
+                    tokenBuffer.writeBoolean( true );
+                }
+                break;
+            case FALSE_TAG:
+                if ( null != tokenBuffer )
+                {
+                    tokenBuffer.writeBoolean( false );
+                }
+                break;
+            case NULL_TAG:
+                if ( null != tokenBuffer )
+                {
+                    tokenBuffer.writeNull();
+                }
+                break;
+            default:
+                throw new IOException( format( "Unknown token tag: %s", tag ) );
+            }
+        }
+        while ( depth > 0 );
+    }
+
+    /**
+     * Reads the id of a name, and the name itself if this is its first use
+     */
+    private static int readId( DataInput in, int firstByte, List<String> names ) throws IOException
+    {
+        int id = readLength( in, firstByte );
+        if ( id == names.size() )
+        {
+            names.add( readString( in ) );
+        }
+        else if ( id > names.size() )
+        {
+            throw new IOException( format( "Name id %s used before it was defined", id ) );
+        }
+        return id;
+    }
+
+    private static String readString( DataInput in ) throws IOException
+    {
+        byte[] bytes = new byte[readLength( in, in.readUnsignedByte() )];
+        in.readFully( bytes );
+        return new String( bytes, StandardCharsets.UTF_8 );
+    }
+
+    private static int readLength( DataInput in, int firstByte ) throws IOException
+    {
+        long length = readVarLong( in, firstByte );
+        if ( length > Integer.MAX_VALUE )
+        {
+            throw new IOException( format( "Invalid length: %s", length ) );
+        }
+        return (int) length;
+    }
+
+    private static long readVarLong( DataInput in, int firstByte ) throws IOException
+    {
+        long value = firstByte & 0x7F;
+        int shift = 7;
+        int b = firstByte;
+        while ( 0 != (b & 0x80) )
+        {
+            if ( shift > 63 )
+            {
+                throw new IOException( "Malformed var long" );
+            }
+            b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,186 @@
+package org.ldbcouncil.snb.driver.validation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Writes validation parameters in a compact binary format, rather than as JSON text in CSV columns.
+ * <p>
+ * Format (big endian):
+ * <pre>
+ * header:           int magic number, short version
+ * validation param: operation class name, operation value, operation result value
+ * value:            Jackson tokens of one value, each a one byte tag followed by:
+ *                   field name - name, string - var int length + UTF-8, integer - zig-zag var long,
+ *                   float - double, other tokens - nothing
+ * name:             var int id, followed by var int length + UTF-8 name if it is the first use of the name
+ * </pre>
+ * Operation class names and field names are each stored once, ids are assigned in order of first use, so after the
+ * first row of an operation type its rows are almost only the values of its parameters and results. Values are
+ * streamed through token buffers, so the same Jackson annotations apply as for the CSV format.
+ */
+public class ValidationParamsBinaryWriter implements ValidationParamsWriter
+{
+    // "LDBV"
+    static final int MAGIC_NUMBER = 0x4C444256;
+    static final short VERSION = 1;
+    static final byte START_OBJECT_TAG = 1;
+    static final byte END_OBJECT_TAG = 2;
+    static final byte START_ARRAY_TAG = 3;
+    static final byte END_ARRAY_TAG = 4;
+    static final byte FIELD_NAME_TAG = 5;
+    static final byte STRING_TAG = 6;
+    static final byte INTEGER_TAG = 7;
+    static final byte FLOAT_TAG = 8;
+    static final byte TRUE_TAG = 9;
+    static final byte FALSE_TAG = 10;
+    static final byte NULL_TAG = 11;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final DataOutputStream out;
+    private final Map<String,Integer> operationClassNameIds = new HashMap<>();
+    private final Map<String,Integer> fieldNameIds = new HashMap<>();
+
+    public ValidationParamsBinaryWriter( File file ) throws IOException
+    {
+        this.out = new DataOutputStream( new BufferedOutputStream( new FileOutputStream( file ) ) );
+        out.writeInt( MAGIC_NUMBER );
+        out.writeShort( VERSION );
+    }
+
+    @Override
+    public void write( ValidationParam validationParam ) throws IOException
+    {
+        writeName( operationClassNameIds, validationParam.operation().getClass().getName() );
+        writeValue( validationParam.operation() );
+        writeValue( validationParam.operationResult() );
+    }
+
+    private void writeValue( Object value ) throws IOException
+    {
+        TokenBuffer tokenBuffer = new TokenBuffer( OBJECT_MAPPER, false );
+        OBJECT_MAPPER.writeValue( tokenBuffer, value );
+        try ( JsonParser parser = tokenBuffer.asParser() )
+        {
+            JsonToken token;
+            while ( null != (token = parser.nextToken()) )
+            {
+                writeToken( parser, token );
+            }
+        }
+    }
+
+    private void writeToken( JsonParser parser, JsonToken token ) throws IOException
+    {
+        switch ( token )
+        {
+        case START_OBJECT:
+            out.writeByte( START_OBJECT_TAG );
+            break;
+        case END_OBJECT:
+            out.writeByte( END_OBJECT_TAG );
+            break;
+        case START_ARRAY:
+            out.writeByte( START_ARRAY_TAG );
+            break;
+        case END_ARRAY:
+            out.writeByte( END_ARRAY_TAG );
+            break;
+        case FIELD_NAME:
+            out.writeByte( FIELD_NAME_TAG );
+            writeName( fieldNameIds, parser.getCurrentName() );
+            break;
+        case VALUE_STRING:
+            out.writeByte( STRING_TAG );
+            writeString( out, parser.getText() );
+            break;
+        case VALUE_NUMBER_INT:
+            if ( JsonParser.NumberType.BIG_INTEGER == parser.getNumberType() )
+            {
+                throw new IOException( format( "Unsupported integer value: %s", parser.getBigIntegerValue() ) );
+            }
+            out.writeByte( INTEGER_TAG );
+            long value = parser.getLongValue();
+            writeVarLong( out, (value << 1) ^ (value >> 63) );
+            break;
+        case VALUE_NUMBER_FLOAT:
+            if ( JsonParser.NumberType.BIG_DECIMAL == parser.getNumberType() )
+            {
+                throw new IOException( format( "Unsupported float value: %s", parser.getDecimalValue() ) );
+            }
+            out.writeByte( FLOAT_TAG );
+            out.writeDouble( parser.getDoubleValue() );
+            break;
+        case VALUE_TRUE:
+            out.writeByte( TRUE_TAG );
+            break;
+        case VALUE_FALSE:
+            out.writeByte( FALSE_TAG );
+            break;
+        case VALUE_NULL:
+            out.writeByte( NULL_TAG );
+            break;
+        default:
+            throw new IOException( format( "Unsupported token: %s", token ) );
+        }
+    }
+
+    private void writeName( Map<String,Integer> nameIds, String name ) throws IOException
+    {
+        Integer id = nameIds.get( name );
+        if ( null == id )
+        {
+            writeVarLong( out, nameIds.size() );
+            writeString( out, name );
+            nameIds.put( name, nameIds.size() );
+        }
+        else
+        {
+            writeVarLong( out, id );
+        }
+    }
+
+    @Override
+    public void flush() throws IOException
+    {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        out.close();
+    }
+
+    private static void writeString( DataOutput out, String value ) throws IOException
+    {
+        byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+        writeVarLong( out, bytes.length );
+        out.write( bytes );
+    }
+
+    // 7 bits per byte, least significant first, high bit set on all but the last byte
+    private static void writeVarLong( DataOutput out, long value ) throws IOException
+    {
+        while ( 0 != (value & ~0x7FL) )
+        {
+            out.writeByte( (int) ((value & 0x7F) | 0x80) );
+            value >>>= 7;
+        }
+        out.writeByte( (int) value );
+    }
+}
@@ -0,0 +1,57 @@
+package org.ldbcouncil.snb.driver.validation;
+
+import java.io.File;
+import java.io.IOException;
+
+import static java.lang.String.format;
+
+/**
+ * Converts validation parameters files between the CSV format written by the driver and the binary format.
+ * <p>
+ * Usage: java -cp driver.jar org.ldbcouncil.snb.driver.validation.ValidationParamsConverter in.csv out.bin
+ */
+public class ValidationParamsConverter
+{
+    public static void main( String[] args ) throws Exception
+    {
+        if ( 2 != args.length )
+        {
+            System.err.println( format( "Usage: %s <input validation parameters> <output validation parameters>\n"
+                                        + "CSV input is converted to binary output, binary input to CSV output",
+                    ValidationParamsConverter.class.getName() ) );
+            System.exit( 1 );
+        }
+        File input = new File( args[0] );
+        ValidationParamsFormat outputFormat = (ValidationParamsFormat.CSV == ValidationParamsFormat.of( input ))
+                                              ? ValidationParamsFormat.BINARY
+                                              : ValidationParamsFormat.CSV;
+        int count = convert( input, new File( args[1] ), outputFormat );
+        System.out.println( format( "Converted %s validation parameters to %s", count, args[1] ) );
+    }
+
+    /**
+     * Input format is detected from its content
+     *
+     * @return number of validation parameters converted
+     */
+    public static int convert( File inputValidationParams, File outputValidationParams,
+            ValidationParamsFormat outputFormat ) throws IOException
+    {
+        if ( inputValidationParams.getCanonicalFile().equals( outputValidationParams.getCanonicalFile() ) )
+        {
+            throw new IOException( format( "Input and output validation parameters must differ: %s",
+                    inputValidationParams.getAbsolutePath() ) );
+        }
+        int count = 0;
+        try ( ValidationParamsReader reader = ValidationParamsFormat.openReader( inputValidationParams );
+              ValidationParamsWriter writer = outputFormat.newWriter( outputValidationParams ) )
+        {
+            while ( reader.hasNext() )
+            {
+                writer.write( reader.next() );
+                count++;
+            }
+        }
+        return count;
+    }
+}
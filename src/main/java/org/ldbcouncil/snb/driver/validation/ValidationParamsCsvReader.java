@@ -0,0 +1,46 @@
+package org.ldbcouncil.snb.driver.validation;
+
+import org.ldbcouncil.snb.driver.csv.simple.SimpleCsvFileReader;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Reads validation parameters written by ValidationParamsCsvWriter or ValidationParamsToCsvRows
+ */
+public class ValidationParamsCsvReader implements ValidationParamsReader
+{
+    private final SimpleCsvFileReader csvFileReader;
+    private final ValidationParamsFromCsvRows validationParams;
+
+    public ValidationParamsCsvReader( File file ) throws IOException
+    {
+        this.csvFileReader = new SimpleCsvFileReader( file, SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
+        // workload is not needed to deserialize rows
+        this.validationParams = new ValidationParamsFromCsvRows( csvFileReader, null );
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return validationParams.hasNext();
+    }
+
+    @Override
+    public ValidationParam next()
+    {
+        return validationParams.next();
+    }
+
+    @Override
+    public void remove()
+    {
+        throw new UnsupportedOperationException( "remove() not supported by " + getClass().getName() );
+    }
+
+    @Override
+    public void close()
+    {
+        csvFileReader.close();
+    }
+}
@@ -0,0 +1,100 @@
+package org.ldbcouncil.snb.driver.validation;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.base.Charsets;
+import org.ldbcouncil.snb.driver.csv.simple.SimpleCsvFileWriter;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+
+/**
+ * Writes validation parameters in the same format as {@link ValidationParamsToCsvRows} and
+ * {@link SimpleCsvFileWriter}, but serializes operations and results straight into the file, through one JSON
+ * generator, rather than into an intermediate string per column.
+ */
+public class ValidationParamsCsvWriter implements ValidationParamsWriter
+{
+    private static final ObjectMapper OBJECT_MAPPER =
+            new ObjectMapper().disable( SerializationFeature.FLUSH_AFTER_WRITE_VALUE );
+    private static final byte ROW_SEPARATOR = '\n';
+
+    private final BufferedWriter bufferedWriter;
+    private final JsonGenerator jsonGenerator;
+    private final boolean performSerializationMarshallingChecks;
+
+    /**
+     * @param append if true, rows are written after those already in the file
+     */
+    public ValidationParamsCsvWriter( File file, boolean append, boolean performSerializationMarshallingChecks )
+            throws IOException
+    {
+        this.bufferedWriter =
+                new BufferedWriter( new OutputStreamWriter( new FileOutputStream( file, append ), Charsets.UTF_8 ) );
+        this.jsonGenerator = OBJECT_MAPPER.getFactory().createGenerator( bufferedWriter );
+        // columns and rows are separated explicitly
+        this.jsonGenerator.setRootValueSeparator( null );
+        this.performSerializationMarshallingChecks = performSerializationMarshallingChecks;
+    }
+
+    @Override
+    public void write( ValidationParam validationParam ) throws IOException
+    {
+        OBJECT_MAPPER.writeValue( jsonGenerator, validationParam.operation() );
+        jsonGenerator.writeRaw( SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR );
+        if ( performSerializationMarshallingChecks )
+        {
+            // check needs the serialized result
+            String serializedOperationResult = OBJECT_MAPPER.writeValueAsString( validationParam.operationResult() );
+            ValidationParamsToCsvRows.checkSerializationMarshalling(
+                    validationParam.operation(),
+                    validationParam.operationResult(),
+                    serializedOperationResult );
+            jsonGenerator.writeRaw( serializedOperationResult );
+        }
+        else
+        {
+            OBJECT_MAPPER.writeValue( jsonGenerator, validationParam.operationResult() );
+        }
+        jsonGenerator.writeRaw( (char) ROW_SEPARATOR );
+    }
+
+    @Override
+    public void flush() throws IOException
+    {
+        jsonGenerator.flush();
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        jsonGenerator.close();
+        bufferedWriter.close();
+    }
+
+    /**
+     * Drops the last row of a file written to by an interrupted run, if it was only partially written
+     */
+    public static void truncateAfterLastCompleteRow( File file ) throws IOException
+    {
+        try ( RandomAccessFile randomAccessFile = new RandomAccessFile( file, "rw" ) )
+        {
+            long length = randomAccessFile.length();
+            while ( length > 0 )
+            {
+                randomAccessFile.seek( length - 1 );
+                if ( ROW_SEPARATOR == randomAccessFile.readByte() )
+                {
+                    break;
+                }
+                length--;
+            }
+            randomAccessFile.setLength( length );
+        }
+    }
+}
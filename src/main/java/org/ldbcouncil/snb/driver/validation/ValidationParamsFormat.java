@@ -0,0 +1,92 @@
+package org.ldbcouncil.snb.driver.validation;
+
+import com.google.common.collect.Iterators;
+import org.ldbcouncil.snb.driver.csv.simple.SimpleCsvFileReader;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+import static java.lang.String.format;
+
+/**
+ * File format of validation parameters
+ */
+public enum ValidationParamsFormat
+{
+    // one text row per validation parameter, operation and result as JSON, written via ValidationParamsCsvWriter
+    CSV,
+    // written via ValidationParamsBinaryWriter
+    BINARY;
+
+    public ValidationParamsWriter newWriter( File validationParamsFile ) throws IOException
+    {
+        switch ( this )
+        {
+        case CSV:
+            return new ValidationParamsCsvWriter( validationParamsFile, false, false );
+        case BINARY:
+            return new ValidationParamsBinaryWriter( validationParamsFile );
+        default:
+            throw new IllegalStateException( format( "Unsupported validation parameters format: %s", this ) );
+        }
+    }
+
+    public ValidationParamsReader newReader( File validationParamsFile ) throws IOException
+    {
+        switch ( this )
+        {
+        case CSV:
+            return new ValidationParamsCsvReader( validationParamsFile );
+        case BINARY:
+            return new ValidationParamsBinaryReader( validationParamsFile );
+        default:
+            throw new IllegalStateException( format( "Unsupported validation parameters format: %s", this ) );
+        }
+    }
+
+    /**
+     * Counts validation parameters in a file, without deserializing them
+     */
+    public int count( File validationParamsFile ) throws IOException
+    {
+        switch ( this )
+        {
+        case CSV:
+            try ( SimpleCsvFileReader csvFileReader = new SimpleCsvFileReader( validationParamsFile,
+                    SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
+            {
+                return Iterators.size( csvFileReader );
+            }
+        case BINARY:
+            return ValidationParamsBinaryReader.count( validationParamsFile );
+        default:
+            throw new IllegalStateException( format( "Unsupported validation parameters format: %s", this ) );
+        }
+    }
+
+    /**
+     * Detects format of an existing validation parameters file from its content, rather than from its name
+     */
+    public static ValidationParamsFormat of( File validationParamsFile ) throws IOException
+    {
+        try ( DataInputStream in = new DataInputStream( new FileInputStream( validationParamsFile ) ) )
+        {
+            return (ValidationParamsBinaryWriter.MAGIC_NUMBER == in.readInt()) ? BINARY : CSV;
+        }
+        catch ( EOFException e )
+        {
+            return CSV;
+        }
+    }
+
+    /**
+     * Opens a reader for an existing validation parameters file of either format
+     */
+    public static ValidationParamsReader openReader( File validationParamsFile ) throws IOException
+    {
+        return of( validationParamsFile ).newReader( validationParamsFile );
+    }
+}
@@ -5,9 +5,16 @@ package org.ldbcouncil.snb.driver.validation;
  * - A database where the data is already loaded
  * - A validation parameters filter to determine which queries needs to be part of the validation parameters
  * - An iterator with time mapped operations
+ *
+ * Operations are accepted or rejected by the filter one at a time, in order, so the generated validation parameters
+ * do not depend on the number of threads. With more than one thread, reads (see Workload#isWrite) that the filter
+ * currently uses are executed ahead of time, concurrently, up to the next write; a write is only executed once the
+ * filter has seen the results of all operations before it.
  */
 
 
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
 import org.ldbcouncil.snb.driver.Db;
 import org.ldbcouncil.snb.driver.DbConnectionState;
 import org.ldbcouncil.snb.driver.DbException;
@@ -22,38 +29,102 @@ import org.ldbcouncil.snb.driver.generator.Generator;
 import org.ldbcouncil.snb.driver.generator.GeneratorException;
 import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
 
-import java.util.ArrayList;
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
-import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import static java.lang.String.format;
 
-public class ValidationParamsGenerator extends Generator<ValidationParam>
+public class ValidationParamsGenerator extends Generator<ValidationParam> implements Closeable
 {
+    // operations read ahead of the one being accepted or rejected, per generation thread
+    private static final int READ_AHEAD_PER_THREAD = 64;
+
     private final Db db;
     private final DbValidationParametersFilter dbValidationParametersFilter;
     private final Iterator<Operation> operations;
-    private final ResultReporter resultReporter;
+    private final Workload workload;
+    private final PeekingIterator<ValidationParam> previouslyGeneratedValidationParams;
+    private final int maxReadAhead;
+    private final ExecutorService generationThreads;
+    private final Deque<PendingOperation> injectedOperations;
+    private final Deque<PendingOperation> readAheadOperations;
     private int entriesWrittenSoFar;
     private boolean needMoreValidationParameters;
-    private final List<Operation> injectedOperations;
     private int requiredValidationParameterSize;
 
     public ValidationParamsGenerator( Db db,
             DbValidationParametersFilter dbValidationParametersFilter,
             Iterator<Operation> operations,
             int requiredValidationParameterSize )
+    {
+        this(
+                db,
+                dbValidationParametersFilter,
+                operations,
+                requiredValidationParameterSize,
+                null,
+                1,
+                Collections.<ValidationParam>emptyIterator()
+        );
+    }
+
+    /**
+     * @param workload Workload that tells reads from writes, if null every operation is treated as a write
+     * @param threadCount Number of threads that execute operations
+     * @param previouslyGeneratedValidationParams Validation parameters generated by an earlier, interrupted, run with
+     * the same configuration. Their operations are not executed again, their results are given to the filter instead,
+     * and they are not generated again. Operations the filter rejected in the earlier run are executed again.
+     */
+    public ValidationParamsGenerator( Db db,
+            DbValidationParametersFilter dbValidationParametersFilter,
+            Iterator<Operation> operations,
+            int requiredValidationParameterSize,
+            Workload workload,
+            int threadCount,
+            Iterator<ValidationParam> previouslyGeneratedValidationParams )
     {
         this.db = db;
         this.dbValidationParametersFilter = dbValidationParametersFilter;
         this.operations = operations;
-        this.resultReporter = new ResultReporter.SimpleResultReporter( new ConcurrentErrorReporter() );
+        this.workload = workload;
+        this.previouslyGeneratedValidationParams = Iterators.peekingIterator( previouslyGeneratedValidationParams );
+        this.maxReadAhead = (threadCount > 1) ? threadCount * READ_AHEAD_PER_THREAD : 0;
+        this.generationThreads = (threadCount > 1) ? Executors.newFixedThreadPool( threadCount, new ThreadFactory()
+        {
+            private final long factoryTimeStampId = System.currentTimeMillis();
+            int count = 0;
+
+            @Override
+            public Thread newThread( Runnable runnable )
+            {
+                Thread thread = new Thread(
+                        runnable,
+                        ValidationParamsGenerator.class.getSimpleName() + "-id(" + factoryTimeStampId + ")" +
+                        "-thread(" + count++ + ")"
+                );
+                thread.setDaemon( true );
+                return thread;
+            }
+        } ) : null;
+        this.injectedOperations = new ArrayDeque<>();
+        this.readAheadOperations = new ArrayDeque<>();
         this.entriesWrittenSoFar = 0;
         this.needMoreValidationParameters = true;
-        this.injectedOperations = new ArrayList<>();
         this.requiredValidationParameterSize = requiredValidationParameterSize;
     }
 
+    /**
+     * @return number of accepted validation parameters, including previously generated ones
+     */
     public int entriesWrittenSoFar()
     {
         return entriesWrittenSoFar;
@@ -62,63 +133,41 @@ public class ValidationParamsGenerator extends Generator<ValidationParam>
     @Override
     protected ValidationParam doNext() throws GeneratorException
     {
-        while ( (injectedOperations.size() > 0 || operations.hasNext()) && needMoreValidationParameters && (requiredValidationParameterSize > entriesWrittenSoFar) )
+        while ( needMoreValidationParameters && (requiredValidationParameterSize > entriesWrittenSoFar) )
         {
-            Operation operation;
-            if ( injectedOperations.isEmpty() )
+            executeAhead();
+            PendingOperation pendingOperation = nextPendingOperation();
+            if ( null == pendingOperation )
             {
-                operation = operations.next();
-            }
-            else
-            {
-                operation = injectedOperations.remove( 0 );
+                break;
             }
+            Operation operation = pendingOperation.operation;
 
             if ( false == dbValidationParametersFilter.useOperation( operation ) )
-            { 
-                continue; 
-            }
-
-            OperationHandlerRunnableContext operationHandlerRunner;
-            try
-            {
-                operationHandlerRunner = db.getOperationHandlerRunnableContext( operation );
-            }
-            catch ( DbException e )
-            {
-                throw new GeneratorException(
-                        format(
-                                "Error retrieving operation handler for operation\n"
-                                + "Db: %s\n"
-                                + "Operation: %s",
-                                db.getClass().getName(), operation ),
-                        e );
-            }
-            try
             {
-                OperationHandler operationHandler = operationHandlerRunner.operationHandler();
-                DbConnectionState dbConnectionState = operationHandlerRunner.dbConnectionState();
-                operationHandler.executeOperation( operation, dbConnectionState, resultReporter );
+                pendingOperation.discard();
+                continue;
             }
-            catch ( DbException e )
+
+            boolean previouslyGenerated = previouslyGeneratedValidationParams.hasNext() &&
+                                          operation.equals( previouslyGeneratedValidationParams.peek().operation() );
+            Object result;
+            if ( previouslyGenerated )
             {
-                throw new GeneratorException(
-                        format( ""
-                                + "Error executing operation to retrieve validation result\n"
-                                + "Db: %s\n"
-                                + "Operation: %s",
-                                db.getClass().getName(), operation ),
-                        e );
+                pendingOperation.discard();
+                result = previouslyGeneratedValidationParams.next().operationResult();
             }
-            finally
+            else
             {
-                operationHandlerRunner.cleanup();
+                result = pendingOperation.result();
             }
 
-            Object result = resultReporter.result();
             DbValidationParametersFilterResult dbValidationParametersFilterResult =
                     dbValidationParametersFilter.useOperationAndResultForValidation( operation, result );
-            injectedOperations.addAll( dbValidationParametersFilterResult.injectedOperations() );
+            for ( Operation injectedOperation : dbValidationParametersFilterResult.injectedOperations() )
+            {
+                injectedOperations.add( new PendingOperation( injectedOperation ) );
+            }
 
             switch ( dbValidationParametersFilterResult.acceptance() )
             {
@@ -128,12 +177,10 @@ public class ValidationParamsGenerator extends Generator<ValidationParam>
                 needMoreValidationParameters = false;
                 continue;
             case ACCEPT_AND_CONTINUE:
-                entriesWrittenSoFar++;
-                return ValidationParam.createUntyped( operation, result );
+                break;
             case ACCEPT_AND_FINISH:
-                entriesWrittenSoFar++;
                 needMoreValidationParameters = false;
-                return ValidationParam.createUntyped( operation, result );
+                break;
             default:
                 throw new GeneratorException(
                         format( "Unrecognized %s value: %s",
@@ -142,8 +189,198 @@ public class ValidationParamsGenerator extends Generator<ValidationParam>
                         )
                 );
             }
+            entriesWrittenSoFar++;
+            if ( previouslyGenerated )
+            {
+                continue;
+            }
+            if ( previouslyGeneratedValidationParams.hasNext() )
+            {
+                throw new GeneratorException(
+                        format( ""
+                                + "Previously generated validation parameters do not match the generated ones\n"
+                                + "Generated Operation: %s\n"
+                                + "Previously Generated Operation: %s",
+                                operation, previouslyGeneratedValidationParams.next().operation() ) );
+            }
+            return ValidationParam.createUntyped( operation, result );
         }
         // ran out of operations OR validation set size has been reached
         return null;
     }
+
+    // injected operations are used before the operations that follow the operation that injected them
+    private PendingOperation nextPendingOperation()
+    {
+        if ( false == injectedOperations.isEmpty() )
+        {
+            return injectedOperations.remove();
+        }
+        else if ( false == readAheadOperations.isEmpty() )
+        {
+            return readAheadOperations.remove();
+        }
+        else if ( operations.hasNext() )
+        {
+            return new PendingOperation( operations.next() );
+        }
+        else
+        {
+            return null;
+        }
+    }
+
+    private void executeAhead()
+    {
+        // results of previously generated validation parameters are already known
+        if ( null == generationThreads || previouslyGeneratedValidationParams.hasNext() )
+        {
+            return;
+        }
+        while ( readAheadOperations.size() < maxReadAhead && operations.hasNext() )
+        {
+            readAheadOperations.add( new PendingOperation( operations.next() ) );
+        }
+        // reads after a write may depend on it, so must wait until it has been executed
+        if ( executeAheadUntilWrite( injectedOperations ) )
+        {
+            executeAheadUntilWrite( readAheadOperations );
+        }
+    }
+
+    private boolean executeAheadUntilWrite( Deque<PendingOperation> pendingOperations )
+    {
+        for ( PendingOperation pendingOperation : pendingOperations )
+        {
+            if ( isWrite( pendingOperation.operation ) )
+            {
+                return false;
+            }
+            if ( null == pendingOperation.futureResult &&
+                 dbValidationParametersFilter.useOperation( pendingOperation.operation ) )
+            {
+                pendingOperation.futureResult =
+                        generationThreads.submit( new ExecuteOperation( db, pendingOperation.operation ) );
+            }
+        }
+        return true;
+    }
+
+    private boolean isWrite( Operation operation )
+    {
+        return null == workload || workload.isWrite( operation );
+    }
+
+    @Override
+    public void close()
+    {
+        if ( null != generationThreads )
+        {
+            generationThreads.shutdownNow();
+        }
+    }
+
+    private static Object execute( Db db, Operation operation ) throws GeneratorException
+    {
+        ResultReporter resultReporter = new ResultReporter.SimpleResultReporter( new ConcurrentErrorReporter() );
+        OperationHandlerRunnableContext operationHandlerRunner;
+        try
+        {
+            operationHandlerRunner = db.getOperationHandlerRunnableContext( operation );
+        }
+        catch ( DbException e )
+        {
+            throw new GeneratorException(
+                    format(
+                            "Error retrieving operation handler for operation\n"
+                            + "Db: %s\n"
+                            + "Operation: %s",
+                            db.getClass().getName(), operation ),
+                    e );
+        }
+        try
+        {
+            OperationHandler operationHandler = operationHandlerRunner.operationHandler();
+            DbConnectionState dbConnectionState = operationHandlerRunner.dbConnectionState();
+            operationHandler.executeOperation( operation, dbConnectionState, resultReporter );
+        }
+        catch ( DbException e )
+        {
+            throw new GeneratorException(
+                    format( ""
+                            + "Error executing operation to retrieve validation result\n"
+                            + "Db: %s\n"
+                            + "Operation: %s",
+                            db.getClass().getName(), operation ),
+                    e );
+        }
+        finally
+        {
+            operationHandlerRunner.cleanup();
+        }
+        return resultReporter.result();
+    }
+
+    private class PendingOperation
+    {
+        private final Operation operation;
+        // set if operation is being, or has been, executed ahead of time
+        private Future<Object> futureResult = null;
+
+        private PendingOperation( Operation operation )
+        {
+            this.operation = operation;
+        }
+
+        private Object result() throws GeneratorException
+        {
+            if ( null == futureResult )
+            {
+                return execute( db, operation );
+            }
+            try
+            {
+                return futureResult.get();
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+                throw new GeneratorException( format( "Interrupted while executing operation: %s", operation ), e );
+            }
+            catch ( ExecutionException e )
+            {
+                if ( e.getCause() instanceof GeneratorException )
+                {
+                    throw (GeneratorException) e.getCause();
+                }
+                throw new GeneratorException( format( "Error executing operation: %s", operation ), e.getCause() );
+            }
+        }
+
+        private void discard()
+        {
+            if ( null != futureResult )
+            {
+                futureResult.cancel( true );
+            }
+        }
+    }
+
+    private static class ExecuteOperation implements Callable<Object>
+    {
+        private final Db db;
+        private final Operation operation;
+
+        private ExecuteOperation( Db db, Operation operation )
+        {
+            this.db = db;
+            this.operation = operation;
+        }
+
+        @Override
+        public Object call() throws GeneratorException
+        {
+            return execute( db, operation );
+        }
+    }
 }
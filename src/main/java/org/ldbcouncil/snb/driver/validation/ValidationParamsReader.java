@@ -0,0 +1,8 @@
+package org.ldbcouncil.snb.driver.validation;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+public interface ValidationParamsReader extends Iterator<ValidationParam>, Closeable
+{
+}
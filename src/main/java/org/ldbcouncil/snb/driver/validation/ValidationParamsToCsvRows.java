@@ -77,39 +77,46 @@ public class ValidationParamsToCsvRows implements Iterator<String[]>
         // Assert that serialization/marshalling is performed correctly
         if ( performSerializationMarshallingChecks )
         {
-            Object marshaledOperationResult = null;
-            try
-            {
-                marshaledOperationResult = operation.deserializeResult( serializedOperationResult );
-            }
-            catch (IOException e )
-            {
-                throw new GeneratorException(
-                        format( ""
-                                + "Error marshalling serialized operation result\n"
-                                + "Operation: %s\n"
-                                + "Operation Result: %s\n"
-                                + "Serialized Result: %s",
-                                operation, operationResult, serializedOperationResult ),
-                        e );
-            }
-            if (!marshaledOperationResult.equals( operationResult ) )
-            {
-                throw new GeneratorException(
-                        format( ""
-                                + "Operation result and serialized-then-marshaled operation result do not equal\n"
-                                + "Operation: %s\n"
-                                + "Actual Result: %s\n"
-                                + "Serialized Result: %s\n"
-                                + "Marshaled Result: %s",
-                                operation, operationResult, serializedOperationResult, marshaledOperationResult )
-                );
-            }
+            checkSerializationMarshalling( operation, operationResult, serializedOperationResult );
         }
 
         return new String[]{serializedOperation, serializedOperationResult};
     }
 
+    static void checkSerializationMarshalling( Operation operation,
+            Object operationResult,
+            String serializedOperationResult ) throws GeneratorException
+    {
+        Object marshaledOperationResult = null;
+        try
+        {
+            marshaledOperationResult = operation.deserializeResult( serializedOperationResult );
+        }
+        catch (IOException e )
+        {
+            throw new GeneratorException(
+                    format( ""
+                            + "Error marshalling serialized operation result\n"
+                            + "Operation: %s\n"
+                            + "Operation Result: %s\n"
+                            + "Serialized Result: %s",
+                            operation, operationResult, serializedOperationResult ),
+                    e );
+        }
+        if (!marshaledOperationResult.equals( operationResult ) )
+        {
+            throw new GeneratorException(
+                    format( ""
+                            + "Operation result and serialized-then-marshaled operation result do not equal\n"
+                            + "Operation: %s\n"
+                            + "Actual Result: %s\n"
+                            + "Serialized Result: %s\n"
+                            + "Marshaled Result: %s",
+                            operation, operationResult, serializedOperationResult, marshaledOperationResult )
+            );
+        }
+    }
+
     @Override
     public void remove()
     {
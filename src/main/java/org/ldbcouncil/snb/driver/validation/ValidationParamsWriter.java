@@ -0,0 +1,14 @@
+package org.ldbcouncil.snb.driver.validation;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface ValidationParamsWriter extends Closeable
+{
+    void write( ValidationParam validationParam ) throws IOException;
+
+    /**
+     * Validation parameters written before are in the file once this returns
+     */
+    void flush() throws IOException;
+}
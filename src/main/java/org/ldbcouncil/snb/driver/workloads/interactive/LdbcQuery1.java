@@ -12,6 +12,7 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
  */
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.Operation;
@@ -119,6 +120,12 @@ public class LdbcQuery1 extends Operation<List<LdbcQuery1Result>>
         return marshaledOperationResult;
     }
 
+    @Override
+    public List<LdbcQuery1Result> deserializeResult( JsonParser parser ) throws IOException
+    {
+        return Arrays.asList( OBJECT_MAPPER.readValue( parser, LdbcQuery1Result[].class ) );
+    }
+
     @Override
     public int type()
     {
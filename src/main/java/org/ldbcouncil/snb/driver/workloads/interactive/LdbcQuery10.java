@@ -18,6 +18,7 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
  */
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.Operation;
@@ -125,6 +126,12 @@ public class LdbcQuery10 extends Operation<List<LdbcQuery10Result>>
         return marshaledOperationResult;
     }
 
+    @Override
+    public List<LdbcQuery10Result> deserializeResult( JsonParser parser ) throws IOException
+    {
+        return Arrays.asList( OBJECT_MAPPER.readValue( parser, LdbcQuery10Result[].class ) );
+    }
+
     @Override
     public int type()
     {
@@ -11,6 +11,7 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
  */
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.Operation;
@@ -131,6 +132,12 @@ public class LdbcQuery11 extends Operation<List<LdbcQuery11Result>>
         return marshaledOperationResult;
     }
 
+    @Override
+    public List<LdbcQuery11Result> deserializeResult( JsonParser parser ) throws IOException
+    {
+        return Arrays.asList( OBJECT_MAPPER.readValue( parser, LdbcQuery11Result[].class ) );
+    }
+
     @Override
     public int type()
     {
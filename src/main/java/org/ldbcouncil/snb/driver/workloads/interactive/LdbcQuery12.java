@@ -16,6 +16,7 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
  */
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.Operation;
@@ -122,6 +123,12 @@ public class LdbcQuery12 extends Operation<List<LdbcQuery12Result>>
         return marshaledOperationResult;
     }
 
+    @Override
+    public List<LdbcQuery12Result> deserializeResult( JsonParser parser ) throws IOException
+    {
+        return Arrays.asList( OBJECT_MAPPER.readValue( parser, LdbcQuery12Result[].class ) );
+    }
+
     @Override
     public int type()
     {
@@ -13,6 +13,7 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
  */
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.Operation;
@@ -102,6 +103,12 @@ public class LdbcQuery13 extends Operation<LdbcQuery13Result>
         return marshaledOperationResult;
     }
 
+    @Override
+    public LdbcQuery13Result deserializeResult( JsonParser parser ) throws IOException
+    {
+        return OBJECT_MAPPER.readValue( parser, LdbcQuery13Result.class );
+    }
+
     @Override
     public int type()
     {
@@ -23,6 +23,7 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
 
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 
@@ -115,6 +116,12 @@ public class LdbcQuery14 extends Operation<List<LdbcQuery14Result>>
         return marshaledOperationResult;
     }
 
+    @Override
+    public List<LdbcQuery14Result> deserializeResult( JsonParser parser ) throws IOException
+    {
+        return Arrays.asList( OBJECT_MAPPER.readValue( parser, LdbcQuery14Result[].class ) );
+    }
+
     @Override
     public int type()
     {
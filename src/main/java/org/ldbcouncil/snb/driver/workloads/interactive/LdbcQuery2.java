@@ -10,6 +10,7 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
  * given maxDate (excluding that day).
  */
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.Operation;
@@ -117,6 +118,12 @@ public class LdbcQuery2 extends Operation<List<LdbcQuery2Result>>
         marshaledOperationResult = Arrays.asList(OBJECT_MAPPER.readValue(serializedResults, LdbcQuery2Result[].class));
         return marshaledOperationResult;
     }
+
+    @Override
+    public List<LdbcQuery2Result> deserializeResult( JsonParser parser ) throws IOException
+    {
+        return Arrays.asList( OBJECT_MAPPER.readValue( parser, LdbcQuery2Result[].class ) );
+    }
   
     @Override
     public int type()
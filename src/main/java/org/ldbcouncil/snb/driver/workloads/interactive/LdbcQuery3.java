@@ -13,6 +13,7 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
  */
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.Operation;
@@ -162,6 +163,12 @@ public class LdbcQuery3 extends Operation<List<LdbcQuery3Result>>
         return marshaledOperationResult;
     }
 
+    @Override
+    public List<LdbcQuery3Result> deserializeResult( JsonParser parser ) throws IOException
+    {
+        return Arrays.asList( OBJECT_MAPPER.readValue( parser, LdbcQuery3Result[].class ) );
+    }
+
     @Override
     public int type()
     {
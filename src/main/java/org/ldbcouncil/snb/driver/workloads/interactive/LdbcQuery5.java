@@ -13,6 +13,7 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
  */
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.Operation;
@@ -120,6 +121,12 @@ public class LdbcQuery5 extends Operation<List<LdbcQuery5Result>>
         marshaledOperationResult = Arrays.asList(OBJECT_MAPPER.readValue(serializedResults, LdbcQuery5Result[].class));
         return marshaledOperationResult;
     }
+
+    @Override
+    public List<LdbcQuery5Result> deserializeResult( JsonParser parser ) throws IOException
+    {
+        return Arrays.asList( OBJECT_MAPPER.readValue( parser, LdbcQuery5Result[].class ) );
+    }
   
     @Override
     public int type()
@@ -17,6 +17,7 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
  */
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.Operation;
@@ -109,6 +110,12 @@ public class LdbcQuery7 extends Operation<List<LdbcQuery7Result>>
         marshaledOperationResult = Arrays.asList(OBJECT_MAPPER.readValue(serializedResults, LdbcQuery7Result[].class));
         return marshaledOperationResult;
     }
+
+    @Override
+    public List<LdbcQuery7Result> deserializeResult( JsonParser parser ) throws IOException
+    {
+        return Arrays.asList( OBJECT_MAPPER.readValue( parser, LdbcQuery7Result[].class ) );
+    }
    
     @Override
     public int type()
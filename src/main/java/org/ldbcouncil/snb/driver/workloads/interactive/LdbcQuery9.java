@@ -11,6 +11,7 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
  */
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.Operation;
@@ -117,6 +118,12 @@ public class LdbcQuery9 extends Operation<List<LdbcQuery9Result>>
         marshaledOperationResult = Arrays.asList(OBJECT_MAPPER.readValue(serializedResults, LdbcQuery9Result[].class));
         return marshaledOperationResult;
     }
+
+    @Override
+    public List<LdbcQuery9Result> deserializeResult( JsonParser parser ) throws IOException
+    {
+        return Arrays.asList( OBJECT_MAPPER.readValue( parser, LdbcQuery9Result[].class ) );
+    }
   
     @Override
     public int type()
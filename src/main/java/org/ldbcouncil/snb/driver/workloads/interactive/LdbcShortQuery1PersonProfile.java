@@ -10,6 +10,7 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
  */
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.Operation;
@@ -52,6 +53,12 @@ public class LdbcShortQuery1PersonProfile extends Operation<LdbcShortQuery1Perso
         marshaledOperationResult = OBJECT_MAPPER.readValue(serializedResults, LdbcShortQuery1PersonProfileResult.class);
         return marshaledOperationResult;
     }
+
+    @Override
+    public LdbcShortQuery1PersonProfileResult deserializeResult( JsonParser parser ) throws IOException
+    {
+        return OBJECT_MAPPER.readValue( parser, LdbcShortQuery1PersonProfileResult.class );
+    }
    
     @Override
     public boolean equals( Object o )
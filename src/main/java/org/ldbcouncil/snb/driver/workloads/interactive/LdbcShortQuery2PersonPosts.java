@@ -13,6 +13,7 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
  */
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.Operation;
@@ -69,6 +70,12 @@ public class LdbcShortQuery2PersonPosts extends Operation<List<LdbcShortQuery2Pe
         return marshaledOperationResult;
     }
 
+    @Override
+    public List<LdbcShortQuery2PersonPostsResult> deserializeResult( JsonParser parser ) throws IOException
+    {
+        return Arrays.asList( OBJECT_MAPPER.readValue( parser, LdbcShortQuery2PersonPostsResult[].class ) );
+    }
+
     @Override
     public boolean equals( Object o )
     {
@@ -10,6 +10,7 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
  */
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.Operation;
@@ -55,6 +56,12 @@ public class LdbcShortQuery3PersonFriends extends Operation<List<LdbcShortQuery3
         return marshaledOperationResult;
     }
 
+    @Override
+    public List<LdbcShortQuery3PersonFriendsResult> deserializeResult( JsonParser parser ) throws IOException
+    {
+        return Arrays.asList( OBJECT_MAPPER.readValue( parser, LdbcShortQuery3PersonFriendsResult[].class ) );
+    }
+
     @Override
     public boolean equals( Object o )
     {
@@ -9,6 +9,7 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
  */
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.Operation;
@@ -50,6 +51,12 @@ public class LdbcShortQuery4MessageContent extends Operation<LdbcShortQuery4Mess
         marshaledOperationResult = OBJECT_MAPPER.readValue(serializedResults, LdbcShortQuery4MessageContentResult.class);
         return marshaledOperationResult;
     }
+
+    @Override
+    public LdbcShortQuery4MessageContentResult deserializeResult( JsonParser parser ) throws IOException
+    {
+        return OBJECT_MAPPER.readValue( parser, LdbcShortQuery4MessageContentResult.class );
+    }
    
     @Override
     public boolean equals( Object o )
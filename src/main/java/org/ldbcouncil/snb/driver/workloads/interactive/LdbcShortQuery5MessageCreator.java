@@ -9,6 +9,7 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
  */
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.Operation;
@@ -52,6 +53,12 @@ public class LdbcShortQuery5MessageCreator extends Operation<LdbcShortQuery5Mess
         marshaledOperationResult = OBJECT_MAPPER.readValue(serializedResults, LdbcShortQuery5MessageCreatorResult.class);
         return marshaledOperationResult;
     }
+
+    @Override
+    public LdbcShortQuery5MessageCreatorResult deserializeResult( JsonParser parser ) throws IOException
+    {
+        return OBJECT_MAPPER.readValue( parser, LdbcShortQuery5MessageCreatorResult.class );
+    }
  
     @Override
     public boolean equals( Object o )
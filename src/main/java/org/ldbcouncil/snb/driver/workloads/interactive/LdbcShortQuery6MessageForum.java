@@ -12,6 +12,7 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
  */
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.Operation;
@@ -55,6 +56,12 @@ public class LdbcShortQuery6MessageForum extends Operation<LdbcShortQuery6Messag
         marshaledOperationResult = OBJECT_MAPPER.readValue(serializedResults, LdbcShortQuery6MessageForumResult.class);
         return marshaledOperationResult;
     }
+
+    @Override
+    public LdbcShortQuery6MessageForumResult deserializeResult( JsonParser parser ) throws IOException
+    {
+        return OBJECT_MAPPER.readValue( parser, LdbcShortQuery6MessageForumResult.class );
+    }
  
     @Override
     public boolean equals( Object o )
@@ -13,6 +13,7 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
  */
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.Operation;
@@ -58,6 +59,12 @@ public class LdbcShortQuery7MessageReplies extends Operation<List<LdbcShortQuery
         return marshaledOperationResult;
     }
 
+    @Override
+    public List<LdbcShortQuery7MessageRepliesResult> deserializeResult( JsonParser parser ) throws IOException
+    {
+        return Arrays.asList( OBJECT_MAPPER.readValue( parser, LdbcShortQuery7MessageRepliesResult[].class ) );
+    }
+
     @Override
     public boolean equals( Object o )
     {
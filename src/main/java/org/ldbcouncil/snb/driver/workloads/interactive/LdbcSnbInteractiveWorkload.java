@@ -1,6 +1,5 @@
 package org.ldbcouncil.snb.driver.workloads.interactive;
 
-import com.google.common.base.Charsets;
 import com.google.common.base.Predicate;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
@@ -22,20 +21,19 @@ import org.ldbcouncil.snb.driver.csv.charseeker.ThreadAheadReadable;
 import org.ldbcouncil.snb.driver.csv.simple.SimpleCsvFileReader;
 import org.ldbcouncil.snb.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import org.ldbcouncil.snb.driver.generator.GeneratorFactory;
+import org.ldbcouncil.snb.driver.generator.ParallelLookAheadGenerator;
 import org.ldbcouncil.snb.driver.generator.RandomDataGeneratorFactory;
 import org.ldbcouncil.snb.driver.util.ClassLoaderHelper;
 import org.ldbcouncil.snb.driver.util.ClassLoadingException;
 import org.ldbcouncil.snb.driver.util.MapUtils;
 import org.ldbcouncil.snb.driver.util.Tuple;
 import org.ldbcouncil.snb.driver.util.Tuple2;
+import org.ldbcouncil.snb.driver.validation.ResultComparisonTolerances;
 
 import java.io.Closeable;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -47,12 +45,61 @@ import java.util.NoSuchElementException;
 import java.util.Properties;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
 
 public class LdbcSnbInteractiveWorkload extends Workload
 {
+    private static final Set<Class<? extends Operation>> WRITE_OPERATION_TYPES =
+            Sets.<Class<? extends Operation>>newHashSet(
+                    LdbcUpdate1AddPerson.class,
+                    LdbcUpdate2AddPostLike.class,
+                    LdbcUpdate3AddCommentLike.class,
+                    LdbcUpdate4AddForum.class,
+                    LdbcUpdate5AddForumMembership.class,
+                    LdbcUpdate6AddPost.class,
+                    LdbcUpdate7AddComment.class,
+                    LdbcUpdate8AddFriendship.class
+            );
+    // paths of equal weight may be returned in any order
+    private static final ResultComparisonTolerances QUERY_14_RESULT_COMPARISON_TOLERANCES =
+            new ResultComparisonTolerances(
+                    ResultComparisonTolerances.DEFAULT_FLOAT_TOLERANCE,
+                    Collections.<String,Double>emptyMap(),
+                    Collections.singleton( "pathWeight" )
+            );
+    // same as LdbcQuery1Result.equals(), which compares lists of emails, languages and organizations as sets
+    private static final ResultComparisonTolerances QUERY_1_RESULT_COMPARISON_TOLERANCES =
+            new ResultComparisonTolerances(
+                    ResultComparisonTolerances.DEFAULT_FLOAT_TOLERANCE,
+                    Collections.<String,Double>emptyMap(),
+                    Collections.<String,Long>emptyMap(),
+                    Collections.<String>emptySet(),
+                    Sets.newHashSet( "friendEmails", "friendLanguages", "friendUniversities", "friendCompanies" )
+            );
+    // same as LdbcQuery7Result.equals(), which allows latencies to differ by a leap second
+    private static final ResultComparisonTolerances QUERY_7_RESULT_COMPARISON_TOLERANCES =
+            new ResultComparisonTolerances(
+                    ResultComparisonTolerances.DEFAULT_FLOAT_TOLERANCE,
+                    Collections.<String,Double>emptyMap(),
+                    Collections.singletonMap( "minutesLatency", 1L ),
+                    Collections.<String>emptySet(),
+                    Collections.<String>emptySet()
+            );
+    // same as LdbcQuery12Result.equals(), which compares tag names as sets
+    private static final ResultComparisonTolerances QUERY_12_RESULT_COMPARISON_TOLERANCES =
+            new ResultComparisonTolerances(
+                    ResultComparisonTolerances.DEFAULT_FLOAT_TOLERANCE,
+                    Collections.<String,Double>emptyMap(),
+                    Collections.<String,Long>emptyMap(),
+                    Collections.<String>emptySet(),
+                    Collections.singleton( "tagNames" )
+            );
+
     private List<Closeable> forumUpdateOperationsFileReaders = new ArrayList<>();
     private List<File> forumUpdateOperationFiles = new ArrayList<>();
     private List<Closeable> personUpdateOperationsFileReaders = new ArrayList<>();
@@ -97,6 +144,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
     private Set<Class> enabledShortReadOperationTypes;
     private Set<Class> enabledWriteOperationTypes;
     private LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser;
+    private int updateStreamParserThreadCount;
+    private int updateStreamParserLookAhead;
+    private ExecutorService updateStreamParserThreadPool = null;
 
     @Override
     public Map<Integer,Class<? extends Operation>> operationTypeToClassMapping()
@@ -471,6 +521,29 @@ public class LdbcSnbInteractiveWorkload extends Workload
             throw new WorkloadException( "Invalid parser: " + parserString );
         }
         this.parser = LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.valueOf( parserString.trim() );
+        String parserThreadCountString =
+                params.get( LdbcSnbInteractiveWorkloadConfiguration.UPDATE_STREAM_PARSER_THREAD_COUNT );
+        String parserLookAheadString =
+                params.get( LdbcSnbInteractiveWorkloadConfiguration.UPDATE_STREAM_PARSER_LOOK_AHEAD );
+        try
+        {
+            this.updateStreamParserThreadCount = (null == parserThreadCountString)
+                    ? LdbcSnbInteractiveWorkloadConfiguration.DEFAULT_UPDATE_STREAM_PARSER_THREAD_COUNT
+                    : Integer.parseInt( parserThreadCountString.trim() );
+            this.updateStreamParserLookAhead = (null == parserLookAheadString)
+                    ? LdbcSnbInteractiveWorkloadConfiguration.DEFAULT_UPDATE_STREAM_PARSER_LOOK_AHEAD
+                    : Integer.parseInt( parserLookAheadString.trim() );
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new WorkloadException( "Unable to parse update stream parser thread count or look ahead", e );
+        }
+        if ( updateStreamParserThreadCount < 1 || updateStreamParserLookAhead < 1 )
+        {
+            throw new WorkloadException( format( "Update stream parser thread count and look ahead must be positive" +
+                                                 "\nThread count: %s\nLook ahead: %s",
+                    updateStreamParserThreadCount, updateStreamParserLookAhead ) );
+        }
         this.compressionRatio = Double.parseDouble(
                 params.get( ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG ).trim()
         );
@@ -493,6 +566,11 @@ public class LdbcSnbInteractiveWorkload extends Workload
         {
             readOperationFileReader.close();
         }
+
+        if ( null != updateStreamParserThreadPool )
+        {
+            updateStreamParserThreadPool.shutdownNow();
+        }
     }
 
     private Tuple2<Iterator<Operation>,Closeable> fileToWriteStreamParser( File updateOperationsFile,
@@ -513,9 +591,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
 //                BufferedCharSeeker charSeeker = new BufferedCharSeeker(Readables.wrap(new FileReader
 // (updateOperationsFile)), bufferSize);
             BufferedCharSeeker charSeeker = new BufferedCharSeeker(
-                    Readables.wrap(
-                            new InputStreamReader( new FileInputStream( updateOperationsFile ), Charsets.UTF_8 )
-                    ),
+                    Readables.mappedFile( updateOperationsFile ),
                     bufferSize
             );
             Extractors extractors = new Extractors( ';', ',' );
@@ -527,9 +603,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
             int bufferSize = 1 * 1024 * 1024;
             BufferedCharSeeker charSeeker = new BufferedCharSeeker(
                     ThreadAheadReadable.threadAhead(
-                            Readables.wrap(
-                                    new InputStreamReader( new FileInputStream( updateOperationsFile ), Charsets.UTF_8 )
-                            ),
+                            Readables.mappedFile( updateOperationsFile ),
                             bufferSize
                     ),
                     bufferSize
@@ -538,6 +612,18 @@ public class LdbcSnbInteractiveWorkload extends Workload
             return Tuple.<Iterator<Operation>,Closeable>tuple2(
                     WriteEventStreamReaderCharSeeker.create( charSeeker, extractors, '|' ), charSeeker );
         }
+        case CHAR_SEEKER_PARALLEL:
+        {
+            ParallelLookAheadGenerator<Operation> parallelParser = new ParallelLookAheadGenerator<>(
+                    updateOperationsFile.getName(),
+                    Readables.mappedFile( updateOperationsFile ),
+                    new WriteEventStreamReaderCharSeeker.ChunkParser(),
+                    updateStreamParserThreadPool(),
+                    ParallelLookAheadGenerator.DEFAULT_CHUNK_SIZE,
+                    updateStreamParserLookAhead
+            );
+            return Tuple.<Iterator<Operation>,Closeable>tuple2( parallelParser, parallelParser );
+        }
         }
         SimpleCsvFileReader csvFileReader = new SimpleCsvFileReader( updateOperationsFile,
                 SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
@@ -545,6 +631,27 @@ public class LdbcSnbInteractiveWorkload extends Workload
                 csvFileReader );
     }
 
+    private synchronized ExecutorService updateStreamParserThreadPool()
+    {
+        if ( null == updateStreamParserThreadPool )
+        {
+            updateStreamParserThreadPool = Executors.newFixedThreadPool( updateStreamParserThreadCount,
+                    new ThreadFactory()
+                    {
+                        private int count = 0;
+
+                        @Override
+                        public Thread newThread( Runnable runnable )
+                        {
+                            Thread thread = new Thread( runnable, "UpdateStreamParser-thread(" + count++ + ")" );
+                            thread.setDaemon( true );
+                            return thread;
+                        }
+                    } );
+        }
+        return updateStreamParserThreadPool;
+    }
+
     @Override
     protected WorkloadStreams getStreams( GeneratorFactory gf, boolean hasDbConnected ) throws WorkloadException
     {
@@ -766,13 +873,11 @@ public class LdbcSnbInteractiveWorkload extends Workload
             try
             {
                 charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation1File ), Charsets.UTF_8 )
-                        ),
+                        Readables.mappedFile( readOperation1File ),
                         bufferSize
                 );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation1File.getAbsolutePath() ),
@@ -824,13 +929,11 @@ public class LdbcSnbInteractiveWorkload extends Workload
             try
             {
                 charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation2File ), Charsets.UTF_8 )
-                        ),
+                        Readables.mappedFile( readOperation2File ),
                         bufferSize
                 );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation2File.getAbsolutePath() ),
@@ -882,13 +985,11 @@ public class LdbcSnbInteractiveWorkload extends Workload
             try
             {
                 charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation3File ), Charsets.UTF_8 )
-                        ),
+                        Readables.mappedFile( readOperation3File ),
                         bufferSize
                 );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation3File.getAbsolutePath() ),
@@ -943,13 +1044,11 @@ public class LdbcSnbInteractiveWorkload extends Workload
             try
             {
                 charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation4File ), Charsets.UTF_8 )
-                        ),
+                        Readables.mappedFile( readOperation4File ),
                         bufferSize
                 );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation4File.getAbsolutePath() ),
@@ -1002,13 +1101,11 @@ public class LdbcSnbInteractiveWorkload extends Workload
             try
             {
                 charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation5File ), Charsets.UTF_8 )
-                        ),
+                        Readables.mappedFile( readOperation5File ),
                         bufferSize
                 );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation5File.getAbsolutePath() ),
@@ -1060,13 +1157,11 @@ public class LdbcSnbInteractiveWorkload extends Workload
             try
             {
                 charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation6File ), Charsets.UTF_8 )
-                        ),
+                        Readables.mappedFile( readOperation6File ),
                         bufferSize
                 );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation6File.getAbsolutePath() ),
@@ -1118,13 +1213,11 @@ public class LdbcSnbInteractiveWorkload extends Workload
             try
             {
                 charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation7File ), Charsets.UTF_8 )
-                        ),
+                        Readables.mappedFile( readOperation7File ),
                         bufferSize
                 );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation7File.getAbsolutePath() ),
@@ -1175,13 +1268,11 @@ public class LdbcSnbInteractiveWorkload extends Workload
             try
             {
                 charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation8File ), Charsets.UTF_8 )
-                        ),
+                        Readables.mappedFile( readOperation8File ),
                         bufferSize
                 );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation8File.getAbsolutePath() ),
@@ -1232,13 +1323,11 @@ public class LdbcSnbInteractiveWorkload extends Workload
             try
             {
                 charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation9File ), Charsets.UTF_8 )
-                        ),
+                        Readables.mappedFile( readOperation9File ),
                         bufferSize
                 );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation9File.getAbsolutePath() ),
@@ -1290,13 +1379,11 @@ public class LdbcSnbInteractiveWorkload extends Workload
             try
             {
                 charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation10File ), Charsets.UTF_8 )
-                        ),
+                        Readables.mappedFile( readOperation10File ),
                         bufferSize
                 );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation10File.getAbsolutePath() ),
@@ -1348,13 +1435,11 @@ public class LdbcSnbInteractiveWorkload extends Workload
             try
             {
                 charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation11File ), Charsets.UTF_8 )
-                        ),
+                        Readables.mappedFile( readOperation11File ),
                         bufferSize
                 );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation11File.getAbsolutePath() ),
@@ -1407,13 +1492,11 @@ public class LdbcSnbInteractiveWorkload extends Workload
             try
             {
                 charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation12File ), Charsets.UTF_8 )
-                        ),
+                        Readables.mappedFile( readOperation12File ),
                         bufferSize
                 );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation12File.getAbsolutePath() ),
@@ -1465,13 +1548,11 @@ public class LdbcSnbInteractiveWorkload extends Workload
             try
             {
                 charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation13File ), Charsets.UTF_8 )
-                        ),
+                        Readables.mappedFile( readOperation13File ),
                         bufferSize
                 );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation13File.getAbsolutePath() ),
@@ -1523,13 +1604,11 @@ public class LdbcSnbInteractiveWorkload extends Workload
             try
             {
                 charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation14File ), Charsets.UTF_8 )
-                        ),
+                        Readables.mappedFile( readOperation14File ),
                         bufferSize
                 );
             }
-            catch ( FileNotFoundException e )
+            catch ( IOException e )
             {
                 throw new WorkloadException(
                         format( "Unable to open parameters file: %s", readOperation14File.getAbsolutePath() ),
@@ -1750,4 +1829,32 @@ public class LdbcSnbInteractiveWorkload extends Workload
     {
         return TimeUnit.HOURS.toMillis( 1 );
     }
+
+    @Override
+    public boolean isWrite( Operation operation )
+    {
+        return WRITE_OPERATION_TYPES.contains( operation.getClass() );
+    }
+
+    @Override
+    public ResultComparisonTolerances resultComparisonTolerances( Operation operation )
+    {
+        if ( operation instanceof LdbcQuery1 )
+        {
+            return QUERY_1_RESULT_COMPARISON_TOLERANCES;
+        }
+        else if ( operation instanceof LdbcQuery7 )
+        {
+            return QUERY_7_RESULT_COMPARISON_TOLERANCES;
+        }
+        else if ( operation instanceof LdbcQuery12 )
+        {
+            return QUERY_12_RESULT_COMPARISON_TOLERANCES;
+        }
+        else if ( operation instanceof LdbcQuery14 )
+        {
+            return QUERY_14_RESULT_COMPARISON_TOLERANCES;
+        }
+        return ResultComparisonTolerances.DEFAULT;
+    }
 }
@@ -6,6 +6,7 @@ import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.WorkloadException;
 import org.ldbcouncil.snb.driver.control.ConsoleAndFileDriverConfiguration;
 import org.ldbcouncil.snb.driver.control.DriverConfigurationException;
+import org.ldbcouncil.snb.driver.generator.ParallelLookAheadGenerator;
 import org.ldbcouncil.snb.driver.util.FileUtils;
 import org.ldbcouncil.snb.driver.util.MapUtils;
 
@@ -46,11 +47,22 @@ public abstract class LdbcSnbInteractiveWorkloadConfiguration
     {
         REGEX,
         CHAR_SEEKER,
-        CHAR_SEEKER_THREAD
+        CHAR_SEEKER_THREAD,
+        // update files are cut into chunks of lines that are parsed ahead of dispatch, on a parser thread pool
+        CHAR_SEEKER_PARALLEL
     }
 
     public final static String UPDATE_STREAM_PARSER = LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "update_parser";
     public final static UpdateStreamParser DEFAULT_UPDATE_STREAM_PARSER = UpdateStreamParser.CHAR_SEEKER;
+    // Size of parser thread pool, shared by all update streams, when using CHAR_SEEKER_PARALLEL
+    public final static String UPDATE_STREAM_PARSER_THREAD_COUNT =
+            LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "update_parser_thread_count";
+    public final static int DEFAULT_UPDATE_STREAM_PARSER_THREAD_COUNT = 2;
+    // Maximum number of chunks each update stream is parsed ahead of dispatch, when using CHAR_SEEKER_PARALLEL
+    public final static String UPDATE_STREAM_PARSER_LOOK_AHEAD =
+            LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "update_parser_look_ahead";
+    public final static int DEFAULT_UPDATE_STREAM_PARSER_LOOK_AHEAD =
+            ParallelLookAheadGenerator.DEFAULT_LOOK_AHEAD_CHUNK_COUNT;
     public final static String LDBC_INTERACTIVE_PACKAGE_PREFIX =
             removeSuffix( LdbcQuery1.class.getName(), LdbcQuery1.class.getSimpleName() );
 
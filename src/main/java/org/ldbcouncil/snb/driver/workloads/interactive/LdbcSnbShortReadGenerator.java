@@ -778,7 +778,12 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
                 long previousOperationRunDurationAsNano,
                 double state )
         {
-            double coinToss = random.nextUniform( min, max );
+            double coinToss;
+            // handlers of concurrently executing operations, e.g., closed loop clients, share the generator
+            synchronized ( random )
+            {
+                coinToss = random.nextUniform( min, max );
+            }
             if ( state > coinToss )
             {
                 return innerFactory.create(
@@ -9,6 +9,7 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
  */
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.util.ListUtils;
@@ -322,6 +323,12 @@ public class LdbcUpdate1AddPerson extends Operation<LdbcNoResult>
         return LdbcNoResult.INSTANCE;
     }
 
+    @Override
+    public LdbcNoResult deserializeResult( JsonParser parser )
+    {
+        return LdbcNoResult.INSTANCE;
+    }
+
     @Override
     public int type()
     {
@@ -9,6 +9,7 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
  */
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.Operation;
 
@@ -106,6 +107,12 @@ public class LdbcUpdate3AddCommentLike extends Operation<LdbcNoResult>
         return LdbcNoResult.INSTANCE;
     }
 
+    @Override
+    public LdbcNoResult deserializeResult( JsonParser parser )
+    {
+        return LdbcNoResult.INSTANCE;
+    }
+
     @Override
     public int type()
     {
@@ -9,6 +9,7 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
  */
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.util.ListUtils;
@@ -136,6 +137,12 @@ public class LdbcUpdate4AddForum extends Operation<LdbcNoResult>
         return LdbcNoResult.INSTANCE;
     }
 
+    @Override
+    public LdbcNoResult deserializeResult( JsonParser parser )
+    {
+        return LdbcNoResult.INSTANCE;
+    }
+
     @Override
     public int type()
     {
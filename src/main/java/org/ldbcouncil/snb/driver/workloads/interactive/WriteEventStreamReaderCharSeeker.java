@@ -2,13 +2,17 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
 
 import com.google.common.collect.Lists;
 import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.csv.charseeker.BufferedCharSeeker;
 import org.ldbcouncil.snb.driver.csv.charseeker.CharSeeker;
 import org.ldbcouncil.snb.driver.csv.charseeker.Extractors;
 import org.ldbcouncil.snb.driver.csv.charseeker.Mark;
+import org.ldbcouncil.snb.driver.csv.charseeker.Readables;
 import org.ldbcouncil.snb.driver.generator.CsvEventStreamReaderTimedTypedCharSeeker;
 import org.ldbcouncil.snb.driver.generator.CsvEventStreamReaderTimedTypedCharSeeker.EventDecoder;
 import org.ldbcouncil.snb.driver.generator.GeneratorException;
+import org.ldbcouncil.snb.driver.generator.ParallelLookAheadGenerator;
 
+import java.io.CharArrayReader;
 import java.io.IOException;
 import java.util.*;
 
@@ -26,6 +30,25 @@ public class WriteEventStreamReaderCharSeeker {
         return new CsvEventStreamReaderTimedTypedCharSeeker<>(charSeeker, extractors, decoders, columnDelimiter);
     }
 
+    /**
+     * Parses chunks of update stream lines for ParallelLookAheadGenerator, so operations, including their
+     * dependency times, are constructed on parser threads rather than on the thread that dispatches them.
+     */
+    public static class ChunkParser implements ParallelLookAheadGenerator.ChunkParser<Operation> {
+        @Override
+        public List<Operation> parse(char[] chunk) throws IOException {
+            List<Operation> operations = new ArrayList<>();
+            try (CharSeeker charSeeker = new BufferedCharSeeker(
+                    Readables.wrap(new CharArrayReader(chunk)), chunk.length + 1)) {
+                Iterator<Operation> writeEventStreamReader = create(charSeeker, new Extractors(';', ','), '|');
+                while (writeEventStreamReader.hasNext()) {
+                    operations.add(writeEventStreamReader.next());
+                }
+            }
+            return operations;
+        }
+    }
+
     public static class EventDecoderAddPerson implements EventDecoder<Operation> {
 
         @Override
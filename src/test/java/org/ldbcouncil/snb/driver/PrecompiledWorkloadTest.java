@@ -0,0 +1,287 @@
+package org.ldbcouncil.snb.driver;
+
+import com.google.common.collect.Iterators;
+import org.ldbcouncil.snb.driver.client.ClientMode;
+import org.ldbcouncil.snb.driver.client.ResultsDirectory;
+import org.ldbcouncil.snb.driver.control.ConsoleAndFileDriverConfiguration;
+import org.ldbcouncil.snb.driver.control.ControlService;
+import org.ldbcouncil.snb.driver.control.DriverConfiguration;
+import org.ldbcouncil.snb.driver.control.LocalControlService;
+import org.ldbcouncil.snb.driver.control.Log4jLoggingServiceFactory;
+import org.ldbcouncil.snb.driver.control.OperationMode;
+import org.ldbcouncil.snb.driver.generator.GeneratorFactory;
+import org.ldbcouncil.snb.driver.generator.RandomDataGeneratorFactory;
+import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.ldbcouncil.snb.driver.testutils.TestUtils;
+import org.ldbcouncil.snb.driver.util.Tuple3;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcSnbInteractiveWorkload;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcSnbInteractiveWorkloadConfiguration;
+import org.ldbcouncil.snb.driver.workloads.interactive.db.DummyLdbcSnbInteractiveDb;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class PrecompiledWorkloadTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldReplaySameOperationsAsGeneratedByWorkload() throws Exception
+    {
+        // Given
+        ConsoleAndFileDriverConfiguration configuration = configuration();
+        ConsoleAndFileDriverConfiguration configurationAsGiven =
+                (ConsoleAndFileDriverConfiguration) configuration.applyArgs( new HashMap<String,String>() );
+        File precompiledWorkloadFile = new File( temporaryFolder.getRoot(), "workload.bin" );
+        try ( PrecompiledWorkload.Writer writer = new PrecompiledWorkload.Writer( precompiledWorkloadFile,
+                configuration ) )
+        {
+            compile( writer, configuration, 0, 50 );
+            compile( writer, configuration, 50, 500 );
+            writer.commit();
+        }
+
+        // When
+        PrecompiledWorkload precompiledWorkload = PrecompiledWorkload.load( precompiledWorkloadFile );
+
+        // Then
+        assertThat( precompiledWorkload.isCompiledFor( configurationAsGiven ), is( true ) );
+        assertThat( precompiledWorkload.hasSegment( 0, 50 ), is( true ) );
+        assertThat( precompiledWorkload.hasSegment( 50, 500 ), is( true ) );
+        assertThat( precompiledWorkload.hasSegment( 0, 500 ), is( false ) );
+        for ( long[] offsetAndLimit : new long[][]{{0, 50}, {50, 500}} )
+        {
+            Tuple3<WorkloadStreams,Workload,Long> generated = generate( configuration, offsetAndLimit[0],
+                    offsetAndLimit[1] );
+            Tuple3<WorkloadStreams,Workload,Long> replayed =
+                    precompiledWorkload.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                            configuration,
+                            new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) ),
+                            false,
+                            offsetAndLimit[0],
+                            offsetAndLimit[1] );
+            assertThat( replayed._3(), equalTo( generated._3() ) );
+            List<List<Operation>> generatedStreams = streams( generated._1() );
+            List<List<Operation>> replayedStreams = streams( replayed._1() );
+            assertThat( replayedStreams.size(), equalTo( generatedStreams.size() ) );
+            for ( int i = 0; i < generatedStreams.size(); i++ )
+            {
+                assertSameOperations( replayedStreams.get( i ), generatedStreams.get( i ) );
+            }
+            assertThat( replayed._1().asynchronousStream().dependentOperationTypes(),
+                    equalTo( generated._1().asynchronousStream().dependentOperationTypes() ) );
+            generated._2().close();
+            replayed._2().close();
+        }
+    }
+
+    @Test
+    public void shouldRejectPrecompiledWorkloadOfDifferentConfigurationOrWithoutSegment() throws Exception
+    {
+        // Given
+        ConsoleAndFileDriverConfiguration configuration = configuration();
+        ConsoleAndFileDriverConfiguration changedConfiguration = (ConsoleAndFileDriverConfiguration) configuration
+                .applyArg( LdbcSnbInteractiveWorkloadConfiguration.SHORT_READ_DISSIPATION, "0.5" );
+        File precompiledWorkloadFile = new File( temporaryFolder.getRoot(), "workload.bin" );
+        try ( PrecompiledWorkload.Writer writer = new PrecompiledWorkload.Writer( precompiledWorkloadFile,
+                configuration ) )
+        {
+            compile( writer, configuration, 0, 10 );
+            writer.commit();
+        }
+
+        // When
+        PrecompiledWorkload precompiledWorkload = PrecompiledWorkload.load( precompiledWorkloadFile );
+
+        // Then
+        assertThat( precompiledWorkload.isCompiledFor( changedConfiguration ), is( false ) );
+        try
+        {
+            precompiledWorkload.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                    configuration, new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) ), false, 0, 20 );
+            fail( "Expected missing segment to be rejected" );
+        }
+        catch ( WorkloadException e )
+        {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldExecuteBenchmarkFromWorkloadCompiledByCompileWorkloadMode() throws Exception
+    {
+        // Given
+        File precompiledWorkloadFile = new File( temporaryFolder.getRoot(), "workload.bin" );
+        DriverConfiguration configuration = configuration()
+                .applyArg( ConsoleAndFileDriverConfiguration.OPERATION_COUNT_ARG, "1000" )
+                .applyArg( ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG, "100" )
+                .applyArg( ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG, "0.0000001" )
+                .applyArg( ConsoleAndFileDriverConfiguration.RESULT_DIR_PATH_ARG,
+                        temporaryFolder.newFolder().getAbsolutePath() )
+                .applyArg( ConsoleAndFileDriverConfiguration.PRECOMPILED_WORKLOAD_FILE_PATH_ARG,
+                        precompiledWorkloadFile.getAbsolutePath() );
+
+        // When
+        run( configuration.applyArg( ConsoleAndFileDriverConfiguration.MODE_ARG,
+                OperationMode.compile_workload.name() ) );
+        assertThat( precompiledWorkloadFile.exists(), is( true ) );
+        run( configuration.applyArg( ConsoleAndFileDriverConfiguration.MODE_ARG,
+                OperationMode.execute_benchmark.name() ) );
+
+        // Then
+        ResultsDirectory resultsDirectory = new ResultsDirectory( configuration );
+        assertThat( resultsDirectory.getResultsLogFileLength( true ) > 0, is( true ) );
+        assertThat( resultsDirectory.getResultsLogFileLength( false ) > 0, is( true ) );
+    }
+
+    @Test
+    public void shouldNotPublishPrecompiledWorkloadWhenSegmentCompilationFails() throws Exception
+    {
+        // Given
+        File precompiledWorkloadFile = new File( temporaryFolder.getRoot(), "workload.bin" );
+        DriverConfiguration configuration = configuration()
+                .applyArg( ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG, "50" )
+                .applyArg( ConsoleAndFileDriverConfiguration.MODE_ARG, OperationMode.compile_workload.name() )
+                .applyArg( ConsoleAndFileDriverConfiguration.PRECOMPILED_WORKLOAD_FILE_PATH_ARG,
+                        precompiledWorkloadFile.getAbsolutePath() );
+        DriverConfiguration failingConfiguration = configuration.applyArg(
+                LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                temporaryFolder.newFolder().getAbsolutePath() );
+
+        // When/Then
+        // no file appears
+        assertCompilationFails( failingConfiguration );
+        assertThat( precompiledWorkloadFile.exists(), is( false ) );
+
+        // an existing file is not overwritten
+        run( configuration );
+        byte[] compiledWorkload = Files.readAllBytes( precompiledWorkloadFile.toPath() );
+        assertCompilationFails( failingConfiguration );
+        assertThat( Files.readAllBytes( precompiledWorkloadFile.toPath() ), equalTo( compiledWorkload ) );
+        assertThat( temporaryFolder.getRoot().list( new FilenameFilter()
+        {
+            @Override
+            public boolean accept( File dir, String name )
+            {
+                return name.endsWith( ".tmp" );
+            }
+        } ).length, equalTo( 0 ) );
+    }
+
+    private static void assertCompilationFails( DriverConfiguration configuration ) throws Exception
+    {
+        try
+        {
+            run( configuration );
+            fail( "Expected workload compilation to fail" );
+        }
+        catch ( ClientException e )
+        {
+            // expected
+        }
+    }
+
+    private static void run( DriverConfiguration configuration ) throws Exception
+    {
+        TimeSource timeSource = new SystemTimeSource();
+        ControlService controlService = new LocalControlService(
+                timeSource.nowAsMilli(),
+                configuration,
+                new Log4jLoggingServiceFactory( false ),
+                timeSource
+        );
+        ClientMode<?> clientMode = new Client().getClientModeFor( controlService );
+        clientMode.init();
+        clientMode.startExecutionAndAwaitCompletion();
+    }
+
+    private static ConsoleAndFileDriverConfiguration configuration() throws Exception
+    {
+        return (ConsoleAndFileDriverConfiguration) ConsoleAndFileDriverConfiguration.fromDefaults(
+                DummyLdbcSnbInteractiveDb.class.getName(),
+                LdbcSnbInteractiveWorkload.class.getName(),
+                500
+        ).applyArgs(
+                LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1()
+        ).applyArg(
+                LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+        ).applyArg(
+                LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+        );
+    }
+
+    private static void compile( PrecompiledWorkload.Writer writer, ConsoleAndFileDriverConfiguration configuration,
+            long offset, long limit ) throws Exception
+    {
+        Tuple3<WorkloadStreams,Workload,Long> generated = generate( configuration, offset, limit );
+        try ( Workload workload = generated._2() )
+        {
+            assertThat( writer.writeSegment( generated._1(), offset, limit, generated._3() ) > 0, is( true ) );
+        }
+    }
+
+    private static Tuple3<WorkloadStreams,Workload,Long> generate(
+            ConsoleAndFileDriverConfiguration configuration,
+            long offset,
+            long limit ) throws WorkloadException, IOException
+    {
+        return WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                configuration,
+                new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) ),
+                false,
+                offset,
+                limit,
+                new Log4jLoggingServiceFactory( false )
+        );
+    }
+
+    private static List<List<Operation>> streams( WorkloadStreams workloadStreams )
+    {
+        List<Iterator<Operation>> iterators = new ArrayList<>();
+        iterators.add( workloadStreams.asynchronousStream().dependencyOperations() );
+        iterators.add( workloadStreams.asynchronousStream().nonDependencyOperations() );
+        for ( WorkloadStreams.WorkloadStreamDefinition stream : workloadStreams.blockingStreamDefinitions() )
+        {
+            iterators.add( stream.dependencyOperations() );
+            iterators.add( stream.nonDependencyOperations() );
+        }
+        List<List<Operation>> streams = new ArrayList<>();
+        for ( Iterator<Operation> iterator : iterators )
+        {
+            List<Operation> operations = new ArrayList<>();
+            Iterators.addAll( operations, iterator );
+            streams.add( operations );
+        }
+        return streams;
+    }
+
+    private static void assertSameOperations( List<Operation> actual, List<Operation> expected )
+    {
+        assertThat( actual, equalTo( expected ) );
+        for ( int i = 0; i < expected.size(); i++ )
+        {
+            assertThat( actual.get( i ).scheduledStartTimeAsMilli(),
+                    equalTo( expected.get( i ).scheduledStartTimeAsMilli() ) );
+            assertThat( actual.get( i ).timeStamp(), equalTo( expected.get( i ).timeStamp() ) );
+            assertThat( actual.get( i ).dependencyTimeStamp(), equalTo( expected.get( i ).dependencyTimeStamp() ) );
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.ldbcouncil.snb.driver;
+
+import org.ldbcouncil.snb.driver.client.ClientMode;
+import org.ldbcouncil.snb.driver.client.ResultsDirectory;
+import org.ldbcouncil.snb.driver.control.ConsoleAndFileDriverConfiguration;
+import org.ldbcouncil.snb.driver.control.ControlService;
+import org.ldbcouncil.snb.driver.control.DriverConfiguration;
+import org.ldbcouncil.snb.driver.control.LocalControlService;
+import org.ldbcouncil.snb.driver.control.Log4jLoggingServiceFactory;
+import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.ldbcouncil.snb.driver.testutils.TestUtils;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcSnbInteractiveWorkload;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcSnbInteractiveWorkloadConfiguration;
+import org.ldbcouncil.snb.driver.workloads.interactive.db.DummyLdbcSnbInteractiveDb;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.net.ServerSocket;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ShardedWorkloadExecutionTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shardsShouldTogetherExecuteSameOperationsAsUnshardedDriver() throws Exception
+    {
+        // Given
+        int port;
+        try ( ServerSocket serverSocket = new ServerSocket( 0 ) )
+        {
+            port = serverSocket.getLocalPort();
+        }
+        DriverConfiguration configuration = configuration()
+                .applyArg( ConsoleAndFileDriverConfiguration.SHARD_COORDINATOR_ADDRESS_ARG, "localhost:" + port );
+        DriverConfiguration unshardedConfiguration = configuration
+                .applyArg( ConsoleAndFileDriverConfiguration.RESULT_DIR_PATH_ARG,
+                        temporaryFolder.newFolder().getAbsolutePath() );
+        final DriverConfiguration shard0Configuration = configuration
+                .applyArg( ConsoleAndFileDriverConfiguration.SHARD_COUNT_ARG, "2" )
+                .applyArg( ConsoleAndFileDriverConfiguration.SHARD_INDEX_ARG, "0" )
+                .applyArg( ConsoleAndFileDriverConfiguration.RESULT_DIR_PATH_ARG,
+                        temporaryFolder.newFolder().getAbsolutePath() );
+        final DriverConfiguration shard1Configuration = shard0Configuration
+                .applyArg( ConsoleAndFileDriverConfiguration.SHARD_INDEX_ARG, "1" )
+                .applyArg( ConsoleAndFileDriverConfiguration.RESULT_DIR_PATH_ARG,
+                        temporaryFolder.newFolder().getAbsolutePath() );
+
+        // When
+        run( unshardedConfiguration ).call();
+        ExecutorService executorService = Executors.newFixedThreadPool( 2 );
+        try
+        {
+            Future<Object> shard0 = executorService.submit( run( shard0Configuration ) );
+            Future<Object> shard1 = executorService.submit( run( shard1Configuration ) );
+            shard0.get();
+            shard1.get();
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+
+        // Then
+        for ( boolean warmup : new boolean[]{true, false} )
+        {
+            // lengths include header row
+            long unshardedLength = new ResultsDirectory( unshardedConfiguration ).getResultsLogFileLength( warmup );
+            long shard0Length = new ResultsDirectory( shard0Configuration ).getResultsLogFileLength( warmup );
+            long shard1Length = new ResultsDirectory( shard1Configuration ).getResultsLogFileLength( warmup );
+            assertThat( shard0Length > 1, is( true ) );
+            assertThat( shard1Length > 1, is( true ) );
+            assertThat( (shard0Length - 1) + (shard1Length - 1), equalTo( unshardedLength - 1 ) );
+        }
+    }
+
+    private static Callable<Object> run( final DriverConfiguration configuration )
+    {
+        return new Callable<Object>()
+        {
+            @Override
+            public Object call() throws Exception
+            {
+                TimeSource timeSource = new SystemTimeSource();
+                ControlService controlService = new LocalControlService(
+                        timeSource.nowAsMilli(),
+                        configuration,
+                        new Log4jLoggingServiceFactory( false ),
+                        timeSource
+                );
+                ClientMode<?> clientMode = new Client().getClientModeFor( controlService );
+                clientMode.init();
+                return clientMode.startExecutionAndAwaitCompletion();
+            }
+        };
+    }
+
+    private static DriverConfiguration configuration() throws Exception
+    {
+        // without short reads, which are generated from results, so the operations of a shard do not depend on
+        // which other operations it executes
+        return ConsoleAndFileDriverConfiguration.fromDefaults(
+                DummyLdbcSnbInteractiveDb.class.getName(),
+                LdbcSnbInteractiveWorkload.class.getName(),
+                1000
+        ).applyArgs(
+                LdbcSnbInteractiveWorkloadConfiguration.withoutShortReads(
+                        LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1() )
+        ).applyArg(
+                LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+        ).applyArg(
+                LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+        ).applyArg(
+                ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG, "100"
+        ).applyArg(
+                ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG, "0.0000001"
+        );
+    }
+}
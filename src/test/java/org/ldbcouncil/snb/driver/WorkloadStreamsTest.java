@@ -18,15 +18,20 @@ import org.ldbcouncil.snb.driver.workloads.dummy.TimedNamedOperation2;
 import org.ldbcouncil.snb.driver.workloads.dummy.TimedNamedOperation2Factory;
 import org.ldbcouncil.snb.driver.workloads.dummy.TimedNamedOperation3;
 import org.ldbcouncil.snb.driver.workloads.dummy.TimedNamedOperation3Factory;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.anyOf;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -36,6 +41,8 @@ import static org.junit.Assert.assertThat;
 
 public class WorkloadStreamsTest
 {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
     @Test
     public void shouldReturnSameWorkloadStreamsAsCreatedWith()
@@ -109,6 +116,41 @@ public class WorkloadStreamsTest
         assertThat( secondBlocking2NonDependencyOperation.dependencyTimeStamp(), is( 100010l ) );
     }
 
+    @Test
+    public void shouldDealOutAsynchronousOperationsAndAssignBlockingStreamsToShards()
+    {
+        // Given
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+
+        // When
+        WorkloadStreams shard0 = WorkloadStreams.shard( getWorkloadStreams(), 0, 2, gf );
+        WorkloadStreams shard1 = WorkloadStreams.shard( getWorkloadStreams(), 1, 2, gf );
+
+        // Then
+        assertThat( shard0.asynchronousStream().dependencyOperationTypes(),
+                equalTo( Sets.<Class<? extends Operation>>newHashSet( TimedNamedOperation1.class ) ) );
+        assertThat( shard0.asynchronousStream().dependencyOperations().next().timeStamp(), is( 0l ) );
+        assertThat( shard0.asynchronousStream().dependencyOperations().next().timeStamp(), is( 20l ) );
+        assertThat( shard1.asynchronousStream().dependencyOperations().next().timeStamp(), is( 10l ) );
+        assertThat( shard1.asynchronousStream().dependencyOperations().next().timeStamp(), is( 30l ) );
+        assertThat( shard0.asynchronousStream().nonDependencyOperations().next().timeStamp(), is( 2l ) );
+        assertThat( shard0.asynchronousStream().nonDependencyOperations().next().timeStamp(), is( 202l ) );
+        assertThat( shard1.asynchronousStream().nonDependencyOperations().next().timeStamp(), is( 102l ) );
+        assertThat( shard1.asynchronousStream().nonDependencyOperations().next().timeStamp(), is( 302l ) );
+
+        assertThat( shard0.blockingStreamDefinitions().size(), is( 1 ) );
+        assertThat( shard0.blockingStreamDefinitions().get( 0 ).dependencyOperationTypes(),
+                equalTo( Sets.<Class<? extends Operation>>newHashSet( TimedNamedOperation2.class ) ) );
+        assertThat( shard0.blockingStreamDefinitions().get( 0 ).dependencyOperations().next().timeStamp(), is( 4l ) );
+        assertThat( shard0.blockingStreamDefinitions().get( 0 ).dependencyOperations().next().timeStamp(),
+                is( 1004l ) );
+        assertThat( shard1.blockingStreamDefinitions().size(), is( 1 ) );
+        assertThat( shard1.blockingStreamDefinitions().get( 0 ).dependencyOperationTypes(),
+                equalTo( Sets.<Class<? extends Operation>>newHashSet( TimedNamedOperation3.class ) ) );
+        assertThat( shard1.blockingStreamDefinitions().get( 0 ).nonDependencyOperations().next().timeStamp(),
+                is( 10l ) );
+    }
+
     @Test
     public void shouldPerformTimeOffsetCorrectly() throws WorkloadException
     {
@@ -339,6 +381,74 @@ public class WorkloadStreamsTest
         workload.close();
     }
 
+    @Test
+    public void shouldReuseWorkloadStreamLimitsFromOffsetIndex()
+            throws WorkloadException, DriverConfigurationException, IOException
+    {
+        final AtomicInteger createdWorkloadCount = new AtomicInteger( 0 );
+        WorkloadFactory workloadFactory = new WorkloadFactory()
+        {
+            @Override
+            public Workload createWorkload() throws WorkloadException
+            {
+                createdWorkloadCount.incrementAndGet();
+                return new TestWorkload();
+            }
+        };
+        File offsetIndexFile = new File( temporaryFolder.getRoot(), "workload_offset_index.json" );
+        ConsoleAndFileDriverConfiguration configuration =
+                ConsoleAndFileDriverConfiguration.fromDefaults( null, null, 100 );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration
+                .applyArg( ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG, Long.toString( 10 ) )
+                .applyArg( ConsoleAndFileDriverConfiguration.WORKLOAD_OFFSET_INDEX_FILE_PATH_ARG,
+                        offsetIndexFile.getAbsolutePath() );
+
+        // first run streams through workload to calculate limits, and creates index
+        List<Long> startTimesWithoutIndex = limitedStartTimes( workloadFactory, configuration );
+        assertThat( createdWorkloadCount.get(), equalTo( 2 ) );
+        assertThat( offsetIndexFile.exists(), is( true ) );
+
+        // later runs take limits from index, so only create the workload that is returned
+        List<Long> startTimesWithIndex = limitedStartTimes( workloadFactory, configuration );
+        assertThat( createdWorkloadCount.get(), equalTo( 3 ) );
+        assertThat( startTimesWithIndex, equalTo( startTimesWithoutIndex ) );
+        assertThat( startTimesWithIndex.size(), is( 100 ) );
+
+        // changed workload parameters invalidate index
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArg( "workload_param", "changed" );
+        assertThat( limitedStartTimes( workloadFactory, configuration ), equalTo( startTimesWithoutIndex ) );
+        assertThat( createdWorkloadCount.get(), equalTo( 5 ) );
+        assertThat( limitedStartTimes( workloadFactory, configuration ), equalTo( startTimesWithoutIndex ) );
+        assertThat( createdWorkloadCount.get(), equalTo( 6 ) );
+    }
+
+    private List<Long> limitedStartTimes(
+            WorkloadFactory workloadFactory,
+            ConsoleAndFileDriverConfiguration configuration ) throws WorkloadException, IOException
+    {
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        Tuple3<WorkloadStreams,Workload,Long> limitedWorkloadStreamsAndWorkload =
+                WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                        workloadFactory,
+                        configuration,
+                        gf,
+                        false,
+                        configuration.warmupCount(),
+                        configuration.operationCount(),
+                        new Log4jLoggingServiceFactory( false )
+                );
+        List<Long> startTimes = new ArrayList<>();
+        Iterator<Operation> operations = WorkloadStreams.mergeSortedByStartTimeExcludingChildOperationGenerators(
+                gf,
+                limitedWorkloadStreamsAndWorkload._1() );
+        while ( operations.hasNext() )
+        {
+            startTimes.add( operations.next().scheduledStartTimeAsMilli() );
+        }
+        limitedWorkloadStreamsAndWorkload._2().close();
+        return startTimes;
+    }
+
     @Test
     public void shouldLimitStreamsCorrectly() throws WorkloadException
     {
@@ -0,0 +1,151 @@
+package org.ldbcouncil.snb.driver.client;
+
+import org.ldbcouncil.snb.driver.ClientException;
+import org.ldbcouncil.snb.driver.control.ConsoleAndFileDriverConfiguration;
+import org.ldbcouncil.snb.driver.control.DriverConfiguration;
+import org.ldbcouncil.snb.driver.control.LocalControlService;
+import org.ldbcouncil.snb.driver.control.Log4jLoggingServiceFactory;
+import org.ldbcouncil.snb.driver.runtime.executor.OperationExecutorType;
+import org.ldbcouncil.snb.driver.runtime.metrics.IntervalHistogramLog;
+import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.ldbcouncil.snb.driver.testutils.TestUtils;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcSnbInteractiveWorkload;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcSnbInteractiveWorkloadConfiguration;
+import org.ldbcouncil.snb.driver.workloads.interactive.db.DummyLdbcSnbInteractiveDb;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ExecuteWorkloadModeTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldExecuteAndAuditWorkloadWithAdaptiveTimeCompression() throws Exception
+    {
+        // Given
+        DriverConfiguration configuration = configuration()
+                .applyArg( ConsoleAndFileDriverConfiguration.ADAPTIVE_TIME_COMPRESSION_ARG, "true" )
+                .applyArg( ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG, "50" );
+        ExecuteWorkloadMode executeWorkloadMode = executeWorkloadMode( configuration );
+
+        // When
+        executeWorkloadMode.init();
+        executeWorkloadMode.startExecutionAndAwaitCompletion();
+
+        // Then
+        ResultsDirectory resultsDirectory = new ResultsDirectory( configuration );
+        assertThat( executeWorkloadMode.results().totalOperationCount() > 0, is( true ) );
+        assertThat( executeWorkloadMode.validationResult(), notNullValue() );
+        assertThat( resultsDirectory.files(), equalTo( resultsDirectory.expectedFiles() ) );
+    }
+
+    @Test
+    public void shouldWriteIntervalHistogramLogsToResultsDirectory() throws Exception
+    {
+        // Given
+        DriverConfiguration configuration = configuration()
+                .applyArg( ConsoleAndFileDriverConfiguration.HISTOGRAM_LOG_INTERVAL_ARG, "100" )
+                .applyArg( ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG, "50" );
+        ExecuteWorkloadMode executeWorkloadMode = executeWorkloadMode( configuration );
+
+        // When
+        executeWorkloadMode.init();
+        executeWorkloadMode.startExecutionAndAwaitCompletion();
+
+        // Then
+        ResultsDirectory resultsDirectory = new ResultsDirectory( configuration );
+        assertThat( resultsDirectory.files(), equalTo( resultsDirectory.expectedFiles() ) );
+        File[] histogramLogs = resultsDirectory.getResultsHistogramsDirectory( false ).listFiles();
+        assertThat( histogramLogs.length > 0, is( true ) );
+        for ( File histogramLog : histogramLogs )
+        {
+            assertThat( histogramLog.getName().endsWith( IntervalHistogramLog.FILENAME_SUFFIX ), is( true ) );
+        }
+    }
+
+    @Test
+    public void shouldRejectAdaptiveTimeCompressionOfClosedLoopExecution() throws Exception
+    {
+        // Given
+        DriverConfiguration configuration = configuration()
+                .applyArg( ConsoleAndFileDriverConfiguration.ADAPTIVE_TIME_COMPRESSION_ARG, "true" )
+                .applyArg( ConsoleAndFileDriverConfiguration.CLOSED_LOOP_CLIENTS_ARG, "4" );
+        ExecuteWorkloadMode executeWorkloadMode = executeWorkloadMode( configuration );
+
+        // When
+        try
+        {
+            executeWorkloadMode.init();
+            fail( "Expected adaptive time compression of closed loop execution to be rejected" );
+        }
+        catch ( ClientException e )
+        {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldRejectExecutorTypeThatClosedLoopExecutionWouldIgnore() throws Exception
+    {
+        // Given
+        DriverConfiguration configuration = configuration()
+                .applyArg( ConsoleAndFileDriverConfiguration.EXECUTOR_TYPE_ARG, OperationExecutorType.DISRUPTOR.name() )
+                .applyArg( ConsoleAndFileDriverConfiguration.CLOSED_LOOP_CLIENTS_ARG, "4" );
+        ExecuteWorkloadMode executeWorkloadMode = executeWorkloadMode( configuration );
+
+        // When
+        try
+        {
+            executeWorkloadMode.init();
+            fail( "Expected executor type of closed loop execution to be rejected" );
+        }
+        catch ( ClientException e )
+        {
+            // expected
+        }
+    }
+
+    private static ExecuteWorkloadMode executeWorkloadMode( DriverConfiguration configuration ) throws Exception
+    {
+        TimeSource timeSource = new SystemTimeSource();
+        return new ExecuteWorkloadMode(
+                new LocalControlService( timeSource.nowAsMilli(), configuration,
+                        new Log4jLoggingServiceFactory( false ), timeSource ),
+                timeSource,
+                42L );
+    }
+
+    private DriverConfiguration configuration() throws Exception
+    {
+        return ConsoleAndFileDriverConfiguration.fromDefaults(
+                DummyLdbcSnbInteractiveDb.class.getName(),
+                LdbcSnbInteractiveWorkload.class.getName(),
+                500
+        ).applyArgs(
+                LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1()
+        ).applyArg(
+                LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+        ).applyArg(
+                LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+        ).applyArg(
+                ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG,
+                "0.0000001"
+        ).applyArg(
+                ConsoleAndFileDriverConfiguration.RESULT_DIR_PATH_ARG,
+                temporaryFolder.newFolder().getAbsolutePath()
+        );
+    }
+}
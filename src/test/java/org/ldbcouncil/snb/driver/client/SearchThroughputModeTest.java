@@ -0,0 +1,204 @@
+package org.ldbcouncil.snb.driver.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ldbcouncil.snb.driver.ClientException;
+import org.ldbcouncil.snb.driver.control.ConsoleAndFileDriverConfiguration;
+import org.ldbcouncil.snb.driver.control.DriverConfiguration;
+import org.ldbcouncil.snb.driver.control.LocalControlService;
+import org.ldbcouncil.snb.driver.control.Log4jLoggingServiceFactory;
+import org.ldbcouncil.snb.driver.control.OperationMode;
+import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.ldbcouncil.snb.driver.testutils.TestUtils;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery1;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcSnbInteractiveWorkload;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcSnbInteractiveWorkloadConfiguration;
+import org.ldbcouncil.snb.driver.workloads.interactive.db.DummyLdbcSnbInteractiveDb;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class SearchThroughputModeTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldExecuteClosedLoopIgnoringScheduleAndWithoutScheduleAudit() throws Exception
+    {
+        // Given
+        // not compressed, open loop execution would take hours
+        DriverConfiguration configuration = configuration()
+                .applyArg( ConsoleAndFileDriverConfiguration.CLOSED_LOOP_CLIENTS_ARG, "4" )
+                .applyArg( ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG, "50" );
+        TimeSource timeSource = new SystemTimeSource();
+        ExecuteWorkloadMode executeWorkloadMode = new ExecuteWorkloadMode(
+                new LocalControlService( timeSource.nowAsMilli(), configuration,
+                        new Log4jLoggingServiceFactory( false ), timeSource ),
+                timeSource,
+                42L );
+
+        // When
+        executeWorkloadMode.init();
+        executeWorkloadMode.startExecutionAndAwaitCompletion();
+
+        // Then
+        ResultsDirectory resultsDirectory = new ResultsDirectory( configuration );
+        // short reads are generated by chance, how many depends on the order in which concurrent clients complete
+        assertThat( executeWorkloadMode.results().totalOperationCount(),
+                allOf( greaterThanOrEqualTo( percent( configuration.operationCount(), 0.9 ) ),
+                        lessThanOrEqualTo( percent( configuration.operationCount(), 1.1 ) ) ) );
+        assertThat( executeWorkloadMode.validationResult(), nullValue() );
+        assertThat( resultsDirectory.files(), equalTo( resultsDirectory.expectedFiles() ) );
+    }
+
+    @Test
+    public void shouldIncreaseClosedLoopClientsUntilMaxSteps() throws Exception
+    {
+        // Given
+        DriverConfiguration configuration = configuration()
+                .applyArg( ConsoleAndFileDriverConfiguration.MODE_ARG, OperationMode.search_throughput.name() )
+                .applyArg( ConsoleAndFileDriverConfiguration.CLOSED_LOOP_CLIENTS_ARG, "1" )
+                .applyArg( ConsoleAndFileDriverConfiguration.SEARCH_LATENCY_THRESHOLD_ARG,
+                        Long.toString( TimeUnit.MINUTES.toMillis( 1 ) ) )
+                .applyArg( ConsoleAndFileDriverConfiguration.SEARCH_MAX_STEPS_ARG, "3" );
+
+        // When
+        SearchThroughputMode.SearchStep highestPassedStep = search( configuration );
+
+        // Then
+        assertThat( highestPassedStep.step(), equalTo( 2 ) );
+        assertThat( highestPassedStep.closedLoopClients(), equalTo( 4 ) );
+        assertThat( highestPassedStep.passed(), is( true ) );
+        assertThat( highestPassedStep.scheduleAuditPassed(), nullValue() );
+        for ( int step = 0; step < 3; step++ )
+        {
+            assertThat( new File( configuration.resultDirPath(), "step-" + step ).isDirectory(), is( true ) );
+        }
+        assertThat( new File( configuration.resultDirPath(), "step-3" ).exists(), is( false ) );
+        assertThat( new File( configuration.resultDirPath(), configuration.name() + "-search.json" ).exists(),
+                is( true ) );
+    }
+
+    @Test
+    public void shouldStopAtFirstStepThatExceedsLatencyThreshold() throws Exception
+    {
+        // Given
+        DriverConfiguration configuration = configuration()
+                .applyArg( ConsoleAndFileDriverConfiguration.MODE_ARG, OperationMode.search_throughput.name() )
+                .applyArg( ConsoleAndFileDriverConfiguration.CLOSED_LOOP_CLIENTS_ARG, "2" )
+                .applyArg( ConsoleAndFileDriverConfiguration.SEARCH_LATENCY_THRESHOLD_ARG, "1" )
+                .applyArg( DummyLdbcSnbInteractiveDb.SLEEP_DURATION_NANO_ARG,
+                        Long.toString( TimeUnit.MILLISECONDS.toNanos( 5 ) ) );
+
+        // When
+        SearchThroughputMode.SearchStep highestPassedStep = search( configuration );
+
+        // Then
+        assertThat( highestPassedStep, nullValue() );
+        assertThat( new File( configuration.resultDirPath(), "step-0" ).isDirectory(), is( true ) );
+        assertThat( new File( configuration.resultDirPath(), "step-1" ).exists(), is( false ) );
+    }
+
+    @Test
+    public void shouldRecordStepThatFailsWithErrorAndStillExportSearchResults() throws Exception
+    {
+        // Given
+        DriverConfiguration configuration = configuration()
+                .applyArg( ConsoleAndFileDriverConfiguration.MODE_ARG, OperationMode.search_throughput.name() )
+                .applyArg( ConsoleAndFileDriverConfiguration.CLOSED_LOOP_CLIENTS_ARG, "1" )
+                .applyArg( ConsoleAndFileDriverConfiguration.SEARCH_LATENCY_THRESHOLD_ARG,
+                        Long.toString( TimeUnit.MINUTES.toMillis( 1 ) ) )
+                .applyArg( DummyLdbcSnbInteractiveDb.CRASH_ON_ARG, LdbcQuery1.class.getName() );
+
+        // When
+        SearchThroughputMode.SearchStep highestPassedStep = search( configuration );
+
+        // Then
+        assertThat( highestPassedStep, nullValue() );
+        assertThat( new File( configuration.resultDirPath(), "step-1" ).exists(), is( false ) );
+        File searchResultsFile = new File( configuration.resultDirPath(), configuration.name() + "-search.json" );
+        JsonNode steps = new ObjectMapper().readTree( searchResultsFile );
+        assertThat( steps.size(), equalTo( 1 ) );
+        assertThat( steps.get( 0 ).get( "passed" ).asBoolean(), is( false ) );
+        assertThat( steps.get( 0 ).get( "error" ).asText(), containsString( "Crash on purpose" ) );
+    }
+
+    @Test
+    public void shouldRejectSearchThatCanNotFail() throws Exception
+    {
+        // Given
+        // closed loop is not audited, and there is no latency threshold
+        DriverConfiguration configuration = configuration()
+                .applyArg( ConsoleAndFileDriverConfiguration.MODE_ARG, OperationMode.search_throughput.name() )
+                .applyArg( ConsoleAndFileDriverConfiguration.CLOSED_LOOP_CLIENTS_ARG, "1" );
+        TimeSource timeSource = new SystemTimeSource();
+        SearchThroughputMode searchThroughputMode = new SearchThroughputMode(
+                new LocalControlService( timeSource.nowAsMilli(), configuration,
+                        new Log4jLoggingServiceFactory( false ), timeSource ),
+                timeSource,
+                42L );
+
+        // When
+        try
+        {
+            searchThroughputMode.init();
+            fail( "Expected search without failure criterion to be rejected" );
+        }
+        catch ( ClientException e )
+        {
+            // expected
+        }
+    }
+
+    private static SearchThroughputMode.SearchStep search( DriverConfiguration configuration ) throws Exception
+    {
+        TimeSource timeSource = new SystemTimeSource();
+        SearchThroughputMode searchThroughputMode = new SearchThroughputMode(
+                new LocalControlService( timeSource.nowAsMilli(), configuration,
+                        new Log4jLoggingServiceFactory( false ), timeSource ),
+                timeSource,
+                42L );
+        searchThroughputMode.init();
+        return searchThroughputMode.startExecutionAndAwaitCompletion();
+    }
+
+    private static long percent( long value, double percent )
+    {
+        return Math.round( value * percent );
+    }
+
+    private DriverConfiguration configuration() throws Exception
+    {
+        return ConsoleAndFileDriverConfiguration.fromDefaults(
+                DummyLdbcSnbInteractiveDb.class.getName(),
+                LdbcSnbInteractiveWorkload.class.getName(),
+                500
+        ).applyArgs(
+                LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1()
+        ).applyArg(
+                LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+        ).applyArg(
+                LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+        ).applyArg(
+                ConsoleAndFileDriverConfiguration.RESULT_DIR_PATH_ARG,
+                temporaryFolder.newFolder().getAbsolutePath()
+        );
+    }
+}
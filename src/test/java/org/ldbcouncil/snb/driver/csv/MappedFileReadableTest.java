@@ -0,0 +1,151 @@
+package org.ldbcouncil.snb.driver.csv;
+
+import org.ldbcouncil.snb.driver.csv.charseeker.*;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class MappedFileReadableTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldReadEmptyFile() throws Exception {
+        File file = write(new byte[0]);
+        try (CharReadable readable = new MappedFileReadable(file)) {
+            assertThat(readable.read(new char[10], 0, 10), is(-1));
+        }
+    }
+
+    @Test
+    public void shouldReadAsciiFileAcrossWindowsAndReads() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append(i).append("|person").append(i).append("\n");
+        }
+        String expected = sb.toString();
+        File file = write(expected.getBytes(StandardCharsets.UTF_8));
+        for (int windowSize : new int[]{4, 7, 1024, MappedFileReadable.DEFAULT_WINDOW_SIZE}) {
+            for (int readLength : new int[]{1, 3, 100, 1_000_000}) {
+                assertThat(readAll(new MappedFileReadable(file, windowSize), readLength), equalTo(expected));
+            }
+        }
+    }
+
+    @Test
+    public void shouldDecodeMultiByteCharactersAcrossWindowsAndReads() throws Exception {
+        // 2, 3, and 4 byte (surrogate pair) sequences
+        String expected = "Zhao|Åsa|Łukasz|東京|😀|end\nÆ😀😀東\n";
+        File file = write(expected.getBytes(StandardCharsets.UTF_8));
+        for (int windowSize : new int[]{4, 5, 6, 7, 1024}) {
+            for (int readLength : new int[]{1, 2, 3, 5, 1024}) {
+                assertThat(readAll(new MappedFileReadable(file, windowSize), readLength), equalTo(expected));
+            }
+        }
+    }
+
+    @Test
+    public void shouldReplaceMalformedSequencesLikeInputStreamReader() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write('a');
+        // continuation byte without start byte
+        bytes.write(0x80);
+        bytes.write('b');
+        // invalid byte
+        bytes.write(0xFF);
+        bytes.write('c');
+        // start of 3 byte sequence followed by ascii
+        bytes.write(0xE6);
+        bytes.write('d');
+        // overlong encoding of '/'
+        bytes.write(0xC0);
+        bytes.write(0xAF);
+        bytes.write('e');
+        // file ends with incomplete 3 byte sequence
+        bytes.write(0xE6);
+        bytes.write(0x9D);
+        File file = write(bytes.toByteArray());
+
+        String expected = readAll(Readables.wrap(
+                new InputStreamReader(new ByteArrayInputStream(bytes.toByteArray()), StandardCharsets.UTF_8)), 1024);
+        for (int windowSize : new int[]{4, 5, 1024}) {
+            assertThat(readAll(new MappedFileReadable(file, windowSize), 1024), equalTo(expected));
+        }
+    }
+
+    @Test
+    public void shouldReplaceEncodedSurrogatesAndOutOfRangeCodePoints() throws Exception {
+        byte[][] sequences = new byte[][]{
+                // overlong 3 byte encoding
+                new byte[]{(byte) 0xE0, (byte) 0x80, (byte) 0xAF},
+                // surrogate
+                new byte[]{(byte) 0xED, (byte) 0xA0, (byte) 0x80},
+                // above U+10FFFF
+                new byte[]{(byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80}
+        };
+        for (byte[] sequence : sequences) {
+            File file = write(sequence);
+            String decoded = readAll(new MappedFileReadable(file), 1024);
+            assertThat(decoded.isEmpty(), is(false));
+            for (char c : decoded.toCharArray()) {
+                assertThat(c, is('\uFFFD'));
+            }
+        }
+    }
+
+    @Test
+    public void shouldExtractColumnsWithBufferedCharSeekerOverMappedFile() throws Exception {
+        File file = write("42|Åsa|1,2;3,4\n43|東京|5,6\n".getBytes(StandardCharsets.UTF_8));
+        int[] columnDelimiters = new int[]{'|'};
+        Extractors extractors = new Extractors(';', ',');
+        Mark mark = new Mark();
+        try (CharSeeker charSeeker = new BufferedCharSeeker(Readables.mappedFile(file))) {
+            assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+            assertThat(charSeeker.extract(mark, extractors.long_()).longValue(), is(42L));
+            assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+            assertThat(charSeeker.extract(mark, extractors.string()).value(), equalTo("Åsa"));
+            assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+            assertThat(charSeeker.extract(mark, extractors.intTupleArray(2)).value(),
+                    equalTo(new int[][]{{1, 2}, {3, 4}}));
+            assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+            assertThat(charSeeker.extract(mark, extractors.long_()).longValue(), is(43L));
+            assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+            assertThat(charSeeker.extract(mark, extractors.string()).value(), equalTo("東京"));
+            assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+            assertThat(charSeeker.extract(mark, extractors.intTupleArray(2)).value(), equalTo(new int[][]{{5, 6}}));
+            assertThat(charSeeker.seek(mark, columnDelimiters), is(false));
+        }
+    }
+
+    private File write(byte[] bytes) throws IOException {
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), bytes);
+        return file;
+    }
+
+    private static String readAll(CharReadable readable, int readLength) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        char[] buffer = new char[readLength];
+        int read;
+        try {
+            while (-1 != (read = readable.read(buffer, 0, readLength))) {
+                sb.append(buffer, 0, read);
+            }
+        } finally {
+            readable.close();
+        }
+        return sb.toString();
+    }
+}
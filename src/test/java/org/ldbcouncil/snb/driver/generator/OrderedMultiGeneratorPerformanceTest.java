@@ -0,0 +1,127 @@
+package org.ldbcouncil.snb.driver.generator;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+@Ignore
+public class OrderedMultiGeneratorPerformanceTest
+{
+    private static final DecimalFormat NUMBER_FORMAT = new DecimalFormat( "###,###,###,###,##0.00" );
+
+    private static final Comparator<Operation> TIME_STAMP_COMPARATOR = new Comparator<Operation>()
+    {
+        @Override
+        public int compare( Operation o1, Operation o2 )
+        {
+            return Long.compare( o1.timeStamp(), o2.timeStamp() );
+        }
+    };
+
+    private static final ToLongFunction<Operation> TIME_STAMP_KEY = new ToLongFunction<Operation>()
+    {
+        @Override
+        public long applyAsLong( Operation operation )
+        {
+            return operation.timeStamp();
+        }
+    };
+
+    @Test
+    public void mergeSortOperationsByTimeStampPerformanceTest()
+    {
+        int experimentRepetitions = 5;
+        for ( int generatorCount : new int[]{2, 4, 8, 16, 32, 64} )
+        {
+            int operationCountPerGenerator = 10_000_000 / generatorCount;
+            int operationCount = operationCountPerGenerator * generatorCount;
+            List<List<Operation>> inputs = inputs( generatorCount, operationCountPerGenerator );
+            for ( int i = 0; i < experimentRepetitions; i++ )
+            {
+                // previous implementation of GeneratorFactory.mergeSortOperationsByTimeStamp
+                long guavaDurationAsNano = durationAsNano(
+                        Iterators.mergeSorted( Lists.newArrayList( iterators( inputs ) ), TIME_STAMP_COMPARATOR ),
+                        operationCount );
+                long comparatorHeapDurationAsNano = durationAsNano(
+                        new OrderedMultiGenerator<>( TIME_STAMP_COMPARATOR, 1, iterators( inputs ) ), operationCount );
+                long longKeyHeapDurationAsNano = durationAsNano(
+                        new LongKeyOrderedMultiGenerator<>( TIME_STAMP_KEY, iterators( inputs ) ), operationCount );
+                System.out.println( format( "%s generators: Guava %s ops/sec, Comparator Heap %s ops/sec, " +
+                                            "Long Key Heap %s ops/sec",
+                        generatorCount,
+                        throughput( operationCount, guavaDurationAsNano ),
+                        throughput( operationCount, comparatorHeapDurationAsNano ),
+                        throughput( operationCount, longKeyHeapDurationAsNano ) ) );
+            }
+        }
+    }
+
+    private static List<List<Operation>> inputs( int generatorCount, int operationCountPerGenerator )
+    {
+        Random random = new Random( 42 );
+        List<List<Operation>> inputs = new ArrayList<>();
+        for ( int i = 0; i < generatorCount; i++ )
+        {
+            List<Operation> input = new ArrayList<>();
+            long timeStamp = 0;
+            for ( int j = 0; j < operationCountPerGenerator; j++ )
+            {
+                timeStamp += random.nextInt( 10 );
+                input.add( new TimedNamedOperation1( timeStamp, timeStamp, 0, null ) );
+            }
+            inputs.add( input );
+        }
+        return inputs;
+    }
+
+    private static Iterator<Operation>[] iterators( List<List<Operation>> inputs )
+    {
+        Iterator<Operation>[] iterators = new Iterator[inputs.size()];
+        for ( int i = 0; i < inputs.size(); i++ )
+        {
+            iterators[i] = inputs.get( i ).iterator();
+        }
+        return iterators;
+    }
+
+    private static long durationAsNano( Iterator<Operation> operations, int operationCount )
+    {
+        long startTimeAsNano = System.nanoTime();
+        long count = 0;
+        long previousTimeStamp = Long.MIN_VALUE;
+        while ( operations.hasNext() )
+        {
+            long timeStamp = operations.next().timeStamp();
+            if ( timeStamp < previousTimeStamp )
+            {
+                throw new IllegalStateException( "Operations were not merged in time stamp order" );
+            }
+            previousTimeStamp = timeStamp;
+            count++;
+        }
+        long durationAsNano = System.nanoTime() - startTimeAsNano;
+        assertThat( count, equalTo( (long) operationCount ) );
+        return durationAsNano;
+    }
+
+    private static String throughput( long operationCount, long durationAsNano )
+    {
+        return NUMBER_FORMAT.format( operationCount / (durationAsNano / (double) TimeUnit.SECONDS.toNanos( 1 )) );
+    }
+}
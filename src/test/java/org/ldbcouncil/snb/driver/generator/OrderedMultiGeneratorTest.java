@@ -1,10 +1,19 @@
 package org.ldbcouncil.snb.driver.generator;
 
+import com.google.common.collect.Lists;
+import org.ldbcouncil.snb.driver.util.Tuple;
+import org.ldbcouncil.snb.driver.util.Tuple2;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToLongFunction;
 
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -175,6 +184,81 @@ public class OrderedMultiGeneratorTest {
         }
     }
 
+    @Test
+    public void shouldReturnEqualElementsInGeneratorOrder() {
+        // Given
+        Iterator<Tuple2<Long,Integer>> g1 = generators.identity(Tuple.tuple2(1l, 1), Tuple.tuple2(2l, 1));
+        Iterator<Tuple2<Long,Integer>> g2 = generators.identity(Tuple.tuple2(0l, 2), Tuple.tuple2(1l, 2), Tuple.tuple2(2l, 2));
+        Iterator<Tuple2<Long,Integer>> g3 = generators.identity(Tuple.tuple2(1l, 3));
+
+        // When
+        Iterator<Tuple2<Long,Integer>> orderedGenerator = generators.mergeSort(new FirstComparator(), 1, g1, g2, g3);
+
+        // Then
+        assertThat(orderedGenerator.next(), equalTo(Tuple.tuple2(0l, 2)));
+        assertThat(orderedGenerator.next(), equalTo(Tuple.tuple2(1l, 1)));
+        assertThat(orderedGenerator.next(), equalTo(Tuple.tuple2(1l, 2)));
+        assertThat(orderedGenerator.next(), equalTo(Tuple.tuple2(1l, 3)));
+        assertThat(orderedGenerator.next(), equalTo(Tuple.tuple2(2l, 1)));
+        assertThat(orderedGenerator.next(), equalTo(Tuple.tuple2(2l, 2)));
+        assertThat(orderedGenerator.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldMergeSameAsStableSortForManyGenerators() {
+        Random random = new Random(42);
+        for (int generatorCount : new int[]{1, 2, 3, 5, 8, 16, 33, 64}) {
+            // Given
+            List<List<Tuple2<Long,Integer>>> inputs = new ArrayList<>();
+            List<Tuple2<Long,Integer>> expected = new ArrayList<>();
+            for (int i = 0; i < generatorCount; i++) {
+                List<Tuple2<Long,Integer>> input = new ArrayList<>();
+                long value = 0;
+                int size = random.nextInt(100);
+                for (int j = 0; j < size; j++) {
+                    // small increments, so there are many equal values across generators
+                    value += random.nextInt(3);
+                    input.add(Tuple.tuple2(value, i));
+                }
+                inputs.add(input);
+                expected.addAll(input);
+            }
+            // stable, so equal values stay in generator order
+            Collections.sort(expected, new FirstComparator());
+
+            // When
+            Iterator<Tuple2<Long,Integer>>[] simpleGenerators = new Iterator[generatorCount];
+            Iterator<Tuple2<Long,Integer>>[] lookaheadGenerators = new Iterator[generatorCount];
+            Iterator<Tuple2<Long,Integer>>[] longKeyGenerators = new Iterator[generatorCount];
+            for (int i = 0; i < generatorCount; i++) {
+                simpleGenerators[i] = inputs.get(i).iterator();
+                lookaheadGenerators[i] = inputs.get(i).iterator();
+                longKeyGenerators[i] = inputs.get(i).iterator();
+            }
+            ToLongFunction<Tuple2<Long,Integer>> firstKey = new ToLongFunction<Tuple2<Long,Integer>>() {
+                @Override
+                public long applyAsLong(Tuple2<Long,Integer> tuple) {
+                    return tuple._1();
+                }
+            };
+
+            // Then
+            assertThat(Lists.newArrayList(generators.mergeSort(new FirstComparator(), 1, simpleGenerators)),
+                    equalTo(expected));
+            assertThat(Lists.newArrayList(generators.mergeSort(new FirstComparator(), 3, lookaheadGenerators)),
+                    equalTo(expected));
+            assertThat(Lists.newArrayList(new LongKeyOrderedMultiGenerator<>(firstKey, longKeyGenerators)),
+                    equalTo(expected));
+        }
+    }
+
+    private static class FirstComparator implements Comparator<Tuple2<Long,Integer>> {
+        @Override
+        public int compare(Tuple2<Long,Integer> t1, Tuple2<Long,Integer> t2) {
+            return Long.compare(t1._1(), t2._1());
+        }
+    }
+
     private static class IntegerComparator implements Comparator<Integer> {
         @Override
         public int compare(Integer i1, Integer i2) {
@@ -0,0 +1,230 @@
+package org.ldbcouncil.snb.driver.generator;
+
+import org.ldbcouncil.snb.driver.csv.charseeker.CharReadable;
+import org.ldbcouncil.snb.driver.csv.charseeker.Readables;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ParallelLookAheadGeneratorTest
+{
+    private ExecutorService parserThreadPool;
+
+    @Before
+    public void createParserThreadPool()
+    {
+        parserThreadPool = Executors.newFixedThreadPool( 4 );
+    }
+
+    @After
+    public void shutdownParserThreadPool()
+    {
+        parserThreadPool.shutdownNow();
+    }
+
+    @Test
+    public void shouldReturnLinesInStreamOrderWhenChunksAreParsedInParallel() throws IOException
+    {
+        // Given
+        List<Long> expected = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+        for ( long i = 0; i < 10_000; i++ )
+        {
+            expected.add( i );
+            sb.append( i ).append( "\n" );
+        }
+
+        // When
+        List<Long> actual = new ArrayList<>();
+        try ( ParallelLookAheadGenerator<Long> generator = new ParallelLookAheadGenerator<>(
+                "test", Readables.wrap( new StringReader( sb.toString() ) ), new LongPerLineParser(), parserThreadPool,
+                64, 4 ) )
+        {
+            while ( generator.hasNext() )
+            {
+                actual.add( generator.next() );
+            }
+        }
+
+        // Then
+        assertThat( actual, equalTo( expected ) );
+    }
+
+    @Test
+    public void shouldParseLinesLongerThanChunkAndLastLineWithoutLineSeparator() throws IOException
+    {
+        // Given
+        String data = "1\n123456789012345678\n2\n3";
+
+        // When
+        List<Long> actual = new ArrayList<>();
+        try ( ParallelLookAheadGenerator<Long> generator = new ParallelLookAheadGenerator<>(
+                "test", Readables.wrap( new StringReader( data ) ), new LongPerLineParser(), parserThreadPool, 4, 1 ) )
+        {
+            while ( generator.hasNext() )
+            {
+                actual.add( generator.next() );
+            }
+        }
+
+        // Then
+        List<Long> expected = new ArrayList<>();
+        expected.add( 1L );
+        expected.add( 123456789012345678L );
+        expected.add( 2L );
+        expected.add( 3L );
+        assertThat( actual, equalTo( expected ) );
+    }
+
+    @Test
+    public void shouldReturnNothingForEmptyStream() throws IOException
+    {
+        try ( ParallelLookAheadGenerator<Long> generator = new ParallelLookAheadGenerator<>(
+                "test", Readables.wrap( new StringReader( "" ) ), new LongPerLineParser(), parserThreadPool, 64, 4 ) )
+        {
+            assertThat( generator.hasNext(), is( false ) );
+            assertThat( generator.hasNext(), is( false ) );
+        }
+    }
+
+    @Test
+    public void shouldReturnElementsBeforeParseErrorThenRethrowIt() throws IOException
+    {
+        // Given
+        String data = "1\n2\nthree\n4\n";
+
+        // When
+        List<Long> actual = new ArrayList<>();
+        try ( ParallelLookAheadGenerator<Long> generator = new ParallelLookAheadGenerator<>(
+                "test", Readables.wrap( new StringReader( data ) ), new LongPerLineParser(), parserThreadPool, 4, 2 ) )
+        {
+            while ( generator.hasNext() )
+            {
+                actual.add( generator.next() );
+            }
+            fail( "Expected parse error" );
+        }
+        catch ( GeneratorException e )
+        {
+            // Then
+            assertThat( e.getCause() instanceof NumberFormatException, is( true ) );
+        }
+        List<Long> expected = new ArrayList<>();
+        expected.add( 1L );
+        expected.add( 2L );
+        assertThat( actual, equalTo( expected ) );
+    }
+
+    @Test
+    public void shouldRethrowReadError() throws IOException
+    {
+        // Given
+        CharReadable failingReader = new CharReadable()
+        {
+            @Override
+            public int read( char[] buffer, int offset, int length ) throws IOException
+            {
+                throw new IOException( "read failed" );
+            }
+
+            @Override
+            public void close()
+            {
+            }
+        };
+
+        // When
+        try ( ParallelLookAheadGenerator<Long> generator = new ParallelLookAheadGenerator<>(
+                "test", failingReader, new LongPerLineParser(), parserThreadPool, 64, 4 ) )
+        {
+            generator.hasNext();
+            fail( "Expected read error" );
+        }
+        catch ( GeneratorException e )
+        {
+            // Then
+            assertThat( e.getCause().getMessage(), equalTo( "read failed" ) );
+        }
+    }
+
+    @Test
+    public void shouldParseAtMostLookAheadChunksAheadAndStopWhenClosed() throws Exception
+    {
+        // Given
+        StringBuilder sb = new StringBuilder();
+        for ( long i = 0; i < 10_000; i++ )
+        {
+            sb.append( i ).append( "\n" );
+        }
+        final AtomicInteger parsedChunkCount = new AtomicInteger( 0 );
+        ParallelLookAheadGenerator.ChunkParser<Long> countingParser =
+                new ParallelLookAheadGenerator.ChunkParser<Long>()
+                {
+                    @Override
+                    public List<Long> parse( char[] chunk )
+                    {
+                        parsedChunkCount.incrementAndGet();
+                        return new LongPerLineParser().parse( chunk );
+                    }
+                };
+        final AtomicBoolean readerClosed = new AtomicBoolean( false );
+        final CharReadable stringReader = Readables.wrap( new StringReader( sb.toString() ) );
+        CharReadable reader = new CharReadable()
+        {
+            @Override
+            public int read( char[] buffer, int offset, int length ) throws IOException
+            {
+                return stringReader.read( buffer, offset, length );
+            }
+
+            @Override
+            public void close() throws IOException
+            {
+                readerClosed.set( true );
+                stringReader.close();
+            }
+        };
+        int lookAheadChunkCount = 4;
+        ParallelLookAheadGenerator<Long> generator = new ParallelLookAheadGenerator<>(
+                "test", reader, countingParser, parserThreadPool, 8, lookAheadChunkCount );
+
+        // When
+        assertThat( generator.next(), is( 0L ) );
+        Thread.sleep( 500 );
+
+        // Then
+        // chunk being consumed, queued chunks (queue has room for end of stream marker too), and the one the
+        // splitter submitted before blocking on full queue
+        assertThat( parsedChunkCount.get() <= lookAheadChunkCount + 3, is( true ) );
+        generator.close();
+        assertThat( readerClosed.get(), is( true ) );
+    }
+
+    private static class LongPerLineParser implements ParallelLookAheadGenerator.ChunkParser<Long>
+    {
+        @Override
+        public List<Long> parse( char[] chunk )
+        {
+            List<Long> longs = new ArrayList<>();
+            for ( String line : new String( chunk ).split( "\n" ) )
+            {
+                longs.add( Long.parseLong( line ) );
+            }
+            return longs;
+        }
+    }
+}
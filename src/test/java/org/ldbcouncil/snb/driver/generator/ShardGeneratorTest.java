@@ -0,0 +1,45 @@
+package org.ldbcouncil.snb.driver.generator;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class ShardGeneratorTest
+{
+    @Test
+    public void shouldDealOutItemsToShardsRoundRobin()
+    {
+        // Given
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) );
+
+        // When
+        List<Integer> shard0 = Lists.newArrayList( gf.shard( gf.identity( 0, 1, 2, 3, 4, 5, 6 ), 0, 3 ) );
+        List<Integer> shard1 = Lists.newArrayList( gf.shard( gf.identity( 0, 1, 2, 3, 4, 5, 6 ), 1, 3 ) );
+        List<Integer> shard2 = Lists.newArrayList( gf.shard( gf.identity( 0, 1, 2, 3, 4, 5, 6 ), 2, 3 ) );
+
+        // Then
+        assertThat( shard0, equalTo( (List<Integer>) Lists.newArrayList( 0, 3, 6 ) ) );
+        assertThat( shard1, equalTo( (List<Integer>) Lists.newArrayList( 1, 4 ) ) );
+        assertThat( shard2, equalTo( (List<Integer>) Lists.newArrayList( 2, 5 ) ) );
+    }
+
+    @Test
+    public void shouldReturnAllItemsWhenThereIsOneShardAndNoneWhenShardIsBeyondItems()
+    {
+        // Given
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) );
+
+        // When
+        List<Integer> onlyShard = Lists.newArrayList( gf.shard( gf.identity( 0, 1, 2 ), 0, 1 ) );
+        List<Integer> emptyShard = Lists.newArrayList( gf.shard( gf.identity( 0, 1, 2 ), 3, 4 ) );
+
+        // Then
+        assertThat( onlyShard, equalTo( (List<Integer>) Lists.newArrayList( 0, 1, 2 ) ) );
+        assertThat( emptyShard, equalTo( (List<Integer>) new ArrayList<Integer>() ) );
+    }
+}
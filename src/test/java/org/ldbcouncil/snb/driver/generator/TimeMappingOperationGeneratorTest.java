@@ -387,7 +387,25 @@ public class TimeMappingOperationGeneratorTest
                 ignoreScheduledStartTimes,
                 warmupCount,
                 skipCount,
-                flushLog
+                flushLog,
+                ConsoleAndFileDriverConfiguration.WAIT_STRATEGY_DEFAULT,
+                ConsoleAndFileDriverConfiguration.EXECUTOR_TYPE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_TYPE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPLETION_TIME_TRACKER_TYPE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.WORKLOAD_OFFSET_INDEX_FILE_PATH_DEFAULT,
+                ConsoleAndFileDriverConfiguration.PRECOMPILED_WORKLOAD_FILE_PATH_DEFAULT,
+                ConsoleAndFileDriverConfiguration.SHARD_COUNT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.SHARD_INDEX_DEFAULT,
+                ConsoleAndFileDriverConfiguration.SHARD_COORDINATOR_ADDRESS_DEFAULT,
+                ConsoleAndFileDriverConfiguration.CLOSED_LOOP_CLIENTS_DEFAULT,
+                ConsoleAndFileDriverConfiguration.SEARCH_LATENCY_THRESHOLD_DEFAULT,
+                ConsoleAndFileDriverConfiguration.SEARCH_STEP_FACTOR_DEFAULT,
+                ConsoleAndFileDriverConfiguration.SEARCH_MAX_STEPS_DEFAULT,
+                ConsoleAndFileDriverConfiguration.ADAPTIVE_TIME_COMPRESSION_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESPONSE_TIME_EXPECTED_INTERVAL_DEFAULT,
+                ConsoleAndFileDriverConfiguration.HISTOGRAM_LOG_INTERVAL_DEFAULT,
+                ConsoleAndFileDriverConfiguration.VALIDATION_PARAMS_RESUME_DEFAULT
         );
 
         Map<String,String> updateStreamParams = MapUtils.loadPropertiesToMap(
@@ -17,10 +17,12 @@ import org.ldbcouncil.snb.driver.generator.RandomDataGeneratorFactory;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeException;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeService;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import org.ldbcouncil.snb.driver.runtime.executor.OperationExecutorType;
 import org.ldbcouncil.snb.driver.runtime.metrics.MetricsCollectionException;
 import org.ldbcouncil.snb.driver.runtime.metrics.MetricsService;
 import org.ldbcouncil.snb.driver.runtime.metrics.ThreadedQueuedMetricsService;
 import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
+import org.ldbcouncil.snb.driver.runtime.scheduling.WaitStrategies;
 import org.ldbcouncil.snb.driver.temporal.ManualTimeSource;
 import org.ldbcouncil.snb.driver.temporal.TimeSource;
 import org.ldbcouncil.snb.driver.workloads.dummy.DummyDb;
@@ -1775,6 +1777,8 @@ public class WorkloadRunnerComplexScenarioTests
                 threadCount,
                 statusDisplayIntervalAsMilli,
                 spinnerSleepDurationAsMilli,
+                WaitStrategies.WaitStrategyType.SLEEP,
+                OperationExecutorType.THREAD_POOL,
                 ignoreScheduledStartTime,
                 operationHandlerExecutorsBoundedQueueSize
         );
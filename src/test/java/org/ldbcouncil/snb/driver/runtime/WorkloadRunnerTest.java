@@ -22,11 +22,13 @@ import org.ldbcouncil.snb.driver.generator.RandomDataGeneratorFactory;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeException;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeService;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import org.ldbcouncil.snb.driver.runtime.executor.OperationExecutorType;
 import org.ldbcouncil.snb.driver.runtime.metrics.MetricsCollectionException;
 import org.ldbcouncil.snb.driver.runtime.metrics.MetricsService;
 import org.ldbcouncil.snb.driver.runtime.metrics.SimpleDetailedWorkloadMetricsFormatter;
 import org.ldbcouncil.snb.driver.runtime.metrics.ThreadedQueuedMetricsService;
 import org.ldbcouncil.snb.driver.runtime.metrics.WorkloadResultsSnapshot;
+import org.ldbcouncil.snb.driver.runtime.scheduling.WaitStrategies;
 import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
 import org.ldbcouncil.snb.driver.temporal.TemporalUtil;
 import org.ldbcouncil.snb.driver.temporal.TimeSource;
@@ -139,7 +141,25 @@ public class WorkloadRunnerTest
                     ignoreScheduledStartTimes,
                     warmupCount,
                     skipCount,
-                    flushLog
+                    flushLog,
+                    ConsoleAndFileDriverConfiguration.WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_TRACKER_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.WORKLOAD_OFFSET_INDEX_FILE_PATH_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.PRECOMPILED_WORKLOAD_FILE_PATH_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SHARD_COUNT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SHARD_INDEX_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SHARD_COORDINATOR_ADDRESS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.CLOSED_LOOP_CLIENTS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SEARCH_LATENCY_THRESHOLD_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SEARCH_STEP_FACTOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SEARCH_MAX_STEPS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.ADAPTIVE_TIME_COMPRESSION_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESPONSE_TIME_EXPECTED_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.HISTOGRAM_LOG_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.VALIDATION_PARAMS_RESUME_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -211,6 +231,8 @@ public class WorkloadRunnerTest
                     controlService.configuration().threadCount(),
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
+                    WaitStrategies.parseType( controlService.configuration().waitStrategy() ),
+                    OperationExecutorType.parse( controlService.configuration().executorType() ),
                     controlService.configuration().ignoreScheduledStartTimes(),
                     boundedQueueSize );
 
@@ -346,7 +368,25 @@ public class WorkloadRunnerTest
                     ignoreScheduledStartTimes,
                     warmupCount,
                     skipCount,
-                    flushLog
+                    flushLog,
+                    ConsoleAndFileDriverConfiguration.WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_TRACKER_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.WORKLOAD_OFFSET_INDEX_FILE_PATH_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.PRECOMPILED_WORKLOAD_FILE_PATH_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SHARD_COUNT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SHARD_INDEX_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SHARD_COORDINATOR_ADDRESS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.CLOSED_LOOP_CLIENTS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SEARCH_LATENCY_THRESHOLD_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SEARCH_STEP_FACTOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SEARCH_MAX_STEPS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.ADAPTIVE_TIME_COMPRESSION_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESPONSE_TIME_EXPECTED_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.HISTOGRAM_LOG_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.VALIDATION_PARAMS_RESUME_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -416,6 +456,8 @@ public class WorkloadRunnerTest
                     controlService.configuration().threadCount(),
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
+                    WaitStrategies.parseType( controlService.configuration().waitStrategy() ),
+                    OperationExecutorType.parse( controlService.configuration().executorType() ),
                     controlService.configuration().ignoreScheduledStartTimes(),
                     boundedQueueSize );
 
@@ -507,13 +549,65 @@ public class WorkloadRunnerTest
         {
             doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
                     threadCount,
-                    operationCount
+                    operationCount,
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_TYPE_DEFAULT
+            );
+        }
+    }
+
+    @Test
+    public void shouldRunReadWriteLdbcWorkloadWithNothingDbUsingTimerWheelExecutorAndReturnExpectedMetrics()
+            throws InterruptedException, DbException, WorkloadException, IOException, MetricsCollectionException,
+            CompletionTimeException, DriverConfigurationException, ExecutionException
+    {
+        List<Integer> threadCounts = Lists.newArrayList( 1, 4 );
+        long operationCount = 10000;
+        for ( int threadCount : threadCounts )
+        {
+            doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
+                    threadCount,
+                    operationCount,
+                    OperationExecutorType.TIMER_WHEEL.name()
+            );
+        }
+    }
+
+    @Test
+    public void shouldRunReadWriteLdbcWorkloadWithNothingDbUsingVirtualThreadExecutorAndReturnExpectedMetrics()
+            throws InterruptedException, DbException, WorkloadException, IOException, MetricsCollectionException,
+            CompletionTimeException, DriverConfigurationException, ExecutionException
+    {
+        List<Integer> threadCounts = Lists.newArrayList( 1, 64 );
+        long operationCount = 10000;
+        for ( int threadCount : threadCounts )
+        {
+            doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
+                    threadCount,
+                    operationCount,
+                    OperationExecutorType.VIRTUAL_THREAD.name()
+            );
+        }
+    }
+
+    @Test
+    public void shouldRunReadWriteLdbcWorkloadWithNothingDbUsingDisruptorExecutorAndReturnExpectedMetrics()
+            throws InterruptedException, DbException, WorkloadException, IOException, MetricsCollectionException,
+            CompletionTimeException, DriverConfigurationException, ExecutionException
+    {
+        List<Integer> threadCounts = Lists.newArrayList( 1, 4 );
+        long operationCount = 10000;
+        for ( int threadCount : threadCounts )
+        {
+            doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
+                    threadCount,
+                    operationCount,
+                    OperationExecutorType.DISRUPTOR.name()
             );
         }
     }
 
     public void doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
-            int threadCount, long operationCount )
+            int threadCount, long operationCount, String executorType )
             throws InterruptedException, DbException, WorkloadException, IOException, MetricsCollectionException,
             CompletionTimeException, DriverConfigurationException, ExecutionException
     {
@@ -571,7 +665,25 @@ public class WorkloadRunnerTest
                     ignoreScheduledStartTimes,
                     warmupCount,
                     skipCount,
-                    flushLog
+                    flushLog,
+                    ConsoleAndFileDriverConfiguration.WAIT_STRATEGY_DEFAULT,
+                    executorType,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_TRACKER_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.WORKLOAD_OFFSET_INDEX_FILE_PATH_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.PRECOMPILED_WORKLOAD_FILE_PATH_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SHARD_COUNT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SHARD_INDEX_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SHARD_COORDINATOR_ADDRESS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.CLOSED_LOOP_CLIENTS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SEARCH_LATENCY_THRESHOLD_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SEARCH_STEP_FACTOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SEARCH_MAX_STEPS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.ADAPTIVE_TIME_COMPRESSION_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESPONSE_TIME_EXPECTED_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.HISTOGRAM_LOG_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.VALIDATION_PARAMS_RESUME_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -641,6 +753,8 @@ public class WorkloadRunnerTest
                     controlService.configuration().threadCount(),
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
+                    WaitStrategies.parseType( controlService.configuration().waitStrategy() ),
+                    OperationExecutorType.parse( controlService.configuration().executorType() ),
                     controlService.configuration().ignoreScheduledStartTimes(),
                     boundedQueueSize );
 
@@ -842,7 +956,25 @@ public class WorkloadRunnerTest
                     ignoreScheduledStartTimes,
                     warmupCount,
                     skipCount,
-                    flushLog
+                    flushLog,
+                    ConsoleAndFileDriverConfiguration.WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_SERVICE_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPLETION_TIME_TRACKER_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.WORKLOAD_OFFSET_INDEX_FILE_PATH_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.PRECOMPILED_WORKLOAD_FILE_PATH_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SHARD_COUNT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SHARD_INDEX_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SHARD_COORDINATOR_ADDRESS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.CLOSED_LOOP_CLIENTS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SEARCH_LATENCY_THRESHOLD_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SEARCH_STEP_FACTOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SEARCH_MAX_STEPS_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.ADAPTIVE_TIME_COMPRESSION_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESPONSE_TIME_EXPECTED_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.HISTOGRAM_LOG_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.VALIDATION_PARAMS_RESUME_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -906,6 +1038,8 @@ public class WorkloadRunnerTest
                     controlService.configuration().threadCount(),
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
+                    WaitStrategies.parseType( controlService.configuration().waitStrategy() ),
+                    OperationExecutorType.parse( controlService.configuration().executorType() ),
                     controlService.configuration().ignoreScheduledStartTimes(),
                     boundedQueueSize );
 
@@ -3,6 +3,12 @@ package org.ldbcouncil.snb.driver.runtime.coordination;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeStateManager.CompletedTimeTrackerImpl;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -33,7 +39,13 @@ public class CompletedTimeTrackerTest
         shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime( CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingArrayList() );
     }
 
-    private void shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime( CompletionTimeStateManager.CompletedTimeTrackerImpl tracker )
+    @Test
+    public void shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime_UsingPrimitiveHeap() throws CompletionTimeException
+    {
+        shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime( new CompletionTimeStateManager.PrimitiveCompletedTimeTracker() );
+    }
+
+    private void shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime( CompletionTimeStateManager.CompletedTimeTracker tracker )
             throws CompletionTimeException
     {
         // Given
@@ -64,8 +76,16 @@ public class CompletedTimeTrackerTest
                 CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingArrayList() );
     }
 
+    @Test
+    public void shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedInOrder_UsingPrimitiveHeap()
+            throws CompletionTimeException
+    {
+        shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedInOrder(
+                new CompletionTimeStateManager.PrimitiveCompletedTimeTracker() );
+    }
+
     private void shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedInOrder(
-            CompletionTimeStateManager.CompletedTimeTrackerImpl tracker ) throws CompletionTimeException
+            CompletionTimeStateManager.CompletedTimeTracker tracker ) throws CompletionTimeException
     {
         // Given
         // tracker
@@ -138,8 +158,16 @@ public class CompletedTimeTrackerTest
                 CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingArrayList() );
     }
 
+    @Test
+    public void shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedOutOfOrder_UsingPrimitiveHeap()
+            throws CompletionTimeException
+    {
+        shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedOutOfOrder(
+                new CompletionTimeStateManager.PrimitiveCompletedTimeTracker() );
+    }
+
     private void shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedOutOfOrder(
-            CompletionTimeStateManager.CompletedTimeTrackerImpl tracker ) throws CompletionTimeException
+            CompletionTimeStateManager.CompletedTimeTracker tracker ) throws CompletionTimeException
     {
         // Given
         // tracker
@@ -217,4 +245,35 @@ public class CompletedTimeTrackerTest
         // [ , , , , , , , , , , , , , , , , , , , , , , ]
         assertThat( tracker.removeTimesLowerThanAndReturnHighestRemoved( Long.MAX_VALUE ), is( -1L ) );
     }
+
+    @Test
+    public void shouldRemoveTimesInAscendingOrderWhenPrimitiveHeapGrows()
+    {
+        // Given
+        CompletionTimeStateManager.CompletedTimeTracker tracker =
+                new CompletionTimeStateManager.PrimitiveCompletedTimeTracker();
+        Random random = new Random( 42 );
+        List<Long> times = new ArrayList<>();
+        for ( int i = 0; i < 10000; i++ )
+        {
+            long time = random.nextInt( 5000 );
+            times.add( time );
+            tracker.addCompletedTimeAsMilli( time );
+        }
+        Collections.sort( times );
+
+        // When/Then
+        int removed = 0;
+        for ( long timeAsMilli = 0; timeAsMilli <= 5000; timeAsMilli += 100 )
+        {
+            long expectedHighestRemovedAsMilli = -1;
+            while ( removed < times.size() && times.get( removed ) < timeAsMilli )
+            {
+                expectedHighestRemovedAsMilli = times.get( removed++ );
+            }
+            assertThat( tracker.removeTimesLowerThanAndReturnHighestRemoved( timeAsMilli ),
+                    equalTo( expectedHighestRemovedAsMilli ) );
+        }
+        assertThat( removed, equalTo( times.size() ) );
+    }
 }
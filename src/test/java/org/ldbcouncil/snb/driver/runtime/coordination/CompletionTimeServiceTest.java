@@ -5,9 +5,11 @@ import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
 import org.ldbcouncil.snb.driver.temporal.TimeSource;
 import org.junit.Test;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -54,6 +56,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldBehavePredictablyAfterInstantiationWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            shouldBehavePredictablyAfterInstantiation( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     private void shouldBehavePredictablyAfterInstantiation( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
     {
@@ -108,6 +129,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldAdvanceCtWhenWriterSubmitInitiatedAndCompletedTimesWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            shouldAdvanceCtWhenWriterSubmitInitiatedAndCompletedTimes( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     private void shouldAdvanceCtWhenWriterSubmitInitiatedAndCompletedTimes(
             CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -168,6 +208,24 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnAllWritersWithLockFreeImplementation() throws CompletionTimeException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            shouldReturnAllWriters( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     private void shouldReturnAllWriters( CompletionTimeService cts ) throws CompletionTimeException
     {
         // Given
@@ -230,6 +288,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenNoITNoCTWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            doShouldReturnNullWhenNoITNoCT( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     // IT = none, CT = none --> null
     private void doShouldReturnNullWhenNoITNoCT( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -283,6 +360,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenSomeITAndNoCTWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            doShouldReturnNullWhenSomeITAndNoCT( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     // IT = some, CT = none --> null
     private void doShouldReturnNullWhenSomeITAndNoCT( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -337,6 +433,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenSomeITAndSomeCTWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            doShouldReturnNullWhenSomeITAndSomeCT( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     //  IT = some, CT = some --> null
     private void doShouldReturnNullWhenSomeITAndSomeCT( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -392,6 +507,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWhen( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     private void doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWhen( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
     {
@@ -551,6 +685,32 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimesWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimes( cts );
+        }
+        finally
+        {
+            try
+            {
+                cts.shutdown();
+            }
+            catch ( Throwable e )
+            {
+                // do nothing, exception is expected because test was trying to force an error
+            }
+        }
+    }
+
     private void doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimes( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
     {
@@ -629,4 +789,130 @@ public class CompletionTimeServiceTest
         ctWriter.submitInitiatedTime( 6000L );
         assertThat( cts.completionTimeAsMilliFuture().get( 1, TimeUnit.SECONDS ), is( 5000L ) );
     }
+
+    @Test
+    public void shouldNotifyWaitersWhenCtAdvancesWithSynchronizedImplementation()
+            throws CompletionTimeException, InterruptedException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService();
+
+        // Then
+        try
+        {
+            shouldNotifyWaitersWhenCtAdvances( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldNotifyWaitersWhenCtAdvancesWithThreadedImplementation()
+            throws CompletionTimeException, InterruptedException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService( timeSource, errorReporter );
+
+        // Then
+        try
+        {
+            shouldNotifyWaitersWhenCtAdvances( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldNotifyWaitersWhenCtAdvancesWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            shouldNotifyWaitersWhenCtAdvances( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    private void shouldNotifyWaitersWhenCtAdvances( CompletionTimeService cts )
+            throws CompletionTimeException, InterruptedException
+    {
+        // Given
+        CompletionTimeWriter writer = cts.newCompletionTimeWriter();
+        final CountDownLatch waiterFor1 = new CountDownLatch( 1 );
+        final CountDownLatch waiterFor5 = new CountDownLatch( 1 );
+        final AtomicLong notifiedCompletionTimeFor1 = new AtomicLong( -1 );
+        cts.notifyWhenCompletionTimeReaches( 1L, new CompletionTimeWaiter()
+        {
+            @Override
+            public void completionTimeReached( long completionTimeAsMilli )
+            {
+                notifiedCompletionTimeFor1.set( completionTimeAsMilli );
+                waiterFor1.countDown();
+            }
+        } );
+        cts.notifyWhenCompletionTimeReaches( 5L, new CompletionTimeWaiter()
+        {
+            @Override
+            public void completionTimeReached( long completionTimeAsMilli )
+            {
+                waiterFor5.countDown();
+            }
+        } );
+
+        // When
+        writer.submitInitiatedTime( 1L );
+        writer.submitCompletedTime( 1L );
+        writer.submitInitiatedTime( 2L );
+
+        // Then
+        assertThat( waiterFor1.await( 1, TimeUnit.SECONDS ), is( true ) );
+        assertThat( notifiedCompletionTimeFor1.get(), is( 1L ) );
+        assertThat( cts.completionTimeAsMilli(), is( 1L ) );
+        assertThat( waiterFor5.await( 100, TimeUnit.MILLISECONDS ), is( false ) );
+
+        // When
+        writer.submitCompletedTime( 2L );
+        writer.submitInitiatedTime( 6L );
+
+        // Then
+        assertThat( waiterFor5.await( 100, TimeUnit.MILLISECONDS ), is( false ) );
+
+        // When
+        writer.submitCompletedTime( 6L );
+        writer.submitInitiatedTime( 7L );
+
+        // Then
+        assertThat( waiterFor5.await( 1, TimeUnit.SECONDS ), is( true ) );
+
+        // When
+        final CountDownLatch lateWaiter = new CountDownLatch( 1 );
+        cts.notifyWhenCompletionTimeReaches( 3L, new CompletionTimeWaiter()
+        {
+            @Override
+            public void completionTimeReached( long completionTimeAsMilli )
+            {
+                lateWaiter.countDown();
+            }
+        } );
+
+        // Then
+        // CT had already been reached at registration
+        assertThat( lateWaiter.getCount(), is( 0L ) );
+    }
 }
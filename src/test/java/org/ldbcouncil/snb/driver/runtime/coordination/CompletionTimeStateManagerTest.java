@@ -2,6 +2,11 @@ package org.ldbcouncil.snb.driver.runtime.coordination;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -802,4 +807,56 @@ public class CompletionTimeStateManagerTest
         completionTimeStateManager.submitInitiatedTime( 6000L );
         assertThat( completionTimeStateManager.completionTimeAsMilli(), is( 5000L ) );
     }
+
+    @Test
+    public void shouldComputeSameCompletionTimeWithAllTrackerTypes() throws CompletionTimeException
+    {
+        // Given
+        List<CompletionTimeStateManager> completionTimeStateManagers = new ArrayList<>();
+        for ( CompletionTimeTrackerType trackerType : CompletionTimeTrackerType.values() )
+        {
+            completionTimeStateManagers.add( new CompletionTimeStateManager( trackerType ) );
+        }
+        Random random = new Random( 42 );
+        List<Long> uncompletedTimes = new ArrayList<>();
+        long initiatedTimeAsMilli = 0;
+
+        // When / Then
+        for ( int i = 0; i < 20000; i++ )
+        {
+            boolean initiate = uncompletedTimes.isEmpty() || random.nextInt( 100 ) < 55;
+            long timeAsMilli;
+            if ( initiate )
+            {
+                // duplicate initiated times are common
+                initiatedTimeAsMilli += random.nextInt( 3 );
+                timeAsMilli = initiatedTimeAsMilli;
+                uncompletedTimes.add( timeAsMilli );
+            }
+            else
+            {
+                // completed times arrive in any order
+                timeAsMilli = uncompletedTimes.remove( random.nextInt( uncompletedTimes.size() ) );
+            }
+            for ( CompletionTimeStateManager completionTimeStateManager : completionTimeStateManagers )
+            {
+                if ( initiate )
+                {
+                    completionTimeStateManager.submitInitiatedTime( timeAsMilli );
+                }
+                else
+                {
+                    completionTimeStateManager.submitCompletedTime( timeAsMilli );
+                }
+            }
+            CompletionTimeStateManager expected = completionTimeStateManagers.get( 0 );
+            for ( CompletionTimeStateManager completionTimeStateManager : completionTimeStateManagers )
+            {
+                assertThat( completionTimeStateManager.completionTimeAsMilli(),
+                        equalTo( expected.completionTimeAsMilli() ) );
+                assertThat( completionTimeStateManager.lastKnownLowestInitiatedTimeAsMilli(),
+                        equalTo( expected.lastKnownLowestInitiatedTimeAsMilli() ) );
+            }
+        }
+    }
 }
@@ -0,0 +1,144 @@
+package org.ldbcouncil.snb.driver.runtime.coordination;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class CompletionTimeWaiterQueueTest
+{
+    @Test
+    public void shouldReleaseWaitersInOrderOfAwaitedCompletionTime()
+    {
+        // Given
+        CompletionTimeWaiterQueue waiterQueue = new CompletionTimeWaiterQueue();
+        List<Long> released = new ArrayList<>();
+        waiterQueue.notifyWhenCompletionTimeReaches( 30, new RecordingWaiter( 30, released ) );
+        waiterQueue.notifyWhenCompletionTimeReaches( 10, new RecordingWaiter( 10, released ) );
+        waiterQueue.notifyWhenCompletionTimeReaches( 20, new RecordingWaiter( 20, released ) );
+        waiterQueue.notifyWhenCompletionTimeReaches( 20, new RecordingWaiter( 20, released ) );
+
+        // When/Then
+        waiterQueue.completionTimeAdvanced( 9 );
+        assertThat( released.size(), equalTo( 0 ) );
+        assertThat( waiterQueue.size(), equalTo( 4 ) );
+
+        waiterQueue.completionTimeAdvanced( 20 );
+        assertThat( released.size(), equalTo( 3 ) );
+        assertThat( released.get( 0 ), equalTo( 10L ) );
+        assertThat( released.get( 1 ), equalTo( 20L ) );
+        assertThat( released.get( 2 ), equalTo( 20L ) );
+        assertThat( waiterQueue.size(), equalTo( 1 ) );
+
+        waiterQueue.completionTimeAdvanced( 100 );
+        assertThat( released.size(), equalTo( 4 ) );
+        assertThat( released.get( 3 ), equalTo( 30L ) );
+        assertThat( waiterQueue.size(), equalTo( 0 ) );
+    }
+
+    @Test
+    public void shouldReleaseWaiterImmediatelyIfCompletionTimeHasAlreadyBeenReached()
+    {
+        // Given
+        CompletionTimeWaiterQueue waiterQueue = new CompletionTimeWaiterQueue();
+        List<Long> released = new ArrayList<>();
+        waiterQueue.completionTimeAdvanced( 50 );
+
+        // When
+        waiterQueue.notifyWhenCompletionTimeReaches( 50, new RecordingWaiter( 50, released ) );
+        waiterQueue.notifyWhenCompletionTimeReaches( 51, new RecordingWaiter( 51, released ) );
+
+        // Then
+        assertThat( released.size(), equalTo( 1 ) );
+        assertThat( released.get( 0 ), equalTo( 50L ) );
+        assertThat( waiterQueue.size(), equalTo( 1 ) );
+    }
+
+    @Test
+    public void shouldNotNotifyCancelledWaiter()
+    {
+        // Given
+        CompletionTimeWaiterQueue waiterQueue = new CompletionTimeWaiterQueue();
+        List<Long> released = new ArrayList<>();
+        RecordingWaiter cancelledWaiter = new RecordingWaiter( 10, released );
+        waiterQueue.notifyWhenCompletionTimeReaches( 10, cancelledWaiter );
+        waiterQueue.notifyWhenCompletionTimeReaches( 20, new RecordingWaiter( 20, released ) );
+
+        // When
+        waiterQueue.cancelNotification( cancelledWaiter );
+        // already cancelled, does nothing
+        waiterQueue.cancelNotification( cancelledWaiter );
+
+        // Then
+        assertThat( waiterQueue.size(), equalTo( 1 ) );
+        waiterQueue.completionTimeAdvanced( 20 );
+        assertThat( released.size(), equalTo( 1 ) );
+        assertThat( released.get( 0 ), equalTo( 20L ) );
+        assertThat( waiterQueue.size(), equalTo( 0 ) );
+    }
+
+    @Test
+    public void shouldNotMissWakeupsWhenRegisteringConcurrentlyWithAdvancingCompletionTime() throws Exception
+    {
+        // Given
+        final CompletionTimeWaiterQueue waiterQueue = new CompletionTimeWaiterQueue();
+        final long maxCompletionTimeAsMilli = 100_000;
+        final List<Long> released = new ArrayList<>();
+        Thread advancingThread = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                for ( long completionTimeAsMilli = 0; completionTimeAsMilli <= maxCompletionTimeAsMilli;
+                        completionTimeAsMilli++ )
+                {
+                    waiterQueue.completionTimeAdvanced( completionTimeAsMilli );
+                }
+            }
+        };
+
+        // When
+        advancingThread.start();
+        int waiterCount = 0;
+        for ( long awaitedTimeAsMilli = 0; awaitedTimeAsMilli <= maxCompletionTimeAsMilli; awaitedTimeAsMilli += 7 )
+        {
+            waiterQueue.notifyWhenCompletionTimeReaches( awaitedTimeAsMilli,
+                    new RecordingWaiter( awaitedTimeAsMilli, released ) );
+            waiterCount++;
+        }
+        advancingThread.join();
+
+        // Then
+        synchronized ( released )
+        {
+            assertThat( released.size(), equalTo( waiterCount ) );
+        }
+        assertThat( waiterQueue.size(), is( 0 ) );
+    }
+
+    private static class RecordingWaiter implements CompletionTimeWaiter
+    {
+        private final long awaitedTimeAsMilli;
+        private final List<Long> released;
+
+        private RecordingWaiter( long awaitedTimeAsMilli, List<Long> released )
+        {
+            this.awaitedTimeAsMilli = awaitedTimeAsMilli;
+            this.released = released;
+        }
+
+        @Override
+        public void completionTimeReached( long completionTimeAsMilli )
+        {
+            assertThat( completionTimeAsMilli >= awaitedTimeAsMilli, is( true ) );
+            synchronized ( released )
+            {
+                released.add( awaitedTimeAsMilli );
+            }
+        }
+    }
+}
@@ -22,6 +22,12 @@ public class InitiatedTimeTrackerTest
         shouldReturnNullsWhenNoTimesHaveBeenSubmitted( InitiatedTimeTrackerImpl.createUsingArrayList() );
     }
 
+    @Test
+    public void shouldReturnNullsWhenNoTimesHaveBeenSubmitted_PrimitiveImplementation()
+    {
+        shouldReturnNullsWhenNoTimesHaveBeenSubmitted( new CompletionTimeStateManager.PrimitiveInitiatedTimeTracker() );
+    }
+
     private void shouldReturnNullsWhenNoTimesHaveBeenSubmitted( CompletionTimeStateManager.InitiatedTimeTracker
             tracker )
     {
@@ -58,6 +64,43 @@ public class InitiatedTimeTrackerTest
         shouldBehaveAsExpectedUnderScenario1( InitiatedTimeTrackerImpl.createUsingArrayList() );
     }
 
+    @Test
+    public void shouldBehaveAsExpectedUnderScenario1_PrimitiveImplementation() throws CompletionTimeException
+    {
+        shouldBehaveAsExpectedUnderScenario1( new CompletionTimeStateManager.PrimitiveInitiatedTimeTracker() );
+    }
+
+    @Test
+    public void shouldTrackLowestUncompletedTimeWhenPrimitiveImplementationWrapsAndGrows()
+            throws CompletionTimeException
+    {
+        // Given
+        CompletionTimeStateManager.InitiatedTimeTracker tracker =
+                new CompletionTimeStateManager.PrimitiveInitiatedTimeTracker();
+        long nextInitiatedTimeAsMilli = 0;
+        long lowestUncompletedTimeAsMilli = 0;
+
+        // When/Then
+        // keep a sliding window of uncompleted times, which wraps around ring buffer, then outgrows it
+        for ( int windowSize = 10; windowSize <= 10000; windowSize *= 10 )
+        {
+            for ( int i = 0; i < 3000; i++ )
+            {
+                tracker.addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli( nextInitiatedTimeAsMilli++ );
+                while ( tracker.uncompletedInitiatedTimes() > windowSize )
+                {
+                    // complete second lowest time first, lowest does not change until it is completed too
+                    assertThat( tracker.removeTimeAndReturnLastKnownLowestTimeAsMilli(
+                            lowestUncompletedTimeAsMilli + 1 ), equalTo( lowestUncompletedTimeAsMilli ) );
+                    assertThat( tracker.removeTimeAndReturnLastKnownLowestTimeAsMilli(
+                            lowestUncompletedTimeAsMilli ), equalTo( lowestUncompletedTimeAsMilli + 2 ) );
+                    lowestUncompletedTimeAsMilli += 2;
+                }
+            }
+        }
+        assertThat( tracker.highestInitiatedTimeAsMilli(), equalTo( nextInitiatedTimeAsMilli - 1 ) );
+    }
+
     private void shouldBehaveAsExpectedUnderScenario1( CompletionTimeStateManager.InitiatedTimeTracker tracker )
             throws CompletionTimeException
     {
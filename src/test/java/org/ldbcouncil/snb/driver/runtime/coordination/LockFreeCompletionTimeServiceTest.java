@@ -0,0 +1,182 @@
+package org.ldbcouncil.snb.driver.runtime.coordination;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class LockFreeCompletionTimeServiceTest
+{
+    @Test( expected = CompletionTimeException.class )
+    public void shouldRejectRingBufferCapacityThatIsNotPowerOfTwo() throws CompletionTimeException
+    {
+        new LockFreeCompletionTimeService( 6 );
+    }
+
+    @Test
+    public void shouldAdvanceCtAcrossRingBufferWrapAround() throws CompletionTimeException
+    {
+        // Given
+        LockFreeCompletionTimeService cts = new LockFreeCompletionTimeService( 4 );
+        CompletionTimeWriter writer = cts.newCompletionTimeWriter();
+
+        // When/Then
+        for ( long time = 0; time < 20; time++ )
+        {
+            writer.submitInitiatedTime( time );
+            writer.submitInitiatedTime( time );
+            writer.submitCompletedTime( time );
+            writer.submitCompletedTime( time );
+            // completion time must be lower than lowest initiated time, which is the last initiated time
+            assertThat( cts.completionTimeAsMilli(), equalTo( time - 1 ) );
+            assertThat( cts.lastKnownLowestInitiatedTimeAsMilli(), equalTo( time ) );
+        }
+        cts.shutdown();
+    }
+
+    @Test
+    public void shouldHoldCtBelowLowestUncompletedInitiatedTimeOfAllWriters() throws CompletionTimeException
+    {
+        // Given
+        LockFreeCompletionTimeService cts = new LockFreeCompletionTimeService( 8 );
+        CompletionTimeWriter writer1 = cts.newCompletionTimeWriter();
+        CompletionTimeWriter writer2 = cts.newCompletionTimeWriter();
+
+        // When/Then
+        writer1.submitInitiatedTime( 1 );
+        writer1.submitInitiatedTime( 2 );
+        writer1.submitInitiatedTime( 3 );
+        writer1.submitCompletedTime( 1 );
+        writer1.submitCompletedTime( 2 );
+        // writer 2 has no initiated times yet
+        assertThat( cts.completionTimeAsMilli(), equalTo( -1L ) );
+
+        // completed times of writer 1 are not lower than lowest initiated time of writer 2
+        writer2.submitInitiatedTime( 2 );
+        assertThat( cts.completionTimeAsMilli(), equalTo( -1L ) );
+        assertThat( cts.lastKnownLowestInitiatedTimeAsMilli(), equalTo( 2L ) );
+
+        writer2.submitCompletedTime( 2 );
+        writer2.submitInitiatedTime( 4 );
+        assertThat( cts.completionTimeAsMilli(), equalTo( 2L ) );
+        assertThat( cts.lastKnownLowestInitiatedTimeAsMilli(), equalTo( 3L ) );
+
+        // out of order completion does not advance completion time past uncompleted initiated time
+        writer2.submitInitiatedTime( 5 );
+        writer2.submitCompletedTime( 5 );
+        assertThat( cts.completionTimeAsMilli(), equalTo( 2L ) );
+
+        writer1.submitCompletedTime( 3 );
+        writer1.submitInitiatedTime( 6 );
+        assertThat( cts.completionTimeAsMilli(), equalTo( 3L ) );
+        // completion time of writer 2 must be lower than its last initiated time
+        writer2.submitCompletedTime( 4 );
+        assertThat( cts.completionTimeAsMilli(), equalTo( 4L ) );
+        assertThat( cts.lastKnownLowestInitiatedTimeAsMilli(), equalTo( 5L ) );
+        cts.shutdown();
+    }
+
+    @Test( expected = CompletionTimeException.class )
+    public void shouldRejectDecreasingInitiatedTime() throws CompletionTimeException
+    {
+        LockFreeCompletionTimeService cts = new LockFreeCompletionTimeService( 8 );
+        CompletionTimeWriter writer = cts.newCompletionTimeWriter();
+        writer.submitInitiatedTime( 2 );
+        writer.submitInitiatedTime( 1 );
+    }
+
+    @Test( expected = CompletionTimeException.class )
+    public void shouldRejectCompletedTimeWithoutUncompletedInitiatedTime() throws CompletionTimeException
+    {
+        LockFreeCompletionTimeService cts = new LockFreeCompletionTimeService( 8 );
+        CompletionTimeWriter writer = cts.newCompletionTimeWriter();
+        writer.submitInitiatedTime( 1 );
+        writer.submitCompletedTime( 1 );
+        writer.submitCompletedTime( 1 );
+    }
+
+    @Test( expected = CompletionTimeException.class )
+    public void shouldRejectInitiatedTimeAfterShutdown() throws CompletionTimeException
+    {
+        LockFreeCompletionTimeService cts = new LockFreeCompletionTimeService( 8 );
+        CompletionTimeWriter writer = cts.newCompletionTimeWriter();
+        cts.shutdown();
+        writer.submitInitiatedTime( 1 );
+    }
+
+    @Test
+    public void shouldComputeCtWhenCompletedTimesAreSubmittedConcurrently() throws Exception
+    {
+        // Given
+        final int writerCount = 4;
+        final int completingThreadCount = 8;
+        final long timesPerWriter = 100_000;
+        final LockFreeCompletionTimeService cts = new LockFreeCompletionTimeService( 64 );
+        List<CompletionTimeWriter> writers = new ArrayList<>();
+        for ( int i = 0; i < writerCount; i++ )
+        {
+            writers.add( cts.newCompletionTimeWriter() );
+        }
+        ExecutorService completingThreads = Executors.newFixedThreadPool( completingThreadCount );
+        ExecutorService initiatingThreads = Executors.newFixedThreadPool( writerCount );
+
+        // When
+        List<Future<Long>> futures = new ArrayList<>();
+        for ( final CompletionTimeWriter writer : writers )
+        {
+            futures.add( initiatingThreads.submit( new Callable<Long>()
+            {
+                @Override
+                public Long call() throws Exception
+                {
+                    List<Future<?>> completions = new ArrayList<>();
+                    for ( long time = 0; time < timesPerWriter; time++ )
+                    {
+                        // every time is initiated twice, duplicates complete in any order
+                        final long initiatedTime = time / 2;
+                        writer.submitInitiatedTime( initiatedTime );
+                        completions.add( completingThreads.submit( new Callable<Long>()
+                        {
+                            @Override
+                            public Long call() throws Exception
+                            {
+                                writer.submitCompletedTime( initiatedTime );
+                                return initiatedTime;
+                            }
+                        } ) );
+                    }
+                    for ( Future<?> completion : completions )
+                    {
+                        completion.get();
+                    }
+                    return timesPerWriter;
+                }
+            } ) );
+        }
+        for ( Future<Long> future : futures )
+        {
+            assertThat( future.get(), is( timesPerWriter ) );
+        }
+        completingThreads.shutdown();
+        initiatingThreads.shutdown();
+
+        // Then
+        long lastInitiatedTime = (timesPerWriter - 1) / 2;
+        assertThat( cts.lastKnownLowestInitiatedTimeAsMilli(), equalTo( lastInitiatedTime ) );
+        assertThat( cts.completionTimeAsMilli(), equalTo( lastInitiatedTime - 1 ) );
+        for ( CompletionTimeWriter writer : writers )
+        {
+            writer.submitInitiatedTime( lastInitiatedTime + 1 );
+        }
+        assertThat( cts.completionTimeAsMilli(), equalTo( lastInitiatedTime ) );
+        cts.shutdown();
+    }
+}
@@ -0,0 +1,190 @@
+package org.ldbcouncil.snb.driver.runtime.coordination;
+
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ShardedCompletionTimeServiceTest
+{
+    private static final long TIMEOUT_AS_MILLI = TimeUnit.SECONDS.toMillis( 10 );
+    private final TimeSource timeSource = new SystemTimeSource();
+    private ExecutorService executorService;
+    private int port;
+
+    @Before
+    public void findFreePort() throws IOException
+    {
+        executorService = Executors.newCachedThreadPool();
+        try ( ServerSocket serverSocket = new ServerSocket( 0 ) )
+        {
+            port = serverSocket.getLocalPort();
+        }
+    }
+
+    @After
+    public void shutdownExecutorService()
+    {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void shouldReportLowestCompletionTimeOfAllShardsUntilTheyFinish() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        final CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        final CompletionTimeService localService0 = assistant.newSynchronizedCompletionTimeService();
+        final CompletionTimeService localService1 = assistant.newSynchronizedCompletionTimeService();
+        CompletionTimeWriter writer0 = localService0.newCompletionTimeWriter();
+        CompletionTimeWriter writer1 = localService1.newCompletionTimeWriter();
+
+        // When
+        Future<ShardedCompletionTimeService> shard1Future =
+                executorService.submit( join( assistant, localService1, 1, 2, errorReporter ) );
+        ShardedCompletionTimeService shard0 = join( assistant, localService0, 0, 2, errorReporter ).call();
+        ShardedCompletionTimeService shard1 = shard1Future.get();
+
+        // Then
+        assertThat( shard0.workloadStartTimeAsMilli(), equalTo( shard1.workloadStartTimeAsMilli() ) );
+        assertThat( shard0.completionTimeAsMilli(), equalTo( -1L ) );
+
+        writer0.submitInitiatedTime( 10 );
+        writer0.submitCompletedTime( 10 );
+        writer0.submitInitiatedTime( 20 );
+        writer1.submitInitiatedTime( 5 );
+        writer1.submitCompletedTime( 5 );
+        writer1.submitInitiatedTime( 6 );
+        assertThat( localService0.completionTimeAsMilli(), equalTo( 10L ) );
+        assertThat( localService1.completionTimeAsMilli(), equalTo( 5L ) );
+        awaitCompletionTime( shard0, 5 );
+        awaitCompletionTime( shard1, 5 );
+
+        // released once global completion time reaches 10, which requires progress of shard 1
+        final AtomicLong releasedAtCompletionTimeAsMilli = new AtomicLong( -1 );
+        shard0.notifyWhenCompletionTimeReaches( 10, new CompletionTimeWaiter()
+        {
+            @Override
+            public void completionTimeReached( long completionTimeAsMilli )
+            {
+                releasedAtCompletionTimeAsMilli.set( completionTimeAsMilli );
+            }
+        } );
+        assertThat( releasedAtCompletionTimeAsMilli.get(), equalTo( -1L ) );
+
+        // finished shard no longer holds back completion time of other shards
+        shard1.shutdown();
+        awaitCompletionTime( shard0, 10 );
+        long deadlineAsMilli = timeSource.nowAsMilli() + TIMEOUT_AS_MILLI;
+        while ( -1 == releasedAtCompletionTimeAsMilli.get() && timeSource.nowAsMilli() < deadlineAsMilli )
+        {
+            Thread.sleep( 10 );
+        }
+        assertThat( releasedAtCompletionTimeAsMilli.get(), equalTo( 10L ) );
+
+        shard0.shutdown();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void shouldRejectShardThatHasAlreadyJoinedAndFailCoordination() throws Exception
+    {
+        // Given
+        final ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        final CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        final CompletionTimeCoordinator coordinator = new CompletionTimeCoordinator( port, 2, 0, timeSource );
+        Future<ShardedCompletionTimeService> shard0Future = executorService.submit(
+                new Callable<ShardedCompletionTimeService>()
+                {
+                    @Override
+                    public ShardedCompletionTimeService call() throws Exception
+                    {
+                        return new ShardedCompletionTimeService( assistant.newSynchronizedCompletionTimeService(),
+                                null, new InetSocketAddress( "localhost", port ), 0, 2, TIMEOUT_AS_MILLI,
+                                errorReporter );
+                    }
+                } );
+
+        // When
+        Thread.sleep( 500 );
+        try
+        {
+            new ShardedCompletionTimeService( assistant.newSynchronizedCompletionTimeService(), null,
+                    new InetSocketAddress( "localhost", port ), 0, 2, TIMEOUT_AS_MILLI, errorReporter );
+            fail( "Expected shard that has already joined to be rejected" );
+        }
+        catch ( CompletionTimeException e )
+        {
+            // expected
+        }
+
+        // Then
+        coordinator.stopAccepting();
+        try
+        {
+            shard0Future.get();
+            fail( "Expected shard to fail joining when not all shards joined" );
+        }
+        catch ( ExecutionException e )
+        {
+            assertThat( e.getCause() instanceof CompletionTimeException, is( true ) );
+        }
+        try
+        {
+            coordinator.shutdown();
+            fail( "Expected coordinator to report failure" );
+        }
+        catch ( CompletionTimeException e )
+        {
+            // expected
+        }
+    }
+
+    private Callable<ShardedCompletionTimeService> join(
+            final CompletionTimeServiceAssistant assistant,
+            final CompletionTimeService localService,
+            final int shardIndex,
+            final int shardCount,
+            final ConcurrentErrorReporter errorReporter )
+    {
+        return new Callable<ShardedCompletionTimeService>()
+        {
+            @Override
+            public ShardedCompletionTimeService call() throws Exception
+            {
+                return assistant.newShardedCompletionTimeService( localService, "localhost:" + port, shardIndex,
+                        shardCount, 0, timeSource, errorReporter );
+            }
+        };
+    }
+
+    private void awaitCompletionTime( CompletionTimeService completionTimeService, long completionTimeAsMilli )
+            throws Exception
+    {
+        long deadlineAsMilli = timeSource.nowAsMilli() + TIMEOUT_AS_MILLI;
+        while ( completionTimeService.completionTimeAsMilli() != completionTimeAsMilli &&
+                timeSource.nowAsMilli() < deadlineAsMilli )
+        {
+            Thread.sleep( 10 );
+        }
+        assertThat( completionTimeService.completionTimeAsMilli(), equalTo( completionTimeAsMilli ) );
+    }
+}
@@ -0,0 +1,181 @@
+package org.ldbcouncil.snb.driver.runtime.executor;
+
+import org.ldbcouncil.snb.driver.Db;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.WorkloadStreams;
+import org.ldbcouncil.snb.driver.control.Log4jLoggingServiceFactory;
+import org.ldbcouncil.snb.driver.control.LoggingService;
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.runtime.coordination.DummyCompletionTimeReader;
+import org.ldbcouncil.snb.driver.runtime.coordination.DummyCompletionTimeWriter;
+import org.ldbcouncil.snb.driver.runtime.metrics.DummyCountingMetricsService;
+import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
+import org.ldbcouncil.snb.driver.runtime.scheduling.WaitStrategies;
+import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.ldbcouncil.snb.driver.workloads.dummy.AsyncDummyDb;
+import org.ldbcouncil.snb.driver.workloads.dummy.DummyDb;
+import org.ldbcouncil.snb.driver.workloads.dummy.DummyWorkload;
+import org.ldbcouncil.snb.driver.workloads.dummy.NothingOperation;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class DisruptorOperationExecutorTest
+{
+    private final TimeSource timeSource = new SystemTimeSource();
+
+    @Test
+    public void shouldRoundRingBufferSizeUpToPowerOfTwo()
+    {
+        assertThat( DisruptorOperationExecutor.ringBufferSizeFor( 0 ), equalTo( 1 ) );
+        assertThat( DisruptorOperationExecutor.ringBufferSizeFor( 1 ), equalTo( 1 ) );
+        assertThat( DisruptorOperationExecutor.ringBufferSizeFor( 2 ), equalTo( 2 ) );
+        assertThat( DisruptorOperationExecutor.ringBufferSizeFor( 3 ), equalTo( 4 ) );
+        assertThat( DisruptorOperationExecutor.ringBufferSizeFor( 1000 ), equalTo( 1024 ) );
+        assertThat( DisruptorOperationExecutor.ringBufferSizeFor( 1024 ), equalTo( 1024 ) );
+    }
+
+    @Test
+    public void executorShouldExecuteAllOperationsWithEveryWaitStrategy() throws Exception
+    {
+        for ( WaitStrategies.WaitStrategyType waitStrategyType : WaitStrategies.WaitStrategyType.values() )
+        {
+            // Given
+            ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+            DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+            // ring buffer smaller than operation count, submission must block while it is full
+            OperationExecutor executor = executor( 4, 16, waitStrategyType, dummyDb(), errorReporter, metricsService );
+            long startTimeAsMilli = timeSource.nowAsMilli();
+            int operationCount = 1000;
+
+            // When
+            for ( int i = 0; i < operationCount; i++ )
+            {
+                executor.execute( nothingOperation( startTimeAsMilli + i / 100 ) );
+            }
+            executor.shutdown( 5000L );
+
+            // Then
+            assertThat( waitStrategyType.name(), metricsService.count(), is( (long) operationCount ) );
+            assertThat( executor.uncompletedOperationHandlerCount(), is( 0L ) );
+            assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        }
+    }
+
+    @Test
+    public void executorShouldReleaseWorkerWhileAsynchronousHandlerIsInFlight() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        long completionDelayAsMilli = 200;
+        Map<String,String> params = new HashMap<>();
+        params.put( AsyncDummyDb.COMPLETION_DELAY_AS_MILLI_ARG, Long.toString( completionDelayAsMilli ) );
+        Db db = new AsyncDummyDb();
+        db.init( params, loggingService(), DummyWorkload.OPERATION_TYPE_CLASS_MAPPING );
+        OperationExecutor executor =
+                executor( 1, 64, WaitStrategies.WaitStrategyType.SLEEP, db, errorReporter, metricsService );
+        int operationCount = 20;
+        long startTimeAsMilli = timeSource.nowAsMilli();
+
+        // When
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            executor.execute( nothingOperation( startTimeAsMilli ) );
+        }
+        // shutdown waits for in-flight asynchronous handlers
+        executor.shutdown( 5000L );
+        long durationAsMilli = timeSource.nowAsMilli() - startTimeAsMilli;
+
+        // Then
+        assertThat( metricsService.count(), is( (long) operationCount ) );
+        // single worker executing operations one after the other would take operationCount * completionDelayAsMilli
+        assertThat( durationAsMilli < operationCount * completionDelayAsMilli / 2, is( true ) );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        db.close();
+    }
+
+    @Test( expected = OperationExecutorException.class )
+    public void executorShouldThrowExceptionIfShutdownMultipleTimes() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        OperationExecutor executor = executor(
+                1,
+                16,
+                WaitStrategies.WaitStrategyType.SLEEP,
+                dummyDb(),
+                errorReporter,
+                new DummyCountingMetricsService() );
+        executor.execute( nothingOperation( timeSource.nowAsMilli() ) );
+        executor.shutdown( 1000L );
+
+        // When/Then
+        executor.shutdown( 1000L );
+    }
+
+    private LoggingService loggingService()
+    {
+        return new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+    }
+
+    private Db dummyDb() throws Exception
+    {
+        Db db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService(),
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+        return db;
+    }
+
+    private OperationExecutor executor( int threadCount,
+            int ringBufferSize,
+            WaitStrategies.WaitStrategyType waitStrategyType,
+            Db db,
+            ConcurrentErrorReporter errorReporter,
+            DummyCountingMetricsService metricsService )
+    {
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        return new DisruptorOperationExecutor(
+                threadCount,
+                ringBufferSize,
+                waitStrategyType,
+                db,
+                streamDefinition,
+                new DummyCompletionTimeWriter(),
+                dummyCompletionTimeReader,
+                new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, false ),
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+    }
+
+    private Operation nothingOperation( long scheduledStartTimeAsMilli )
+    {
+        Operation operation = new NothingOperation();
+        operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+        operation.setTimeStamp( scheduledStartTimeAsMilli );
+        operation.setDependencyTimeStamp( 0L );
+        return operation;
+    }
+}
@@ -14,6 +14,7 @@ import org.ldbcouncil.snb.driver.runtime.metrics.DummyCountingMetricsService;
 import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
 import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
 import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.ldbcouncil.snb.driver.workloads.dummy.AsyncDummyDb;
 import org.ldbcouncil.snb.driver.workloads.dummy.DummyDb;
 import org.ldbcouncil.snb.driver.workloads.dummy.DummyWorkload;
 import org.ldbcouncil.snb.driver.workloads.dummy.NothingOperation;
@@ -22,6 +23,7 @@ import org.junit.Test;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -164,6 +166,78 @@ public class ThreadPoolOperationExecutorTest
         assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
     }
 
+    @Test
+    public void executorShouldReleaseThreadWhileAsynchronousHandlerIsInFlight() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter();
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        long completionDelayAsMilli = 200;
+        Map<String,String> params = new HashMap<>();
+        params.put( AsyncDummyDb.COMPLETION_DELAY_AS_MILLI_ARG, Long.toString( completionDelayAsMilli ) );
+        Db db = new AsyncDummyDb();
+        db.init(
+                params,
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+
+        int threadCount = 1;
+        int boundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+
+        OperationExecutor executor = new ThreadPoolOperationExecutor(
+                threadCount,
+                boundedQueueSize,
+                db,
+                streamDefinition,
+                dummyCompletionTimeWriter,
+                dummyCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+
+        int operationCount = 20;
+        long startTimeAsMilli = timeSource.nowAsMilli();
+
+        // When
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            Operation operation = new NothingOperation();
+            operation.setScheduledStartTimeAsMilli( startTimeAsMilli );
+            operation.setTimeStamp( startTimeAsMilli );
+            operation.setDependencyTimeStamp( 0l );
+            executor.execute( operation );
+        }
+        // shutdown waits for in-flight asynchronous handlers
+        executor.shutdown( 5000l );
+        long durationAsMilli = timeSource.nowAsMilli() - startTimeAsMilli;
+
+        // Then
+        assertThat( metricsService.count(), is( (long) operationCount ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 0l ) );
+        // single thread executing operations one after the other would take operationCount * completionDelayAsMilli
+        assertThat( durationAsMilli < operationCount * completionDelayAsMilli / 2, is( true ) );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        db.close();
+    }
+
     @Test
     public void executorShouldThrowExceptionIfShutdownMultipleTimes() throws Exception
     {
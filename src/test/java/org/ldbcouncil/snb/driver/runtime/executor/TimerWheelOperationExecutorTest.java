@@ -0,0 +1,171 @@
+package org.ldbcouncil.snb.driver.runtime.executor;
+
+import org.ldbcouncil.snb.driver.Db;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.WorkloadStreams;
+import org.ldbcouncil.snb.driver.control.Log4jLoggingServiceFactory;
+import org.ldbcouncil.snb.driver.control.LoggingService;
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.runtime.DefaultQueues;
+import org.ldbcouncil.snb.driver.runtime.coordination.DummyCompletionTimeReader;
+import org.ldbcouncil.snb.driver.runtime.coordination.DummyCompletionTimeWriter;
+import org.ldbcouncil.snb.driver.runtime.metrics.DummyCountingMetricsService;
+import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
+import org.ldbcouncil.snb.driver.runtime.scheduling.WaitStrategies;
+import org.ldbcouncil.snb.driver.runtime.scheduling.WaitStrategy;
+import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.ldbcouncil.snb.driver.workloads.dummy.DummyDb;
+import org.ldbcouncil.snb.driver.workloads.dummy.DummyWorkload;
+import org.ldbcouncil.snb.driver.workloads.dummy.NothingOperation;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class TimerWheelOperationExecutorTest
+{
+    private final TimeSource timeSource = new SystemTimeSource();
+
+    @Test
+    public void executorShouldNotHandOperationsToWorkersBeforeTheyAreDue() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        OperationExecutor threadPoolExecutor = threadPoolExecutor( 1, errorReporter, metricsService );
+        OperationExecutor executor = timerWheelExecutor( threadPoolExecutor, errorReporter );
+
+        Operation operation = nothingOperation( timeSource.nowAsMilli() + 500 );
+
+        // When
+        executor.execute( operation );
+        Spinner.powerNap( 100 );
+
+        // Then
+        assertThat( executor.uncompletedOperationHandlerCount(), equalTo( 1L ) );
+        assertThat( threadPoolExecutor.uncompletedOperationHandlerCount(), equalTo( 0L ) );
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handler to finish
+            Spinner.powerNap( 100 );
+        }
+        assertThat( metricsService.count(), is( 1L ) );
+        assertThat( timeSource.nowAsMilli() >= operation.scheduledStartTimeAsMilli(), is( true ) );
+        executor.shutdown( 1000L );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void executorShouldExecuteAllOperationsIncludingThoseThatAreAlreadyDue() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        OperationExecutor executor = timerWheelExecutor(
+                threadPoolExecutor( 4, errorReporter, metricsService ),
+                errorReporter
+        );
+        long startTimeAsMilli = timeSource.nowAsMilli() - 100;
+        int operationCount = 2000;
+
+        // When
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            executor.execute( nothingOperation( startTimeAsMilli + i / 10 ) );
+        }
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handlers to finish
+            Spinner.powerNap( 100 );
+        }
+
+        // Then
+        assertThat( metricsService.count(), is( (long) operationCount ) );
+        executor.shutdown( 1000L );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test( expected = OperationExecutorException.class )
+    public void executorShouldThrowExceptionIfShutdownMultipleTimes() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        OperationExecutor executor = timerWheelExecutor(
+                threadPoolExecutor( 1, errorReporter, new DummyCountingMetricsService() ),
+                errorReporter
+        );
+        executor.execute( nothingOperation( timeSource.nowAsMilli() + 10 ) );
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handler to finish
+            Spinner.powerNap( 100 );
+        }
+        executor.shutdown( 1000L );
+
+        // When/Then
+        executor.shutdown( 1000L );
+    }
+
+    private OperationExecutor timerWheelExecutor( OperationExecutor delegate, ConcurrentErrorReporter errorReporter )
+    {
+        WaitStrategy waitStrategy = WaitStrategies.create( WaitStrategies.WaitStrategyType.PARK, 1 );
+        return new TimerWheelOperationExecutor(
+                delegate,
+                DefaultQueues.DEFAULT_BOUND_1000,
+                timeSource,
+                waitStrategy,
+                errorReporter
+        );
+    }
+
+    private OperationExecutor threadPoolExecutor( int threadCount,
+            ConcurrentErrorReporter errorReporter,
+            DummyCountingMetricsService metricsService ) throws Exception
+    {
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        Db db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+        return new ThreadPoolOperationExecutor(
+                threadCount,
+                DefaultQueues.DEFAULT_BOUND_1000,
+                db,
+                streamDefinition,
+                new DummyCompletionTimeWriter(),
+                dummyCompletionTimeReader,
+                new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, false ),
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+    }
+
+    private Operation nothingOperation( long scheduledStartTimeAsMilli )
+    {
+        Operation operation = new NothingOperation();
+        operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+        operation.setTimeStamp( scheduledStartTimeAsMilli );
+        operation.setDependencyTimeStamp( 0L );
+        return operation;
+    }
+}
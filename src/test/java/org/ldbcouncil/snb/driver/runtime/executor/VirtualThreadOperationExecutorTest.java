@@ -0,0 +1,272 @@
+package org.ldbcouncil.snb.driver.runtime.executor;
+
+import org.ldbcouncil.snb.driver.Db;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.WorkloadStreams;
+import org.ldbcouncil.snb.driver.control.Log4jLoggingServiceFactory;
+import org.ldbcouncil.snb.driver.control.LoggingService;
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.runtime.coordination.DummyCompletionTimeReader;
+import org.ldbcouncil.snb.driver.runtime.coordination.DummyCompletionTimeWriter;
+import org.ldbcouncil.snb.driver.runtime.metrics.DummyCountingMetricsService;
+import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
+import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.ldbcouncil.snb.driver.workloads.dummy.AsyncDummyDb;
+import org.ldbcouncil.snb.driver.workloads.dummy.DummyDb;
+import org.ldbcouncil.snb.driver.workloads.dummy.DummyWorkload;
+import org.ldbcouncil.snb.driver.workloads.dummy.NothingOperation;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class VirtualThreadOperationExecutorTest
+{
+    private final TimeSource timeSource = new SystemTimeSource();
+
+    @Test
+    public void executorShouldExecuteAllOperationsWithVirtualThreadsWhereSupported() throws Exception
+    {
+        executorShouldExecuteAllOperations( true );
+    }
+
+    @Test
+    public void executorShouldExecuteAllOperationsWithPlatformThreads() throws Exception
+    {
+        executorShouldExecuteAllOperations( false );
+    }
+
+    private void executorShouldExecuteAllOperations( boolean preferVirtualThreads ) throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        VirtualThreadOperationExecutor executor =
+                executor( 100, preferVirtualThreads, errorReporter, metricsService );
+        if ( !preferVirtualThreads )
+        {
+            assertThat( executor.usesVirtualThreads(), is( false ) );
+        }
+        long startTimeAsMilli = timeSource.nowAsMilli();
+        int operationCount = 2000;
+
+        // When
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            executor.execute( nothingOperation( startTimeAsMilli + i / 100 ) );
+        }
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handlers to finish
+            Spinner.powerNap( 100 );
+        }
+
+        // Then
+        assertThat( metricsService.count(), is( (long) operationCount ) );
+        executor.shutdown( 1000L );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void executorShouldBlockSubmissionWhileInFlightLimitIsReached() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        final VirtualThreadOperationExecutor executor = executor( 2, true, errorReporter, metricsService );
+        // handlers are in flight while they wait for their scheduled start time
+        final long scheduledStartTimeAsMilli = timeSource.nowAsMilli() + 1000;
+        executor.execute( nothingOperation( scheduledStartTimeAsMilli ) );
+        executor.execute( nothingOperation( scheduledStartTimeAsMilli ) );
+
+        // When
+        final AtomicBoolean thirdOperationSubmitted = new AtomicBoolean( false );
+        Thread submittingThread = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    executor.execute( nothingOperation( scheduledStartTimeAsMilli ) );
+                    thirdOperationSubmitted.set( true );
+                }
+                catch ( OperationExecutorException e )
+                {
+                    throw new RuntimeException( e );
+                }
+            }
+        };
+        submittingThread.start();
+        Spinner.powerNap( 200 );
+
+        // Then
+        assertThat( thirdOperationSubmitted.get(), is( false ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), equalTo( 2L ) );
+        submittingThread.join( 5000 );
+        assertThat( thirdOperationSubmitted.get(), is( true ) );
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handlers to finish
+            Spinner.powerNap( 100 );
+        }
+        assertThat( metricsService.count(), is( 3L ) );
+        executor.shutdown( 1000L );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void executorShouldHoldPermitUntilAsynchronousHandlerCompletes() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        Map<String,String> params = new HashMap<>();
+        params.put( AsyncDummyDb.COMPLETION_DELAY_AS_MILLI_ARG, "500" );
+        Db db = new AsyncDummyDb();
+        db.init(
+                params,
+                new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" ),
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+        final VirtualThreadOperationExecutor executor = executor( 2, true, db, errorReporter, metricsService );
+        long startTimeAsMilli = timeSource.nowAsMilli();
+
+        // When
+        executor.execute( nothingOperation( startTimeAsMilli ) );
+        executor.execute( nothingOperation( startTimeAsMilli ) );
+        Spinner.powerNap( 100 );
+
+        // Then
+        // handler threads have returned, but operations have not completed yet
+        assertThat( executor.uncompletedOperationHandlerCount(), equalTo( 2L ) );
+        assertThat( metricsService.count(), is( 0L ) );
+        // blocks until a permit is released by a completing operation
+        executor.execute( nothingOperation( startTimeAsMilli ) );
+        assertThat( timeSource.nowAsMilli() - startTimeAsMilli >= 500, is( true ) );
+        // shutdown waits for in-flight asynchronous handlers
+        executor.shutdown( 5000L );
+        assertThat( metricsService.count(), is( 3L ) );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        db.close();
+    }
+
+    @Test
+    public void executorShouldReportAsynchronousHandlersInFlightWhenShutdownTimesOut() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Map<String,String> params = new HashMap<>();
+        params.put( AsyncDummyDb.COMPLETION_DELAY_AS_MILLI_ARG, "2000" );
+        Db db = new AsyncDummyDb();
+        db.init(
+                params,
+                new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" ),
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+        VirtualThreadOperationExecutor executor =
+                executor( 1, true, db, errorReporter, new DummyCountingMetricsService() );
+        executor.execute( nothingOperation( timeSource.nowAsMilli() ) );
+
+        // When
+        try
+        {
+            executor.shutdown( 100L );
+            fail( "Expected shutdown to time out while an asynchronous handler is in flight" );
+        }
+        catch ( OperationExecutorException e )
+        {
+            // Then
+            // not wrapped by the handler of unexpected errors
+            assertThat( e.getCause(), nullValue() );
+            assertThat( e.getMessage(), e.getMessage().contains( "1 asynchronous handlers were in flight" ), is( true ) );
+        }
+        finally
+        {
+            Spinner.powerNap( 2000 );
+            db.close();
+        }
+    }
+
+    @Test( expected = OperationExecutorException.class )
+    public void executorShouldThrowExceptionIfShutdownMultipleTimes() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        OperationExecutor executor = executor( 1, true, errorReporter, new DummyCountingMetricsService() );
+        executor.execute( nothingOperation( timeSource.nowAsMilli() ) );
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handler to finish
+            Spinner.powerNap( 100 );
+        }
+        executor.shutdown( 1000L );
+
+        // When/Then
+        executor.shutdown( 1000L );
+    }
+
+    private VirtualThreadOperationExecutor executor( int maxInFlightOperations,
+            boolean preferVirtualThreads,
+            ConcurrentErrorReporter errorReporter,
+            DummyCountingMetricsService metricsService ) throws Exception
+    {
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        Db db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+        return executor( maxInFlightOperations, preferVirtualThreads, db, errorReporter, metricsService );
+    }
+
+    private VirtualThreadOperationExecutor executor( int maxInFlightOperations,
+            boolean preferVirtualThreads,
+            Db db,
+            ConcurrentErrorReporter errorReporter,
+            DummyCountingMetricsService metricsService ) throws Exception
+    {
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        return new VirtualThreadOperationExecutor(
+                maxInFlightOperations,
+                preferVirtualThreads,
+                db,
+                streamDefinition,
+                new DummyCompletionTimeWriter(),
+                dummyCompletionTimeReader,
+                new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, false ),
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+    }
+
+    private Operation nothingOperation( long scheduledStartTimeAsMilli )
+    {
+        Operation operation = new NothingOperation();
+        operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+        operation.setTimeStamp( scheduledStartTimeAsMilli );
+        operation.setDependencyTimeStamp( 0L );
+        return operation;
+    }
+}
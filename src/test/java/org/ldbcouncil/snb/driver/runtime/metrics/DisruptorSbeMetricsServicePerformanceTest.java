@@ -0,0 +1,75 @@
+package org.ldbcouncil.snb.driver.runtime.metrics;
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.control.Log4jLoggingServiceFactory;
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery1;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.text.DecimalFormat;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+@Ignore
+public class DisruptorSbeMetricsServicePerformanceTest
+{
+    private static final DecimalFormat NUMBER_FORMAT = new DecimalFormat( "###,###,###,###,##0.00" );
+
+    private final TimeSource timeSource = new SystemTimeSource();
+
+    @Test
+    public void submitOperationResultPerformanceTest() throws MetricsCollectionException
+    {
+        int experimentRepetitions = 10;
+        int resultCount = 10_000_000;
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threadMXBean.setThreadAllocatedMemoryEnabled( true );
+        long threadId = Thread.currentThread().getId();
+
+        while ( experimentRepetitions-- > 0 )
+        {
+            ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+            operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+            MetricsService metricsService = new DisruptorSbeMetricsService(
+                    timeSource,
+                    errorReporter,
+                    TimeUnit.MILLISECONDS,
+                    DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                    new NullResultsLogWriter(),
+                    operationTypeToClassMapping,
+                    new Log4jLoggingServiceFactory( false )
+            );
+            MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+
+            long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes( threadId );
+            long startTimeAsNano = System.nanoTime();
+            for ( int i = 0; i < resultCount; i++ )
+            {
+                metricsServiceWriter.submitOperationResult( LdbcQuery1.TYPE, i, i + 1, 1_000_000 + i, 0, i );
+            }
+            // waits for all submitted results to be processed
+            long processedResultCount = metricsServiceWriter.results().totalOperationCount();
+            long durationAsNano = System.nanoTime() - startTimeAsNano;
+            long allocatedBytes = threadMXBean.getThreadAllocatedBytes( threadId ) - allocatedBytesBefore;
+            metricsService.shutdown();
+
+            assertThat( processedResultCount, equalTo( (long) resultCount ) );
+            System.out.println( format( "%s results in %s ms: %s results/sec, %s bytes/result (submitting thread)",
+                    resultCount,
+                    TimeUnit.NANOSECONDS.toMillis( durationAsNano ),
+                    NUMBER_FORMAT.format( resultCount / (durationAsNano / 1_000_000_000d) ),
+                    NUMBER_FORMAT.format( allocatedBytes / (double) resultCount ) ) );
+        }
+    }
+}
@@ -12,13 +12,17 @@ import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery2;
 import org.ldbcouncil.snb.driver.workloads.interactive.db.DummyLdbcSnbInteractiveOperationInstances;
 import org.junit.Test;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static java.lang.String.format;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
 
 public class DisruptorSbeMetricsServiceTest
 {
@@ -83,6 +87,61 @@ public class DisruptorSbeMetricsServiceTest
         }
     }
 
+    @Test
+    public void shouldNotAllocateWhenSubmittingOperationResults() throws WorkloadException, MetricsCollectionException
+    {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        // allocated bytes per thread are only available on HotSpot and derived JVMs
+        assumeTrue( threadMXBean instanceof com.sun.management.ThreadMXBean );
+        com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        assumeTrue( allocationMXBean.isThreadAllocatedMemorySupported() );
+        allocationMXBean.setThreadAllocatedMemoryEnabled( true );
+
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        MetricsService metricsService = new DisruptorSbeMetricsService(
+                timeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new NullResultsLogWriter(),
+                operationTypeToClassMapping,
+                loggingServiceFactory
+        );
+        try
+        {
+            MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+            int resultCount = 100_000;
+            // warm up, so measurement does not include class loading or interpreter allocations
+            submitOperationResults( metricsServiceWriter, resultCount );
+            long threadId = Thread.currentThread().getId();
+            long allocatedBytesBefore = allocationMXBean.getThreadAllocatedBytes( threadId );
+            submitOperationResults( metricsServiceWriter, resultCount );
+            long allocatedBytes = allocationMXBean.getThreadAllocatedBytes( threadId ) - allocatedBytesBefore;
+
+            // boxing every field of every result would allocate well over 100 bytes per result
+            assertThat( format( "Allocated %s bytes for %s results", allocatedBytes, resultCount ),
+                    allocatedBytes < resultCount, is( true ) );
+            assertThat( metricsServiceWriter.results().totalOperationCount(), equalTo( 2L * resultCount ) );
+            // checked before shutdown, which may interrupt idle event processors and report that as an error
+            assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        }
+        finally
+        {
+            metricsService.shutdown();
+        }
+    }
+
+    private void submitOperationResults( MetricsService.MetricsServiceWriter metricsServiceWriter, int resultCount )
+            throws MetricsCollectionException
+    {
+        for ( int i = 0; i < resultCount; i++ )
+        {
+            metricsServiceWriter.submitOperationResult( LdbcQuery1.TYPE, i, i + 1, 1_000_000 + i, 0, i );
+        }
+    }
+
     public void shouldReturnCorrectMeasurements( MetricsService.MetricsServiceWriter metricsServiceWriter )
             throws WorkloadException, MetricsCollectionException
     {
@@ -0,0 +1,164 @@
+package org.ldbcouncil.snb.driver.runtime.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.temporal.ManualTimeSource;
+import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcSnbInteractiveWorkloadConfiguration;
+import org.ldbcouncil.snb.driver.workloads.interactive.db.DummyLdbcSnbInteractiveOperationInstances;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class IntervalHistogramLogTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldLogHistogramOfEachIntervalPerOperationType() throws Exception
+    {
+        // Given
+        File directory = temporaryFolder.newFolder();
+        ManualTimeSource timeSource = new ManualTimeSource( 1000 );
+        Operation read1 = DummyLdbcSnbInteractiveOperationInstances.read1();
+        Operation read2 = DummyLdbcSnbInteractiveOperationInstances.read2();
+        DummyCountingMetricsService countingMetricsService = new DummyCountingMetricsService();
+        IntervalHistogramLog intervalHistogramLog = new IntervalHistogramLog(
+                directory,
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping()
+        );
+        MetricsService.MetricsServiceWriter writer =
+                intervalHistogramLog.recordingIntervalsOf( countingMetricsService ).getWriter();
+
+        // When
+        writer.submitOperationResult( read1.type(), 1000, 1000, TimeUnit.MILLISECONDS.toNanos( 1 ), 0, 0 );
+        writer.submitOperationResult( read1.type(), 1100, 1100, TimeUnit.MILLISECONDS.toNanos( 2 ), 0, 0 );
+        writer.submitOperationResult( read2.type(), 1200, 1200, TimeUnit.MILLISECONDS.toNanos( 5 ), 0, 0 );
+        timeSource.setNowFromMilli( 2000 );
+        intervalHistogramLog.writeIntervals();
+        writer.submitOperationResult( read1.type(), 2100, 2100, TimeUnit.MILLISECONDS.toNanos( 3 ), 0, 0 );
+        timeSource.setNowFromMilli( 3500 );
+        intervalHistogramLog.writeIntervals();
+        intervalHistogramLog.close();
+
+        // Then
+        assertThat( countingMetricsService.count(), equalTo( 4L ) );
+
+        List<String[]> read1Intervals = intervals( directory, read1 );
+        assertThat( read1Intervals.size(), equalTo( 2 ) );
+        assertThat( read1Intervals.get( 0 )[0], equalTo( "0.000" ) );
+        assertThat( read1Intervals.get( 0 )[1], equalTo( "1.000" ) );
+        assertThat( histogram( read1Intervals.get( 0 ) ).getTotalCount(), equalTo( 2L ) );
+        assertThat( histogram( read1Intervals.get( 0 ) ).getMaxValue(), equalTo( 2L ) );
+        assertThat( read1Intervals.get( 1 )[0], equalTo( "1.000" ) );
+        assertThat( read1Intervals.get( 1 )[1], equalTo( "1.500" ) );
+        assertThat( histogram( read1Intervals.get( 1 ) ).getTotalCount(), equalTo( 1L ) );
+        assertThat( histogram( read1Intervals.get( 1 ) ).getMaxValue(), equalTo( 3L ) );
+
+        List<String[]> read2Intervals = intervals( directory, read2 );
+        assertThat( read2Intervals.size(), equalTo( 2 ) );
+        assertThat( histogram( read2Intervals.get( 0 ) ).getTotalCount(), equalTo( 1L ) );
+        assertThat( histogram( read2Intervals.get( 0 ) ).getMaxValue(), equalTo( 5L ) );
+        assertThat( histogram( read2Intervals.get( 1 ) ).getTotalCount(), equalTo( 0L ) );
+    }
+
+    @Test
+    public void shouldNotLoseValuesRecordedWhileIntervalsAreWritten() throws Exception
+    {
+        // Given
+        File directory = temporaryFolder.newFolder();
+        final Operation read1 = DummyLdbcSnbInteractiveOperationInstances.read1();
+        final IntervalHistogramLog intervalHistogramLog = new IntervalHistogramLog(
+                directory,
+                new SystemTimeSource(),
+                TimeUnit.MICROSECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping()
+        );
+        final int threadCount = 4;
+        final int valueCountPerThread = 100000;
+        final AtomicBoolean recordersStarted = new AtomicBoolean( false );
+        List<Thread> recorders = new ArrayList<>();
+        for ( int i = 0; i < threadCount; i++ )
+        {
+            recorders.add( new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    recordersStarted.set( true );
+                    for ( int j = 0; j < valueCountPerThread; j++ )
+                    {
+                        intervalHistogramLog.record( read1.type(), TimeUnit.MICROSECONDS.toNanos( 1 + j % 1000 ) );
+                    }
+                }
+            } );
+        }
+
+        // When
+        for ( Thread recorder : recorders )
+        {
+            recorder.start();
+        }
+        while ( !recordersStarted.get() )
+        {
+            Thread.yield();
+        }
+        for ( Thread recorder : recorders )
+        {
+            while ( recorder.isAlive() )
+            {
+                intervalHistogramLog.writeIntervals();
+            }
+            recorder.join();
+        }
+        intervalHistogramLog.writeIntervals();
+        intervalHistogramLog.close();
+
+        // Then
+        long totalCount = 0;
+        for ( String[] interval : intervals( directory, read1 ) )
+        {
+            totalCount += histogram( interval ).getTotalCount();
+        }
+        assertThat( totalCount, equalTo( (long) threadCount * valueCountPerThread ) );
+    }
+
+    private static List<String[]> intervals( File directory, Operation operation ) throws Exception
+    {
+        File logFile = IntervalHistogramLog.logFile( directory, operation.getClass().getSimpleName() );
+        List<String[]> intervals = new ArrayList<>();
+        for ( String line : Files.readAllLines( logFile.toPath(), StandardCharsets.UTF_8 ) )
+        {
+            // skip comments and legend
+            if ( !line.startsWith( "#" ) && !line.startsWith( "\"" ) )
+            {
+                intervals.add( line.split( "," ) );
+            }
+        }
+        return intervals;
+    }
+
+    private static Histogram histogram( String[] interval ) throws Exception
+    {
+        ByteBuffer compressedHistogram = ByteBuffer.wrap( Base64.getDecoder().decode( interval[3] ) );
+        return Histogram.decodeFromCompressedByteBuffer( compressedHistogram, 0 );
+    }
+}
@@ -51,4 +51,62 @@ public class MetricsManagerTest
         assertThat( snapshot.startTimeAsMilli(), equalTo( 2l ) );
         assertThat( snapshot.latestFinishTimeAsMilli(), equalTo( 16l ) );
     }
+
+    @Test
+    public void shouldMeasureResponseTimeFromScheduledStartTime() throws WorkloadException, MetricsCollectionException
+    {
+        // Given
+        MetricsManager metricsManager = new MetricsManager(
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                loggingServiceFactory
+        );
+        Operation operation = DummyLdbcSnbInteractiveOperationInstances.read1();
+
+        // When
+        // on schedule
+        metricsManager.measure( 10, 10, TimeUnit.MILLISECONDS.toNanos( 2 ), operation.type() );
+        // queued behind a stall, started 100 ms late
+        metricsManager.measure( 20, 120, TimeUnit.MILLISECONDS.toNanos( 2 ), operation.type() );
+        // started ahead of schedule
+        metricsManager.measure( 200, 130, TimeUnit.MILLISECONDS.toNanos( 2 ), operation.type() );
+
+        // Then
+        OperationMetricsSnapshot operationMetrics = metricsManager.snapshot().allMetrics().get( 0 );
+        assertThat( operationMetrics.count(), equalTo( 3l ) );
+        assertThat( operationMetrics.runTimeMetric().max(), equalTo( 2l ) );
+        assertThat( operationMetrics.responseTimeMetric().count(), equalTo( 3l ) );
+        assertThat( operationMetrics.responseTimeMetric().min(), equalTo( 2l ) );
+        assertThat( operationMetrics.responseTimeMetric().max(), equalTo( 102l ) );
+    }
+
+    @Test
+    public void shouldCorrectResponseTimeForCoordinatedOmissionWithExpectedInterval()
+            throws WorkloadException, MetricsCollectionException
+    {
+        // Given
+        MetricsManager metricsManager = new MetricsManager(
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                TimeUnit.MILLISECONDS.toNanos( 10 ),
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                loggingServiceFactory
+        );
+        Operation operation = DummyLdbcSnbInteractiveOperationInstances.read1();
+
+        // When
+        metricsManager.measure( 0, 0, TimeUnit.MILLISECONDS.toNanos( 40 ), operation.type() );
+
+        // Then
+        // 40 ms, plus the 30, 20 and 10 ms responses of the operations that would have been issued meanwhile
+        OperationMetricsSnapshot operationMetrics = metricsManager.snapshot().allMetrics().get( 0 );
+        assertThat( operationMetrics.count(), equalTo( 1l ) );
+        assertThat( operationMetrics.runTimeMetric().count(), equalTo( 1l ) );
+        assertThat( operationMetrics.responseTimeMetric().count(), equalTo( 4l ) );
+        assertThat( operationMetrics.responseTimeMetric().min(), equalTo( 10l ) );
+        assertThat( operationMetrics.responseTimeMetric().max(), equalTo( 40l ) );
+    }
 }
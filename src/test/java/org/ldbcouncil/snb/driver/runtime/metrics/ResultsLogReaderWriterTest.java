@@ -5,8 +5,13 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -114,4 +119,306 @@ public class ResultsLogReaderWriterTest
             assertFalse( reader.next() );
         }
     }
+
+    @Test
+    public void shouldWriteAndReadSameValuesInBinaryFormat() throws Exception
+    {
+        File resultsLog = temporaryFolder.newFile();
+        TimeUnit unit = MILLISECONDS;
+        boolean flushLog = true;
+
+        try ( ResultsLogWriter writer = new BinaryResultsLogWriter( resultsLog, unit, flushLog ) )
+        {
+            writer.write(
+                    "a",
+                    Long.MAX_VALUE,
+                    Long.MAX_VALUE,
+                    Long.MAX_VALUE,
+                    Integer.MAX_VALUE,
+                    Long.MAX_VALUE );
+            writer.write(
+                    "b",
+                    Long.MIN_VALUE,
+                    0,
+                    0,
+                    Integer.MIN_VALUE,
+                    Long.MIN_VALUE );
+            writer.write(
+                    "a",
+                    1,
+                    2,
+                    3,
+                    4,
+                    5 );
+        }
+
+        assertThat( ResultsLogFormat.of( resultsLog ), equalTo( ResultsLogFormat.BINARY ) );
+        try ( ResultsLogReader reader = new BinaryResultsLogReader( resultsLog ) )
+        {
+            // run durations are stored in nanoseconds, regardless of unit
+            assertThat( reader.unit(), equalTo( unit ) );
+
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "a" ) );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( Long.MAX_VALUE ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( Long.MAX_VALUE ) );
+            assertThat( reader.getRunDurationAsNano(), equalTo( Long.MAX_VALUE ) );
+            assertThat( reader.getResultCode(), equalTo( Integer.MAX_VALUE ) );
+            assertThat( reader.getOriginalStartTime(), equalTo( Long.MAX_VALUE ) );
+
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "b" ) );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( Long.MIN_VALUE ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( 0L ) );
+            assertThat( reader.getRunDurationAsNano(), equalTo( 0L ) );
+            assertThat( reader.getResultCode(), equalTo( Integer.MIN_VALUE ) );
+            assertThat( reader.getOriginalStartTime(), equalTo( Long.MIN_VALUE ) );
+
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "a" ) );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( 1L ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( 2L ) );
+            assertThat( reader.getRunDurationAsNano(), equalTo( 3L ) );
+            assertThat( reader.getResultCode(), equalTo( 4 ) );
+            assertThat( reader.getOriginalStartTime(), equalTo( 5L ) );
+
+            assertFalse( reader.next() );
+        }
+    }
+
+    @Test
+    public void shouldReadBinaryFormatAcrossManyMappedWindows() throws Exception
+    {
+        File resultsLog = temporaryFolder.newFile();
+        int resultCount = 100_000;
+        int operationTypeCount = 17;
+
+        try ( ResultsLogWriter writer = new BinaryResultsLogWriter( resultsLog, NANOSECONDS, false ) )
+        {
+            for ( int i = 0; i < resultCount; i++ )
+            {
+                writer.write( "operation" + (i % operationTypeCount), i, i + 1, i + 2, i % 3, i + 3 );
+            }
+        }
+
+        // window size that is not a multiple of the record size, so records straddle windows
+        try ( ResultsLogReader reader = new BinaryResultsLogReader( resultsLog, 1000 ) )
+        {
+            for ( int i = 0; i < resultCount; i++ )
+            {
+                assertTrue( reader.next() );
+                assertThat( reader.getOperationName(), equalTo( "operation" + (i % operationTypeCount) ) );
+                assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( (long) i ) );
+                assertThat( reader.getActualStartTimeAsMilli(), equalTo( (long) i + 1 ) );
+                assertThat( reader.getRunDurationAsNano(), equalTo( (long) i + 2 ) );
+                assertThat( reader.getResultCode(), equalTo( i % 3 ) );
+                assertThat( reader.getOriginalStartTime(), equalTo( (long) i + 3 ) );
+            }
+            assertFalse( reader.next() );
+        }
+    }
+
+    @Test
+    public void shouldConvertBinaryFormatToCsv() throws Exception
+    {
+        File binaryResultsLog = temporaryFolder.newFile();
+        File csvResultsLog = temporaryFolder.newFile();
+        TimeUnit unit = MILLISECONDS;
+
+        try ( ResultsLogWriter writer = ResultsLogFormat.BINARY.newWriter( binaryResultsLog, unit, false ) )
+        {
+            writer.write( "a", 1, 2, NANOSECONDS.convert( 3, unit ), 0, 4 );
+            writer.write( "b", 5, 6, NANOSECONDS.convert( 7, unit ), 1, 8 );
+        }
+
+        long count = ResultsLogConverter.convert( binaryResultsLog, csvResultsLog, ResultsLogFormat.CSV );
+
+        assertThat( count, equalTo( 2L ) );
+        assertThat( ResultsLogFormat.of( csvResultsLog ), equalTo( ResultsLogFormat.CSV ) );
+        try ( ResultsLogReader reader = ResultsLogFormat.openReader( csvResultsLog ) )
+        {
+            assertThat( reader.unit(), equalTo( unit ) );
+
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "a" ) );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( 1L ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( 2L ) );
+            assertThat( reader.getRunDurationAsNano(), equalTo( NANOSECONDS.convert( 3, unit ) ) );
+            assertThat( reader.getResultCode(), equalTo( 0 ) );
+            assertThat( reader.getOriginalStartTime(), equalTo( 4L ) );
+
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "b" ) );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( 5L ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( 6L ) );
+            assertThat( reader.getRunDurationAsNano(), equalTo( NANOSECONDS.convert( 7, unit ) ) );
+            assertThat( reader.getResultCode(), equalTo( 1 ) );
+            assertThat( reader.getOriginalStartTime(), equalTo( 8L ) );
+
+            assertFalse( reader.next() );
+        }
+    }
+
+    @Test
+    public void shouldReadEveryResultOnceWhenSplitIntoRanges() throws Exception
+    {
+        int resultCount = 1000;
+        int operationTypeCount = 7;
+        for ( ResultsLogFormat resultsLogFormat : ResultsLogFormat.values() )
+        {
+            File resultsLog = temporaryFolder.newFile();
+            try ( ResultsLogWriter writer = resultsLogFormat.newWriter( resultsLog, NANOSECONDS, false ) )
+            {
+                for ( int i = 0; i < resultCount; i++ )
+                {
+                    writer.write( "operation" + (i % operationTypeCount), i, -i, i + 2, i % 3, Long.MIN_VALUE + i );
+                }
+            }
+
+            for ( long rangeSize : new long[]{1, 7, 40, 1000, resultsLog.length()} )
+            {
+                List<ResultsLogRange> ranges = resultsLogFormat.split( resultsLog, rangeSize );
+                int i = 0;
+                for ( ResultsLogRange range : ranges )
+                {
+                    try ( ResultsLogReader reader = range.newReader() )
+                    {
+                        assertThat( reader.unit(), equalTo( NANOSECONDS ) );
+                        while ( reader.next() )
+                        {
+                            assertThat( reader.getOperationName(), equalTo( "operation" + (i % operationTypeCount) ) );
+                            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( (long) i ) );
+                            assertThat( reader.getActualStartTimeAsMilli(), equalTo( (long) -i ) );
+                            assertThat( reader.getRunDurationAsNano(), equalTo( (long) i + 2 ) );
+                            assertThat( reader.getResultCode(), equalTo( i % 3 ) );
+                            assertThat( reader.getOriginalStartTime(), equalTo( Long.MIN_VALUE + i ) );
+                            i++;
+                        }
+                    }
+                }
+                assertThat( format( "%s with range size %s", resultsLogFormat, rangeSize ), i, equalTo( resultCount ) );
+            }
+        }
+    }
+
+    @Test
+    public void shouldReadCsvRangeWithRowsLongerThanBuffer() throws Exception
+    {
+        File resultsLog = temporaryFolder.newFile();
+        String longOperationName = "operation" + new String( new char[100] ).replace( '\0', 'x' );
+        try ( ResultsLogWriter writer = new SimpleResultsLogWriter( resultsLog, NANOSECONDS, false ) )
+        {
+            writer.write( longOperationName, 1, 2, 3, 4, 5 );
+            writer.write( "a", 6, 7, 8, 9, 10 );
+            writer.write( longOperationName, 11, 12, 13, 14, 15 );
+        }
+
+        try ( ResultsLogReader reader = new SimpleResultsLogRangeReader(
+                resultsLog, 0, resultsLog.length(), NANOSECONDS, 16 ) )
+        {
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( longOperationName ) );
+            assertThat( reader.getOriginalStartTime(), equalTo( 5L ) );
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "a" ) );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( 6L ) );
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( longOperationName ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( 12L ) );
+            assertThat( reader.getResultCode(), equalTo( 14 ) );
+            assertFalse( reader.next() );
+        }
+    }
+
+    @Test( expected = RuntimeException.class )
+    public void shouldFailToReadEmptyBinaryFormat() throws Exception
+    {
+        File resultsLog = temporaryFolder.newFile();
+        try ( ResultsLogReader reader = new BinaryResultsLogReader( resultsLog ) )
+        {
+            reader.next();
+        }
+    }
+
+    @Test
+    public void shouldReadBinaryFormatUpToLastCompleteRecordWhenTruncated() throws Exception
+    {
+        File completeResultsLog = temporaryFolder.newFile();
+        try ( ResultsLogWriter writer = new BinaryResultsLogWriter( completeResultsLog, NANOSECONDS, false ) )
+        {
+            writer.write( "a", 1, 2, 3, 4, 5 );
+            writer.write( "b", 6, 7, 8, 9, 10 );
+            writer.write( "a", 11, 12, 13, 14, 15 );
+        }
+        int headerSize = 4 + 2 + 2 + NANOSECONDS.name().length();
+        int dictionaryEntrySize = 4 + 2 + 1;
+        int recordSize = 4 + BinaryResultsLogWriter.RESULT_RECORD_BODY_SIZE;
+        long[] recordEndPositions = new long[]{
+                headerSize + dictionaryEntrySize + recordSize,
+                headerSize + 2 * dictionaryEntrySize + 2 * recordSize,
+                headerSize + 2 * dictionaryEntrySize + 3 * recordSize};
+        assertThat( completeResultsLog.length(), equalTo( recordEndPositions[2] ) );
+
+        // every length from the end of the header, so the log ends within dictionary entries and records
+        for ( long length = headerSize; length <= completeResultsLog.length(); length++ )
+        {
+            File resultsLog = temporaryFolder.newFile();
+            Files.copy( completeResultsLog.toPath(), resultsLog.toPath(), StandardCopyOption.REPLACE_EXISTING );
+            try ( RandomAccessFile file = new RandomAccessFile( resultsLog, "rw" ) )
+            {
+                file.setLength( length );
+            }
+            int completeRecordCount = 0;
+            for ( long recordEndPosition : recordEndPositions )
+            {
+                if ( recordEndPosition <= length )
+                {
+                    completeRecordCount++;
+                }
+            }
+
+            try ( ResultsLogReader reader = new BinaryResultsLogReader( resultsLog ) )
+            {
+                for ( int i = 0; i < completeRecordCount; i++ )
+                {
+                    assertTrue( reader.next() );
+                    assertThat( reader.getOriginalStartTime(), equalTo( 5L * (i + 1) ) );
+                }
+                assertFalse( format( "log truncated to %s bytes", length ), reader.next() );
+                assertFalse( reader.next() );
+            }
+
+            int rangeRecordCount = 0;
+            for ( ResultsLogRange range : ResultsLogFormat.BINARY.split( resultsLog, 1 ) )
+            {
+                try ( ResultsLogReader reader = range.newReader() )
+                {
+                    while ( reader.next() )
+                    {
+                        rangeRecordCount++;
+                    }
+                }
+            }
+            assertThat( format( "log truncated to %s bytes", length ), rangeRecordCount,
+                    equalTo( completeRecordCount ) );
+        }
+    }
+
+    @Test( expected = RuntimeException.class )
+    public void shouldFailToReadBinaryFormatTruncatedWithinHeader() throws Exception
+    {
+        File resultsLog = temporaryFolder.newFile();
+        try ( ResultsLogWriter writer = new BinaryResultsLogWriter( resultsLog, NANOSECONDS, false ) )
+        {
+            writer.write( "a", 1, 2, 3, 4, 5 );
+        }
+        try ( RandomAccessFile file = new RandomAccessFile( resultsLog, "rw" ) )
+        {
+            file.setLength( 4 + 2 + 2 + 1 );
+        }
+        try ( ResultsLogReader reader = new BinaryResultsLogReader( resultsLog ) )
+        {
+            reader.next();
+        }
+    }
 }
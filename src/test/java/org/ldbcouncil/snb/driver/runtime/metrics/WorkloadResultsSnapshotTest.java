@@ -4,6 +4,7 @@ import org.ldbcouncil.snb.driver.WorkloadException;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -59,6 +60,28 @@ public class WorkloadResultsSnapshotTest
         assertThat( snapshot1, equalTo( snapshot2 ) );
     }
 
+    @Test
+    public void shouldExportAndImportResponseTime() throws IOException
+    {
+        // Given
+        ContinuousMetricSnapshot runTimeMetric = new ContinuousMetricSnapshot(
+                "Runtime", TimeUnit.MILLISECONDS, 2, 1.5, 1, 2, 1, 1, 2, 2, 2, 2, 2, 0.5 );
+        ContinuousMetricSnapshot responseTimeMetric = new ContinuousMetricSnapshot(
+                "Response Time", TimeUnit.MILLISECONDS, 2, 51.5, 1, 102, 1, 1, 102, 102, 102, 102, 102, 50.5 );
+        WorkloadResultsSnapshot snapshot = new WorkloadResultsSnapshot(
+                Collections.singletonList( new OperationMetricsSnapshot(
+                        "LdbcQuery1", TimeUnit.MILLISECONDS, 2, runTimeMetric, responseTimeMetric ) ),
+                0, 200, 2, TimeUnit.MILLISECONDS );
+
+        // When
+        WorkloadResultsSnapshot imported = WorkloadResultsSnapshot.fromJson( snapshot.toJson() );
+
+        // Then
+        assertThat( imported, equalTo( snapshot ) );
+        assertThat( imported.allMetrics().get( 0 ).responseTimeMetric(), equalTo( responseTimeMetric ) );
+        assertThat( snapshot.toJson().contains( "\"response_time\"" ), equalTo( true ) );
+    }
+
     private WorkloadResultsSnapshot createSnapshot( int seed, TimeUnit timeUnit1, TimeUnit timeUnit2,
             TimeUnit timeUnit3, TimeUnit timeUnit4 )
     {
@@ -0,0 +1,165 @@
+package org.ldbcouncil.snb.driver.runtime.scheduling;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class AdaptiveTimeCompressionTest
+{
+    private static final long THRESHOLD_AS_MILLI = 1000;
+    private static final double TOLERATED_FRACTION = 0.05;
+
+    @Test
+    public void shouldMapContinuouslyWhenRatioChanges()
+    {
+        // Given
+        AdaptiveTimeCompression adaptiveTimeCompression =
+                new AdaptiveTimeCompression( 1.0, THRESHOLD_AS_MILLI, TOLERATED_FRACTION );
+        adaptiveTimeCompression.startAt( 1000, 5000 );
+
+        // When
+        long first = adaptiveTimeCompression.apply( 1000L );
+        long beforeChange = adaptiveTimeCompression.apply( 2000L );
+        adaptiveTimeCompression.setRatio( 0.5 );
+        long afterChange = adaptiveTimeCompression.apply( 3000L );
+        long laggingStream = adaptiveTimeCompression.apply( 1500L );
+        long atChange = adaptiveTimeCompression.apply( 2000L );
+
+        // Then
+        assertThat( first, equalTo( 5000L ) );
+        assertThat( beforeChange, equalTo( 6000L ) );
+        assertThat( afterChange, equalTo( 6500L ) );
+        assertThat( laggingStream, equalTo( 5500L ) );
+        assertThat( atChange, equalTo( 6000L ) );
+    }
+
+    @Test
+    public void shouldReplaceRatioWhenNothingWasMappedWithIt()
+    {
+        // Given
+        AdaptiveTimeCompression adaptiveTimeCompression =
+                new AdaptiveTimeCompression( 1.0, THRESHOLD_AS_MILLI, TOLERATED_FRACTION );
+        adaptiveTimeCompression.startAt( 0, 0 );
+        adaptiveTimeCompression.apply( 1000L );
+
+        // When
+        adaptiveTimeCompression.setRatio( 2.0 );
+        adaptiveTimeCompression.setRatio( 4.0 );
+
+        // Then
+        assertThat( adaptiveTimeCompression.apply( 2000L ), equalTo( 1000L + 4000L ) );
+        assertThat( adaptiveTimeCompression.apply( 500L ), equalTo( 500L ) );
+    }
+
+    @Test
+    public void shouldNotAdjustWhenNoOperationWasExecuted()
+    {
+        // Given
+        AdaptiveTimeCompression adaptiveTimeCompression =
+                new AdaptiveTimeCompression( 1.0, THRESHOLD_AS_MILLI, TOLERATED_FRACTION );
+        adaptiveTimeCompression.startAt( 0, 0 );
+
+        // When
+        AdaptiveTimeCompression.Adjustment adjustment = adaptiveTimeCompression.adjust();
+
+        // Then
+        assertThat( adjustment, equalTo( AdaptiveTimeCompression.Adjustment.NONE ) );
+        assertThat( adaptiveTimeCompression.ratio(), equalTo( 1.0 ) );
+        assertThat( Double.isNaN( adaptiveTimeCompression.sustainedRatio() ), is( true ) );
+    }
+
+    @Test
+    public void shouldSlowDownWhenMoreExcessiveDelaysThanTolerated()
+    {
+        // Given
+        AdaptiveTimeCompression adaptiveTimeCompression =
+                new AdaptiveTimeCompression( 1.0, THRESHOLD_AS_MILLI, TOLERATED_FRACTION );
+        adaptiveTimeCompression.startAt( 0, 0 );
+        recordDelays( adaptiveTimeCompression, 90, 0 );
+        recordDelays( adaptiveTimeCompression, 10, THRESHOLD_AS_MILLI + 1 );
+
+        // When
+        AdaptiveTimeCompression.Adjustment adjustment = adaptiveTimeCompression.adjust();
+
+        // Then
+        assertThat( adjustment, equalTo( AdaptiveTimeCompression.Adjustment.SLOWED_DOWN ) );
+        assertThat( adaptiveTimeCompression.ratio(), equalTo( 1.0 * AdaptiveTimeCompression.SLOW_DOWN_FACTOR ) );
+        assertThat( Double.isNaN( adaptiveTimeCompression.sustainedRatio() ), is( true ) );
+    }
+
+    @Test
+    public void shouldSlowDownWhenLaggingBehindScheduleWithoutExcessiveDelays()
+    {
+        // Given
+        AdaptiveTimeCompression adaptiveTimeCompression =
+                new AdaptiveTimeCompression( 1.0, THRESHOLD_AS_MILLI, TOLERATED_FRACTION );
+        adaptiveTimeCompression.startAt( 0, 0 );
+        recordDelays( adaptiveTimeCompression, 100, 0 );
+        recordDelays( adaptiveTimeCompression, 1, THRESHOLD_AS_MILLI * 3 / 4 );
+
+        // When
+        AdaptiveTimeCompression.Adjustment adjustment = adaptiveTimeCompression.adjust();
+
+        // Then
+        assertThat( adjustment, equalTo( AdaptiveTimeCompression.Adjustment.SLOWED_DOWN ) );
+    }
+
+    @Test
+    public void shouldKeepRatioWhenDelaysAreWithinThreshold()
+    {
+        // Given
+        AdaptiveTimeCompression adaptiveTimeCompression =
+                new AdaptiveTimeCompression( 1.0, THRESHOLD_AS_MILLI, TOLERATED_FRACTION );
+        adaptiveTimeCompression.startAt( 0, 0 );
+        recordDelays( adaptiveTimeCompression, 100, THRESHOLD_AS_MILLI / 4 );
+
+        // When
+        AdaptiveTimeCompression.Adjustment adjustment = adaptiveTimeCompression.adjust();
+
+        // Then
+        assertThat( adjustment, equalTo( AdaptiveTimeCompression.Adjustment.KEPT ) );
+        assertThat( adaptiveTimeCompression.ratio(), equalTo( 1.0 ) );
+        assertThat( adaptiveTimeCompression.sustainedRatio(), equalTo( 1.0 ) );
+    }
+
+    @Test
+    public void shouldSpeedUpWhileKeepingUpAndReportFastestSustainedRatio()
+    {
+        // Given
+        AdaptiveTimeCompression adaptiveTimeCompression =
+                new AdaptiveTimeCompression( 1.0, THRESHOLD_AS_MILLI, TOLERATED_FRACTION );
+        adaptiveTimeCompression.startAt( 0, 0 );
+
+        // When
+        recordDelays( adaptiveTimeCompression, 100, 0 );
+        AdaptiveTimeCompression.Adjustment first = adaptiveTimeCompression.adjust();
+        recordDelays( adaptiveTimeCompression, 100, 0 );
+        AdaptiveTimeCompression.Adjustment second = adaptiveTimeCompression.adjust();
+        double sustainedAfterSecond = adaptiveTimeCompression.sustainedRatio();
+        recordDelays( adaptiveTimeCompression, 100, 0 );
+        AdaptiveTimeCompression.Adjustment third = adaptiveTimeCompression.adjust();
+        double sustainedAfterThird = adaptiveTimeCompression.sustainedRatio();
+        recordDelays( adaptiveTimeCompression, 100, THRESHOLD_AS_MILLI );
+        AdaptiveTimeCompression.Adjustment fourth = adaptiveTimeCompression.adjust();
+
+        // Then
+        assertThat( first, equalTo( AdaptiveTimeCompression.Adjustment.SPED_UP ) );
+        assertThat( second, equalTo( AdaptiveTimeCompression.Adjustment.SPED_UP ) );
+        assertThat( third, equalTo( AdaptiveTimeCompression.Adjustment.SPED_UP ) );
+        assertThat( fourth, equalTo( AdaptiveTimeCompression.Adjustment.SLOWED_DOWN ) );
+        // operations executed in a window were mostly mapped in the previous one, at its slower ratio
+        assertThat( sustainedAfterSecond, equalTo( 1.0 ) );
+        assertThat( sustainedAfterThird, equalTo( AdaptiveTimeCompression.SPEED_UP_FACTOR ) );
+        assertThat( adaptiveTimeCompression.sustainedRatio(), equalTo( AdaptiveTimeCompression.SPEED_UP_FACTOR ) );
+    }
+
+    private static void recordDelays( AdaptiveTimeCompression adaptiveTimeCompression, int count, long delayAsMilli )
+    {
+        for ( int i = 0; i < count; i++ )
+        {
+            adaptiveTimeCompression.recordDelay( delayAsMilli );
+        }
+    }
+}
@@ -2,10 +2,20 @@ package org.ldbcouncil.snb.driver.runtime.scheduling;
 
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeNotifier;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeReader;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeService;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeWaiter;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeWaiterQueue;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeWriter;
 import org.ldbcouncil.snb.driver.runtime.coordination.DummyCompletionTimeReader;
 import org.ldbcouncil.snb.driver.workloads.dummy.TimedNamedOperation1;
 import org.junit.Test;
 
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -48,4 +58,101 @@ public class CtDependencyCheckTest
         dummyCompletionTimeReader.setCompletionTimeAsMilli( 10 );
         assertThat( ctDependencyCheck.doCheck( operation ), is( SpinnerCheck.SpinnerCheckResult.PASSED ) );
     }
+
+    @Test
+    public void shouldPassAsSoonAsCtAdvancesWhenReaderNotifiesWaiters() throws Exception
+    {
+        // Given
+        long dependencyTimeAsMilli = 5;
+        long scheduledStartTimeAsMilli = -1;
+        final Operation operation =
+                new TimedNamedOperation1( scheduledStartTimeAsMilli, scheduledStartTimeAsMilli, dependencyTimeAsMilli,
+                        null );
+        CompletionTimeService completionTimeService =
+                new CompletionTimeServiceAssistant().newSynchronizedCompletionTimeService();
+        CompletionTimeWriter completionTimeWriter = completionTimeService.newCompletionTimeWriter();
+        completionTimeWriter.submitInitiatedTime( 0 );
+        completionTimeWriter.submitCompletedTime( 0 );
+        completionTimeWriter.submitInitiatedTime( 5 );
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        final CtDependencyCheck ctDependencyCheck = new CtDependencyCheck( completionTimeService, errorReporter );
+        final AtomicReference<SpinnerCheck.SpinnerCheckResult> result = new AtomicReference<>();
+        Thread checkThread = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                result.set( ctDependencyCheck.doCheck( operation ) );
+            }
+        };
+
+        // When
+        checkThread.start();
+        Spinner.powerNap( 50 );
+        long advanceTimeAsNano = System.nanoTime();
+        completionTimeWriter.submitCompletedTime( 5 );
+        completionTimeWriter.submitInitiatedTime( 10 );
+        checkThread.join();
+        long releaseDurationAsNano = System.nanoTime() - advanceTimeAsNano;
+
+        // Then
+        assertThat( result.get(), is( SpinnerCheck.SpinnerCheckResult.PASSED ) );
+        assertThat( releaseDurationAsNano < CtDependencyCheck.MAX_AWAIT_DURATION_AS_NANO, is( true ) );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        completionTimeService.shutdown();
+    }
+
+    @Test
+    public void shouldDeregisterWaiterWhenCtDoesNotAdvanceInTime() throws Exception
+    {
+        // Given
+        long dependencyTimeAsMilli = 5;
+        long scheduledStartTimeAsMilli = -1;
+        Operation operation =
+                new TimedNamedOperation1( scheduledStartTimeAsMilli, scheduledStartTimeAsMilli, dependencyTimeAsMilli,
+                        null );
+        NotifyingCompletionTimeReader completionTimeReader = new NotifyingCompletionTimeReader();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CtDependencyCheck ctDependencyCheck = new CtDependencyCheck( completionTimeReader, errorReporter );
+
+        // When
+        SpinnerCheck.SpinnerCheckResult firstResult = ctDependencyCheck.doCheck( operation );
+        SpinnerCheck.SpinnerCheckResult secondResult = ctDependencyCheck.doCheck( operation );
+
+        // Then
+        assertThat( firstResult, is( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING ) );
+        assertThat( secondResult, is( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING ) );
+        // waiters of timed out checks do not pile up
+        assertThat( completionTimeReader.waiterQueue.size(), equalTo( 0 ) );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    private static class NotifyingCompletionTimeReader implements CompletionTimeReader, CompletionTimeNotifier
+    {
+        private final CompletionTimeWaiterQueue waiterQueue = new CompletionTimeWaiterQueue();
+
+        @Override
+        public long lastKnownLowestInitiatedTimeAsMilli()
+        {
+            return 0;
+        }
+
+        @Override
+        public long completionTimeAsMilli()
+        {
+            return 0;
+        }
+
+        @Override
+        public void notifyWhenCompletionTimeReaches( long completionTimeToWaitForAsMilli, CompletionTimeWaiter waiter )
+        {
+            waiterQueue.notifyWhenCompletionTimeReaches( completionTimeToWaitForAsMilli, waiter );
+        }
+
+        @Override
+        public void cancelNotification( CompletionTimeWaiter waiter )
+        {
+            waiterQueue.cancelNotification( waiter );
+        }
+    }
 }
@@ -0,0 +1,106 @@
+package org.ldbcouncil.snb.driver.runtime.scheduling;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class TimingWheelTest
+{
+    @Test
+    public void shouldRejectItemsWithDeadlinesThatHaveAlreadyPassed()
+    {
+        // Given
+        TimingWheel<String> timingWheel = new TimingWheel<>( 1000 );
+        List<String> expired = new ArrayList<>();
+        timingWheel.advanceTo( 1500, expired );
+
+        // When/Then
+        assertThat( timingWheel.add( 1499, "late" ), is( false ) );
+        assertThat( timingWheel.add( 1501, "on time" ), is( true ) );
+        assertThat( timingWheel.size(), equalTo( 1L ) );
+    }
+
+    @Test
+    public void shouldExpireItemsAtTheirDeadlineAndNotBefore()
+    {
+        // Given
+        TimingWheel<String> timingWheel = new TimingWheel<>( 0 );
+        timingWheel.add( 10, "a" );
+        timingWheel.add( 300, "b" );
+        timingWheel.add( 20_000, "c" );
+        List<String> expired = new ArrayList<>();
+
+        // When/Then
+        assertThat( timingWheel.advanceTo( 9, expired ), equalTo( 0 ) );
+        assertThat( timingWheel.advanceTo( 10, expired ), equalTo( 1 ) );
+        assertThat( expired.get( 0 ), equalTo( "a" ) );
+        assertThat( timingWheel.advanceTo( 299, expired ), equalTo( 0 ) );
+        assertThat( timingWheel.advanceTo( 300, expired ), equalTo( 1 ) );
+        assertThat( expired.get( 1 ), equalTo( "b" ) );
+        assertThat( timingWheel.advanceTo( 19_999, expired ), equalTo( 0 ) );
+        assertThat( timingWheel.advanceTo( 20_000, expired ), equalTo( 1 ) );
+        assertThat( expired.get( 2 ), equalTo( "c" ) );
+        assertThat( timingWheel.isEmpty(), is( true ) );
+    }
+
+    @Test
+    public void shouldExpireItemsBeyondRangeOfHighestLevel()
+    {
+        // Given
+        long startTimeAsMilli = 123;
+        long deadlineAsMilli = startTimeAsMilli + TimingWheel.RANGE_AS_MILLI + 1000;
+        TimingWheel<String> timingWheel = new TimingWheel<>( startTimeAsMilli );
+        timingWheel.add( deadlineAsMilli, "far" );
+        List<String> expired = new ArrayList<>();
+
+        // When/Then
+        assertThat( timingWheel.advanceTo( deadlineAsMilli - 1, expired ), equalTo( 0 ) );
+        assertThat( timingWheel.advanceTo( deadlineAsMilli, expired ), equalTo( 1 ) );
+        assertThat( timingWheel.isEmpty(), is( true ) );
+    }
+
+    @Test
+    public void shouldExpireRandomlyScheduledItemsInDeadlineOrder()
+    {
+        // Given
+        Random random = new Random( 42 );
+        long startTimeAsMilli = 1_400_000_000_123L;
+        TimingWheel<Long> timingWheel = new TimingWheel<>( startTimeAsMilli );
+        List<Long> expired = new ArrayList<>();
+        long nowAsMilli = startTimeAsMilli;
+        int itemCount = 0;
+
+        // When
+        // interleave adding items (up to ~40 minutes ahead) with advancing time in irregular steps
+        for ( int i = 0; i < 2_000; i++ )
+        {
+            for ( int j = 0; j < 5; j++ )
+            {
+                long deadlineAsMilli = nowAsMilli + 1 + (long) (random.nextDouble() * random.nextDouble() * 2_400_000);
+                timingWheel.add( deadlineAsMilli, deadlineAsMilli );
+                itemCount++;
+            }
+            nowAsMilli += random.nextInt( 1_000 );
+            int expiredCount = timingWheel.advanceTo( nowAsMilli, expired );
+            for ( int k = expired.size() - expiredCount; k < expired.size(); k++ )
+            {
+                assertThat( expired.get( k ) <= nowAsMilli, is( true ) );
+            }
+        }
+        timingWheel.advanceTo( nowAsMilli + 2_400_000, expired );
+
+        // Then
+        assertThat( expired.size(), equalTo( itemCount ) );
+        assertThat( timingWheel.isEmpty(), is( true ) );
+        for ( int i = 1; i < expired.size(); i++ )
+        {
+            assertThat( expired.get( i - 1 ) <= expired.get( i ), is( true ) );
+        }
+    }
+}
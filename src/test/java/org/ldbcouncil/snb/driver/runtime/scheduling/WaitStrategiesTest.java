@@ -0,0 +1,102 @@
+package org.ldbcouncil.snb.driver.runtime.scheduling;
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.ldbcouncil.snb.driver.workloads.dummy.TimedNamedOperation1;
+import org.HdrHistogram.AbstractHistogram;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+public class WaitStrategiesTest
+{
+    @Test
+    public void shouldParseWaitStrategyTypesIgnoringCase()
+    {
+        assertThat( WaitStrategies.parseType( "sleep" ), equalTo( WaitStrategies.WaitStrategyType.SLEEP ) );
+        assertThat( WaitStrategies.parseType( "Spin" ), equalTo( WaitStrategies.WaitStrategyType.SPIN ) );
+        assertThat( WaitStrategies.parseType( " YIELD " ), equalTo( WaitStrategies.WaitStrategyType.YIELD ) );
+        assertThat( WaitStrategies.parseType( "park" ), equalTo( WaitStrategies.WaitStrategyType.PARK ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void shouldFailToParseUnknownWaitStrategyType()
+    {
+        WaitStrategies.parseType( "nap" );
+    }
+
+    @Test
+    public void shouldCreateWaitStrategyForEveryType()
+    {
+        assertThat( WaitStrategies.create( WaitStrategies.WaitStrategyType.SLEEP, 1 ),
+                instanceOf( WaitStrategies.SleepingWaitStrategy.class ) );
+        assertThat( WaitStrategies.create( WaitStrategies.WaitStrategyType.SPIN, 1 ),
+                instanceOf( WaitStrategies.BusySpinWaitStrategy.class ) );
+        assertThat( WaitStrategies.create( WaitStrategies.WaitStrategyType.YIELD, 1 ),
+                instanceOf( WaitStrategies.YieldingWaitStrategy.class ) );
+        assertThat( WaitStrategies.create( WaitStrategies.WaitStrategyType.PARK, 1 ),
+                instanceOf( WaitStrategies.ParkingWaitStrategy.class ) );
+    }
+
+    @Test
+    public void parkingWaitStrategyShouldUseSpinnerSleepDurationAsMaxParkDuration()
+    {
+        WaitStrategies.ParkingWaitStrategy withSleepDuration = (WaitStrategies.ParkingWaitStrategy)
+                WaitStrategies.create( WaitStrategies.WaitStrategyType.PARK, 5 );
+        assertThat( withSleepDuration.maxParkDurationAsNano(), equalTo( TimeUnit.MILLISECONDS.toNanos( 5 ) ) );
+
+        WaitStrategies.ParkingWaitStrategy withoutSleepDuration = (WaitStrategies.ParkingWaitStrategy)
+                WaitStrategies.create( WaitStrategies.WaitStrategyType.PARK, 0 );
+        assertThat( withoutSleepDuration.maxParkDurationAsNano(),
+                equalTo( WaitStrategies.DEFAULT_MAX_PARK_DURATION_AS_NANO ) );
+    }
+
+    @Test
+    public void parkingWaitStrategyShouldNotParkPastDeadline()
+    {
+        WaitStrategy waitStrategy = WaitStrategies.create( WaitStrategies.WaitStrategyType.PARK, 100 );
+        long remainingAsNano = TimeUnit.MILLISECONDS.toNanos( 20 );
+        long startAsNano = System.nanoTime();
+        waitStrategy.idleUntil( remainingAsNano );
+        long durationAsNano = System.nanoTime() - startAsNano;
+        // parks for at most (remaining - spin threshold), plus some scheduler slack
+        assertThat( durationAsNano, lessThan( remainingAsNano + TimeUnit.MILLISECONDS.toNanos( 10 ) ) );
+    }
+
+    @Test
+    public void spinnerShouldNotStartOperationsBeforeScheduledStartTimeWithAnyWaitStrategy()
+    {
+        TimeSource timeSource = new SystemTimeSource();
+        for ( WaitStrategies.WaitStrategyType waitStrategyType : WaitStrategies.WaitStrategyType.values() )
+        {
+            Spinner spinner = new Spinner( timeSource, false, WaitStrategies.create( waitStrategyType, 1 ) );
+            int operationCount = 20;
+            for ( int i = 0; i < operationCount; i++ )
+            {
+                long scheduledStartTimeAsMilli = timeSource.nowAsMilli() + 5;
+                Operation operation = new TimedNamedOperation1(
+                        scheduledStartTimeAsMilli,
+                        scheduledStartTimeAsMilli,
+                        0L,
+                        "name" );
+                assertThat( spinner.waitForScheduledStartTime( operation ), is( true ) );
+                assertThat( timeSource.nowAsMilli(), greaterThanOrEqualTo( scheduledStartTimeAsMilli ) );
+            }
+            AbstractHistogram startDelays = spinner.startDelayHistogramAsMicro();
+            // operations only get recorded if they had to wait, i.e., if thread was not descheduled for 5ms
+            assertThat( waitStrategyType.name(), startDelays.getTotalCount(), greaterThan( 0L ) );
+            assertThat( waitStrategyType.name(), startDelays.getTotalCount(),
+                    lessThanOrEqualTo( (long) operationCount ) );
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -33,6 +34,7 @@ import java.util.List;
 import java.util.Map;
 
 import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -154,6 +156,157 @@ public class DbValidatorTest
                 validationResult.isSuccessful(), is( true ) );
     }
 
+    @Test
+    public void shouldReportSameResultWhenValidatingConcurrently()
+            throws DbException, WorkloadException, IOException, DriverConfigurationException
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        long operationCount = 1;
+        ConsoleAndFileDriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromDefaults(
+                DummyLdbcSnbInteractiveDb.class.getName(),
+                LdbcSnbInteractiveWorkload.class.getName(),
+                operationCount
+        );
+
+        Map<String,String> paramsMap = LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1();
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs( paramsMap );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs(
+                MapUtils.loadPropertiesToMap( TestUtils.getResource( "/snb/interactive/updateStream.properties" ) )
+        );
+
+        Workload workload = new LdbcSnbInteractiveWorkload();
+        workload.init( configuration );
+
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        List<ValidationParam> validationParamsList =
+                Lists.newArrayList( gf.limit( gf.repeating( buildParams().iterator() ), 10000 ) );
+        List<LdbcQuery14Result> unexpectedResult14 = DummyLdbcSnbInteractiveOperationResultSets.read14Results();
+        unexpectedResult14.add( DummyLdbcSnbInteractiveOperationResultInstances.read14Result() );
+        validationParamsList.add( 5000, ValidationParam.createTyped(
+                DummyLdbcSnbInteractiveOperationInstances.read14(),
+                unexpectedResult14
+        ) );
+
+        Db db = new DummyLdbcSnbInteractiveDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                workload.operationTypeToClassMapping()
+        );
+        DbValidator dbValidator = new DbValidator();
+
+        // When
+        DbValidationResult sequentialValidationResult = dbValidator.validate(
+                validationParamsList.iterator(),
+                db,
+                validationParamsList.size(),
+                workload,
+                1
+        );
+        DbValidationResult concurrentValidationResult = dbValidator.validate(
+                validationParamsList.iterator(),
+                db,
+                validationParamsList.size(),
+                workload,
+                8
+        );
+
+        // Then
+        assertThat( concurrentValidationResult.isSuccessful(), is( false ) );
+        assertThat( concurrentValidationResult.resultMessage(), equalTo( sequentialValidationResult.resultMessage() ) );
+        assertThat(
+                concurrentValidationResult.actualResultsForFailedOperationsAsJsonString( workload ),
+                equalTo( sequentialValidationResult.actualResultsForFailedOperationsAsJsonString( workload ) )
+        );
+    }
+
+    @Test
+    public void shouldReportSameResultsForBinaryValidationParamsAsForValidationParamsInMemory()
+            throws DbException, WorkloadException, IOException, DriverConfigurationException
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        long operationCount = 1;
+        ConsoleAndFileDriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromDefaults(
+                DummyLdbcSnbInteractiveDb.class.getName(),
+                LdbcSnbInteractiveWorkload.class.getName(),
+                operationCount
+        );
+
+        Map<String,String> paramsMap = LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1();
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs( paramsMap );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs(
+                MapUtils.loadPropertiesToMap( TestUtils.getResource( "/snb/interactive/updateStream.properties" ) )
+        );
+
+        Workload workload = new LdbcSnbInteractiveWorkload();
+        workload.init( configuration );
+
+        List<ValidationParam> validationParamsList = buildParams();
+        List<LdbcQuery14Result> unexpectedResult14 = DummyLdbcSnbInteractiveOperationResultSets.read14Results();
+        unexpectedResult14.add( DummyLdbcSnbInteractiveOperationResultInstances.read14Result() );
+        validationParamsList.add( ValidationParam.createTyped(
+                DummyLdbcSnbInteractiveOperationInstances.read14(),
+                unexpectedResult14
+        ) );
+
+        File validationParamsFile = temporaryFolder.newFile( "validation_params.bin" );
+        try ( ValidationParamsWriter writer = ValidationParamsFormat.BINARY.newWriter( validationParamsFile ) )
+        {
+            for ( ValidationParam validationParam : validationParamsList )
+            {
+                writer.write( validationParam );
+            }
+        }
+
+        Db db = new DummyLdbcSnbInteractiveDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                workload.operationTypeToClassMapping()
+        );
+        DbValidator dbValidator = new DbValidator();
+
+        // When
+        DbValidationResult inMemoryValidationResult = dbValidator.validate(
+                validationParamsList.iterator(),
+                db,
+                validationParamsList.size(),
+                workload
+        );
+        DbValidationResult binaryValidationResult;
+        try ( ValidationParamsReader reader = ValidationParamsFormat.BINARY.newReader( validationParamsFile ) )
+        {
+            binaryValidationResult = dbValidator.validate(
+                    reader,
+                    db,
+                    validationParamsList.size(),
+                    workload
+            );
+        }
+
+        // Then
+        assertThat( binaryValidationResult.isSuccessful(), is( false ) );
+        assertThat( binaryValidationResult.resultMessage(), equalTo( inMemoryValidationResult.resultMessage() ) );
+        assertThat(
+                binaryValidationResult.expectedResultsForFailedOperationsAsJsonString( workload ),
+                equalTo( inMemoryValidationResult.expectedResultsForFailedOperationsAsJsonString( workload ) )
+        );
+        assertThat(
+                binaryValidationResult.actualResultsForFailedOperationsAsJsonString( workload ),
+                equalTo( inMemoryValidationResult.actualResultsForFailedOperationsAsJsonString( workload ) )
+        );
+    }
+
     List<ValidationParam> buildParams()
     {
         ValidationParam validationParamLong1 = ValidationParam.createTyped(
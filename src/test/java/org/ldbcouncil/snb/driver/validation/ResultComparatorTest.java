@@ -0,0 +1,380 @@
+package org.ldbcouncil.snb.driver.validation;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.Workload;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery1;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery12;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery12Result;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery14;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery14Result;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery1Result;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery7;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery7Result;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcSnbInteractiveWorkload;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class ResultComparatorTest
+{
+    private static final ResultComparisonTolerances PATH_WEIGHT_TIES = new ResultComparisonTolerances(
+            ResultComparisonTolerances.DEFAULT_FLOAT_TOLERANCE,
+            Collections.<String,Double>emptyMap(),
+            Sets.newHashSet( "pathWeight" )
+    );
+
+    @Test
+    public void shouldFindNoDifferenceBetweenEqualResults() throws IOException
+    {
+        // Given
+        List<Map<String,Object>> expected = Lists.<Map<String,Object>>newArrayList(
+                ImmutableMap.<String,Object>of( "id", 1L, "name", "a", "tags", Lists.newArrayList( "x", "y" ) ),
+                ImmutableMap.<String,Object>of( "id", 2, "name", "b", "tags", Lists.newArrayList() )
+        );
+        List<Map<String,Object>> actual = Lists.<Map<String,Object>>newArrayList(
+                ImmutableMap.<String,Object>of( "id", 1, "name", "a", "tags", Lists.newArrayList( "x", "y" ) ),
+                ImmutableMap.<String,Object>of( "id", 2L, "name", "b", "tags", Lists.newArrayList() )
+        );
+
+        // When
+        ResultDifference difference =
+                new ResultComparator().compare( expected, actual, ResultComparisonTolerances.DEFAULT );
+
+        // Then
+        assertThat( difference, nullValue() );
+    }
+
+    @Test
+    public void shouldReportFirstDifferenceWithItsPath() throws IOException
+    {
+        // Given
+        List<Map<String,Object>> expected = Lists.<Map<String,Object>>newArrayList(
+                ImmutableMap.<String,Object>of( "id", 1L, "tags", Lists.newArrayList( "x", "y" ) ),
+                ImmutableMap.<String,Object>of( "id", 2L, "tags", Lists.newArrayList( "x", "y" ) ),
+                ImmutableMap.<String,Object>of( "id", 3L, "tags", Lists.newArrayList( "x", "y" ) )
+        );
+        List<Map<String,Object>> actual = Lists.<Map<String,Object>>newArrayList(
+                ImmutableMap.<String,Object>of( "id", 1L, "tags", Lists.newArrayList( "x", "y" ) ),
+                ImmutableMap.<String,Object>of( "id", 2L, "tags", Lists.newArrayList( "x", "z" ) ),
+                ImmutableMap.<String,Object>of( "id", 4L, "tags", Lists.newArrayList( "x", "y" ) )
+        );
+
+        // When
+        ResultDifference difference =
+                new ResultComparator().compare( expected, actual, ResultComparisonTolerances.DEFAULT );
+
+        // Then
+        assertThat( difference.toString(), equalTo( "$[1].tags[1]: expected \"y\", actual \"z\"" ) );
+    }
+
+    @Test
+    public void shouldReportMissingAndUnexpectedElementsAndFields() throws IOException
+    {
+        // Given
+        ResultComparator resultComparator = new ResultComparator();
+
+        // When
+        ResultDifference missingElement = resultComparator.compare(
+                Lists.newArrayList( 1, 2, 3 ), Lists.newArrayList( 1, 2 ), ResultComparisonTolerances.DEFAULT );
+        ResultDifference unexpectedField = resultComparator.compare(
+                ImmutableMap.of( "a", 1 ), ImmutableMap.of( "a", 1, "b", 2 ), ResultComparisonTolerances.DEFAULT );
+        ResultDifference differentType = resultComparator.compare(
+                ImmutableMap.of( "a", Lists.newArrayList( 1 ) ),
+                ImmutableMap.of( "a", 1 ),
+                ResultComparisonTolerances.DEFAULT );
+
+        // Then
+        assertThat( missingElement.toString(), equalTo( "$[2]: expected 3, actual end of array" ) );
+        assertThat( unexpectedField.toString(), equalTo( "$: expected end of object, actual field b" ) );
+        assertThat( differentType.toString(), equalTo( "$.a: expected [...], actual 1" ) );
+    }
+
+    @Test
+    public void shouldCompareFloatingPointValuesWithToleranceOfTheirField() throws IOException
+    {
+        // Given
+        ResultComparator resultComparator = new ResultComparator();
+        ResultComparisonTolerances tolerances = new ResultComparisonTolerances(
+                ResultComparisonTolerances.DEFAULT_FLOAT_TOLERANCE,
+                ImmutableMap.of( "score", 0.01 ),
+                Collections.<String>emptySet()
+        );
+
+        // When
+        ResultDifference withinDefaultTolerance = resultComparator.compare(
+                ImmutableMap.of( "weight", 1.0, "score", 1.0 ),
+                ImmutableMap.of( "weight", 1.0 + 1e-12, "score", 1.0 ),
+                tolerances );
+        ResultDifference withinFieldTolerance = resultComparator.compare(
+                ImmutableMap.of( "weight", 1.0, "score", 1.0 ),
+                ImmutableMap.of( "weight", 1.0, "score", 1.005 ),
+                tolerances );
+        ResultDifference outsideDefaultTolerance = resultComparator.compare(
+                ImmutableMap.of( "weight", 1.0, "score", 1.0 ),
+                ImmutableMap.of( "weight", 1.005, "score", 1.0 ),
+                tolerances );
+
+        // Then
+        assertThat( withinDefaultTolerance, nullValue() );
+        assertThat( withinFieldTolerance, nullValue() );
+        assertThat( outsideDefaultTolerance.path(), equalTo( "$.weight" ) );
+    }
+
+    @Test
+    public void shouldAllowElementsOfEqualRankInAnyOrder() throws IOException
+    {
+        // Given
+        ResultComparator resultComparator = new ResultComparator();
+        List<LdbcQuery14Result> expected = Lists.newArrayList(
+                new LdbcQuery14Result( Lists.newArrayList( 1L, 2L ), 2.0 ),
+                new LdbcQuery14Result( Lists.newArrayList( 1L, 3L ), 2.0 ),
+                new LdbcQuery14Result( Lists.newArrayList( 1L, 4L ), 1.0 )
+        );
+        List<LdbcQuery14Result> tiesReordered = Lists.newArrayList(
+                new LdbcQuery14Result( Lists.newArrayList( 1L, 3L ), 2.0 ),
+                new LdbcQuery14Result( Lists.newArrayList( 1L, 2L ), 2.0 ),
+                new LdbcQuery14Result( Lists.newArrayList( 1L, 4L ), 1.0 )
+        );
+        List<LdbcQuery14Result> ranksReordered = Lists.newArrayList(
+                new LdbcQuery14Result( Lists.newArrayList( 1L, 4L ), 1.0 ),
+                new LdbcQuery14Result( Lists.newArrayList( 1L, 2L ), 2.0 ),
+                new LdbcQuery14Result( Lists.newArrayList( 1L, 3L ), 2.0 )
+        );
+        List<LdbcQuery14Result> tieDiffers = Lists.newArrayList(
+                new LdbcQuery14Result( Lists.newArrayList( 1L, 3L ), 2.0 ),
+                new LdbcQuery14Result( Lists.newArrayList( 1L, 5L ), 2.0 ),
+                new LdbcQuery14Result( Lists.newArrayList( 1L, 4L ), 1.0 )
+        );
+
+        // When
+        ResultDifference tiesReorderedDifference = resultComparator.compare( expected, tiesReordered,
+                PATH_WEIGHT_TIES );
+        ResultDifference tiesReorderedWithoutTolerance = resultComparator.compare( expected, tiesReordered,
+                ResultComparisonTolerances.DEFAULT );
+        ResultDifference ranksReorderedDifference = resultComparator.compare( expected, ranksReordered,
+                PATH_WEIGHT_TIES );
+        ResultDifference tieDiffersDifference = resultComparator.compare( expected, tieDiffers,
+                PATH_WEIGHT_TIES );
+
+        // Then
+        assertThat( tiesReorderedDifference, nullValue() );
+        assertThat( tiesReorderedWithoutTolerance.path(), equalTo( "$[0].personIdsInPath[1]" ) );
+        assertThat( ranksReorderedDifference.path(), equalTo( "$[1].personIdsInPath[1]" ) );
+        assertThat( tieDiffersDifference.toString(), equalTo( "$[0].personIdsInPath[1]: expected 2, actual 3" ) );
+    }
+
+    @Test
+    public void shouldCompareIntegersWithToleranceOfTheirField() throws IOException
+    {
+        // Given
+        ResultComparator resultComparator = new ResultComparator();
+        ResultComparisonTolerances tolerances = new ResultComparisonTolerances(
+                ResultComparisonTolerances.DEFAULT_FLOAT_TOLERANCE,
+                Collections.<String,Double>emptyMap(),
+                ImmutableMap.of( "latency", 1L ),
+                Collections.<String>emptySet(),
+                Collections.<String>emptySet()
+        );
+
+        // When
+        ResultDifference withinFieldTolerance = resultComparator.compare(
+                ImmutableMap.of( "id", 1, "latency", 10 ),
+                ImmutableMap.of( "id", 1, "latency", 9L ),
+                tolerances );
+        ResultDifference outsideFieldTolerance = resultComparator.compare(
+                ImmutableMap.of( "id", 1, "latency", 10 ),
+                ImmutableMap.of( "id", 1, "latency", 12 ),
+                tolerances );
+        ResultDifference outsideDefaultTolerance = resultComparator.compare(
+                ImmutableMap.of( "id", 1, "latency", 10 ),
+                ImmutableMap.of( "id", 2, "latency", 10 ),
+                tolerances );
+
+        // Then
+        assertThat( withinFieldTolerance, nullValue() );
+        assertThat( outsideFieldTolerance.toString(), equalTo( "$.latency: expected 10, actual 12" ) );
+        assertThat( outsideDefaultTolerance.toString(), equalTo( "$.id: expected 1, actual 2" ) );
+    }
+
+    @Test
+    public void shouldCompareUnorderedArraysAsSets() throws IOException
+    {
+        // Given
+        ResultComparator resultComparator = new ResultComparator();
+        ResultComparisonTolerances tolerances = new ResultComparisonTolerances(
+                ResultComparisonTolerances.DEFAULT_FLOAT_TOLERANCE,
+                Collections.<String,Double>emptyMap(),
+                Collections.<String,Long>emptyMap(),
+                Collections.<String>emptySet(),
+                Sets.newHashSet( "tags" )
+        );
+
+        // When
+        ResultDifference reordered = resultComparator.compare(
+                ImmutableMap.of( "tags", Lists.newArrayList( "x", "y", "z" ) ),
+                ImmutableMap.of( "tags", Lists.newArrayList( "z", "x", "y" ) ),
+                tolerances );
+        ResultDifference duplicatesOfOtherElements = resultComparator.compare(
+                ImmutableMap.of( "tags", Lists.newArrayList( "x", "x", "y" ) ),
+                ImmutableMap.of( "tags", Lists.newArrayList( "y", "x", "y" ) ),
+                tolerances );
+        ResultDifference missingElement = resultComparator.compare(
+                ImmutableMap.of( "tags", Lists.newArrayList( "x", "y", "z" ) ),
+                ImmutableMap.of( "tags", Lists.newArrayList( "y", "x", "y" ) ),
+                tolerances );
+        ResultDifference unexpectedElement = resultComparator.compare(
+                ImmutableMap.of( "tags", Lists.newArrayList( "x", "x", "y" ) ),
+                ImmutableMap.of( "tags", Lists.newArrayList( "y", "x", "z" ) ),
+                tolerances );
+        ResultDifference differentSize = resultComparator.compare(
+                ImmutableMap.of( "tags", Lists.newArrayList( "x", "y" ) ),
+                ImmutableMap.of( "tags", Lists.newArrayList( "y", "x", "x" ) ),
+                tolerances );
+
+        // Then
+        assertThat( reordered, nullValue() );
+        assertThat( duplicatesOfOtherElements, nullValue() );
+        assertThat( missingElement.toString(), equalTo( "$.tags[2]: expected \"z\", actual \"y\"" ) );
+        assertThat( unexpectedElement.toString(), equalTo( "$.tags[2]: expected no equal element, actual \"z\"" ) );
+        assertThat( differentSize.toString(), equalTo( "$.tags[2]: expected end of array, actual \"x\"" ) );
+    }
+
+    @Test
+    public void shouldAcceptQuery1ResultsThatAreEqualWithFriendDetailsInAnyOrder() throws IOException
+    {
+        // Given
+        List<LdbcQuery1Result> expected = Lists.newArrayList( query1Result(
+                Lists.newArrayList( "a@x", "b@x" ),
+                Lists.newArrayList( "en", "de", "de" ),
+                Lists.newArrayList( organization( "U1" ), organization( "U2" ) ),
+                Lists.newArrayList( organization( "C1" ), organization( "C2" ) ) ) );
+        List<LdbcQuery1Result> reordered = Lists.newArrayList( query1Result(
+                Lists.newArrayList( "b@x", "a@x" ),
+                Lists.newArrayList( "de", "en", "en" ),
+                Lists.newArrayList( organization( "U2" ), organization( "U1" ) ),
+                Lists.newArrayList( organization( "C2" ), organization( "C1" ) ) ) );
+        List<LdbcQuery1Result> differentEmail = Lists.newArrayList( query1Result(
+                Lists.newArrayList( "b@x", "c@x" ),
+                Lists.newArrayList( "en", "de", "de" ),
+                Lists.newArrayList( organization( "U1" ), organization( "U2" ) ),
+                Lists.newArrayList( organization( "C1" ), organization( "C2" ) ) ) );
+
+        // When
+        ResultComparisonTolerances tolerances = tolerancesOf( new LdbcQuery1( 1, "name", 20 ) );
+
+        // Then
+        assertTrue( expected.equals( reordered ) );
+        assertThat( new ResultComparator().compare( expected, reordered, tolerances ), nullValue() );
+        assertFalse( expected.equals( differentEmail ) );
+        assertThat( new ResultComparator().compare( expected, differentEmail, tolerances ).toString(),
+                equalTo( "$[0].friendEmails[0]: expected \"a@x\", actual \"b@x\"" ) );
+    }
+
+    @Test
+    public void shouldAcceptQuery7ResultsThatAreEqualWithLatenciesOffByLeapSecond() throws IOException
+    {
+        // Given
+        List<LdbcQuery7Result> expected = Lists.newArrayList( query7Result( 10 ) );
+        List<LdbcQuery7Result> latencyPlusOne = Lists.newArrayList( query7Result( 11 ) );
+        List<LdbcQuery7Result> latencyMinusOne = Lists.newArrayList( query7Result( 9 ) );
+        List<LdbcQuery7Result> latencyPlusTwo = Lists.newArrayList( query7Result( 12 ) );
+
+        // When
+        ResultComparisonTolerances tolerances = tolerancesOf( new LdbcQuery7( 1, 20 ) );
+
+        // Then
+        assertTrue( expected.equals( latencyPlusOne ) );
+        assertThat( new ResultComparator().compare( expected, latencyPlusOne, tolerances ), nullValue() );
+        assertTrue( expected.equals( latencyMinusOne ) );
+        assertThat( new ResultComparator().compare( expected, latencyMinusOne, tolerances ), nullValue() );
+        assertFalse( expected.equals( latencyPlusTwo ) );
+        assertThat( new ResultComparator().compare( expected, latencyPlusTwo, tolerances ).toString(),
+                equalTo( "$[0].minutesLatency: expected 10, actual 12" ) );
+    }
+
+    @Test
+    public void shouldAcceptQuery12ResultsThatAreEqualWithTagNamesInAnyOrder() throws IOException
+    {
+        // Given
+        List<LdbcQuery12Result> expected = Lists.newArrayList(
+                new LdbcQuery12Result( 1, "first", "last", Lists.newArrayList( "t1", "t2", "t2" ), 3 ) );
+        List<LdbcQuery12Result> reordered = Lists.newArrayList(
+                new LdbcQuery12Result( 1, "first", "last", Lists.newArrayList( "t2", "t1", "t1" ), 3 ) );
+        List<LdbcQuery12Result> differentTag = Lists.newArrayList(
+                new LdbcQuery12Result( 1, "first", "last", Lists.newArrayList( "t2", "t1", "t3" ), 3 ) );
+
+        // When
+        ResultComparisonTolerances tolerances = tolerancesOf( new LdbcQuery12( 1, "tagClass", 20 ) );
+
+        // Then
+        assertTrue( expected.equals( reordered ) );
+        assertThat( new ResultComparator().compare( expected, reordered, tolerances ), nullValue() );
+        assertFalse( expected.equals( differentTag ) );
+        assertThat( new ResultComparator().compare( expected, differentTag, tolerances ).toString(),
+                equalTo( "$[0].tagNames[2]: expected no equal element, actual \"t3\"" ) );
+    }
+
+    @Test
+    public void shouldAcceptQuery14ResultsThatAreEqualWithPathsOfEqualWeightInAnyOrder() throws IOException
+    {
+        // Given
+        List<LdbcQuery14Result> expected = Lists.newArrayList(
+                new LdbcQuery14Result( Lists.newArrayList( 1L, 2L, 5L ), 2.0 ),
+                new LdbcQuery14Result( Lists.newArrayList( 1L, 3L, 5L ), 2.0 ),
+                new LdbcQuery14Result( Lists.newArrayList( 1L, 4L, 5L ), 1.5 )
+        );
+        List<LdbcQuery14Result> tiesReordered = Lists.newArrayList(
+                new LdbcQuery14Result( Lists.newArrayList( 1L, 3L, 5L ), 2.0 ),
+                new LdbcQuery14Result( Lists.newArrayList( 1L, 2L, 5L ), 2.0 ),
+                new LdbcQuery14Result( Lists.newArrayList( 1L, 4L, 5L ), 1.5 )
+        );
+
+        // When
+        ResultComparisonTolerances tolerances = tolerancesOf( new LdbcQuery14( 1, 5 ) );
+
+        // Then
+        assertTrue( LdbcQuery14Result.resultListEqual( expected, tiesReordered ) );
+        assertThat( new ResultComparator().compare( expected, tiesReordered, tolerances ), nullValue() );
+    }
+
+    private static ResultComparisonTolerances tolerancesOf( Operation operation )
+            throws IOException
+    {
+        try ( Workload workload = new LdbcSnbInteractiveWorkload() )
+        {
+            return workload.resultComparisonTolerances( operation );
+        }
+    }
+
+    private static LdbcQuery1Result query1Result(
+            List<String> emails,
+            List<String> languages,
+            List<LdbcQuery1Result.Organization> universities,
+            List<LdbcQuery1Result.Organization> companies )
+    {
+        return new LdbcQuery1Result( 1, "last", 2, 3, 4, "gender", "browser", "ip", emails, languages, "city",
+                universities, companies );
+    }
+
+    private static LdbcQuery1Result.Organization organization( String name )
+    {
+        return new LdbcQuery1Result.Organization( name, 2000, "place" );
+    }
+
+    private static LdbcQuery7Result query7Result( int minutesLatency )
+    {
+        return new LdbcQuery7Result( 1, "first", "last", 2, 3, "content", minutesLatency, false );
+    }
+}
@@ -2,6 +2,9 @@ package org.ldbcouncil.snb.driver.validation;
 
 import com.google.common.collect.Lists;
 import org.ldbcouncil.snb.driver.csv.simple.SimpleCsvFileWriter;
+import org.ldbcouncil.snb.driver.runtime.metrics.BinaryResultsLogWriter;
+import org.ldbcouncil.snb.driver.runtime.metrics.ResultsLogWriter;
+import org.ldbcouncil.snb.driver.runtime.metrics.SimpleResultsLogWriter;
 import org.ldbcouncil.snb.driver.util.Tuple;
 import org.ldbcouncil.snb.driver.util.Tuple2;
 import org.junit.Assert;
@@ -14,10 +17,12 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -206,6 +211,85 @@ public class ResultsLogValidationTest
         doSummaryAsserts( summaryAfterMarshal );
     }
 
+    @Test
+    public void shouldReturnExpectedSummaryWhenValidatedFromBinaryFile() throws Exception
+    {
+        // Given
+        long excessiveDelayThreshold = 5;
+        File file = temporaryFolder.newFile();
+        try ( ResultsLogWriter writer = new BinaryResultsLogWriter( file, TimeUnit.MILLISECONDS, false ) )
+        {
+            for ( Tuple2<String,Long> delay : DELAYS )
+            {
+                writer.write( delay._1(), 0, delay._2(), 0, 0, 0 );
+            }
+        }
+
+        // When
+        ResultsLogValidator validator = new ResultsLogValidator();
+        ResultsLogValidationSummary summary = validator.compute( file, excessiveDelayThreshold );
+
+        // Then
+        doSummaryAsserts( summary );
+    }
+
+    @Test
+    public void shouldReturnSameSummaryWhenValidatedFromManyRangesInParallel() throws Exception
+    {
+        // Given
+        long excessiveDelayThreshold = 5;
+        File csvFile = temporaryFolder.newFile();
+        File binaryFile = temporaryFolder.newFile();
+        for ( File file : new File[]{csvFile, binaryFile} )
+        {
+            try ( ResultsLogWriter writer = (file == csvFile)
+                                            ? new SimpleResultsLogWriter( file, TimeUnit.MILLISECONDS, false )
+                                            : new BinaryResultsLogWriter( file, TimeUnit.MILLISECONDS, false ) )
+            {
+                for ( Tuple2<String,Long> delay : DELAYS )
+                {
+                    writer.write( delay._1(), 0, delay._2(), 0, 0, 0 );
+                }
+            }
+        }
+
+        // When
+        ResultsLogValidator validator = new ResultsLogValidator( 3, 10 );
+        ResultsLogValidationSummary csvSummary = validator.compute( csvFile, excessiveDelayThreshold );
+        ResultsLogValidationSummary binarySummary = validator.compute( binaryFile, excessiveDelayThreshold );
+
+        // Then
+        doSummaryAsserts( csvSummary );
+        doSummaryAsserts( binarySummary );
+    }
+
+    @Test
+    public void shouldReportFirstNegativeDelayWhenValidatedFromManyRangesInParallel() throws Exception
+    {
+        // Given
+        File file = temporaryFolder.newFile();
+        try ( ResultsLogWriter writer = new SimpleResultsLogWriter( file, TimeUnit.MILLISECONDS, false ) )
+        {
+            for ( int i = 0; i < 100; i++ )
+            {
+                writer.write( "A", 10, (i < 50) ? 10 : i - 50, 0, 0, 0 );
+            }
+        }
+        ResultsLogValidator validator = new ResultsLogValidator( 4, 10 );
+
+        try
+        {
+            // When
+            validator.compute( file, 5 );
+            Assert.fail( "Expected negative delay to be reported" );
+        }
+        catch ( ValidationException e )
+        {
+            // Then
+            assertThat( e.getMessage(), startsWith( "Delay can not be negative\nDelay: -10 (ms)" ) );
+        }
+    }
+
     private void doSummaryAsserts( ResultsLogValidationSummary summary )
     {
         assertThat( summary.excessiveDelayThresholdAsMilli(), equalTo( 5l ) );
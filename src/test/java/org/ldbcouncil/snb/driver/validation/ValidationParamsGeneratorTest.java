@@ -0,0 +1,160 @@
+package org.ldbcouncil.snb.driver.validation;
+
+import com.google.common.collect.Lists;
+import org.ldbcouncil.snb.driver.Db;
+import org.ldbcouncil.snb.driver.DbException;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.Workload;
+import org.ldbcouncil.snb.driver.WorkloadException;
+import org.ldbcouncil.snb.driver.control.ConsoleAndFileDriverConfiguration;
+import org.ldbcouncil.snb.driver.control.DriverConfigurationException;
+import org.ldbcouncil.snb.driver.control.Log4jLoggingServiceFactory;
+import org.ldbcouncil.snb.driver.generator.GeneratorFactory;
+import org.ldbcouncil.snb.driver.generator.RandomDataGeneratorFactory;
+import org.ldbcouncil.snb.driver.testutils.TestUtils;
+import org.ldbcouncil.snb.driver.util.MapUtils;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcSnbInteractiveWorkload;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcSnbInteractiveWorkloadConfiguration;
+import org.ldbcouncil.snb.driver.workloads.interactive.db.DummyLdbcSnbInteractiveDb;
+import org.ldbcouncil.snb.driver.workloads.interactive.db.DummyLdbcSnbInteractiveOperationInstances;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class ValidationParamsGeneratorTest
+{
+    private static final int VALIDATION_PARAMS_SIZE = 220;
+
+    @Test
+    public void shouldGenerateSameValidationParamsRegardlessOfThreadCount()
+            throws DbException, WorkloadException, IOException, DriverConfigurationException
+    {
+        // Given
+        Workload workload = workload();
+        Db db = db( workload );
+
+        // When
+        List<ValidationParam> sequentiallyGeneratedValidationParams =
+                generate( workload, db, 1, Collections.<ValidationParam>emptyIterator() );
+        List<ValidationParam> concurrentlyGeneratedValidationParams =
+                generate( workload, db, 8, Collections.<ValidationParam>emptyIterator() );
+
+        // Then
+        assertThat( sequentiallyGeneratedValidationParams.size(), equalTo( VALIDATION_PARAMS_SIZE ) );
+        assertThat( concurrentlyGeneratedValidationParams, equalTo( sequentiallyGeneratedValidationParams ) );
+    }
+
+    @Test
+    public void shouldOnlyGenerateValidationParamsAfterPreviouslyGeneratedOnes()
+            throws DbException, WorkloadException, IOException, DriverConfigurationException
+    {
+        // Given
+        Workload workload = workload();
+        Db db = db( workload );
+        List<ValidationParam> allValidationParams =
+                generate( workload, db, 1, Collections.<ValidationParam>emptyIterator() );
+        int previouslyGeneratedCount = allValidationParams.size() / 2;
+
+        // When
+        List<ValidationParam> remainingValidationParams = generate(
+                workload,
+                db,
+                8,
+                allValidationParams.subList( 0, previouslyGeneratedCount ).iterator()
+        );
+
+        // Then
+        assertThat(
+                remainingValidationParams,
+                equalTo( allValidationParams.subList( previouslyGeneratedCount, allValidationParams.size() ) )
+        );
+    }
+
+    private static List<ValidationParam> generate( Workload workload,
+            Db db,
+            int threadCount,
+            Iterator<ValidationParam> previouslyGeneratedValidationParams )
+    {
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        Iterator<Operation> operations = gf.limit( gf.repeating( operations().iterator() ), 10000 );
+        try ( ValidationParamsGenerator validationParamsGenerator = new ValidationParamsGenerator(
+                db,
+                workload.dbValidationParametersFilter( VALIDATION_PARAMS_SIZE ),
+                operations,
+                VALIDATION_PARAMS_SIZE,
+                workload,
+                threadCount,
+                previouslyGeneratedValidationParams ) )
+        {
+            return Lists.newArrayList( validationParamsGenerator );
+        }
+    }
+
+    private static Workload workload() throws WorkloadException, IOException, DriverConfigurationException
+    {
+        ConsoleAndFileDriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromDefaults(
+                DummyLdbcSnbInteractiveDb.class.getName(),
+                LdbcSnbInteractiveWorkload.class.getName(),
+                1
+        );
+        Map<String,String> paramsMap = LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1();
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs( paramsMap );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs(
+                MapUtils.loadPropertiesToMap( TestUtils.getResource( "/snb/interactive/updateStream.properties" ) )
+        );
+        Workload workload = new LdbcSnbInteractiveWorkload();
+        workload.init( configuration );
+        return workload;
+    }
+
+    private static Db db( Workload workload ) throws DbException
+    {
+        Db db = new DummyLdbcSnbInteractiveDb();
+        db.init(
+                new HashMap<String,String>(),
+                new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" ),
+                workload.operationTypeToClassMapping()
+        );
+        return db;
+    }
+
+    private static List<Operation> operations()
+    {
+        return Lists.<Operation>newArrayList(
+                DummyLdbcSnbInteractiveOperationInstances.read1(),
+                DummyLdbcSnbInteractiveOperationInstances.read2(),
+                DummyLdbcSnbInteractiveOperationInstances.read3(),
+                DummyLdbcSnbInteractiveOperationInstances.read4(),
+                DummyLdbcSnbInteractiveOperationInstances.write1(),
+                DummyLdbcSnbInteractiveOperationInstances.read5(),
+                DummyLdbcSnbInteractiveOperationInstances.read6(),
+                DummyLdbcSnbInteractiveOperationInstances.write2(),
+                DummyLdbcSnbInteractiveOperationInstances.read7(),
+                DummyLdbcSnbInteractiveOperationInstances.read8(),
+                DummyLdbcSnbInteractiveOperationInstances.write3(),
+                DummyLdbcSnbInteractiveOperationInstances.write4(),
+                DummyLdbcSnbInteractiveOperationInstances.read9(),
+                DummyLdbcSnbInteractiveOperationInstances.read10(),
+                DummyLdbcSnbInteractiveOperationInstances.write5(),
+                DummyLdbcSnbInteractiveOperationInstances.read11(),
+                DummyLdbcSnbInteractiveOperationInstances.write6(),
+                DummyLdbcSnbInteractiveOperationInstances.read12(),
+                DummyLdbcSnbInteractiveOperationInstances.write7(),
+                DummyLdbcSnbInteractiveOperationInstances.read13(),
+                DummyLdbcSnbInteractiveOperationInstances.read14(),
+                DummyLdbcSnbInteractiveOperationInstances.write8()
+        );
+    }
+}
@@ -71,6 +71,10 @@ import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -163,6 +167,134 @@ public class ValidationParamsToCsvRowsToValidationParamsTest
                 equalTo( validationParamsAfterSerializingAndMarshallingAndSerializingAndMarshalling ) );
     }
 
+    @Test
+    public void validationParamsCsvWriterShouldWriteSameRowsAsCsvRowsWriter()
+            throws IOException, DriverConfigurationException, WorkloadException
+    {
+        // Given
+        long operationCount = 1;
+        ConsoleAndFileDriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromDefaults(
+                DummyLdbcSnbInteractiveDb.class.getName(),
+                LdbcSnbInteractiveWorkload.class.getName(),
+                operationCount
+        );
+        Map<String,String> paramsMap = LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1();
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs( paramsMap );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs(
+                MapUtils.loadPropertiesToMap( TestUtils.getResource( "/snb/interactive/updateStream.properties" ) )
+        );
+        Workload workload = new LdbcSnbInteractiveWorkload();
+        workload.init( configuration );
+        List<ValidationParam> validationParams = buildParams( workload.dbValidationParametersFilter( 0 ) );
+        int firstRowsCount = validationParams.size() / 2;
+
+        // When
+        File csvRowsFile = temporaryFolder.newFile();
+        SimpleCsvFileWriter simpleCsvFileWriter =
+                new SimpleCsvFileWriter( csvRowsFile, SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR, false );
+        simpleCsvFileWriter.writeRows( new ValidationParamsToCsvRows( validationParams.iterator(), workload, true ) );
+        simpleCsvFileWriter.close();
+
+        File csvWriterFile = temporaryFolder.newFile();
+        try ( ValidationParamsCsvWriter validationParamsCsvWriter =
+                      new ValidationParamsCsvWriter( csvWriterFile, false, true ) )
+        {
+            for ( ValidationParam validationParam : validationParams.subList( 0, firstRowsCount ) )
+            {
+                validationParamsCsvWriter.write( validationParam );
+            }
+        }
+        // interrupted while writing a row
+        Files.write( csvWriterFile.toPath(), "[\"partial".getBytes( StandardCharsets.UTF_8 ),
+                StandardOpenOption.APPEND );
+        ValidationParamsCsvWriter.truncateAfterLastCompleteRow( csvWriterFile );
+        try ( ValidationParamsCsvWriter validationParamsCsvWriter =
+                      new ValidationParamsCsvWriter( csvWriterFile, true, false ) )
+        {
+            for ( ValidationParam validationParam : validationParams.subList( firstRowsCount,
+                    validationParams.size() ) )
+            {
+                validationParamsCsvWriter.write( validationParam );
+            }
+        }
+
+        // Then
+        assertThat(
+                Files.readAllLines( csvWriterFile.toPath(), StandardCharsets.UTF_8 ),
+                equalTo( Files.readAllLines( csvRowsFile.toPath(), StandardCharsets.UTF_8 ) )
+        );
+        List<ValidationParam> validationParamsAfterWriting = Lists.newArrayList( new ValidationParamsFromCsvRows(
+                new SimpleCsvFileReader( csvWriterFile, SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ),
+                workload
+        ) );
+        assertThat( validationParamsAfterWriting, equalTo( validationParams ) );
+    }
+
+    @Test
+    public void validationParamsShouldBeUnchangedAfterConvertingToBinaryAndBack()
+            throws IOException, DriverConfigurationException, WorkloadException
+    {
+        // Given
+        long operationCount = 1;
+        ConsoleAndFileDriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromDefaults(
+                DummyLdbcSnbInteractiveDb.class.getName(),
+                LdbcSnbInteractiveWorkload.class.getName(),
+                operationCount
+        );
+        Map<String,String> paramsMap = LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1();
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs( paramsMap );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs(
+                MapUtils.loadPropertiesToMap( TestUtils.getResource( "/snb/interactive/updateStream.properties" ) )
+        );
+
+        Workload workload = new LdbcSnbInteractiveWorkload();
+        workload.init( configuration );
+        // dictionary entries of the binary format are only written on first use
+        List<ValidationParam> validationParams = new ArrayList<>();
+        for ( int i = 0; i < 10; i++ )
+        {
+            validationParams.addAll( buildParams( workload.dbValidationParametersFilter( 0 ) ) );
+        }
+        File csvFile = temporaryFolder.newFile();
+        try ( ValidationParamsWriter validationParamsWriter = ValidationParamsFormat.CSV.newWriter( csvFile ) )
+        {
+            for ( ValidationParam validationParam : validationParams )
+            {
+                validationParamsWriter.write( validationParam );
+            }
+        }
+
+        // When
+        File binaryFile = temporaryFolder.newFile();
+        int binaryCount = ValidationParamsConverter.convert( csvFile, binaryFile, ValidationParamsFormat.BINARY );
+        File convertedCsvFile = temporaryFolder.newFile();
+        int csvCount = ValidationParamsConverter.convert( binaryFile, convertedCsvFile, ValidationParamsFormat.CSV );
+
+        // Then
+        assertThat( ValidationParamsFormat.of( csvFile ), equalTo( ValidationParamsFormat.CSV ) );
+        assertThat( ValidationParamsFormat.of( binaryFile ), equalTo( ValidationParamsFormat.BINARY ) );
+        assertThat( binaryCount, equalTo( validationParams.size() ) );
+        assertThat( csvCount, equalTo( validationParams.size() ) );
+        assertThat( ValidationParamsFormat.BINARY.count( binaryFile ), equalTo( validationParams.size() ) );
+        assertThat( binaryFile.length() < csvFile.length(), equalTo( true ) );
+        try ( ValidationParamsReader validationParamsReader = ValidationParamsFormat.openReader( binaryFile ) )
+        {
+            assertThat( Lists.newArrayList( validationParamsReader ), equalTo( validationParams ) );
+        }
+        assertThat(
+                Files.readAllLines( convertedCsvFile.toPath(), StandardCharsets.UTF_8 ),
+                equalTo( Files.readAllLines( csvFile.toPath(), StandardCharsets.UTF_8 ) )
+        );
+    }
+
     List<ValidationParam> buildParams( Workload.DbValidationParametersFilter dbValidationParametersFilter )
     {
         LdbcQuery1 read1 = DummyLdbcSnbInteractiveOperationInstances.read1();
@@ -0,0 +1,95 @@
+package org.ldbcouncil.snb.driver.workloads.dummy;
+
+import org.ldbcouncil.snb.driver.AsyncOperationHandler;
+import org.ldbcouncil.snb.driver.Db;
+import org.ldbcouncil.snb.driver.DbConnectionState;
+import org.ldbcouncil.snb.driver.DbException;
+import org.ldbcouncil.snb.driver.ResultReporter;
+import org.ldbcouncil.snb.driver.control.LoggingService;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates a non-blocking database client, operations complete on a different thread after a fixed delay
+ */
+public class AsyncDummyDb extends Db
+{
+    private class DelayedCompletionConnectionState extends DbConnectionState
+    {
+        private final ScheduledExecutorService completionExecutor = Executors.newScheduledThreadPool( 1 );
+        private final long completionDelayAsMilli;
+
+        private DelayedCompletionConnectionState( long completionDelayAsMilli )
+        {
+            this.completionDelayAsMilli = completionDelayAsMilli;
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            completionExecutor.shutdownNow();
+        }
+    }
+
+    public static final String COMPLETION_DELAY_AS_MILLI_ARG = "completion_delay";
+    private static final long COMPLETION_DELAY_AS_MILLI_DEFAULT = 0;
+
+    private DelayedCompletionConnectionState connectionState = null;
+
+    @Override
+    protected void onInit( Map<String,String> params, LoggingService loggingService ) throws DbException
+    {
+        registerOperationHandler( NothingOperation.class, AsyncNothingOperationHandler.class );
+        long completionDelayAsMilli = (params.containsKey( COMPLETION_DELAY_AS_MILLI_ARG ))
+                                      ? Long.parseLong( params.get( COMPLETION_DELAY_AS_MILLI_ARG ) )
+                                      : COMPLETION_DELAY_AS_MILLI_DEFAULT;
+        connectionState = new DelayedCompletionConnectionState( completionDelayAsMilli );
+    }
+
+    @Override
+    protected void onClose() throws IOException
+    {
+        connectionState.close();
+    }
+
+    @Override
+    protected DbConnectionState getConnectionState() throws DbException
+    {
+        return connectionState;
+    }
+
+    public static class AsyncNothingOperationHandler
+            implements AsyncOperationHandler<NothingOperation,DelayedCompletionConnectionState>
+    {
+        @Override
+        public CompletionStage<?> executeOperationAsync( final NothingOperation operation,
+                DelayedCompletionConnectionState connectionState,
+                final ResultReporter resultReporter ) throws DbException
+        {
+            final CompletableFuture<Void> completed = new CompletableFuture<>();
+            connectionState.completionExecutor.schedule( new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        resultReporter.report( 0, new DummyResult(), operation );
+                        completed.complete( null );
+                    }
+                    catch ( DbException e )
+                    {
+                        completed.completeExceptionally( e );
+                    }
+                }
+            }, connectionState.completionDelayAsMilli, TimeUnit.MILLISECONDS );
+            return completed;
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package org.ldbcouncil.snb.driver.workloads.interactive;
 
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.Workload;
 import org.ldbcouncil.snb.driver.WorkloadException;
+import org.ldbcouncil.snb.driver.WorkloadStreams;
 import org.ldbcouncil.snb.driver.control.ConsoleAndFileDriverConfiguration;
 import org.ldbcouncil.snb.driver.control.DriverConfiguration;
+import org.ldbcouncil.snb.driver.generator.GeneratorFactory;
+import org.ldbcouncil.snb.driver.generator.RandomDataGeneratorFactory;
 import org.ldbcouncil.snb.driver.testutils.TestUtils;
 import org.ldbcouncil.snb.driver.util.Bucket;
 import org.ldbcouncil.snb.driver.util.Histogram;
@@ -20,6 +24,7 @@ import org.ldbcouncil.snb.driver.workloads.interactive.db.DummyLdbcSnbInteractiv
 import org.ldbcouncil.snb.driver.workloads.interactive.db.DummyLdbcSnbInteractiveOperationResultSets;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -414,6 +419,62 @@ public class InteractiveWorkloadTest extends WorkloadTest
     //     );
     // }
 
+    @Test
+    public void shouldReadSameUpdateOperationsWithParallelParserAsWithCharSeekerParser() throws Exception
+    {
+        // Given
+        List<Operation> charSeekerOperations =
+                updateOperations( LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.CHAR_SEEKER );
+
+        // When
+        List<Operation> parallelOperations =
+                updateOperations( LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.CHAR_SEEKER_PARALLEL );
+
+        // Then
+        assertTrue( charSeekerOperations.size() > 0 );
+        assertThat( parallelOperations, equalTo( charSeekerOperations ) );
+        for ( int i = 0; i < charSeekerOperations.size(); i++ )
+        {
+            assertThat( parallelOperations.get( i ).timeStamp(), equalTo( charSeekerOperations.get( i ).timeStamp() ) );
+            assertThat( parallelOperations.get( i ).dependencyTimeStamp(),
+                    equalTo( charSeekerOperations.get( i ).dependencyTimeStamp() ) );
+        }
+    }
+
+    private List<Operation> updateOperations( LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser )
+            throws Exception
+    {
+        DriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromDefaults(
+                DummyLdbcSnbInteractiveDb.class.getName(),
+                LdbcSnbInteractiveWorkload.class.getName(),
+                1
+        ).applyArgs(
+                LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1()
+        ).applyArg(
+                LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+        ).applyArg(
+                LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+        ).applyArg(
+                LdbcSnbInteractiveWorkloadConfiguration.UPDATE_STREAM_PARSER,
+                parser.name()
+        );
+        List<Operation> operations = new ArrayList<>();
+        try ( Workload workload = new LdbcSnbInteractiveWorkload() )
+        {
+            workload.init( configuration );
+            WorkloadStreams workloadStreams = workload.streams(
+                    new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) ), true );
+            for ( WorkloadStreams.WorkloadStreamDefinition stream : workloadStreams.blockingStreamDefinitions() )
+            {
+                Iterators.addAll( operations, stream.dependencyOperations() );
+                Iterators.addAll( operations, stream.nonDependencyOperations() );
+            }
+        }
+        return operations;
+    }
+
     @Test
     public void shouldConvertFrequenciesToInterleavesWhenAllFrequenciesProvidedAndAllUpdatesEnabled() throws Exception
     {
@@ -7,6 +7,7 @@ import org.ldbcouncil.snb.driver.csv.charseeker.CharSeeker;
 import org.ldbcouncil.snb.driver.csv.charseeker.Extractors;
 import org.ldbcouncil.snb.driver.csv.charseeker.Readables;
 import org.ldbcouncil.snb.driver.csv.simple.SimpleCsvFileReader;
+import org.ldbcouncil.snb.driver.generator.ParallelLookAheadGenerator;
 import org.ldbcouncil.snb.driver.workloads.OperationTest;
 import org.junit.Test;
 
@@ -17,6 +18,8 @@ import java.text.ParseException;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
@@ -46,6 +49,22 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseAllEventTypesWithParallelLookAheadGenerator_DATE() throws IOException, ParseException {
+        String data = InteractiveWriteEventStreamReaderTestData.ROWS_FOR_ALL_EVENT_TYPES;
+        ExecutorService parserThreadPool = Executors.newFixedThreadPool(2);
+        // small chunks, so rows are parsed on different threads
+        ParallelLookAheadGenerator<Operation> writeEventStreamReader = new ParallelLookAheadGenerator<>(
+                "test", Readables.wrap(new StringReader(data)), new WriteEventStreamReaderCharSeeker.ChunkParser(),
+                parserThreadPool, 64, 2);
+        try {
+            doShouldParseAllEventTypes(writeEventStreamReader);
+        } finally {
+            writeEventStreamReader.close();
+            parserThreadPool.shutdownNow();
+        }
+    }
+
     public void doShouldParseAllEventTypes(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         // Then
         Date birthday;